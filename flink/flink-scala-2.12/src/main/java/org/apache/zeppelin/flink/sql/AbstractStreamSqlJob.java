@@ -193,16 +193,19 @@ public abstract class AbstractStreamSqlJob {
   protected String tableToString(List<Row> rows) {
     StringBuilder builder = new StringBuilder();
     for (Row row : rows) {
-      String[] fields = flinkShims.rowToString(row, table, stenv.getConfig());
-      String rowString = Arrays.stream(fields)
-              .map(TableDataUtils::normalizeColumn)
-              .collect(Collectors.joining("\t"));
-      builder.append(rowString);
+      builder.append(rowToString(row));
       builder.append("\n");
     }
     return builder.toString();
   }
 
+  protected String rowToString(Row row) {
+    String[] fields = flinkShims.rowToString(row, table, stenv.getConfig());
+    return Arrays.stream(fields)
+            .map(TableDataUtils::normalizeColumn)
+            .collect(Collectors.joining("\t"));
+  }
+
   private class ResultRetrievalThread extends Thread {
 
     private ScheduledExecutorService refreshExecutorService;
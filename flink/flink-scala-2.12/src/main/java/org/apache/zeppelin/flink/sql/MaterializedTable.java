@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.flink.sql;
+
+import org.apache.flink.types.Row;
+import org.apache.flink.util.StringUtils;
+import org.apache.zeppelin.tabledata.TableDataUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Materialized result of an update stream. Rows are indexed by their content so that inserting
+ * and retracting a row don't scan the table, and are kept sorted by the first column so that
+ * rendering doesn't sort the table. Each distinct row is rendered only once.
+ */
+class MaterializedTable {
+
+  private static final Comparator<Entry> ORDER = Comparator
+      .comparing((Entry entry) -> entry.sortKey)
+      .thenComparingLong(entry -> entry.seq);
+
+  private final Function<Row, String> rowRenderer;
+  private final BiPredicate<Row, Row> rowEquals;
+
+  // distinct rows by content, ignoring the row kind
+  private final Map<RowKey, Entry> entries = new HashMap<>();
+  // the same entries sorted by the first column, then by insertion order
+  private final TreeSet<Entry> sortedEntries = new TreeSet<>(ORDER);
+  private long nextSeq = 0;
+  private int size = 0;
+  private long version = 0;
+
+  /**
+   * @param rowRenderer renders a row as tab separated fields
+   * @param rowEquals compares the fields of 2 rows, the row kind is not compared
+   */
+  MaterializedTable(Function<Row, String> rowRenderer, BiPredicate<Row, Row> rowEquals) {
+    this.rowRenderer = rowRenderer;
+    this.rowEquals = rowEquals;
+  }
+
+  void insert(Row row) {
+    RowKey key = new RowKey(row);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      entry = new Entry(row, getSortKey(row), nextSeq++);
+      entries.put(key, entry);
+      sortedEntries.add(entry);
+    }
+    entry.count++;
+    size++;
+    version++;
+  }
+
+  /**
+   * @return false if the row is not in the table
+   */
+  boolean retract(Row row) {
+    RowKey key = new RowKey(row);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return false;
+    }
+    if (--entry.count == 0) {
+      entries.remove(key);
+      sortedEntries.remove(entry);
+    }
+    size--;
+    version++;
+    return true;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return a number which changes whenever the table changes
+   */
+  long getVersion() {
+    return version;
+  }
+
+  /**
+   * Append the first rows sorted by the first column, one line per row.
+   *
+   * @param limit max number of rows to append, all the rows when negative
+   */
+  void render(StringBuilder builder, int limit) {
+    int rows = 0;
+    for (Entry entry : sortedEntries) {
+      if (entry.rendered == null) {
+        entry.rendered = rowRenderer.apply(entry.row);
+      }
+      for (int i = 0; i < entry.count; i++) {
+        if (limit >= 0 && rows >= limit) {
+          return;
+        }
+        builder.append(entry.rendered).append('\n');
+        rows++;
+      }
+    }
+  }
+
+  private static String getSortKey(Row row) {
+    return TableDataUtils.normalizeColumn(StringUtils.arrayAwareToString(row.getField(0)));
+  }
+
+  /**
+   * Hash of the fields of the row. It has to be the same for the rows which are equal in
+   * {@link #rowEquals}, so collections are only hashed by their size because their elements can
+   * be arrays which are compared by content.
+   */
+  static int hashFields(Row row) {
+    int hash = 1;
+    for (int i = 0; i < row.getArity(); i++) {
+      hash = 31 * hash + hashField(row.getField(i));
+    }
+    return hash;
+  }
+
+  private static int hashField(Object field) {
+    if (field == null) {
+      return 0;
+    } else if (field instanceof Row) {
+      return hashFields((Row) field);
+    } else if (field.getClass().isArray()) {
+      return Arrays.deepHashCode(new Object[]{field});
+    } else if (field instanceof Collection) {
+      return ((Collection<?>) field).size();
+    } else if (field instanceof Map) {
+      return ((Map<?, ?>) field).size();
+    } else {
+      return field.hashCode();
+    }
+  }
+
+  private class RowKey {
+    private final Row row;
+    private final int hash;
+
+    RowKey(Row row) {
+      this.row = row;
+      this.hash = hashFields(row);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof MaterializedTable.RowKey)) {
+        return false;
+      }
+      RowKey other = (RowKey) obj;
+      return hash == other.hash && rowEquals.test(row, other.row);
+    }
+  }
+
+  private static class Entry {
+    private final Row row;
+    private final String sortKey;
+    private final long seq;
+    private int count;
+    private String rendered;
+
+    Entry(Row row, String sortKey, long seq) {
+      this.row = row;
+      this.sortKey = sortKey;
+      this.seq = seq;
+    }
+  }
+}
@@ -21,24 +21,22 @@ package org.apache.zeppelin.flink.sql;
 import org.apache.flink.streaming.api.scala.StreamExecutionEnvironment;
 import org.apache.flink.table.api.TableEnvironment;
 import org.apache.flink.types.Row;
-import org.apache.flink.util.StringUtils;
 import org.apache.zeppelin.flink.FlinkShims;
 import org.apache.zeppelin.flink.JobManager;
 import org.apache.zeppelin.interpreter.InterpreterContext;
-import org.apache.zeppelin.tabledata.TableDataUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 public class UpdateStreamSqlJob extends AbstractStreamSqlJob {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(UpdateStreamSqlJob.class);
 
-  private List<Row> materializedTable = new ArrayList<>();
-  private List<Row> lastSnapshot = new ArrayList<>();
+  private final MaterializedTable materializedTable;
+  // max number of rows to display, all the rows when negative
+  private final int topN;
+  private long lastRefreshedVersion = -1;
 
   public UpdateStreamSqlJob(StreamExecutionEnvironment senv,
                             TableEnvironment stEnv,
@@ -47,6 +45,8 @@ public class UpdateStreamSqlJob extends AbstractStreamSqlJob {
                             int defaultParallelism,
                             FlinkShims flinkShims) {
     super(senv, stEnv, jobManager, context, defaultParallelism, flinkShims);
+    this.materializedTable = new MaterializedTable(this::rowToString, flinkShims::rowEquals);
+    this.topN = Integer.parseInt(context.getLocalProperties().getOrDefault("topN", "-1"));
   }
 
   @Override
@@ -59,19 +59,15 @@ public class UpdateStreamSqlJob extends AbstractStreamSqlJob {
     enableToRefresh = true;
     resultLock.notify();
     LOGGER.debug("processInsert: {}", row);
-    materializedTable.add(row);
+    materializedTable.insert(row);
   }
 
   @Override
   protected void processDelete(Row row) {
     enableToRefresh = false;
     LOGGER.debug("processDelete: {}", row);
-    for (int i = 0; i < materializedTable.size(); i++) {
-      if (flinkShims.rowEquals(materializedTable.get(i), row)) {
-        LOGGER.debug("real processDelete: {}", row);
-        materializedTable.remove(i);
-        break;
-      }
+    if (materializedTable.retract(row)) {
+      LOGGER.debug("real processDelete: {}", row);
     }
   }
 
@@ -87,29 +83,25 @@ public class UpdateStreamSqlJob extends AbstractStreamSqlJob {
       }
     }
     builder.append("\n");
-    // sort it by the first column
-    materializedTable.sort((r1, r2) -> {
-      String f1 = TableDataUtils.normalizeColumn(StringUtils.arrayAwareToString(r1.getField(0)));
-      String f2 = TableDataUtils.normalizeColumn(StringUtils.arrayAwareToString(r2.getField(0)));
-      return f1.compareTo(f2);
-    });
-    builder.append(tableToString(materializedTable));
+    // sorted by the first column
+    materializedTable.render(builder, topN);
     builder.append("\n%text\n");
     return builder.toString();
   }
 
   @Override
   protected void refresh(InterpreterContext context) {
+    if (materializedTable.getVersion() == lastRefreshedVersion) {
+      LOGGER.debug("Skip refresh because the result is not changed");
+      return;
+    }
     context.out().clear(false);
     try {
       String result = buildResult();
       context.out.write(result);
       context.out.flush();
       LOGGER.debug("Refresh with data: {}", result);
-      this.lastSnapshot.clear();
-      for (Row row : materializedTable) {
-        this.lastSnapshot.add(row);
-      }
+      lastRefreshedVersion = materializedTable.getVersion();
     } catch (IOException e) {
       LOGGER.error("Fail to refresh data", e);
     }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.flink.sql;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.StringUtils;
+import org.apache.zeppelin.tabledata.TableDataUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a synthetic changelog of a group-by count query (retract the previous count of a key,
+ * insert the new one) into the materialized table, with a refresh every refreshEvery changes.
+ * listMaterialization is the previous implementation which scans the rows to retract one and
+ * sorts and renders all of them on each refresh.
+ * Run it with the main method from the test classpath, e.g. in the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class MaterializedTableBenchmark {
+
+  @Param({"1000", "10000", "50000"})
+  public int keys;
+
+  @Param({"100000"})
+  public int changes;
+
+  @Param({"10000"})
+  public int refreshEvery;
+
+  private List<Tuple2<Boolean, Row>> changelog;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    long[] counts = new long[keys];
+    changelog = new ArrayList<>(changes);
+    while (changelog.size() < changes) {
+      int key = random.nextInt(keys);
+      if (counts[key] > 0) {
+        changelog.add(Tuple2.of(false, Row.of("key_" + key, counts[key])));
+      }
+      counts[key]++;
+      changelog.add(Tuple2.of(true, Row.of("key_" + key, counts[key])));
+    }
+  }
+
+  @Benchmark
+  public int materializedTable() {
+    MaterializedTable table = new MaterializedTable(
+        MaterializedTableBenchmark::render, MaterializedTableTest::rowEquals);
+    int length = 0;
+    for (int i = 0; i < changelog.size(); i++) {
+      Tuple2<Boolean, Row> change = changelog.get(i);
+      if (change.f0) {
+        table.insert(change.f1);
+      } else {
+        table.retract(change.f1);
+      }
+      if (i % refreshEvery == 0) {
+        StringBuilder builder = new StringBuilder();
+        table.render(builder, -1);
+        length += builder.length();
+      }
+    }
+    return length;
+  }
+
+  @Benchmark
+  public int listMaterialization() {
+    List<Row> table = new ArrayList<>();
+    int length = 0;
+    for (int i = 0; i < changelog.size(); i++) {
+      Tuple2<Boolean, Row> change = changelog.get(i);
+      if (change.f0) {
+        table.add(change.f1);
+      } else {
+        for (int j = 0; j < table.size(); j++) {
+          if (MaterializedTableTest.rowEquals(table.get(j), change.f1)) {
+            table.remove(j);
+            break;
+          }
+        }
+      }
+      if (i % refreshEvery == 0) {
+        table.sort((r1, r2) -> sortKey(r1).compareTo(sortKey(r2)));
+        StringBuilder builder = new StringBuilder();
+        for (Row row : table) {
+          builder.append(render(row)).append('\n');
+        }
+        length += builder.length();
+      }
+    }
+    return length;
+  }
+
+  private static String sortKey(Row row) {
+    return TableDataUtils.normalizeColumn(StringUtils.arrayAwareToString(row.getField(0)));
+  }
+
+  private static String render(Row row) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < row.getArity(); i++) {
+      if (i > 0) {
+        builder.append('\t');
+      }
+      builder.append(TableDataUtils.normalizeColumn(
+          StringUtils.arrayAwareToString(row.getField(i))));
+    }
+    return builder.toString();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(MaterializedTableBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
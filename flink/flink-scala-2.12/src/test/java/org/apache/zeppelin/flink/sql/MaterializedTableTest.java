@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.flink.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.flink.types.Row;
+import org.apache.flink.types.RowKind;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class MaterializedTableTest {
+
+  static boolean rowEquals(Row r1, Row r2) {
+    r1.setKind(RowKind.INSERT);
+    r2.setKind(RowKind.INSERT);
+    return r1.equals(r2);
+  }
+
+  @Test
+  void testInsertAndRetract() {
+    MaterializedTable table = new MaterializedTable(
+        row -> row.getField(0) + "\t" + row.getField(1), MaterializedTableTest::rowEquals);
+    table.insert(Row.of("b", 1L));
+    table.insert(Row.of("a", 1L));
+    table.insert(Row.of("c", 1L));
+    table.insert(Row.of("a", 1L));
+    assertEquals(4, table.size());
+
+    // retract row is equal to the inserted one except its kind
+    Row retract = Row.ofKind(RowKind.UPDATE_BEFORE, "b", 1L);
+    assertTrue(table.retract(retract));
+    assertFalse(table.retract(Row.of("b", 1L)));
+    assertFalse(table.retract(Row.of("c", 2L)));
+    table.insert(Row.ofKind(RowKind.UPDATE_AFTER, "b", 2L));
+
+    StringBuilder builder = new StringBuilder();
+    table.render(builder, -1);
+    assertEquals("a\t1\na\t1\nb\t2\nc\t1\n", builder.toString());
+
+    // top n rows
+    builder = new StringBuilder();
+    table.render(builder, 2);
+    assertEquals("a\t1\na\t1\n", builder.toString());
+  }
+
+  @Test
+  void testRenderOnlyChangedRows() {
+    AtomicInteger rendered = new AtomicInteger();
+    Function<Row, String> renderer = row -> {
+      rendered.incrementAndGet();
+      return String.valueOf(row.getField(0));
+    };
+    MaterializedTable table = new MaterializedTable(renderer, MaterializedTableTest::rowEquals);
+    for (int i = 0; i < 100; i++) {
+      table.insert(Row.of("key_" + i, new byte[]{(byte) i}));
+    }
+    long version = table.getVersion();
+    table.render(new StringBuilder(), -1);
+    assertEquals(100, rendered.get());
+
+    // arrays are compared by content
+    assertTrue(table.retract(Row.of("key_5", new byte[]{5})));
+    table.insert(Row.of("key_5", new byte[]{6}));
+    assertNotEquals(version, table.getVersion());
+    table.render(new StringBuilder(), -1);
+    assertEquals(101, rendered.get());
+  }
+}
@@ -17,15 +17,13 @@
 
 package org.apache.zeppelin.java;
 
-import java.io.File;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
-import java.util.UUID;
-import java.util.stream.Stream;
 
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.slf4j.Logger;
@@ -38,31 +36,35 @@ public class JavaInterpreter extends Interpreter {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JavaInterpreter.class);
 
+  private StaticRepl staticRepl;
+
   public JavaInterpreter(Properties property) {
     super(property);
   }
 
   @Override
-  public void open() {
-
+  public void open() throws InterpreterException {
+    try {
+      staticRepl = new StaticRepl(Integer.parseInt(getProperty("zeppelin.java.compiled.cache.size",
+          String.valueOf(StaticRepl.DEFAULT_CACHE_SIZE))));
+    } catch (Exception e) {
+      throw new InterpreterException("Fail to open java interpreter", e);
+    }
   }
 
   @Override
   public void close() {
-    /* Clean up .class files created during the compilation process. */
-    Stream.of(
-      new File(".").listFiles(f -> f.getAbsolutePath().endsWith(".class")))
-        .forEach(f -> f.delete());
+    if (staticRepl != null) {
+      staticRepl.close();
+      staticRepl = null;
+    }
   }
 
   @Override
   public InterpreterResult interpret(String code, InterpreterContext context) {
 
-    // choosing new name to class containing Main method
-    String generatedClassName = "C" + UUID.randomUUID().toString().replace("-", "");
-
     try {
-      String res = StaticRepl.execute(generatedClassName, code);
+      String res = staticRepl.execute(code);
       return new InterpreterResult(InterpreterResult.Code.SUCCESS, res);
     } catch (Exception e) {
       LOGGER.error("Exception in Interpreter while interpret", e);
@@ -26,34 +26,134 @@ import org.slf4j.LoggerFactory;
 
 import javax.tools.Diagnostic;
 import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
 import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
 import javax.tools.ToolProvider;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.StringReader;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
-import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * StaticRepl for compiling the java code in memory
+ * StaticRepl for compiling the java code in memory.
+ *
+ * One instance is used per interpreter session. It keeps the compiler and its file manager, so
+ * that the jars of the classpath are only opened once, and caches the classes of the compiled
+ * paragraphs by the hash of their code and the classpath, so that re-running an unchanged
+ * paragraph doesn't compile it again. Classes are never written to disk, every run loads them
+ * with a new class loader, so static fields are initialized again like in a new main class.
  */
 public class StaticRepl {
   private static final Logger LOGGER = LoggerFactory.getLogger(StaticRepl.class);
 
-  public static String execute(String generatedClassName, String code) throws Exception {
+  public static final int DEFAULT_CACHE_SIZE = 100;
+
+  private final JavaCompiler compiler;
+  private final StandardJavaFileManager fileManager;
+  private final String classPath;
+  private final int cacheSize;
+  // compiled paragraphs by cache key in access order, guarded by this
+  private final Map<String, CompiledCode> cache;
+
+  public StaticRepl() throws Exception {
+    this(DEFAULT_CACHE_SIZE);
+  }
 
-    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+  /**
+   * @param cacheSize max number of compiled paragraphs whose classes are cached, 0 disables the
+   *                  cache
+   */
+  public StaticRepl(int cacheSize) throws Exception {
+    this.compiler = ToolProvider.getSystemJavaCompiler();
     if (compiler == null) {
       throw new Exception(
           "Java compiler not available. Make sure Zeppelin is running on JDK (not JRE).");
     }
+    this.fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+    // the compiler uses the classpath of the interpreter process
+    this.classPath = System.getProperty("java.class.path", "");
+    this.cacheSize = cacheSize;
+    this.cache = new LinkedHashMap<String, CompiledCode>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CompiledCode> eldest) {
+        return size() > StaticRepl.this.cacheSize;
+      }
+    };
+  }
+
+  public String execute(String code) throws Exception {
+    CompiledCode compiledCode = compile(code);
+
+    ByteArrayOutputStream baosOut = new ByteArrayOutputStream();
+    ByteArrayOutputStream baosErr = new ByteArrayOutputStream();
+
+    // Creating new stream to get the output data
+    PrintStream newOut = new PrintStream(baosOut);
+    PrintStream newErr = new PrintStream(baosErr);
+    // Save the old System.out!
+    PrintStream oldOut = System.out;
+    PrintStream oldErr = System.err;
+    // Tell Java to use your special stream
+    System.setOut(newOut);
+    System.setErr(newErr);
+
+    try {
+      // creating new class loader
+      ClassLoader classLoader =
+          new MemoryClassLoader(compiledCode.classes, StaticRepl.class.getClassLoader());
+      // execute the Main method
+      Class.forName(compiledCode.mainClassName, true, classLoader)
+          .getDeclaredMethod("main", new Class[]{String[].class})
+          .invoke(null, new Object[]{null});
+
+      System.out.flush();
+      System.err.flush();
+
+      return baosOut.toString();
+
+    } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
+             | InvocationTargetException e) {
+      LOGGER.error("Exception in Interpreter while execution", e);
+      System.err.println(e);
+      e.printStackTrace(newErr);
+      throw new Exception(baosErr.toString(), e);
+
+    } finally {
+
+      System.out.flush();
+      System.err.flush();
+
+      // set the stream to old stream
+      System.setOut(oldOut);
+      System.setErr(oldErr);
+    }
+  }
+
+  /**
+   * @return the classes of the code, from the cache if it was compiled before
+   */
+  synchronized CompiledCode compile(String code) throws Exception {
+    String key = getCacheKey(code);
+    CompiledCode compiledCode = cache.get(key);
+    if (compiledCode != null) {
+      LOGGER.debug("Use cached classes of {}", compiledCode.mainClassName);
+      return compiledCode;
+    }
 
     // Java parsing
     JavaProjectBuilder builder = new JavaProjectBuilder();
@@ -87,86 +187,137 @@ public class StaticRepl {
       throw new Exception("There isn't any class containing static main method.");
     }
 
-    // replace name of class containing Main method with generated name
+    // replace name of class containing Main method with generated name, it's derived from the
+    // cache key, so the same code always gets the same name
+    String generatedClassName = "C" + key.substring(0, 32);
     code = code.replace(mainClassName, generatedClassName);
 
     JavaFileObject file = new JavaSourceFromString(generatedClassName, code);
     Iterable<? extends JavaFileObject> compilationUnits = List.of(file);
 
-    ByteArrayOutputStream baosOut = new ByteArrayOutputStream();
-    ByteArrayOutputStream baosErr = new ByteArrayOutputStream();
-
-    // Creating new stream to get the output data
-    PrintStream newOut = new PrintStream(baosOut);
-    PrintStream newErr = new PrintStream(baosErr);
-    // Save the old System.out!
-    PrintStream oldOut = System.out;
-    PrintStream oldErr = System.err;
-    // Tell Java to use your special stream
-    System.setOut(newOut);
-    System.setErr(newErr);
-
     DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
-    CompilationTask task = compiler.getTask(null, null, diagnostics, null, null, compilationUnits);
+    MemoryFileManager memoryFileManager = new MemoryFileManager(fileManager);
+    CompilationTask task = compiler.getTask(null, memoryFileManager, diagnostics, null, null,
+        compilationUnits);
 
     // executing the compilation process
     boolean success = task.call();
 
     // if success is false will get error
     if (!success) {
+      StringBuilder errors = new StringBuilder();
       for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
         if (diagnostic.getLineNumber() == -1) {
           continue;
         }
-        System.err.println("line " + diagnostic.getLineNumber() + " : "
-            + diagnostic.getMessage(null));
+        errors.append("line ").append(diagnostic.getLineNumber()).append(" : ")
+            .append(diagnostic.getMessage(null)).append(System.lineSeparator());
       }
-      System.out.flush();
-      System.err.flush();
+      LOGGER.error("Exception in Interpreter while compilation", errors);
+      throw new Exception(errors.toString());
+    }
 
-      System.setOut(oldOut);
-      System.setErr(oldErr);
-      LOGGER.error("Exception in Interpreter while compilation", baosErr.toString());
-      throw new Exception(baosErr.toString());
-    } else {
-      try {
-
-        // creating new class loader
-        URLClassLoader classLoader = URLClassLoader.newInstance(new URL[]{new File("").toURI()
-            .toURL()});
-        // execute the Main method
-        Class.forName(generatedClassName, true, classLoader)
-            .getDeclaredMethod("main", new Class[]{String[].class})
-            .invoke(null, new Object[]{null});
-
-        System.out.flush();
-        System.err.flush();
-
-        // set the stream to old stream
-        System.setOut(oldOut);
-        System.setErr(oldErr);
-
-        return baosOut.toString();
-
-      } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-               | InvocationTargetException e) {
-        LOGGER.error("Exception in Interpreter while execution", e);
-        System.err.println(e);
-        e.printStackTrace(newErr);
-        throw new Exception(baosErr.toString(), e);
-
-      } finally {
-
-        System.out.flush();
-        System.err.flush();
-
-        System.setOut(oldOut);
-        System.setErr(oldErr);
-      }
+    compiledCode = new CompiledCode(generatedClassName, memoryFileManager.getClasses());
+    if (cacheSize > 0) {
+      cache.put(key, compiledCode);
+    }
+    return compiledCode;
+  }
+
+  synchronized int getCacheSize() {
+    return cache.size();
+  }
+
+  private String getCacheKey(String code) throws NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    digest.update(classPath.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+    digest.update(code.getBytes(StandardCharsets.UTF_8));
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest()) {
+      key.append(String.format("%02x", b));
+    }
+    return key.toString();
+  }
+
+  public synchronized void close() {
+    cache.clear();
+    try {
+      fileManager.close();
+    } catch (IOException e) {
+      LOGGER.warn("Fail to close java file manager", e);
     }
+  }
+
+  /**
+   * Bytecode of the classes of a compiled paragraph.
+   */
+  static class CompiledCode {
+    final String mainClassName;
+    final Map<String, byte[]> classes;
 
+    CompiledCode(String mainClassName, Map<String, byte[]> classes) {
+      this.mainClassName = mainClassName;
+      this.classes = classes;
+    }
   }
 
+  /**
+   * Keeps the compiled classes in memory instead of writing class files.
+   */
+  private static class MemoryFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, byte[]> classes = new HashMap<>();
+
+    MemoryFileManager(StandardJavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                               JavaFileObject.Kind kind, FileObject sibling) {
+      return new SimpleJavaFileObject(
+          URI.create("memory:///" + className.replace('.', '/') + kind.extension), kind) {
+        @Override
+        public OutputStream openOutputStream() {
+          return new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+              super.close();
+              classes.put(className, toByteArray());
+            }
+          };
+        }
+      };
+    }
+
+    Map<String, byte[]> getClasses() {
+      return classes;
+    }
+  }
+
+  /**
+   * Loads the classes of one run of a compiled paragraph.
+   */
+  private static class MemoryClassLoader extends ClassLoader {
+
+    private final Map<String, byte[]> classes;
+
+    MemoryClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+      super(parent);
+      this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      byte[] bytes = classes.get(name);
+      if (bytes == null) {
+        throw new ClassNotFoundException(name);
+      }
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+  }
 }
 
 class JavaSourceFromString extends SimpleJavaFileObject {
@@ -20,6 +20,7 @@ package org.apache.zeppelin.java;
 import javax.tools.JavaCompiler;
 import javax.tools.ToolProvider;
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -27,6 +28,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -41,7 +44,7 @@ class JavaInterpreterTest {
   private static InterpreterContext context;
 
   @BeforeAll
-  public static void setUp() {
+  public static void setUp() throws InterpreterException {
     Properties p = new Properties();
     java = new JavaInterpreter(p);
     java.open();
@@ -105,4 +108,43 @@ class JavaInterpreterTest {
     assertEquals(InterpreterResult.Code.ERROR, res.code());
   }
 
+  @Test
+  void testCompiledCodeCache() throws Exception {
+    StringWriter writer = new StringWriter();
+    PrintWriter out = new PrintWriter(writer);
+    out.println("public class Counter {");
+    out.println("  static int count = 0;");
+    out.println("  public static void main(String args[]) {");
+    out.println("    System.out.println(++count);");
+    out.println("  }");
+    out.println("}");
+    out.close();
+
+    StaticRepl repl = new StaticRepl(1);
+    try {
+      StaticRepl.CompiledCode compiledCode = repl.compile(writer.toString());
+      // re-running the code doesn't compile it again, but static fields are initialized again
+      assertEquals("1\n", repl.execute(writer.toString()).replace("\r", ""));
+      assertEquals("1\n", repl.execute(writer.toString()).replace("\r", ""));
+      assertSame(compiledCode, repl.compile(writer.toString()));
+      assertEquals(1, repl.getCacheSize());
+
+      // the least recently used code is evicted
+      repl.compile(writer.toString().replace("++count", "count + 1"));
+      assertEquals(1, repl.getCacheSize());
+      assertNotSame(compiledCode, repl.compile(writer.toString()));
+    } finally {
+      repl.close();
+    }
+
+    StaticRepl uncachedRepl = new StaticRepl(0);
+    try {
+      assertNotSame(uncachedRepl.compile(writer.toString()),
+          uncachedRepl.compile(writer.toString()));
+      assertEquals(0, uncachedRepl.getCacheSize());
+    } finally {
+      uncachedRepl.close();
+    }
+  }
+
 }
@@ -18,6 +18,7 @@
 package org.apache.zeppelin.java;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -43,7 +44,7 @@ public class JavaInterpreterUtilsTest {
   private static InterpreterContext context;
 
   @BeforeAll
-  public static void setUp() {
+  public static void setUp() throws InterpreterException {
     Properties p = new Properties();
     java = new JavaInterpreter(p);
     java.open();
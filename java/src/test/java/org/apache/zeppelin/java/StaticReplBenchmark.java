@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.java;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the latency of running a paragraph of the java interpreter repeatedly:
+ * <ul>
+ *   <li>newRepl: a new compiler for every run and no cache, like before StaticRepl kept
+ *   them per interpreter session</li>
+ *   <li>changedCode: the compiler of the session, but the code changes for every run, so it's
+ *   compiled every time</li>
+ *   <li>unchangedCode: the same code for every run, it's compiled once and loaded from the
+ *   cache afterwards</li>
+ * </ul>
+ * Run it with the main method from the test classpath, e.g. in the IDE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StaticReplBenchmark {
+
+  private static final String CODE = "import java.util.HashMap;\n"
+      + "import java.util.Map;\n"
+      + "public class WordCount {\n"
+      + "  public static void main(String[] args) {\n"
+      + "    Map<String, Integer> counts = new HashMap<>();\n"
+      + "    for (String word : \"a b a c b a\".split(\" \")) {\n"
+      + "      counts.merge(word, 1, Integer::sum);\n"
+      + "    }\n"
+      + "    System.out.println(counts);\n"
+      + "  }\n"
+      + "}\n";
+
+  private StaticRepl repl;
+  private int run = 0;
+
+  @Setup
+  public void setUp() throws Exception {
+    repl = new StaticRepl();
+  }
+
+  @TearDown
+  public void tearDown() {
+    repl.close();
+  }
+
+  @Benchmark
+  public String newRepl() throws Exception {
+    StaticRepl newRepl = new StaticRepl(0);
+    try {
+      return newRepl.execute(CODE);
+    } finally {
+      newRepl.close();
+    }
+  }
+
+  @Benchmark
+  public String changedCode() throws Exception {
+    return repl.execute(CODE + "// run " + run++);
+  }
+
+  @Benchmark
+  public String unchangedCode() throws Exception {
+    return repl.execute(CODE);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(StaticReplBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -36,11 +36,11 @@ import org.apache.zeppelin.interpreter.ZeppelinContext;
 import org.apache.zeppelin.interpreter.util.SqlSplitter;
 import org.apache.zeppelin.jdbc.hive.HiveUtils;
 import org.apache.zeppelin.jdbc.kyuubi.KyuubiUtils;
-import org.apache.zeppelin.tabledata.TableDataUtils;
 import org.apache.zeppelin.util.PropertiesUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
@@ -70,7 +70,6 @@ import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.KerberosInterpreter;
-import org.apache.zeppelin.interpreter.ResultMessages;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.jdbc.security.JDBCSecurityImpl;
 import org.apache.zeppelin.scheduler.Scheduler;
@@ -123,10 +122,6 @@ public class JDBCInterpreter extends KerberosInterpreter {
   static final String STATEMENT_PRECODE_KEY_TEMPLATE = "%s.statementPrecode";
   static final String DOT = ".";
 
-  private static final char WHITESPACE = ' ';
-  private static final char NEWLINE = '\n';
-  private static final char TAB = '\t';
-  private static final String TABLE_MAGIC_TAG = "%table ";
   private static final String EXPLAIN_PREDICATE = "EXPLAIN ";
   private static final String CANCEL_REASON = "cancel_reason";
 
@@ -146,6 +141,9 @@ public class JDBCInterpreter extends KerberosInterpreter {
           "zeppelin.jdbc.concurrent.max_connection";
   private static final String DBCP_STRING = "jdbc:apache:commons:dbcp:";
   private static final String MAX_ROWS_KEY = "zeppelin.jdbc.maxRows";
+  private static final String OUTPUT_CHUNK_ROWS_KEY = "zeppelin.jdbc.output.chunkRows";
+  private static final String OUTPUT_CHUNK_ROWS_DEFAULT = "1000";
+  private static final String SPILL_DIR_KEY = "zeppelin.jdbc.spill.dir";
 
   private static final Set<String> PRESTO_PROPERTIES = new HashSet<>(Arrays.asList(
           "user", "password",
@@ -790,61 +788,18 @@ public class JDBCInterpreter extends KerberosInterpreter {
     return null;
   }
 
-  private String getResults(ResultSet resultSet, boolean isTableType)
-      throws SQLException {
-
-    ResultSetMetaData md = resultSet.getMetaData();
-    StringBuilder msg;
-    if (isTableType) {
-      msg = new StringBuilder(TABLE_MAGIC_TAG);
-    } else {
-      msg = new StringBuilder();
-    }
-
-    for (int i = 1; i < md.getColumnCount() + 1; i++) {
-      if (i > 1) {
-        msg.append(TAB);
-      }
-      if (StringUtils.isNotEmpty(md.getColumnLabel(i))) {
-        msg.append(removeTablePrefix(replaceReservedChars(
-                TableDataUtils.normalizeColumn(md.getColumnLabel(i)))));
-      } else {
-        msg.append(removeTablePrefix(replaceReservedChars(
-                TableDataUtils.normalizeColumn(md.getColumnName(i)))));
-      }
-    }
-    msg.append(NEWLINE);
-
-    int displayRowCount = 0;
-    boolean truncate = false;
-    while (resultSet.next()) {
-      if (displayRowCount >= getMaxResult()) {
-        truncate = true;
-        break;
-      }
-      for (int i = 1; i < md.getColumnCount() + 1; i++) {
-        Object resultObject;
-        String resultValue;
-        resultObject = resultSet.getObject(i);
-        if (resultObject == null) {
-          resultValue = "null";
-        } else {
-          resultValue = resultSet.getString(i);
-        }
-        msg.append(replaceReservedChars(TableDataUtils.normalizeColumn(resultValue)));
-        if (i != md.getColumnCount()) {
-          msg.append(TAB);
-        }
-      }
-      msg.append(NEWLINE);
-      displayRowCount++;
+  private void writeResults(ResultSet resultSet, boolean isTableType, InterpreterContext context)
+      throws SQLException, IOException {
+    File spillFile = null;
+    String spillDir = getProperty(SPILL_DIR_KEY);
+    if (StringUtils.isNotBlank(spillDir)) {
+      JDBCResultWriter.deleteSpillFiles(new File(spillDir), context.getParagraphId());
+      spillFile = new File(spillDir,
+          context.getParagraphId() + "_" + System.currentTimeMillis() + ".tsv");
     }
-
-    if (truncate) {
-      msg.append("\n" + ResultMessages.getExceedsLimitRowsMessage(getMaxResult(),
-              String.format("%s.%s", COMMON_KEY, MAX_LINE_KEY)).toString());
-    }
-    return msg.toString();
+    int chunkRows = Integer.parseInt(getProperty(OUTPUT_CHUNK_ROWS_KEY, OUTPUT_CHUNK_ROWS_DEFAULT));
+    new JDBCResultWriter(context.out, getMaxResult(), chunkRows, spillFile)
+        .write(resultSet, isTableType);
   }
 
   private boolean isDDLCommand(int updatedCount, int columnCount) throws SQLException {
@@ -984,9 +939,8 @@ public class JDBCInterpreter extends KerberosInterpreter {
                 singleRowResult.pushAngularObjects();
 
               } else {
-                String results = getResults(resultSet,
-                        !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE));
-                context.out.write(results);
+                writeResults(resultSet,
+                        !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE), context);
                 context.out.write("\n%text ");
                 context.out.flush();
               }
@@ -1050,30 +1004,6 @@ public class JDBCInterpreter extends KerberosInterpreter {
     return list;
   }
 
-  /**
-   * For %table response replace Tab and Newline characters from the content.
-   */
-  private String replaceReservedChars(String str) {
-    if (str == null) {
-      return EMPTY_COLUMN_VALUE;
-    }
-    return str.replace(TAB, WHITESPACE).replace(NEWLINE, WHITESPACE);
-  }
-
-  /**
-   * Hive will prefix table name before the column
-   * @param columnName
-   * @return
-   */
-  private String removeTablePrefix(String columnName) {
-    int index = columnName.indexOf(".");
-    if (index > 0) {
-      return columnName.substring(index + 1);
-    } else {
-      return columnName;
-    }
-  }
-
   @Override
   protected boolean isInterpolate() {
     return Boolean.parseBoolean(getProperty("zeppelin.jdbc.interpolation", "false"));
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.jdbc;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.ResultMessages;
+import org.apache.zeppelin.tabledata.TableDataUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Writes a ResultSet to the interpreter output, a chunk of rows at a time, so that the whole
+ * result is never built in memory. Only the first maxResult rows are displayed, optionally all
+ * the fetched rows are written to a local spill file as tab separated values.
+ */
+class JDBCResultWriter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JDBCResultWriter.class);
+
+  private static final char WHITESPACE = ' ';
+  private static final char NEWLINE = '\n';
+  private static final char TAB = '\t';
+  private static final String TABLE_MAGIC_TAG = "%table ";
+
+  private final InterpreterOutput out;
+  private final int maxResult;
+  private final int chunkRows;
+  private final File spillFile;
+
+  private final StringBuilder chunk = new StringBuilder();
+  private int rowsInChunk = 0;
+
+  /**
+   * @param maxResult max number of rows to display
+   * @param chunkRows number of rows written to the output at once
+   * @param spillFile file to write all the rows to, null to not spill the result
+   */
+  JDBCResultWriter(InterpreterOutput out, int maxResult, int chunkRows, File spillFile) {
+    this.out = out;
+    this.maxResult = maxResult;
+    this.chunkRows = Math.max(1, chunkRows);
+    this.spillFile = spillFile;
+  }
+
+  /**
+   * @return number of rows read from the result set
+   */
+  long write(ResultSet resultSet, boolean isTableType) throws SQLException, IOException {
+    ResultSetMetaData md = resultSet.getMetaData();
+    int columnCount = md.getColumnCount();
+    String header = getHeader(md);
+    if (isTableType) {
+      chunk.append(TABLE_MAGIC_TAG);
+    }
+    chunk.append(header).append(NEWLINE);
+
+    Writer spillWriter = null;
+    if (spillFile != null) {
+      Files.createDirectories(spillFile.toPath().toAbsolutePath().getParent());
+      spillWriter = Files.newBufferedWriter(spillFile.toPath(), StandardCharsets.UTF_8);
+      spillWriter.write(header);
+      spillWriter.write(NEWLINE);
+    }
+
+    long rowCount = 0;
+    try {
+      StringBuilder row = new StringBuilder();
+      while (resultSet.next()) {
+        if (rowCount >= maxResult && spillWriter == null) {
+          // one more row than displayed, to tell the result is truncated
+          rowCount++;
+          break;
+        }
+        row.setLength(0);
+        for (int i = 1; i < columnCount + 1; i++) {
+          String resultValue;
+          if (resultSet.getObject(i) == null) {
+            resultValue = "null";
+          } else {
+            resultValue = resultSet.getString(i);
+          }
+          row.append(replaceReservedChars(TableDataUtils.normalizeColumn(resultValue)));
+          if (i != columnCount) {
+            row.append(TAB);
+          }
+        }
+        row.append(NEWLINE);
+        if (rowCount < maxResult) {
+          appendRow(row);
+        }
+        if (spillWriter != null) {
+          spillWriter.append(row);
+        }
+        rowCount++;
+      }
+    } finally {
+      if (spillWriter != null) {
+        spillWriter.close();
+      }
+    }
+
+    if (rowCount > maxResult) {
+      chunk.append(NEWLINE).append(ResultMessages.getExceedsLimitRowsMessage(maxResult,
+          JDBCInterpreter.COMMON_MAX_LINE).toString());
+    }
+    if (spillFile != null) {
+      chunk.append("\n%text All the ").append(rowCount).append(" rows are written to ")
+          .append(spillFile.getAbsolutePath()).append(NEWLINE);
+    }
+    flushChunk();
+    return rowCount;
+  }
+
+  private String getHeader(ResultSetMetaData md) throws SQLException {
+    StringBuilder header = new StringBuilder();
+    for (int i = 1; i < md.getColumnCount() + 1; i++) {
+      if (i > 1) {
+        header.append(TAB);
+      }
+      if (StringUtils.isNotEmpty(md.getColumnLabel(i))) {
+        header.append(removeTablePrefix(replaceReservedChars(
+            TableDataUtils.normalizeColumn(md.getColumnLabel(i)))));
+      } else {
+        header.append(removeTablePrefix(replaceReservedChars(
+            TableDataUtils.normalizeColumn(md.getColumnName(i)))));
+      }
+    }
+    return header.toString();
+  }
+
+  private void appendRow(CharSequence row) throws IOException {
+    chunk.append(row);
+    if (++rowsInChunk >= chunkRows) {
+      flushChunk();
+    }
+  }
+
+  private void flushChunk() throws IOException {
+    if (chunk.length() > 0) {
+      out.write(chunk.toString());
+      chunk.setLength(0);
+    }
+    rowsInChunk = 0;
+  }
+
+  /**
+   * Remove the spill files of the paragraph written by the previous runs.
+   */
+  static void deleteSpillFiles(File spillDir, String paragraphId) {
+    File[] files = spillDir.listFiles((dir, name) -> name.startsWith(paragraphId + "_"));
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOGGER.warn("Fail to delete spill file {}", file, e);
+      }
+    }
+  }
+
+  /**
+   * For %table response replace Tab and Newline characters from the content.
+   */
+  static String replaceReservedChars(String str) {
+    if (str == null) {
+      return JDBCInterpreter.EMPTY_COLUMN_VALUE;
+    }
+    return str.replace(TAB, WHITESPACE).replace(NEWLINE, WHITESPACE);
+  }
+
+  /**
+   * Hive will prefix table name before the column
+   * @param columnName
+   * @return
+   */
+  static String removeTablePrefix(String columnName) {
+    int index = columnName.indexOf(".");
+    if (index > 0) {
+      return columnName.substring(index + 1);
+    } else {
+      return columnName;
+    }
+  }
+}
@@ -33,7 +33,9 @@ import org.apache.zeppelin.user.UsernamePassword;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
@@ -463,6 +465,70 @@ public class JDBCInterpreterTest extends BasicJDBCTestCaseAdapter {
     assertTrue(resultMessages.get(1).getData().contains("Output is truncated"));
   }
 
+  @Test
+  void testSelectQueryInChunks() throws IOException, InterpreterException {
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "1000");
+    properties.setProperty("common.max_retry", "3");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    properties.setProperty("default.url", getJdbcConnection());
+    properties.setProperty("default.user", "");
+    properties.setProperty("default.password", "");
+    properties.setProperty("zeppelin.jdbc.output.chunkRows", "1");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    InterpreterResult interpreterResult = t.interpret("select * from test_table", context);
+
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+    List<InterpreterResultMessage> resultMessages = context.out.toInterpreterResultMessage();
+    assertEquals(1, resultMessages.size());
+    assertEquals(InterpreterResult.Type.TABLE, resultMessages.get(0).getType());
+    assertEquals("ID\tNAME\na\ta_name\nb\tb_name\nc\tnull\n",
+        resultMessages.get(0).getData());
+  }
+
+  @Test
+  void testSelectQuerySpill() throws IOException, InterpreterException {
+    File spillDir = Files.createTempDirectory("jdbc_spill").toFile();
+    try {
+      Properties properties = new Properties();
+      properties.setProperty("common.max_count", "1");
+      properties.setProperty("common.max_retry", "3");
+      properties.setProperty("default.driver", "org.h2.Driver");
+      properties.setProperty("default.url", getJdbcConnection());
+      properties.setProperty("default.user", "");
+      properties.setProperty("default.password", "");
+      properties.setProperty("zeppelin.jdbc.spill.dir", spillDir.getAbsolutePath());
+      JDBCInterpreter t = new JDBCInterpreter(properties);
+      t.open();
+
+      t.interpret("select * from test_table", context);
+      context.out.clear();
+      InterpreterResult interpreterResult = t.interpret("select * from test_table", context);
+
+      assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+      List<InterpreterResultMessage> resultMessages = context.out.toInterpreterResultMessage();
+      // only the first row is displayed
+      assertEquals("ID\tNAME\na\ta_name\n", resultMessages.get(0).getData());
+      assertTrue(resultMessages.get(1).getData().contains("Output is truncated"));
+      assertEquals(InterpreterResult.Type.TEXT, resultMessages.get(2).getType());
+      assertTrue(resultMessages.get(2).getData().contains("All the 3 rows are written to"));
+
+      // all the rows are in the spill file, the one of the previous run is removed
+      File[] spillFiles = spillDir.listFiles();
+      assertEquals(1, spillFiles.length);
+      assertTrue(spillFiles[0].getName().startsWith("paragraphId_"));
+      assertEquals("ID\tNAME\na\ta_name\nb\tb_name\nc\tnull\n",
+          new String(Files.readAllBytes(spillFiles[0].toPath()), StandardCharsets.UTF_8));
+    } finally {
+      for (File file : spillDir.listFiles()) {
+        file.delete();
+      }
+      spillDir.delete();
+    }
+  }
+
   @Test
   void concurrentSettingTest() {
     Properties properties = new Properties();
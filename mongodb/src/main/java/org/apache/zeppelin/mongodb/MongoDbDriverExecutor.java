@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.mongodb;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.MongoIterable;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the statements of the driver mode with the java driver, see {@link MongoDbQuery}.
+ *
+ * The documents of find and aggregate are read with server side cursors and written to the
+ * paragraph output batch by batch. The columns of the table are the flattened fields of the
+ * documents of the first batch, fields which only appear in later documents are not shown.
+ */
+class MongoDbDriverExecutor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbDriverExecutor.class);
+
+  private static final JsonWriterSettings JSON_SETTINGS =
+      JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+  private static final JsonWriterSettings INDENTED_JSON_SETTINGS =
+      JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).indent(true).build();
+
+  private final MongoClient client;
+  private final MongoDatabase database;
+  private final int tableLimit;
+  private final int batchSize;
+  private final long timeout;
+
+  // cancel flags of the running statements by paragraph id
+  private final Map<String, AtomicBoolean> runningQueries = new ConcurrentHashMap<>();
+
+  /**
+   * @param client pooled client, it is shared by all paragraphs
+   * @param timeout max time of find and aggregate in milliseconds
+   */
+  MongoDbDriverExecutor(MongoClient client, String database, int tableLimit, int batchSize,
+                        long timeout) {
+    this.client = client;
+    this.database = client.getDatabase(database);
+    this.tableLimit = tableLimit;
+    this.batchSize = batchSize;
+    this.timeout = timeout;
+  }
+
+  InterpreterResult execute(String script, InterpreterContext context) {
+    MongoDbQuery query;
+    try {
+      query = MongoDbQuery.parse(script);
+    } catch (IllegalArgumentException | JsonParseException e) {
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    }
+
+    String paragraphId = context.getParagraphId();
+    AtomicBoolean cancelled = new AtomicBoolean(false);
+    runningQueries.put(paragraphId, cancelled);
+    try {
+      if (query.getType() == MongoDbQuery.Type.COMMAND) {
+        BsonDocument result = database.runCommand(query.getCommand(), BsonDocument.class);
+        context.out.write(result.toJson(INDENTED_JSON_SETTINGS));
+        context.out.flush();
+      } else {
+        writeTable(createIterable(query), context, cancelled);
+      }
+    } catch (MongoException e) {
+      LOGGER.error("Can not run statement in paragraph {}", paragraphId, e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    } catch (IOException e) {
+      LOGGER.error("Can not write result of paragraph {}", paragraphId, e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    } finally {
+      runningQueries.remove(paragraphId);
+    }
+
+    if (cancelled.get()) {
+      LOGGER.info("The paragraph {} stopped executing", paragraphId);
+      return new InterpreterResult(Code.INCOMPLETE, "Paragraph was cancelled.\n");
+    }
+    return new InterpreterResult(Code.SUCCESS);
+  }
+
+  private MongoIterable<BsonDocument> createIterable(MongoDbQuery query) {
+    MongoCollection<BsonDocument> collection =
+        database.getCollection(query.getCollection(), BsonDocument.class);
+    if (query.getType() == MongoDbQuery.Type.AGGREGATE) {
+      return collection.aggregate(query.getPipeline())
+          .batchSize(batchSize)
+          .maxTime(timeout, TimeUnit.MILLISECONDS);
+    }
+    // documents beyond the table limit are not even fetched
+    int limit = query.getLimit() > 0 ? Math.min(query.getLimit(), tableLimit) : tableLimit;
+    FindIterable<BsonDocument> iterable = collection.find(query.getFilter())
+        .skip(query.getSkip())
+        .limit(limit)
+        .batchSize(Math.min(batchSize, limit))
+        .maxTime(timeout, TimeUnit.MILLISECONDS);
+    if (query.getProjection() != null) {
+      iterable.projection(query.getProjection());
+    }
+    if (query.getSort() != null) {
+      iterable.sort(query.getSort());
+    }
+    return iterable;
+  }
+
+  private void writeTable(MongoIterable<BsonDocument> iterable, InterpreterContext context,
+                          AtomicBoolean cancelled) throws IOException {
+    // closing the cursor kills it on the server, e.g. if the table limit is reached
+    try (MongoCursor<BsonDocument> cursor = iterable.cursor()) {
+      List<Map<String, String>> firstBatch = new ArrayList<>();
+      Set<String> fields = new LinkedHashSet<>();
+      while (firstBatch.size() < Math.min(batchSize, tableLimit) && !cancelled.get()
+          && cursor.hasNext()) {
+        Map<String, String> row = flatten(cursor.next());
+        fields.addAll(row.keySet());
+        firstBatch.add(row);
+      }
+
+      StringBuilder output = new StringBuilder("%table ");
+      output.append(String.join("\t", fields)).append('\n');
+      for (Map<String, String> row : firstBatch) {
+        appendRow(output, fields, row);
+      }
+      context.out.write(output.toString());
+      context.out.flush();
+
+      int rows = firstBatch.size();
+      output.setLength(0);
+      while (rows < tableLimit && !cancelled.get() && cursor.hasNext()) {
+        appendRow(output, fields, flatten(cursor.next()));
+        rows++;
+        if (cursor.available() == 0) {
+          // end of the batch, the next one is fetched from the server
+          context.out.write(output.toString());
+          context.out.flush();
+          output.setLength(0);
+        }
+      }
+      context.out.write(output.toString());
+      context.out.flush();
+    }
+  }
+
+  private static void appendRow(StringBuilder output, Set<String> fields,
+                                Map<String, String> row) {
+    boolean first = true;
+    for (String field : fields) {
+      if (!first) {
+        output.append('\t');
+      }
+      first = false;
+      output.append(row.getOrDefault(field, ""));
+    }
+    output.append('\n');
+  }
+
+  /**
+   * Nested documents are flattened to fields with dotted names, arrays are kept as json.
+   */
+  static Map<String, String> flatten(BsonDocument document) {
+    Map<String, String> row = new LinkedHashMap<>();
+    flatten("", document, row);
+    return row;
+  }
+
+  private static void flatten(String prefix, BsonDocument document, Map<String, String> row) {
+    for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+      if (entry.getValue().isDocument()) {
+        flatten(prefix + entry.getKey() + ".", entry.getValue().asDocument(), row);
+      } else {
+        row.put(prefix + entry.getKey(),
+            toString(entry.getValue()).replace('\t', ' ').replace('\n', ' ').replace('\r', ' '));
+      }
+    }
+  }
+
+  private static String toString(BsonValue value) {
+    switch (value.getBsonType()) {
+      case STRING:
+        return value.asString().getValue();
+      case OBJECT_ID:
+        return value.asObjectId().getValue().toHexString();
+      case DATE_TIME:
+        return Instant.ofEpochMilli(value.asDateTime().getValue()).toString();
+      case INT32:
+        return String.valueOf(value.asInt32().getValue());
+      case INT64:
+        return String.valueOf(value.asInt64().getValue());
+      case DOUBLE:
+        return String.valueOf(value.asDouble().getValue());
+      case DECIMAL128:
+        return value.asDecimal128().getValue().toString();
+      case BOOLEAN:
+        return String.valueOf(value.asBoolean().getValue());
+      case NULL:
+        return "null";
+      default:
+        // e.g. arrays, the value is written as json of a wrapping document
+        String json = new BsonDocument("v", value).toJson(JSON_SETTINGS);
+        return json.substring(json.indexOf(':') + 1, json.length() - 1).trim();
+    }
+  }
+
+  /**
+   * Stops the statement of the paragraph before its next document is read.
+   */
+  void cancel(String paragraphId) {
+    AtomicBoolean cancelled = runningQueries.get(paragraphId);
+    if (cancelled != null) {
+      cancelled.set(true);
+    }
+  }
+
+  void close() {
+    runningQueries.values().forEach(cancelled -> cancelled.set(true));
+    client.close();
+  }
+}
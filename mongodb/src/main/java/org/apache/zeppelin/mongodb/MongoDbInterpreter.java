@@ -20,11 +20,16 @@ package org.apache.zeppelin.mongodb;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Scanner;
 
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClients;
 import org.apache.commons.exec.CommandLine;
 import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.ExecuteException;
@@ -35,6 +40,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.scheduler.Scheduler;
@@ -43,7 +49,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * MongoDB interpreter. It uses the mongo shell to interpret the commands.
+ * MongoDB interpreter. It uses the mongo shell to interpret the commands, or the java driver in
+ * driver mode, see {@link MongoDbQuery} for the statements of the driver mode.
  */
 public class MongoDbInterpreter extends Interpreter {
 
@@ -53,6 +60,9 @@ public class MongoDbInterpreter extends Interpreter {
 
   private static final int SIGTERM_CODE = 143;
 
+  static final String SHELL_MODE = "shell";
+  static final String DRIVER_MODE = "driver";
+
   private long commandTimeout = 60000;
 
   private String dbAddress;
@@ -61,12 +71,22 @@ public class MongoDbInterpreter extends Interpreter {
 
   private Map<String, Executor> runningProcesses =  new HashMap<>();
 
+  private MongoDbDriverExecutor driverExecutor;
+
   public MongoDbInterpreter(Properties property) {
     super(property);
   }
 
   @Override
-  public void open() {
+  public void open() throws InterpreterException {
+    String mode = getProperty("mongo.interpreter.mode", SHELL_MODE);
+    if (DRIVER_MODE.equals(mode)) {
+      openDriver();
+      return;
+    } else if (!SHELL_MODE.equals(mode)) {
+      throw new InterpreterException("Unknown mongo.interpreter.mode: " + mode);
+    }
+
     try (final Scanner scanner = new Scanner(MongoDbInterpreter.class.getResourceAsStream("/shell_extension.js"),
             "UTF-8").useDelimiter("\\A")) {
         shellExtension = scanner.next();
@@ -77,8 +97,34 @@ public class MongoDbInterpreter extends Interpreter {
     prepareShellExtension();
   }
 
+  private void openDriver() {
+    maxConcurrency = Integer.parseInt(getProperty("mongo.interpreter.concurrency.max"));
+    MongoClientSettings.Builder settings = MongoClientSettings.builder()
+        .applyToClusterSettings(cluster -> cluster.hosts(Collections.singletonList(
+            new ServerAddress(getProperty("mongo.server.host"),
+                Integer.parseInt(getProperty("mongo.server.port"))))))
+        // one connection per concurrently running paragraph
+        .applyToConnectionPoolSettings(pool -> pool.maxSize(maxConcurrency));
+    String userName = getProperty("mongo.server.username", "");
+    if (StringUtils.isNotEmpty(userName)) {
+      String authDb = getProperty("mongo.server.authenticationDatabase", "");
+      settings.credential(MongoCredential.createCredential(userName,
+          StringUtils.defaultIfEmpty(authDb, "admin"),
+          getProperty("mongo.server.password", "").toCharArray()));
+    }
+    driverExecutor = new MongoDbDriverExecutor(MongoClients.create(settings.build()),
+        getProperty("mongo.server.database"),
+        Integer.parseInt(getProperty("mongo.shell.command.table.limit")),
+        Integer.parseInt(getProperty("mongo.driver.batch.size", "1000")),
+        Long.parseLong(getProperty("mongo.shell.command.timeout")));
+  }
+
   @Override
   public void close() {
+    if (driverExecutor != null) {
+      driverExecutor.close();
+      driverExecutor = null;
+    }
     runningProcesses.clear();
     runningProcesses = null;
   }
@@ -96,6 +142,10 @@ public class MongoDbInterpreter extends Interpreter {
       return new InterpreterResult(Code.SUCCESS);
     }
 
+    if (driverExecutor != null) {
+      return driverExecutor.execute(script, context);
+    }
+
     String paragraphId = context.getParagraphId();
     // Write script in a temporary file
     // The script is enriched with extensions
@@ -159,6 +209,10 @@ public class MongoDbInterpreter extends Interpreter {
 
   @Override
   public void cancel(InterpreterContext context) {
+    if (driverExecutor != null) {
+      driverExecutor.cancel(context.getParagraphId());
+      return;
+    }
     stopProcess(context.getParagraphId());
     FileUtils.deleteQuietly(new File(getScriptFileName(context.getParagraphId())));
   }
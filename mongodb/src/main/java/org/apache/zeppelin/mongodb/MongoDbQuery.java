@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * Statement of the driver mode, it's a subset of the mongo shell syntax:
+ * <pre>
+ * db.collection.find(filter, projection).sort(sort).skip(n).limit(n)
+ * db.collection.aggregate(pipeline)
+ * {"dbStats": 1}
+ * </pre>
+ * The last form is a database command. Arguments are parsed as extended json, so shell helpers
+ * like ObjectId("...") or ISODate("...") can be used. A trailing table() call is accepted for
+ * compatibility with the shell mode, the results of find and aggregate are always tables.
+ */
+class MongoDbQuery {
+
+  enum Type {
+    FIND, AGGREGATE, COMMAND
+  }
+
+  private static final Pattern COLLECTION_METHOD =
+      Pattern.compile("^db\\.(.+?)\\.(find|aggregate)\\s*\\(", Pattern.DOTALL);
+  private static final Pattern CHAINED_METHOD = Pattern.compile("\\G\\s*\\.\\s*(\\w+)\\s*\\(");
+
+  private Type type;
+  private String collection;
+  private BsonDocument filter = new BsonDocument();
+  private BsonDocument projection;
+  private BsonDocument sort;
+  private int skip = 0;
+  private int limit = 0;
+  private List<BsonDocument> pipeline;
+  private BsonDocument command;
+
+  private MongoDbQuery() {
+  }
+
+  /**
+   * @throws IllegalArgumentException if the statement isn't supported
+   * @throws org.bson.json.JsonParseException if an argument isn't valid json
+   */
+  static MongoDbQuery parse(String script) {
+    String statement = script.trim();
+    while (statement.endsWith(";")) {
+      statement = statement.substring(0, statement.length() - 1).trim();
+    }
+
+    MongoDbQuery query = new MongoDbQuery();
+    if (statement.startsWith("{")) {
+      query.type = Type.COMMAND;
+      query.command = BsonDocument.parse(statement);
+      return query;
+    }
+
+    Matcher matcher = COLLECTION_METHOD.matcher(statement);
+    if (!matcher.find()) {
+      throw new IllegalArgumentException("Unsupported statement, use "
+          + "db.<collection>.find(...), db.<collection>.aggregate([...]) or a command document");
+    }
+    query.collection = matcher.group(1);
+    query.type = "find".equals(matcher.group(2)) ? Type.FIND : Type.AGGREGATE;
+    int end = findClosingParenthesis(statement, matcher.end());
+    query.setArguments(parseArguments(statement.substring(matcher.end(), end)));
+
+    matcher = CHAINED_METHOD.matcher(statement);
+    int position = end + 1;
+    while (position < statement.length()) {
+      if (!matcher.find(position) || matcher.start() != position) {
+        throw new IllegalArgumentException("Unexpected input: " + statement.substring(position));
+      }
+      end = findClosingParenthesis(statement, matcher.end());
+      query.applyMethod(matcher.group(1),
+          parseArguments(statement.substring(matcher.end(), end)));
+      position = end + 1;
+    }
+    return query;
+  }
+
+  private void setArguments(BsonArray arguments) {
+    if (type == Type.FIND) {
+      if (arguments.size() > 2) {
+        throw new IllegalArgumentException("find takes a filter and a projection");
+      }
+      if (!arguments.isEmpty()) {
+        filter = getDocument("find", arguments.get(0));
+      }
+      if (arguments.size() > 1) {
+        projection = getDocument("find", arguments.get(1));
+      }
+    } else {
+      // the stages can also be passed as separate arguments, like in the shell
+      BsonArray stages = arguments.size() == 1 && arguments.get(0).isArray()
+          ? arguments.get(0).asArray() : arguments;
+      pipeline = new ArrayList<>();
+      for (BsonValue stage : stages) {
+        pipeline.add(getDocument("aggregate", stage));
+      }
+    }
+  }
+
+  private void applyMethod(String method, BsonArray arguments) {
+    if ("table".equals(method)) {
+      return;
+    }
+    if (type != Type.FIND) {
+      throw new IllegalArgumentException("Unsupported method of aggregate: " + method);
+    }
+    switch (method) {
+      case "sort":
+        sort = getDocument(method, getSingleArgument(method, arguments));
+        break;
+      case "projection":
+        projection = getDocument(method, getSingleArgument(method, arguments));
+        break;
+      case "skip":
+        skip = getInt(method, getSingleArgument(method, arguments));
+        break;
+      case "limit":
+        limit = getInt(method, getSingleArgument(method, arguments));
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported method of find: " + method);
+    }
+  }
+
+  private static BsonValue getSingleArgument(String method, BsonArray arguments) {
+    if (arguments.size() != 1) {
+      throw new IllegalArgumentException(method + " takes one argument");
+    }
+    return arguments.get(0);
+  }
+
+  private static BsonDocument getDocument(String method, BsonValue value) {
+    if (!value.isDocument()) {
+      throw new IllegalArgumentException("Argument of " + method + " is not a document: "
+          + value);
+    }
+    return value.asDocument();
+  }
+
+  private static int getInt(String method, BsonValue value) {
+    if (!value.isNumber()) {
+      throw new IllegalArgumentException("Argument of " + method + " is not a number: " + value);
+    }
+    return value.asNumber().intValue();
+  }
+
+  private static BsonArray parseArguments(String arguments) {
+    return BsonArray.parse("[" + arguments + "]");
+  }
+
+  /**
+   * @return index of the parenthesis which closes the one before start, brackets and strings
+   *     in between are skipped
+   */
+  private static int findClosingParenthesis(String statement, int start) {
+    int depth = 0;
+    char quote = 0;
+    for (int i = start; i < statement.length(); i++) {
+      char c = statement.charAt(i);
+      if (quote != 0) {
+        if (c == '\\') {
+          i++;
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == '(' || c == '[' || c == '{') {
+        depth++;
+      } else if (c == ')' || c == ']' || c == '}') {
+        if (depth == 0) {
+          if (c != ')') {
+            break;
+          }
+          return i;
+        }
+        depth--;
+      }
+    }
+    throw new IllegalArgumentException("Unbalanced parentheses: " + statement.substring(start));
+  }
+
+  Type getType() {
+    return type;
+  }
+
+  String getCollection() {
+    return collection;
+  }
+
+  BsonDocument getFilter() {
+    return filter;
+  }
+
+  BsonDocument getProjection() {
+    return projection;
+  }
+
+  BsonDocument getSort() {
+    return sort;
+  }
+
+  int getSkip() {
+    return skip;
+  }
+
+  int getLimit() {
+    return limit;
+  }
+
+  List<BsonDocument> getPipeline() {
+    return pipeline;
+  }
+
+  BsonDocument getCommand() {
+    return command;
+  }
+}
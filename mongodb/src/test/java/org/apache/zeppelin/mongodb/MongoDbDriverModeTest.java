@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the driver mode against an in-memory mongo server.
+ */
+class MongoDbDriverModeTest {
+
+  private static MongoServer server;
+  private static InetSocketAddress serverAddress;
+
+  private final Properties props = new Properties();
+  private final MongoDbInterpreter interpreter = new MongoDbInterpreter(props);
+
+  @BeforeAll
+  public static void startServer() {
+    server = new MongoServer(new MemoryBackend());
+    serverAddress = server.bind();
+    try (MongoClient client = MongoClients.create("mongodb://" + serverAddress.getHostString()
+        + ":" + serverAddress.getPort())) {
+      List<Document> documents = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        documents.add(new Document("_id", i)
+            .append("name", "user\t" + i)
+            .append("group", i % 2 == 0 ? "even" : "odd")
+            .append("address", new Document("city", "city_" + i))
+            .append("tags", List.of("a", "b")));
+      }
+      client.getDatabase("test").getCollection("users").insertMany(documents);
+    }
+  }
+
+  @AfterAll
+  public static void stopServer() {
+    server.shutdown();
+  }
+
+  @BeforeEach
+  public void init() throws InterpreterException {
+    props.put("mongo.interpreter.mode", "driver");
+    props.put("mongo.shell.command.table.limit", "20");
+    props.put("mongo.driver.batch.size", "7");
+    props.put("mongo.server.database", "test");
+    props.put("mongo.shell.command.timeout", "10000");
+    props.put("mongo.interpreter.concurrency.max", "10");
+    props.put("mongo.server.host", serverAddress.getHostString());
+    props.put("mongo.server.port", String.valueOf(serverAddress.getPort()));
+    interpreter.open();
+  }
+
+  @AfterEach
+  public void destroy() {
+    interpreter.close();
+  }
+
+  @Test
+  void testFind() throws IOException {
+    InterpreterContext context = createContext();
+    InterpreterResult result = interpreter.interpret(
+        "db.users.find({group: 'even'}, {name: 1, address: 1, tags: 1})"
+            + ".sort({_id: -1}).skip(1).limit(3).table();", context);
+    assertSame(Code.SUCCESS, result.code(), result.toString());
+
+    List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+    assertEquals(1, messages.size());
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(0).getType());
+    assertEquals("_id\tname\taddress.city\ttags\n"
+        + "22\tuser 22\tcity_22\t[\"a\", \"b\"]\n"
+        + "20\tuser 20\tcity_20\t[\"a\", \"b\"]\n"
+        + "18\tuser 18\tcity_18\t[\"a\", \"b\"]\n", messages.get(0).getData());
+  }
+
+  @Test
+  void testTableLimit() throws IOException {
+    // more documents than the batch size, the rows are limited by the table limit
+    InterpreterContext context = createContext();
+    InterpreterResult result = interpreter.interpret("db.users.find({}, {_id: 1})", context);
+    assertSame(Code.SUCCESS, result.code(), result.toString());
+    String[] lines = context.out.toInterpreterResultMessage().get(0).getData().split("\n");
+    assertEquals(21, lines.length);
+    assertEquals("_id", lines[0]);
+    assertEquals("19", lines[20]);
+
+    context = createContext();
+    result = interpreter.interpret("db.users.aggregate([{$match: {group: 'odd'}}, "
+        + "{$project: {_id: 0, name: 1}}])", context);
+    assertSame(Code.SUCCESS, result.code(), result.toString());
+    lines = context.out.toInterpreterResultMessage().get(0).getData().split("\n");
+    assertEquals(13, lines.length);
+    assertEquals("name", lines[0]);
+    assertEquals("user 23", lines[12]);
+  }
+
+  @Test
+  void testCommand() throws IOException {
+    InterpreterContext context = createContext();
+    InterpreterResult result = interpreter.interpret("{count: 'users', query: {group: 'odd'}}",
+        context);
+    assertSame(Code.SUCCESS, result.code(), result.toString());
+    String output = context.out.toInterpreterResultMessage().get(0).getData();
+    assertTrue(output.contains("\"n\": 12"), output);
+  }
+
+  @Test
+  void testInvalidStatement() {
+    InterpreterResult result = interpreter.interpret("db.users.remove({})", createContext());
+    assertSame(Code.ERROR, result.code());
+    result = interpreter.interpret("db.users.find({name: )", createContext());
+    assertSame(Code.ERROR, result.code());
+  }
+
+  @Test
+  void testParse() {
+    MongoDbQuery query = MongoDbQuery.parse(
+        "db.system.profile.find({text: 'a)b', n: {$in: [1, 2]}}).limit(5)");
+    assertEquals(MongoDbQuery.Type.FIND, query.getType());
+    assertEquals("system.profile", query.getCollection());
+    assertEquals("a)b", query.getFilter().getString("text").getValue());
+    assertEquals(5, query.getLimit());
+
+    query = MongoDbQuery.parse("db.users.aggregate({$match: {a: 1}}, {$limit: 2})");
+    assertEquals(MongoDbQuery.Type.AGGREGATE, query.getType());
+    assertEquals(2, query.getPipeline().size());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> MongoDbQuery.parse("db.users.aggregate([]).limit(1)"));
+    assertThrows(IllegalArgumentException.class,
+        () -> MongoDbQuery.parse("db.users.find({}) db.users.find({})"));
+  }
+
+  @Test
+  void testUnknownMode() {
+    MongoDbInterpreter unknownModeInterpreter = new MongoDbInterpreter(new Properties());
+    unknownModeInterpreter.setProperty("mongo.interpreter.mode", "unknown");
+    assertThrows(InterpreterException.class, unknownModeInterpreter::open);
+  }
+
+  private InterpreterContext createContext() {
+    return InterpreterContext.builder().setNoteId("test").setParagraphId("test")
+        .setInterpreterOut(new InterpreterOutput()).build();
+  }
+}
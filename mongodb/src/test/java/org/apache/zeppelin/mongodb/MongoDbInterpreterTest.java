@@ -30,6 +30,7 @@ import java.util.Scanner;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterOutputListener;
 import org.apache.zeppelin.interpreter.InterpreterResult;
@@ -80,7 +81,7 @@ public class MongoDbInterpreterTest implements InterpreterOutputListener {
   }
 
   @BeforeEach
-  public void init() {
+  public void init() throws InterpreterException {
     buffer = ByteBuffer.allocate(10000);
     props.put("mongo.shell.path", (IS_WINDOWS ? "" : "sh ") + MONGO_SHELL);
     props.put("mongo.shell.command.table.limit", "10000");
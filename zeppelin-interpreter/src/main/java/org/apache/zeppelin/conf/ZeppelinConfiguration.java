@@ -661,6 +661,22 @@ public class ZeppelinConfiguration {
     return getInt(ConfVars.ZEPPELIN_NOTE_CACHE_THRESHOLD);
   }
 
+  public long getNoteCacheMaxBytes() {
+    return getLong(ConfVars.ZEPPELIN_NOTE_CACHE_MAX_BYTES);
+  }
+
+  public long getNoteSaveWindow() {
+    return getTime(ConfVars.ZEPPELIN_NOTE_SAVE_WINDOW);
+  }
+
+  /**
+   * @return absolute path of the note metadata catalog, null if the catalog is disabled
+   */
+  public String getNoteCatalogPath() {
+    String path = getString(ConfVars.ZEPPELIN_NOTE_CATALOG_PATH);
+    return StringUtils.isBlank(path) ? null : getAbsoluteDir(path);
+  }
+
   public String getInterpreterPortRange() {
     return getString(ConfVars.ZEPPELIN_INTERPRETER_RPC_PORTRANGE);
   }
@@ -838,6 +854,18 @@ public class ZeppelinConfiguration {
     return getAbsoluteDir(ConfVars.ZEPPELIN_SEARCH_INDEX_PATH);
   }
 
+  public long getZeppelinSearchRefreshInterval() {
+    return getTime(ConfVars.ZEPPELIN_SEARCH_REFRESH_INTERVAL);
+  }
+
+  public long getZeppelinSearchCommitInterval() {
+    return getTime(ConfVars.ZEPPELIN_SEARCH_COMMIT_INTERVAL);
+  }
+
+  public int getZeppelinSearchCommitMaxUpdates() {
+    return getInt(ConfVars.ZEPPELIN_SEARCH_COMMIT_MAX_UPDATES);
+  }
+
   public boolean isOnlyYarnCluster() {
     return getBoolean(ConfVars.ZEPPELIN_SPARK_ONLY_YARN_CLUSTER);
   }
@@ -973,8 +1001,21 @@ public class ZeppelinConfiguration {
         "https://repo1.maven.org/maven2/"),
     ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT("zeppelin.interpreter.connect.timeout", 600000L),
     ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE("zeppelin.interpreter.connection.poolsize", 100),
+    ZEPPELIN_INTERPRETER_RPC_TRANSPORT("zeppelin.interpreter.rpc.transport", "blocking"),
     ZEPPELIN_INTERPRETER_GROUP_DEFAULT("zeppelin.interpreter.group.default", "spark"),
     ZEPPELIN_INTERPRETER_OUTPUT_LIMIT("zeppelin.interpreter.output.limit", 1024 * 100),
+    ZEPPELIN_INTERPRETER_OUTPUT_APPEND_WINDOW("zeppelin.interpreter.output.append.window", 50L),
+    ZEPPELIN_INTERPRETER_OUTPUT_APPEND_BUFFER_SIZE("zeppelin.interpreter.output.append.buffer.size",
+        64 * 1024),
+    ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_MAX_LATENCY("zeppelin.interpreter.output.flush.max.latency",
+        100L),
+    ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_MAX_SIZE("zeppelin.interpreter.output.flush.max.size",
+        64 * 1024),
+    ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_MAX_BUFFERED_SIZE(
+        "zeppelin.interpreter.output.flush.max.buffered.size", 4L * 1024 * 1024),
+    ZEPPELIN_INTERPRETER_RESOURCE_SERIALIZER("zeppelin.interpreter.resource.serializer", "kryo"),
+    ZEPPELIN_INTERPRETER_RESOURCE_CHUNK_SIZE("zeppelin.interpreter.resource.chunk.size",
+        4 * 1024 * 1024),
     ZEPPELIN_INTERPRETER_INCLUDES("zeppelin.interpreter.include", ""),
     ZEPPELIN_INTERPRETER_EXCLUDES("zeppelin.interpreter.exclude", ""),
 
@@ -1024,6 +1065,17 @@ public class ZeppelinConfiguration {
     ZEPPELIN_NOTEBOOK_STORAGE("zeppelin.notebook.storage",
         "org.apache.zeppelin.notebook.repo.GitNotebookRepo"),
     ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC("zeppelin.notebook.one.way.sync", false),
+    ZEPPELIN_NOTEBOOK_REPLICATION_ASYNC("zeppelin.notebook.replication.async", false),
+    ZEPPELIN_NOTEBOOK_REPLICATION_THREADS("zeppelin.notebook.replication.threads", 4),
+    ZEPPELIN_NOTEBOOK_REPLICATION_MAX_RETRIES("zeppelin.notebook.replication.max.retries", 5),
+    ZEPPELIN_NOTEBOOK_REPLICATION_RETRY_INTERVAL("zeppelin.notebook.replication.retry.interval",
+        1000L),
+    ZEPPELIN_NOTEBOOK_REPLICATION_LOG("zeppelin.notebook.replication.log",
+        "recovery/notebook-replication.log"),
+    ZEPPELIN_NOTEBOOK_BLOB_STORAGE_CLASS("zeppelin.notebook.blob.storage.class",
+        "org.apache.zeppelin.notebook.blob.NullBlobStorage"),
+    ZEPPELIN_NOTEBOOK_BLOB_DIR("zeppelin.notebook.blob.dir", "blobs"),
+    ZEPPELIN_NOTEBOOK_BLOB_THRESHOLD("zeppelin.notebook.blob.threshold", 16 * 1024),
     // whether by default note is public or private
     ZEPPELIN_NOTEBOOK_PUBLIC("zeppelin.notebook.public", true),
     ZEPPELIN_INTERPRETER_REMOTE_RUNNER("zeppelin.interpreter.remoterunner",
@@ -1051,6 +1103,10 @@ public class ZeppelinConfiguration {
     ZEPPELIN_CREDENTIALS_ENCRYPT_KEY("zeppelin.credentials.encryptKey", null),
     ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE("zeppelin.websocket.max.text.message.size", "10240000"),
     ZEPPELIN_WEBSOCKET_PARAGRAPH_STATUS_PROGRESS("zeppelin.websocket.paragraph_status_progress.enable", true),
+    // "conflate" or "none"
+    ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_POLICY("zeppelin.websocket.outbound.queue.policy", "conflate"),
+    ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE("zeppelin.websocket.outbound.queue.size", 1000),
+    ZEPPELIN_WEBSOCKET_OUTBOUND_SLOW_CONSUMER_TIMEOUT("zeppelin.websocket.outbound.slowConsumer.timeout", 60000L),
     ZEPPELIN_SERVER_DEFAULT_DIR_ALLOWED("zeppelin.server.default.dir.allowed", false),
     ZEPPELIN_SERVER_XFRAME_OPTIONS("zeppelin.server.xframe.options", "SAMEORIGIN"),
     ZEPPELIN_SERVER_JETTY_NAME("zeppelin.server.jetty.name", " "),
@@ -1103,6 +1159,7 @@ public class ZeppelinConfiguration {
 
     ZEPPELIN_DOCKER_CONTAINER_SPARK_HOME("zeppelin.docker.container.spark.home", "/opt/spark"),
     ZEPPELIN_DOCKER_UPLOAD_LOCAL_LIB_TO_CONTAINTER("zeppelin.docker.upload.local.lib.to.container", true),
+    ZEPPELIN_DOCKER_INTERPRETER_IMAGE_CACHE("zeppelin.docker.interpreter.image.cache", true),
     ZEPPELIN_DOCKER_HOST("zeppelin.docker.host", "http://0.0.0.0:2375"),
     ZEPPELIN_DOCKER_TIME_ZONE("zeppelin.docker.time.zone", TimeZone.getDefault().getID()),
 
@@ -1127,10 +1184,16 @@ public class ZeppelinConfiguration {
     ZEPPELIN_SEARCH_INDEX_REBUILD("zeppelin.search.index.rebuild", false),
     ZEPPELIN_SEARCH_USE_DISK("zeppelin.search.use.disk", true),
     ZEPPELIN_SEARCH_INDEX_PATH("zeppelin.search.index.path", "/tmp/zeppelin-index"),
+    ZEPPELIN_SEARCH_REFRESH_INTERVAL("zeppelin.search.refresh.interval", 1000L),
+    ZEPPELIN_SEARCH_COMMIT_INTERVAL("zeppelin.search.commit.interval", 30000L),
+    ZEPPELIN_SEARCH_COMMIT_MAX_UPDATES("zeppelin.search.commit.max.updates", 1000),
     ZEPPELIN_JOBMANAGER_ENABLE("zeppelin.jobmanager.enable", false),
     ZEPPELIN_SPARK_ONLY_YARN_CLUSTER("zeppelin.spark.only_yarn_cluster", false),
     ZEPPELIN_SESSION_CHECK_INTERVAL("zeppelin.session.check_interval", 60 * 10 * 1000),
     ZEPPELIN_NOTE_CACHE_THRESHOLD("zeppelin.note.cache.threshold", 50),
+    ZEPPELIN_NOTE_CACHE_MAX_BYTES("zeppelin.note.cache.max.bytes", 0L),
+    ZEPPELIN_NOTE_SAVE_WINDOW("zeppelin.note.save.window", 0L),
+    ZEPPELIN_NOTE_CATALOG_PATH("zeppelin.note.catalog.path", ""),
     ZEPPELIN_NOTE_FILE_EXCLUDE_FIELDS("zeppelin.note.file.exclude.fields", "");
 
     private String varName;
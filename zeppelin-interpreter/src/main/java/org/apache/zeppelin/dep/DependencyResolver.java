@@ -24,6 +24,11 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -48,6 +53,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Deps resolver.
  * Add new dependencies from mvn repo (at runtime) to Zeppelin.
+ *
+ * Artifacts are resolved one at a time, since they share the local repository and the resolver
+ * doesn't lock its files. Concurrent loads of the same artifact share one resolution, and the
+ * resolved files of released artifacts are cached until the repositories are changed, so only
+ * the loads which actually resolve an artifact wait for each other.
  */
 public class DependencyResolver extends AbstractDependencyResolver {
   private static final Logger LOGGER = LoggerFactory.getLogger(DependencyResolver.class);
@@ -56,6 +66,12 @@ public class DependencyResolver extends AbstractDependencyResolver {
                                                     "org.apache.zeppelin:zeppelin-interpreter",
                                                     "org.apache.zeppelin:zeppelin-server"};
 
+  // artifact with its exclusions -> resolved files
+  private final Map<String, CompletableFuture<List<File>>> resolutions =
+      new ConcurrentHashMap<>();
+  // serializes the resolutions, which download to and read from the shared local repository
+  private final Object localRepoLock = new Object();
+
   public DependencyResolver(String localRepoPath, ZeppelinConfiguration zConf) {
     super(localRepoPath, zConf);
   }
@@ -69,7 +85,7 @@ public class DependencyResolver extends AbstractDependencyResolver {
     return load(artifact, new LinkedList<>());
   }
 
-  public synchronized List<File> load(String artifact, Collection<String> excludes)
+  public List<File> load(String artifact, Collection<String> excludes)
       throws RepositoryException {
     if (StringUtils.isBlank(artifact)) {
       // Skip dependency loading if artifact is empty
@@ -79,7 +95,7 @@ public class DependencyResolver extends AbstractDependencyResolver {
     // <groupId>:<artifactId>[:<extension>[:<classifier>]]:<version>
     int numSplits = artifact.split(":").length;
     if (numSplits >= 3 && numSplits <= 6) {
-      return loadFromMvn(artifact, excludes);
+      return loadFromMvnShared(artifact, excludes);
     } else {
       LinkedList<File> libs = new LinkedList<>();
       libs.add(new File(artifact));
@@ -124,6 +140,59 @@ public class DependencyResolver extends AbstractDependencyResolver {
     }
   }
 
+  @Override
+  public RemoteRepository delRepo(String id) {
+    RemoteRepository repo = super.delRepo(id);
+    // addRepo deletes the repository with the same id too
+    resolutions.clear();
+    return repo;
+  }
+
+  private List<File> loadFromMvnShared(String artifact, Collection<String> excludes)
+      throws RepositoryException {
+    String key = artifact + new TreeSet<>(excludes);
+    while (true) {
+      CompletableFuture<List<File>> resolution = new CompletableFuture<>();
+      CompletableFuture<List<File>> existing = resolutions.putIfAbsent(key, resolution);
+      if (existing == null) {
+        try {
+          List<File> files;
+          synchronized (localRepoLock) {
+            files = loadFromMvn(artifact, excludes);
+          }
+          resolution.complete(files);
+          if (artifact.endsWith("-SNAPSHOT")) {
+            resolutions.remove(key, resolution);
+          }
+          return new LinkedList<>(files);
+        } catch (RepositoryException | RuntimeException e) {
+          resolutions.remove(key, resolution);
+          resolution.completeExceptionally(e);
+          throw e;
+        }
+      }
+
+      List<File> files;
+      try {
+        files = existing.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RepositoryException("Interrupted while waiting for dependencies of " + artifact, e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RepositoryException) {
+          throw (RepositoryException) e.getCause();
+        }
+        throw new RepositoryException(
+            String.format("Cannot fetch dependencies for %s", artifact), e.getCause());
+      }
+      if (files.stream().allMatch(File::exists)) {
+        return new LinkedList<>(files);
+      }
+      // the local repository was cleaned, resolve it again
+      resolutions.remove(key, existing);
+    }
+  }
+
   private List<File> loadFromMvn(String artifact, Collection<String> excludes)
       throws RepositoryException {
     Collection<String> allExclusions = new LinkedList<>();
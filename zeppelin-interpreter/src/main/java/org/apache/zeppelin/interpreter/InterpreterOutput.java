@@ -210,90 +210,98 @@ public class InterpreterOutput extends OutputStream {
 
   @Override
   public void write(int b) throws IOException {
-    InterpreterResultMessageOutput out;
     if (truncated) {
       return;
     }
 
     this.lastWriteTimestamp = System.currentTimeMillis();
     synchronized (resultMessageOutputs) {
-      currentOut = getCurrentOutput();
-
-      if (++size > LIMIT) {
-        if (b == NEW_LINE_CHAR && currentOut != null) {
-          InterpreterResult.Type type = currentOut.getType();
-          if (type == InterpreterResult.Type.TEXT || type == InterpreterResult.Type.TABLE) {
-            setType(InterpreterResult.Type.HTML);
-            getCurrentOutput().write(ResultMessages.getExceedsLimitSizeMessage(LIMIT,
-                "ZEPPELIN_INTERPRETER_OUTPUT_LIMIT").getData().getBytes());
-            truncated = true;
-            return;
-          }
+      writeByte(b);
+    }
+  }
+
+  /**
+   * Runs a single byte through the display system detection and truncation logic.
+   * Caller must hold the lock of resultMessageOutputs.
+   */
+  private void writeByte(int b) throws IOException {
+    InterpreterResultMessageOutput out;
+    currentOut = getCurrentOutput();
+
+    if (++size > LIMIT) {
+      if (b == NEW_LINE_CHAR && currentOut != null) {
+        InterpreterResult.Type type = currentOut.getType();
+        if (type == InterpreterResult.Type.TEXT || type == InterpreterResult.Type.TABLE) {
+          setType(InterpreterResult.Type.HTML);
+          getCurrentOutput().write(ResultMessages.getExceedsLimitSizeMessage(LIMIT,
+              "ZEPPELIN_INTERPRETER_OUTPUT_LIMIT").getData().getBytes());
+          truncated = true;
+          return;
         }
       }
+    }
 
-      if (b == LINE_FEED_CHAR) {
-        if (lastCRIndex == -1) {
-          lastCRIndex = size;
-        }
-        // reset size to index of last carriage return
-        size = lastCRIndex;
+    if (b == LINE_FEED_CHAR) {
+      if (lastCRIndex == -1) {
+        lastCRIndex = size;
       }
+      // reset size to index of last carriage return
+      size = lastCRIndex;
+    }
 
-      if (startOfTheNewLine) {
-        if (b == '%') {
-          startOfTheNewLine = false;
-          firstCharIsPercentSign = true;
-          buffer.write(b);
-          previousChar = b;
-          return;
-        } else if (b != NEW_LINE_CHAR) {
-          startOfTheNewLine = false;
-        }
+    if (startOfTheNewLine) {
+      if (b == '%') {
+        startOfTheNewLine = false;
+        firstCharIsPercentSign = true;
+        buffer.write(b);
+        previousChar = b;
+        return;
+      } else if (b != NEW_LINE_CHAR) {
+        startOfTheNewLine = false;
       }
+    }
 
-      if (b == NEW_LINE_CHAR) {
-        if (currentOut != null && currentOut.getType() == InterpreterResult.Type.TABLE) {
-          if (previousChar == NEW_LINE_CHAR) {
-            startOfTheNewLine = true;
-            return;
-          }
-        } else {
+    if (b == NEW_LINE_CHAR) {
+      if (currentOut != null && currentOut.getType() == InterpreterResult.Type.TABLE) {
+        if (previousChar == NEW_LINE_CHAR) {
           startOfTheNewLine = true;
+          return;
         }
+      } else {
+        startOfTheNewLine = true;
       }
+    }
 
-      boolean flushBuffer = false;
-      if (firstCharIsPercentSign) {
-        if (b == ' ' || b == NEW_LINE_CHAR || b == '\t') {
-          firstCharIsPercentSign = false;
-          String displaySystem = buffer.toString();
-          for (InterpreterResult.Type type : InterpreterResult.Type.values()) {
-            if (displaySystem.equals('%' + type.name().toLowerCase())) {
-              // new type detected
-              setType(type);
-              previousChar = b;
-              return;
-            }
+    boolean flushBuffer = false;
+    if (firstCharIsPercentSign) {
+      if (b == ' ' || b == NEW_LINE_CHAR || b == '\t') {
+        firstCharIsPercentSign = false;
+        String displaySystem = buffer.toString();
+        for (InterpreterResult.Type type : InterpreterResult.Type.values()) {
+          if (displaySystem.equals('%' + type.name().toLowerCase())) {
+            // new type detected
+            setType(type);
+            previousChar = b;
+            return;
           }
-          // not a defined display system
-          flushBuffer = true;
-        } else {
-          buffer.write(b);
-          previousChar = b;
-          return;
         }
+        // not a defined display system
+        flushBuffer = true;
+      } else {
+        buffer.write(b);
+        previousChar = b;
+        return;
       }
+    }
 
-      out = getCurrentOutputForWriting();
+    out = getCurrentOutputForWriting();
 
-      if (flushBuffer) {
-        out.write(buffer.toByteArray());
-        buffer.reset();
-      }
-      out.write(b);
-      previousChar = b;
+    if (flushBuffer) {
+      out.write(buffer.toByteArray());
+      buffer.reset();
     }
+    out.write(b);
+    previousChar = b;
   }
 
   private InterpreterResultMessageOutput getCurrentOutputForWriting() throws IOException {
@@ -313,10 +321,43 @@ public class InterpreterOutput extends OutputStream {
     write(b, 0, b.length);
   }
 
+  /**
+   * Bulk version of {@link #write(int)}. Runs of bytes that can not change the state of
+   * display system detection (i.e. in the middle of a line, without '\n' or '\r') are copied
+   * to the current result message in one step, everything else goes through
+   * {@link #writeByte(int)}. The lock is taken once per chunk instead of once per byte.
+   */
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
-    for (int i = off; i < len; i++) {
-      write(b[i]);
+    if (truncated || len <= 0) {
+      return;
+    }
+
+    this.lastWriteTimestamp = System.currentTimeMillis();
+    synchronized (resultMessageOutputs) {
+      int i = off;
+      int end = off + len;
+      while (i < end && !truncated) {
+        if (startOfTheNewLine || firstCharIsPercentSign) {
+          writeByte(b[i++]);
+          continue;
+        }
+
+        int runEnd = i;
+        while (runEnd < end && b[runEnd] != NEW_LINE_CHAR && b[runEnd] != LINE_FEED_CHAR) {
+          runEnd++;
+        }
+        if (runEnd > i) {
+          InterpreterResultMessageOutput out = getCurrentOutputForWriting();
+          size += runEnd - i;
+          out.write(b, i, runEnd - i);
+          previousChar = b[runEnd - 1];
+          i = runEnd;
+        }
+        if (i < end) {
+          writeByte(b[i++]);
+        }
+      }
     }
   }
 
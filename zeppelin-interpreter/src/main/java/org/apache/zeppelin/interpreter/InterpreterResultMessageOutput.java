@@ -105,18 +105,7 @@ public class InterpreterResultMessageOutput extends OutputStream {
     synchronized (outList) {
       buffer.write(b);
       if (b == NEW_LINE_CHAR) {
-        // first time use of this outputstream.
-        if (firstWrite) {
-          // clear the output on gui
-          if (flushListener != null) {
-            flushListener.onUpdate(this);
-          }
-          firstWrite = false;
-        }
-
-        if (isAppendSupported()) {
-          flush(true);
-        }
+        onNewLine();
       }
     }
   }
@@ -126,12 +115,40 @@ public class InterpreterResultMessageOutput extends OutputStream {
     write(b, 0, b.length);
   }
 
+  /**
+   * Copies whole lines into the buffer at once, and flushes after each of them
+   * the same way {@link #write(int)} does.
+   */
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
     synchronized (outList) {
-      for (int i = off; i < len; i++) {
-        write(b[i]);
+      int start = off;
+      int end = off + len;
+      for (int i = off; i < end; i++) {
+        if (b[i] == NEW_LINE_CHAR) {
+          buffer.write(b, start, i + 1 - start);
+          start = i + 1;
+          onNewLine();
+        }
       }
+      if (start < end) {
+        buffer.write(b, start, end - start);
+      }
+    }
+  }
+
+  private void onNewLine() throws IOException {
+    // first time use of this outputstream.
+    if (firstWrite) {
+      // clear the output on gui
+      if (flushListener != null) {
+        flushListener.onUpdate(this);
+      }
+      firstWrite = false;
+    }
+
+    if (isAppendSupported()) {
+      flush(true);
     }
   }
 
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers output-append events per paragraph on the interpreter side and merges consecutive
+ * appends of the same (note, paragraph, index) into one event. Buffered output of a paragraph
+ * is sent when the flush window expires, when the buffered size exceeds the buffer size, or
+ * when {@link #flush(String, String)} is called explicitly, e.g. before an output update of
+ * the same paragraph so that the order of output events is kept.
+ *
+ * A non-positive flush window disables buffering, every append is sent immediately.
+ */
+public class OutputAppendCoalescer implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutputAppendCoalescer.class);
+  private static final String FLUSH_EXECUTOR_NAME = "OutputAppendFlusher";
+
+  /**
+   * Sends the merged output to zeppelin server.
+   */
+  public interface Sender {
+    void send(String noteId, String paragraphId, int index, String data);
+  }
+
+  private final Sender sender;
+  private final long flushWindowMs;
+  private final int bufferSize;
+  private final Map<String, ParagraphBuffer> buffers = new ConcurrentHashMap<>();
+
+  public OutputAppendCoalescer(Sender sender, long flushWindowMs, int bufferSize) {
+    this.sender = sender;
+    this.flushWindowMs = flushWindowMs;
+    this.bufferSize = bufferSize;
+  }
+
+  public void append(String noteId, String paragraphId, int index, String data) {
+    if (flushWindowMs <= 0) {
+      sender.send(noteId, paragraphId, index, data);
+      return;
+    }
+
+    String key = toKey(noteId, paragraphId);
+    boolean[] scheduleFlush = new boolean[1];
+    ParagraphBuffer buffer = buffers.compute(key, (k, b) -> {
+      if (b == null) {
+        b = new ParagraphBuffer(noteId, paragraphId);
+      }
+      scheduleFlush[0] = b.append(index, data);
+      return b;
+    });
+
+    if (buffer.size() >= bufferSize) {
+      // don't let a chatty paragraph pile up output, flush it in the caller thread.
+      flush(key, buffer);
+    } else if (scheduleFlush[0]) {
+      try {
+        getFlushExecutor().schedule(() -> flush(key, buffer), flushWindowMs, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        LOGGER.debug("Flush executor is shutdown, flush output of paragraph {} directly",
+            paragraphId);
+        flush(key, buffer);
+      }
+    }
+  }
+
+  /**
+   * Send all the buffered output of this paragraph.
+   */
+  public void flush(String noteId, String paragraphId) {
+    String key = toKey(noteId, paragraphId);
+    ParagraphBuffer buffer = buffers.get(key);
+    if (buffer != null) {
+      flush(key, buffer);
+    }
+  }
+
+  /**
+   * Send all the buffered output of all paragraphs.
+   */
+  public void flushAll() {
+    for (Map.Entry<String, ParagraphBuffer> entry : new ArrayList<>(buffers.entrySet())) {
+      flush(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private void flush(String key, ParagraphBuffer buffer) {
+    // sendLock keeps the order of output when multiple threads flush the same paragraph.
+    synchronized (buffer.sendLock) {
+      for (Segment segment : buffer.drain()) {
+        sender.send(buffer.noteId, buffer.paragraphId, segment.index, segment.data.toString());
+      }
+    }
+    // remove the buffer of idle paragraph, it would be recreated by the next append.
+    buffers.computeIfPresent(key, (k, b) -> b == buffer && b.size() == 0 ? null : b);
+  }
+
+  private ScheduledExecutorService getFlushExecutor() {
+    return ExecutorFactory.singleton().createOrGetScheduled(FLUSH_EXECUTOR_NAME, 1);
+  }
+
+  private static String toKey(String noteId, String paragraphId) {
+    return noteId + "|" + paragraphId;
+  }
+
+  @Override
+  public void close() {
+    flushAll();
+  }
+
+  private static class Segment {
+    private final int index;
+    private final StringBuilder data;
+
+    Segment(int index, String data) {
+      this.index = index;
+      this.data = new StringBuilder(data);
+    }
+  }
+
+  private static class ParagraphBuffer {
+    private final String noteId;
+    private final String paragraphId;
+    private final Object sendLock = new Object();
+    private LinkedList<Segment> segments = new LinkedList<>();
+    private int size = 0;
+    private boolean flushScheduled = false;
+
+    ParagraphBuffer(String noteId, String paragraphId) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+    }
+
+    /**
+     * @return true if a flush needs to be scheduled for this buffer.
+     */
+    synchronized boolean append(int index, String data) {
+      Segment last = segments.peekLast();
+      if (last != null && last.index == index) {
+        last.data.append(data);
+      } else {
+        segments.add(new Segment(index, data));
+      }
+      size += data.length();
+      if (flushScheduled) {
+        return false;
+      }
+      flushScheduled = true;
+      return true;
+    }
+
+    synchronized List<Segment> drain() {
+      List<Segment> drained = segments;
+      segments = new LinkedList<>();
+      size = 0;
+      flushScheduled = false;
+      return drained;
+    }
+
+    synchronized int size() {
+      return size;
+    }
+  }
+}
@@ -55,7 +55,7 @@ public class PooledRemoteClient<T extends TServiceClient> implements AutoCloseab
     this(supplier, 10);
   }
 
-  public synchronized T getClient() throws Exception {
+  public T getClient() throws Exception {
     return clientPool.borrowObject(5_000);
   }
 
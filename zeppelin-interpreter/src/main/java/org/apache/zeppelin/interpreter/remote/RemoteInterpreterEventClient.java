@@ -19,8 +19,9 @@ package org.apache.zeppelin.interpreter.remote;
 import com.google.gson.Gson;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
 import org.apache.zeppelin.interpreter.InterpreterResult;
@@ -39,8 +40,10 @@ import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
 import org.apache.zeppelin.interpreter.thrift.WebUrlInfo;
 import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceChunkInputStream;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePoolConnector;
+import org.apache.zeppelin.resource.ResourceSerializers;
 import org.apache.zeppelin.resource.ResourceSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +53,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * This class is used to communicate with ZeppelinServer via thrift.
@@ -61,13 +65,30 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
   private static final Gson GSON = new Gson();
 
   private PooledRemoteClient<RemoteInterpreterEventService.Client> remoteClient;
+  private final OutputAppendCoalescer outputAppendCoalescer;
   private String intpGroupId;
+  private int resourceChunkSize = ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_CHUNK_SIZE.getIntValue();
 
   public RemoteInterpreterEventClient(String intpEventHost, int intpEventPort, int connectionPoolSize) {
+    this(intpEventHost, intpEventPort, connectionPoolSize,
+        ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_APPEND_WINDOW.getLongValue(),
+        ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_APPEND_BUFFER_SIZE.getIntValue());
+  }
+
+  /**
+   * @param outputAppendWindowMs   time window in which output appends of the same paragraph
+   *                               are merged into one rpc call, non-positive value disables it.
+   * @param outputAppendBufferSize max size of buffered output per paragraph before it is sent.
+   */
+  public RemoteInterpreterEventClient(String intpEventHost, int intpEventPort, int connectionPoolSize,
+                                      long outputAppendWindowMs, int outputAppendBufferSize) {
+    this.outputAppendCoalescer = new OutputAppendCoalescer(this::sendOutputAppend,
+        outputAppendWindowMs, outputAppendBufferSize);
+    RpcTransport rpcTransport = RpcTransport.ofInterpreterProcess();
     this.remoteClient = new PooledRemoteClient<>(() -> {
-      TSocket transport = new TSocket(intpEventHost, intpEventPort);
+      TTransport transport;
       try {
-        transport.open();
+        transport = rpcTransport.openClientTransport(intpEventHost, intpEventPort);
       } catch (TTransportException e) {
         throw new IOException(e);
       }
@@ -80,6 +101,14 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     return remoteClient.callRemoteFunction(func);
   }
 
+  /**
+   * @param resourceChunkSize max size of the chunks in which remote resources are read,
+   *                          non-positive value reads every resource in one rpc call.
+   */
+  public void setResourceChunkSize(int resourceChunkSize) {
+    this.resourceChunkSize = resourceChunkSize;
+  }
+
   public void setIntpGroupId(String intpGroupId) {
     this.intpGroupId = intpGroupId;
   }
@@ -127,6 +156,54 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
+  /**
+   * Look up the resources of the same name in the resource directory of zeppelin server,
+   * instead of collecting all the resources of all the interpreter processes.
+   *
+   * @return
+   */
+  @Override
+  public ResourceSet lookupResources(ResourceId resourceId) {
+    try {
+      List<String> resources =
+          callRemoteFunction(client -> client.lookupResources(resourceId.toJson()));
+      ResourceSet resourceSet = new ResourceSet();
+      for (String res : resources) {
+        RemoteResource resource = RemoteResource.fromJson(res);
+        resource.setResourcePoolConnector(this);
+        resourceSet.add(resource);
+      }
+      return resourceSet;
+    } catch (Exception e) {
+      LOGGER.warn("Fail to lookupResources", e);
+      return new ResourceSet();
+    }
+  }
+
+  @Override
+  public void putResource(Resource resource) {
+    try {
+      callRemoteFunction(client -> {
+        client.putResource(intpGroupId, resource.toJson());
+        return null;
+      });
+    } catch (Exception e) {
+      LOGGER.warn("Fail to put resource {} into resource directory", resource.getResourceId(), e);
+    }
+  }
+
+  @Override
+  public void removeResource(ResourceId resourceId) {
+    try {
+      callRemoteFunction(client -> {
+        client.removeResource(intpGroupId, resourceId.toJson());
+        return null;
+      });
+    } catch (Exception e) {
+      LOGGER.warn("Fail to remove resource {} from resource directory", resourceId, e);
+    }
+  }
+
   public List<ParagraphInfo> getParagraphList(String user, String noteId) {
     return callRemoteFunction(client -> client.getParagraphList(user, noteId));
   }
@@ -142,8 +219,22 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
   @Override
   public Object readResource(ResourceId resourceId) {
     try {
-      ByteBuffer buffer = callRemoteFunction(client -> client.getResource(resourceId.toJson()));
-      return Resource.deserializeObject(buffer);
+      if (resourceChunkSize <= 0) {
+        ByteBuffer buffer = callRemoteFunction(client -> client.getResource(resourceId.toJson()));
+        return Resource.deserializeObject(buffer);
+      }
+      // read the serialized value in chunks while it is deserialized, so that neither a single
+      // rpc message nor this process has to hold all of it
+      String readId = UUID.randomUUID().toString();
+      ResourceChunkInputStream in = new ResourceChunkInputStream(offset -> {
+        ResourceChunkEventMessage message =
+            new ResourceChunkEventMessage(resourceId, readId, offset, resourceChunkSize);
+        return callRemoteFunction(
+            client -> client.getResourceChunk(intpGroupId, message.toJson()));
+      }, resourceChunkSize);
+      Object value = ResourceSerializers.deserialize(in);
+      in.readToEnd();
+      return value;
     } catch (IOException | ClassNotFoundException e) {
       LOGGER.warn("Fail to readResource: {}", resourceId, e);
       return null;
@@ -223,6 +314,18 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
 
   public void onInterpreterOutputAppend(
       String noteId, String paragraphId, int outputIndex, String output) {
+    outputAppendCoalescer.append(noteId, paragraphId, outputIndex, output);
+  }
+
+  /**
+   * Send the buffered output appends of this paragraph to zeppelin server.
+   */
+  public void flushOutputAppend(String noteId, String paragraphId) {
+    outputAppendCoalescer.flush(noteId, paragraphId);
+  }
+
+  private void sendOutputAppend(
+      String noteId, String paragraphId, int outputIndex, String output) {
     try {
       callRemoteFunction(client -> {
         client.appendOutput(
@@ -237,6 +340,8 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
   public void onInterpreterOutputUpdate(
       String noteId, String paragraphId, int outputIndex,
       InterpreterResult.Type type, String output) {
+    // make sure the buffered appends reach zeppelin server before this update
+    flushOutputAppend(noteId, paragraphId);
     try {
       callRemoteFunction(client -> {
         client.updateOutput(
@@ -251,6 +356,7 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
 
   public void onInterpreterOutputUpdateAll(
       String noteId, String paragraphId, List<InterpreterResultMessage> messages) {
+    flushOutputAppend(noteId, paragraphId);
     try {
       callRemoteFunction(client -> {
         client.updateAllOutput(
@@ -292,6 +398,7 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
   }
 
   public void checkpointOutput(String noteId, String paragraphId) {
+    flushOutputAppend(noteId, paragraphId);
     try {
       callRemoteFunction(client -> {
         client.checkpointOutput(noteId, paragraphId);
@@ -409,6 +516,7 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
 
   @Override
   public void close() {
+    outputAppendCoalescer.close();
     remoteClient.close();
   }
 }
@@ -22,8 +22,8 @@ import com.google.gson.reflect.TypeToken;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.thrift.TException;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.dep.DependencyResolver;
@@ -62,7 +62,9 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
 import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.resource.ResourceSerializers;
 import org.apache.zeppelin.resource.ResourceSet;
 import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job;
@@ -86,6 +88,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -105,11 +108,14 @@ public class RemoteInterpreterServer extends Thread
 
   public static final int DEFAULT_SHUTDOWN_TIMEOUT = 2000;
 
-  private String interpreterGroupId;
+  // id of the interpreter group, or the id of a warm process until it is bound to a group
+  private volatile String interpreterGroupId;
   private InterpreterGroup interpreterGroup;
   private AngularObjectRegistry angularObjectRegistry;
   private InterpreterHookRegistry hookRegistry;
   private DistributedResourcePool resourcePool;
+  // serialized values of the resources which are being read in chunks, by read id
+  private final SerializedResourceCache serializedResources = new SerializedResourceCache();
   private ApplicationLoader appLoader;
   private Gson gson = new Gson();
   private String launcherEnv = System.getenv("ZEPPELIN_INTERPRETER_LAUNCHER");
@@ -118,7 +124,8 @@ public class RemoteInterpreterServer extends Thread
   private int intpEventServerPort;
   private String host;
   private int port;
-  private TThreadPoolServer server;
+  private final RpcTransport rpcTransport = RpcTransport.ofInterpreterProcess();
+  private TServer server;
   RemoteInterpreterEventClient intpEventClient;
   private DependencyResolver depLoader;
   private LifecycleManager lifecycleManager;
@@ -178,19 +185,16 @@ public class RemoteInterpreterServer extends Thread
   public void run() {
     RemoteInterpreterService.Processor<RemoteInterpreterServer> processor =
       new RemoteInterpreterService.Processor<>(this);
-    try (TServerSocket tSocket = new TServerSocket(port)){
-      server = new TThreadPoolServer(
-      new TThreadPoolServer.Args(tSocket)
-        .stopTimeoutVal(DEFAULT_SHUTDOWN_TIMEOUT)
-        .stopTimeoutUnit(TimeUnit.MILLISECONDS)
-        .processor(processor));
+    try (TServerTransport serverTransport = rpcTransport.createServerTransport(port)) {
+      server = rpcTransport.createServer(serverTransport, processor,
+          "RemoteInterpreterServer-Worker", DEFAULT_SHUTDOWN_TIMEOUT);
 
       if (null != intpEventServerHost && !isTest) {
         Thread registerThread = new Thread(new RegisterRunnable());
         registerThread.setName("RegisterThread");
         registerThread.start();
       }
-      LOGGER.info("Launching ThriftServer at {}:{}", this.host, this.port);
+      LOGGER.info("Launching {} ThriftServer at {}:{}", rpcTransport, this.host, this.port);
       server.serve();
     } catch (TTransportException e) {
       LOGGER.error("Failure in TTransport", e);
@@ -204,6 +208,8 @@ public class RemoteInterpreterServer extends Thread
     for (Map.Entry<String, String> entry : properties.entrySet()) {
       this.zConf.setProperty(entry.getKey(), entry.getValue());
     }
+    ResourceSerializers.setDefault(
+        zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_SERIALIZER));
 
     try {
       lifecycleManager = createLifecycleManager();
@@ -217,8 +223,7 @@ public class RemoteInterpreterServer extends Thread
               this.zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE);
       LOGGER.info("Creating RemoteInterpreterEventClient with connection pool size: {}",
               connectionPoolSize);
-      intpEventClient = new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort,
-              connectionPoolSize);
+      intpEventClient = createEventClient(connectionPoolSize);
     }
   }
 
@@ -249,6 +254,16 @@ public class RemoteInterpreterServer extends Thread
     shutDownThread.start();
   }
 
+  private RemoteInterpreterEventClient createEventClient(int connectionPoolSize) {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient(
+            intpEventServerHost, intpEventServerPort, connectionPoolSize,
+            zConf.getLong(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_APPEND_WINDOW),
+            zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_APPEND_BUFFER_SIZE));
+    eventClient.setResourceChunkSize(
+            zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_CHUNK_SIZE));
+    return eventClient;
+  }
+
   public ZeppelinConfiguration getConf() {
     return this.zConf;
   }
@@ -320,6 +335,12 @@ public class RemoteInterpreterServer extends Thread
       className, Map<String, String> properties, String userName) throws InterpreterRPCException, TException {
     try {
       if (interpreterGroup == null) {
+        if (!Objects.equals(interpreterGroupId, this.interpreterGroupId)) {
+          // process was launched ahead of time by a warm process pool of zeppelin server
+          LOGGER.info("Bind interpreter process {} to interpreter group: {}",
+              this.interpreterGroupId, interpreterGroupId);
+          this.interpreterGroupId = interpreterGroupId;
+        }
         interpreterGroup = new InterpreterGroup(interpreterGroupId);
         angularObjectRegistry = new AngularObjectRegistry(interpreterGroup.getId(), intpEventClient);
         hookRegistry = new InterpreterHookRegistry();
@@ -483,7 +504,7 @@ public class RemoteInterpreterServer extends Thread
       LOGGER.info("Reconnect to this interpreter process from {}:{}", host, port);
       this.intpEventServerHost = host;
       this.intpEventServerPort = port;
-      intpEventClient = new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort,
+      intpEventClient = createEventClient(
               this.zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE));
       intpEventClient.setIntpGroupId(interpreterGroupId);
 
@@ -557,6 +578,10 @@ public class RemoteInterpreterServer extends Thread
       }
 
       progressMap.remove(context.getParagraphId());
+      if (intpEventClient != null) {
+        // output appends must not arrive at zeppelin server after the paragraph result.
+        intpEventClient.flushOutputAppend(context.getNoteId(), context.getParagraphId());
+      }
       resultCleanService.schedule(() -> {
         runningJobs.remove(context.getParagraphId());
       }, resultCacheInSeconds, TimeUnit.SECONDS);
@@ -1061,6 +1086,61 @@ public class RemoteInterpreterServer extends Thread
     return Status.UNKNOWN.name();
   }
 
+  @Override
+  public Map<String, String> getStatuses(List<String> jobIds)
+          throws InterpreterRPCException, TException {
+    lifecycleManager.onInterpreterUse(interpreterGroupId);
+    Map<String, String> statuses = new HashMap<>();
+    for (String jobId : jobIds) {
+      statuses.put(jobId, Status.UNKNOWN.name());
+    }
+    if (interpreterGroup == null) {
+      return statuses;
+    }
+
+    synchronized (interpreterGroup) {
+      for (List<Interpreter> interpreters : interpreterGroup.values()) {
+        for (Interpreter intp : interpreters) {
+          Scheduler scheduler = intp.getScheduler();
+          if (scheduler == null) {
+            continue;
+          }
+          for (String jobId : jobIds) {
+            Job<?> job = scheduler.getJob(jobId);
+            if (job != null) {
+              statuses.put(jobId, job.getStatus().name());
+            }
+          }
+        }
+      }
+    }
+    return statuses;
+  }
+
+  @Override
+  public Map<String, Integer> getProgresses(List<String> paragraphIds)
+          throws InterpreterRPCException, TException {
+    lifecycleManager.onInterpreterUse(interpreterGroupId);
+    Map<String, Integer> progresses = new HashMap<>();
+    for (String paragraphId : paragraphIds) {
+      Integer manuallyProvidedProgress = progressMap.get(paragraphId);
+      if (manuallyProvidedProgress != null) {
+        progresses.put(paragraphId, manuallyProvidedProgress);
+        continue;
+      }
+      InterpretJob job = runningJobs.get(paragraphId);
+      if (job == null || job.isTerminated()) {
+        continue;
+      }
+      try {
+        progresses.put(paragraphId, job.interpreter.getProgress(job.context));
+      } catch (Exception e) {
+        LOGGER.warn("Fail to get progress of paragraph {}", paragraphId, e);
+      }
+    }
+    return progresses;
+  }
+
   /**
    * called when object is updated in client (web) side.
    *
@@ -1201,6 +1281,32 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
+  @Override
+  public ByteBuffer resourceGetChunk(String noteId, String paragraphId, String resourceName,
+                                     String chunkMessage)
+          throws InterpreterRPCException, TException {
+    ResourceChunkEventMessage message = ResourceChunkEventMessage.fromJson(chunkMessage);
+    LOGGER.debug("Request resourceGetChunk {} from {}", resourceName, message.offset);
+    ByteBuffer chunk;
+    try {
+      chunk = serializedResources.getChunk(message, () -> {
+        Resource resource = resourcePool.get(noteId, paragraphId, resourceName, false);
+        if (resource == null || resource.get() == null || !resource.isSerializable()) {
+          return null;
+        }
+        return Resource.serializeObject(resource.get());
+      });
+    } catch (IOException e) {
+      LOGGER.error(e.getMessage(), e);
+      return ByteBuffer.allocate(0);
+    }
+    if (chunk == null) {
+      throw new InterpreterRPCException("Resource " + resourceName
+          + " is not being read, or it is expired");
+    }
+    return chunk;
+  }
+
   @Override
   public ByteBuffer resourceInvokeMethod(
       String noteId, String paragraphId, String resourceName, String invokeMessage) {
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.gson.Gson;
+import java.nio.ByteBuffer;
+import org.apache.zeppelin.common.JsonSerializable;
+import org.apache.zeppelin.resource.ResourceId;
+
+/**
+ * message payload to read a chunk of the serialized value of resource in the resourcepool.
+ * A chunk shorter than length is the last one, so a value whose size is a multiple of length
+ * ends with an empty chunk. All chunks of one read of the value carry the same readId.
+ */
+public class ResourceChunkEventMessage implements JsonSerializable {
+  private static final Gson gson = new Gson();
+
+  public final ResourceId resourceId;
+  public final String readId;
+  public final int offset;
+  public final int length;
+
+  public ResourceChunkEventMessage(ResourceId resourceId, String readId, int offset, int length) {
+    this.resourceId = resourceId;
+    this.readId = readId;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * @param serialized serialized value of the resource
+   * @return the chunk of the serialized value this message asks for, without copy
+   */
+  public ByteBuffer chunkOf(ByteBuffer serialized) {
+    ByteBuffer chunk = serialized.duplicate();
+    int start = Math.min(serialized.position() + offset, serialized.limit());
+    chunk.position(start);
+    chunk.limit((int) Math.min((long) start + length, serialized.limit()));
+    return chunk.slice();
+  }
+
+  /**
+   * @return whether the chunk of this message is the last one of the serialized value, i.e. it
+   *     is shorter than length
+   */
+  public boolean isLastChunkOf(ByteBuffer serialized) {
+    return (long) offset + length > serialized.remaining();
+  }
+
+  public String toJson() {
+    return gson.toJson(this);
+  }
+
+  public static ResourceChunkEventMessage fromJson(String json) {
+    return gson.fromJson(json, ResourceChunkEventMessage.class);
+  }
+}
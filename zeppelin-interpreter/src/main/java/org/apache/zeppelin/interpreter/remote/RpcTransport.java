@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import java.util.Locale;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.scheduler.NamedThreadFactory;
+
+/**
+ * Thrift transport of the rpc between zeppelin server and interpreter processes, zeppelin server
+ * and interpreter process have to use the same one.
+ *
+ * BLOCKING serves every client connection with its own thread (TThreadPoolServer), so the threads
+ * of a server grow with the connection pools of all its clients.
+ * NONBLOCKING serves the connections with a few selector threads (TThreadedSelectorServer) over
+ * framed transport, a worker thread is only occupied while a call is processed.
+ */
+public enum RpcTransport {
+  BLOCKING,
+  NONBLOCKING;
+
+  private static final int SELECTOR_THREADS = 2;
+  private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+  // same as the blocking transport, which doesn't limit the size of a message
+  private static final int MAX_FRAME_SIZE = Integer.MAX_VALUE;
+
+  public static RpcTransport of(String name) {
+    try {
+      return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new IllegalArgumentException("Unknown rpc transport: " + name
+          + ", it should be one of blocking, nonblocking");
+    }
+  }
+
+  public static RpcTransport of(ZeppelinConfiguration zConf) {
+    return of(zConf.getString(ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT));
+  }
+
+  /**
+   * The transport of interpreter process, which is passed from zeppelin server as environment
+   * variable, because the thrift server is started before the process is initialized with the
+   * interpreter properties.
+   */
+  public static RpcTransport ofInterpreterProcess() {
+    return of(ZeppelinConfiguration.getStaticString(ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT));
+  }
+
+  public TServerTransport createServerTransport(int port) throws TTransportException {
+    if (this == NONBLOCKING) {
+      return new TNonblockingServerSocket(port);
+    }
+    return new TServerSocket(port);
+  }
+
+  public static int getLocalPort(TServerTransport serverTransport) {
+    if (serverTransport instanceof TNonblockingServerSocket) {
+      return ((TNonblockingServerSocket) serverTransport).getPort();
+    }
+    return ((TServerSocket) serverTransport).getServerSocket().getLocalPort();
+  }
+
+  /**
+   * @param serverTransport created by {@link #createServerTransport(int)}
+   * @param name prefix of the names of worker threads
+   */
+  public TServer createServer(TServerTransport serverTransport,
+                              TProcessor processor,
+                              String name,
+                              int stopTimeoutMs) {
+    if (this == NONBLOCKING) {
+      // calls like interpret wait until the job is finished, so the number of workers is not
+      // limited, otherwise the calls to cancel or get the status of the job would be blocked.
+      ThreadPoolExecutor workers = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+          WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+          new NamedThreadFactory(name));
+      return new TThreadedSelectorServer(
+          new TThreadedSelectorServer.Args((TNonblockingServerTransport) serverTransport)
+              .selectorThreads(SELECTOR_THREADS)
+              .executorService(workers)
+              .stopTimeoutVal(stopTimeoutMs)
+              .stopTimeoutUnit(TimeUnit.MILLISECONDS)
+              .inputTransportFactory(new TFramedTransport.Factory(MAX_FRAME_SIZE))
+              .outputTransportFactory(new TFramedTransport.Factory(MAX_FRAME_SIZE))
+              .processor(processor));
+    }
+    return new TThreadPoolServer(
+        new TThreadPoolServer.Args(serverTransport)
+            .stopTimeoutVal(stopTimeoutMs)
+            .stopTimeoutUnit(TimeUnit.MILLISECONDS)
+            .processor(processor));
+  }
+
+  /**
+   * Open a client connection to the server of this transport.
+   */
+  public TTransport openClientTransport(String host, int port) throws TTransportException {
+    TTransport transport = new TSocket(host, port);
+    if (this == NONBLOCKING) {
+      transport = new TFramedTransport(transport, MAX_FRAME_SIZE);
+    }
+    transport.open();
+    return transport;
+  }
+}
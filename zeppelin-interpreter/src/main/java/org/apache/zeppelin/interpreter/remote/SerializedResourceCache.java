@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized values of the resources which are being read in chunks, by read id.
+ * The value is serialized once per read, when its first chunk is read, and the following chunks
+ * of the read are sliced from it. It is released when its last chunk is read, or when it has not
+ * been read for the ttl.
+ */
+public class SerializedResourceCache {
+
+  public static final long DEFAULT_TTL_MS = 60 * 1000L;
+
+  /**
+   * Serialize the value of the resource, null when the resource doesn't exist.
+   */
+  @FunctionalInterface
+  public interface ValueSerializer {
+    ByteBuffer serialize() throws IOException;
+  }
+
+  private final long ttlMs;
+  private final Map<String, SerializedResource> serializedResources = new ConcurrentHashMap<>();
+
+  public SerializedResourceCache() {
+    this(DEFAULT_TTL_MS);
+  }
+
+  public SerializedResourceCache(long ttlMs) {
+    this.ttlMs = ttlMs;
+  }
+
+  /**
+   * @param message the chunk to read
+   * @param serializer serializes the value on the first chunk of the read
+   * @return the chunk, empty when the resource doesn't exist, or null when the following chunk
+   *     of a read is asked for which is not known, e.g. it is expired
+   */
+  public ByteBuffer getChunk(ResourceChunkEventMessage message, ValueSerializer serializer)
+      throws IOException {
+    expire();
+    SerializedResource serialized;
+    if (message.offset == 0) {
+      ByteBuffer buffer = serializer.serialize();
+      if (buffer == null) {
+        return ByteBuffer.allocate(0);
+      }
+      serialized = new SerializedResource(buffer);
+      if (!message.isLastChunkOf(buffer)) {
+        serializedResources.put(message.readId, serialized);
+      }
+    } else {
+      serialized = serializedResources.get(message.readId);
+      if (serialized == null) {
+        return null;
+      }
+      serialized.lastAccessTime = System.currentTimeMillis();
+      if (message.isLastChunkOf(serialized.buffer)) {
+        serializedResources.remove(message.readId, serialized);
+      }
+    }
+    return message.chunkOf(serialized.buffer);
+  }
+
+  int size() {
+    return serializedResources.size();
+  }
+
+  private void expire() {
+    long expireTime = System.currentTimeMillis() - ttlMs;
+    serializedResources.values().removeIf(s -> s.lastAccessTime < expireTime);
+  }
+
+  /**
+   * Serialized value of the resource which is being read in chunks.
+   */
+  private static class SerializedResource {
+    private final ByteBuffer buffer;
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    SerializedResource(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+  }
+}
@@ -67,6 +67,14 @@ public class RemoteInterpreterEventService {
 
     public java.nio.ByteBuffer invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException;
 
+    public void putResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException;
+
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException;
+
+    public java.util.List<java.lang.String> lookupResources(java.lang.String resourceIdJson) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException;
+
+    public java.nio.ByteBuffer getResourceChunk(java.lang.String intpGroupId, java.lang.String resourceChunkJson) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException;
+
     public java.util.List<ParagraphInfo> getParagraphList(java.lang.String user, java.lang.String noteId) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException;
 
     public java.util.List<LibraryMetadata> getAllLibraryMetadatas(java.lang.String intpSettingName) throws org.apache.thrift.TException;
@@ -115,6 +123,14 @@ public class RemoteInterpreterEventService {
 
     public void invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
+    public void putResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void lookupResources(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
+
+    public void getResourceChunk(java.lang.String intpGroupId, java.lang.String resourceChunkJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
+
     public void getParagraphList(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException;
 
     public void getAllLibraryMetadatas(java.lang.String intpSettingName, org.apache.thrift.async.AsyncMethodCallback<java.util.List<LibraryMetadata>> resultHandler) throws org.apache.thrift.TException;
@@ -599,6 +615,107 @@ public class RemoteInterpreterEventService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "invokeMethod failed: unknown result");
     }
 
+    public void putResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      send_putResource(intpGroupId, json);
+      recv_putResource();
+    }
+
+    public void send_putResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      putResource_args args = new putResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setJson(json);
+      sendBase("putResource", args);
+    }
+
+    public void recv_putResource() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      putResource_result result = new putResource_result();
+      receiveBase(result, "putResource");
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      return;
+    }
+
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      send_removeResource(intpGroupId, resourceIdJson);
+      recv_removeResource();
+    }
+
+    public void send_removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      removeResource_args args = new removeResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setResourceIdJson(resourceIdJson);
+      sendBase("removeResource", args);
+    }
+
+    public void recv_removeResource() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      removeResource_result result = new removeResource_result();
+      receiveBase(result, "removeResource");
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      return;
+    }
+
+    public java.util.List<java.lang.String> lookupResources(java.lang.String resourceIdJson) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      send_lookupResources(resourceIdJson);
+      return recv_lookupResources();
+    }
+
+    public void send_lookupResources(java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      lookupResources_args args = new lookupResources_args();
+      args.setResourceIdJson(resourceIdJson);
+      sendBase("lookupResources", args);
+    }
+
+    public java.util.List<java.lang.String> recv_lookupResources() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      lookupResources_result result = new lookupResources_result();
+      receiveBase(result, "lookupResources");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "lookupResources failed: unknown result");
+    }
+
+    public java.nio.ByteBuffer getResourceChunk(java.lang.String intpGroupId, java.lang.String resourceChunkJson) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      send_getResourceChunk(intpGroupId, resourceChunkJson);
+      return recv_getResourceChunk();
+    }
+
+    public void send_getResourceChunk(java.lang.String intpGroupId, java.lang.String resourceChunkJson) throws org.apache.thrift.TException
+    {
+      getResourceChunk_args args = new getResourceChunk_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setResourceChunkJson(resourceChunkJson);
+      sendBase("getResourceChunk", args);
+    }
+
+    public java.nio.ByteBuffer recv_getResourceChunk() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
+    {
+      getResourceChunk_result result = new getResourceChunk_result();
+      receiveBase(result, "getResourceChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getResourceChunk failed: unknown result");
+    }
+
     public java.util.List<ParagraphInfo> getParagraphList(java.lang.String user, java.lang.String noteId) throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException
     {
       send_getParagraphList(user, noteId);
@@ -1329,6 +1446,143 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void putResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      putResource_call method_call = new putResource_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class putResource_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private java.lang.String json;
+      public putResource_call(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.json = json;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("putResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        putResource_args args = new putResource_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setJson(json);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      removeResource_call method_call = new removeResource_call(intpGroupId, resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class removeResource_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private java.lang.String resourceIdJson;
+      public removeResource_call(java.lang.String intpGroupId, java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.resourceIdJson = resourceIdJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("removeResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        removeResource_args args = new removeResource_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setResourceIdJson(resourceIdJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void lookupResources(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      lookupResources_call method_call = new lookupResources_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class lookupResources_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<java.lang.String>> {
+      private java.lang.String resourceIdJson;
+      public lookupResources_call(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.resourceIdJson = resourceIdJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("lookupResources", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        lookupResources_args args = new lookupResources_args();
+        args.setResourceIdJson(resourceIdJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<java.lang.String> getResult() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_lookupResources();
+      }
+    }
+
+    public void getResourceChunk(java.lang.String intpGroupId, java.lang.String resourceChunkJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getResourceChunk_call method_call = new getResourceChunk_call(intpGroupId, resourceChunkJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getResourceChunk_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+      private java.lang.String intpGroupId;
+      private java.lang.String resourceChunkJson;
+      public getResourceChunk_call(java.lang.String intpGroupId, java.lang.String resourceChunkJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.resourceChunkJson = resourceChunkJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getResourceChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getResourceChunk_args args = new getResourceChunk_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setResourceChunkJson(resourceChunkJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.nio.ByteBuffer getResult() throws org.apache.zeppelin.interpreter.thrift.InterpreterRPCException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getResourceChunk();
+      }
+    }
+
     public void getParagraphList(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getParagraphList_call method_call = new getParagraphList_call(user, noteId, resultHandler, this, ___protocolFactory, ___transport);
@@ -1463,6 +1717,10 @@ public class RemoteInterpreterEventService {
       processMap.put("getAllResources", new getAllResources());
       processMap.put("getResource", new getResource());
       processMap.put("invokeMethod", new invokeMethod());
+      processMap.put("putResource", new putResource());
+      processMap.put("removeResource", new removeResource());
+      processMap.put("lookupResources", new lookupResources());
+      processMap.put("getResourceChunk", new getResourceChunk());
       processMap.put("getParagraphList", new getParagraphList());
       processMap.put("getAllLibraryMetadatas", new getAllLibraryMetadatas());
       processMap.put("getLibrary", new getLibrary());
@@ -2020,13 +2278,13 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getParagraphList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getParagraphList_args> {
-      public getParagraphList() {
-        super("getParagraphList");
+    public static class putResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, putResource_args> {
+      public putResource() {
+        super("putResource");
       }
 
-      public getParagraphList_args getEmptyArgsInstance() {
-        return new getParagraphList_args();
+      public putResource_args getEmptyArgsInstance() {
+        return new putResource_args();
       }
 
       protected boolean isOneway() {
@@ -2038,10 +2296,10 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public getParagraphList_result getResult(I iface, getParagraphList_args args) throws org.apache.thrift.TException {
-        getParagraphList_result result = new getParagraphList_result();
+      public putResource_result getResult(I iface, putResource_args args) throws org.apache.thrift.TException {
+        putResource_result result = new putResource_result();
         try {
-          result.success = iface.getParagraphList(args.user, args.noteId);
+          iface.putResource(args.intpGroupId, args.json);
         } catch (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
           result.ex = ex;
         }
@@ -2049,13 +2307,13 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getAllLibraryMetadatas<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getAllLibraryMetadatas_args> {
-      public getAllLibraryMetadatas() {
-        super("getAllLibraryMetadatas");
+    public static class removeResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeResource_args> {
+      public removeResource() {
+        super("removeResource");
       }
 
-      public getAllLibraryMetadatas_args getEmptyArgsInstance() {
-        return new getAllLibraryMetadatas_args();
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
       }
 
       protected boolean isOneway() {
@@ -2067,20 +2325,24 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public getAllLibraryMetadatas_result getResult(I iface, getAllLibraryMetadatas_args args) throws org.apache.thrift.TException {
-        getAllLibraryMetadatas_result result = new getAllLibraryMetadatas_result();
-        result.success = iface.getAllLibraryMetadatas(args.intpSettingName);
+      public removeResource_result getResult(I iface, removeResource_args args) throws org.apache.thrift.TException {
+        removeResource_result result = new removeResource_result();
+        try {
+          iface.removeResource(args.intpGroupId, args.resourceIdJson);
+        } catch (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+          result.ex = ex;
+        }
         return result;
       }
     }
 
-    public static class getLibrary<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getLibrary_args> {
-      public getLibrary() {
-        super("getLibrary");
+    public static class lookupResources<I extends Iface> extends org.apache.thrift.ProcessFunction<I, lookupResources_args> {
+      public lookupResources() {
+        super("lookupResources");
       }
 
-      public getLibrary_args getEmptyArgsInstance() {
-        return new getLibrary_args();
+      public lookupResources_args getEmptyArgsInstance() {
+        return new lookupResources_args();
       }
 
       protected boolean isOneway() {
@@ -2092,61 +2354,177 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public getLibrary_result getResult(I iface, getLibrary_args args) throws org.apache.thrift.TException {
-        getLibrary_result result = new getLibrary_result();
-        result.success = iface.getLibrary(args.intpSettingName, args.libraryName);
+      public lookupResources_result getResult(I iface, lookupResources_args args) throws org.apache.thrift.TException {
+        lookupResources_result result = new lookupResources_result();
+        try {
+          result.success = iface.lookupResources(args.resourceIdJson);
+        } catch (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+          result.ex = ex;
+        }
         return result;
       }
     }
 
-  }
-
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
-    }
-
-    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      processMap.put("registerInterpreterProcess", new registerInterpreterProcess());
-      processMap.put("unRegisterInterpreterProcess", new unRegisterInterpreterProcess());
-      processMap.put("appendOutput", new appendOutput());
-      processMap.put("updateOutput", new updateOutput());
-      processMap.put("updateAllOutput", new updateAllOutput());
-      processMap.put("appendAppOutput", new appendAppOutput());
-      processMap.put("updateAppOutput", new updateAppOutput());
-      processMap.put("updateAppStatus", new updateAppStatus());
-      processMap.put("checkpointOutput", new checkpointOutput());
-      processMap.put("runParagraphs", new runParagraphs());
-      processMap.put("addAngularObject", new addAngularObject());
-      processMap.put("updateAngularObject", new updateAngularObject());
-      processMap.put("removeAngularObject", new removeAngularObject());
-      processMap.put("sendWebUrl", new sendWebUrl());
-      processMap.put("sendParagraphInfo", new sendParagraphInfo());
-      processMap.put("updateParagraphConfig", new updateParagraphConfig());
-      processMap.put("getAllResources", new getAllResources());
-      processMap.put("getResource", new getResource());
-      processMap.put("invokeMethod", new invokeMethod());
-      processMap.put("getParagraphList", new getParagraphList());
-      processMap.put("getAllLibraryMetadatas", new getAllLibraryMetadatas());
-      processMap.put("getLibrary", new getLibrary());
-      return processMap;
-    }
+    public static class getResourceChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResourceChunk_args> {
+      public getResourceChunk() {
+        super("getResourceChunk");
+      }
 
-    public static class registerInterpreterProcess<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, registerInterpreterProcess_args, Void> {
-      public registerInterpreterProcess() {
-        super("registerInterpreterProcess");
+      public getResourceChunk_args getEmptyArgsInstance() {
+        return new getResourceChunk_args();
       }
 
-      public registerInterpreterProcess_args getEmptyArgsInstance() {
-        return new registerInterpreterProcess_args();
+      protected boolean isOneway() {
+        return false;
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getResourceChunk_result getResult(I iface, getResourceChunk_args args) throws org.apache.thrift.TException {
+        getResourceChunk_result result = new getResourceChunk_result();
+        try {
+          result.success = iface.getResourceChunk(args.intpGroupId, args.resourceChunkJson);
+        } catch (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
+    public static class getParagraphList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getParagraphList_args> {
+      public getParagraphList() {
+        super("getParagraphList");
+      }
+
+      public getParagraphList_args getEmptyArgsInstance() {
+        return new getParagraphList_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getParagraphList_result getResult(I iface, getParagraphList_args args) throws org.apache.thrift.TException {
+        getParagraphList_result result = new getParagraphList_result();
+        try {
+          result.success = iface.getParagraphList(args.user, args.noteId);
+        } catch (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
+    public static class getAllLibraryMetadatas<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getAllLibraryMetadatas_args> {
+      public getAllLibraryMetadatas() {
+        super("getAllLibraryMetadatas");
+      }
+
+      public getAllLibraryMetadatas_args getEmptyArgsInstance() {
+        return new getAllLibraryMetadatas_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getAllLibraryMetadatas_result getResult(I iface, getAllLibraryMetadatas_args args) throws org.apache.thrift.TException {
+        getAllLibraryMetadatas_result result = new getAllLibraryMetadatas_result();
+        result.success = iface.getAllLibraryMetadatas(args.intpSettingName);
+        return result;
+      }
+    }
+
+    public static class getLibrary<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getLibrary_args> {
+      public getLibrary() {
+        super("getLibrary");
+      }
+
+      public getLibrary_args getEmptyArgsInstance() {
+        return new getLibrary_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getLibrary_result getResult(I iface, getLibrary_args args) throws org.apache.thrift.TException {
+        getLibrary_result result = new getLibrary_result();
+        result.success = iface.getLibrary(args.intpSettingName, args.libraryName);
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("registerInterpreterProcess", new registerInterpreterProcess());
+      processMap.put("unRegisterInterpreterProcess", new unRegisterInterpreterProcess());
+      processMap.put("appendOutput", new appendOutput());
+      processMap.put("updateOutput", new updateOutput());
+      processMap.put("updateAllOutput", new updateAllOutput());
+      processMap.put("appendAppOutput", new appendAppOutput());
+      processMap.put("updateAppOutput", new updateAppOutput());
+      processMap.put("updateAppStatus", new updateAppStatus());
+      processMap.put("checkpointOutput", new checkpointOutput());
+      processMap.put("runParagraphs", new runParagraphs());
+      processMap.put("addAngularObject", new addAngularObject());
+      processMap.put("updateAngularObject", new updateAngularObject());
+      processMap.put("removeAngularObject", new removeAngularObject());
+      processMap.put("sendWebUrl", new sendWebUrl());
+      processMap.put("sendParagraphInfo", new sendParagraphInfo());
+      processMap.put("updateParagraphConfig", new updateParagraphConfig());
+      processMap.put("getAllResources", new getAllResources());
+      processMap.put("getResource", new getResource());
+      processMap.put("invokeMethod", new invokeMethod());
+      processMap.put("putResource", new putResource());
+      processMap.put("removeResource", new removeResource());
+      processMap.put("lookupResources", new lookupResources());
+      processMap.put("getResourceChunk", new getResourceChunk());
+      processMap.put("getParagraphList", new getParagraphList());
+      processMap.put("getAllLibraryMetadatas", new getAllLibraryMetadatas());
+      processMap.put("getLibrary", new getLibrary());
+      return processMap;
+    }
+
+    public static class registerInterpreterProcess<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, registerInterpreterProcess_args, Void> {
+      public registerInterpreterProcess() {
+        super("registerInterpreterProcess");
+      }
+
+      public registerInterpreterProcess_args getEmptyArgsInstance() {
+        return new registerInterpreterProcess_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
@@ -3356,21 +3734,20 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getParagraphList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getParagraphList_args, java.util.List<ParagraphInfo>> {
-      public getParagraphList() {
-        super("getParagraphList");
+    public static class putResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, putResource_args, Void> {
+      public putResource() {
+        super("putResource");
       }
 
-      public getParagraphList_args getEmptyArgsInstance() {
-        return new getParagraphList_args();
+      public putResource_args getEmptyArgsInstance() {
+        return new putResource_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>>() { 
-          public void onComplete(java.util.List<ParagraphInfo> o) {
-            getParagraphList_result result = new getParagraphList_result();
-            result.success = o;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            putResource_result result = new putResource_result();
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -3384,7 +3761,7 @@ public class RemoteInterpreterEventService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getParagraphList_result result = new getParagraphList_result();
+            putResource_result result = new putResource_result();
             if (e instanceof org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) {
               result.ex = (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) e;
               result.setExIsSet(true);
@@ -3416,25 +3793,89 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, getParagraphList_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
-        iface.getParagraphList(args.user, args.noteId,resultHandler);
+      public void start(I iface, putResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.putResource(args.intpGroupId, args.json,resultHandler);
       }
     }
 
-    public static class getAllLibraryMetadatas<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getAllLibraryMetadatas_args, java.util.List<LibraryMetadata>> {
-      public getAllLibraryMetadatas() {
-        super("getAllLibraryMetadatas");
+    public static class removeResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeResource_args, Void> {
+      public removeResource() {
+        super("removeResource");
       }
 
-      public getAllLibraryMetadatas_args getEmptyArgsInstance() {
-        return new getAllLibraryMetadatas_args();
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<LibraryMetadata>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<LibraryMetadata>>() { 
-          public void onComplete(java.util.List<LibraryMetadata> o) {
-            getAllLibraryMetadatas_result result = new getAllLibraryMetadatas_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeResource_result result = new removeResource_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            removeResource_result result = new removeResource_result();
+            if (e instanceof org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) {
+              result.ex = (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.removeResource(args.intpGroupId, args.resourceIdJson,resultHandler);
+      }
+    }
+
+    public static class lookupResources<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, lookupResources_args, java.util.List<java.lang.String>> {
+      public lookupResources() {
+        super("lookupResources");
+      }
+
+      public lookupResources_args getEmptyArgsInstance() {
+        return new lookupResources_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
+          public void onComplete(java.util.List<java.lang.String> o) {
+            lookupResources_result result = new lookupResources_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -3449,8 +3890,12 @@ public class RemoteInterpreterEventService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getAllLibraryMetadatas_result result = new getAllLibraryMetadatas_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
+            lookupResources_result result = new lookupResources_result();
+            if (e instanceof org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) {
+              result.ex = (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -3477,25 +3922,25 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, getAllLibraryMetadatas_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<LibraryMetadata>> resultHandler) throws org.apache.thrift.TException {
-        iface.getAllLibraryMetadatas(args.intpSettingName,resultHandler);
+      public void start(I iface, lookupResources_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.lookupResources(args.resourceIdJson,resultHandler);
       }
     }
 
-    public static class getLibrary<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getLibrary_args, java.nio.ByteBuffer> {
-      public getLibrary() {
-        super("getLibrary");
+    public static class getResourceChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResourceChunk_args, java.nio.ByteBuffer> {
+      public getResourceChunk() {
+        super("getResourceChunk");
       }
 
-      public getLibrary_args getEmptyArgsInstance() {
-        return new getLibrary_args();
+      public getResourceChunk_args getEmptyArgsInstance() {
+        return new getResourceChunk_args();
       }
 
       public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
           public void onComplete(java.nio.ByteBuffer o) {
-            getLibrary_result result = new getLibrary_result();
+            getResourceChunk_result result = new getResourceChunk_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -3510,8 +3955,12 @@ public class RemoteInterpreterEventService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getLibrary_result result = new getLibrary_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
+            getResourceChunk_result result = new getResourceChunk_result();
+            if (e instanceof org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) {
+              result.ex = (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -3538,17 +3987,204 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, getLibrary_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
-        iface.getLibrary(args.intpSettingName, args.libraryName,resultHandler);
+      public void start(I iface, getResourceChunk_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.getResourceChunk(args.intpGroupId, args.resourceChunkJson,resultHandler);
       }
     }
 
-  }
-
-  public static class registerInterpreterProcess_args implements org.apache.thrift.TBase<registerInterpreterProcess_args, registerInterpreterProcess_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_args");
+    public static class getParagraphList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getParagraphList_args, java.util.List<ParagraphInfo>> {
+      public getParagraphList() {
+        super("getParagraphList");
+      }
 
-    private static final org.apache.thrift.protocol.TField REGISTER_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("registerInfo", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+      public getParagraphList_args getEmptyArgsInstance() {
+        return new getParagraphList_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>>() { 
+          public void onComplete(java.util.List<ParagraphInfo> o) {
+            getParagraphList_result result = new getParagraphList_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getParagraphList_result result = new getParagraphList_result();
+            if (e instanceof org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) {
+              result.ex = (org.apache.zeppelin.interpreter.thrift.InterpreterRPCException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getParagraphList_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
+        iface.getParagraphList(args.user, args.noteId,resultHandler);
+      }
+    }
+
+    public static class getAllLibraryMetadatas<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getAllLibraryMetadatas_args, java.util.List<LibraryMetadata>> {
+      public getAllLibraryMetadatas() {
+        super("getAllLibraryMetadatas");
+      }
+
+      public getAllLibraryMetadatas_args getEmptyArgsInstance() {
+        return new getAllLibraryMetadatas_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<LibraryMetadata>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<LibraryMetadata>>() { 
+          public void onComplete(java.util.List<LibraryMetadata> o) {
+            getAllLibraryMetadatas_result result = new getAllLibraryMetadatas_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getAllLibraryMetadatas_result result = new getAllLibraryMetadatas_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getAllLibraryMetadatas_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<LibraryMetadata>> resultHandler) throws org.apache.thrift.TException {
+        iface.getAllLibraryMetadatas(args.intpSettingName,resultHandler);
+      }
+    }
+
+    public static class getLibrary<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getLibrary_args, java.nio.ByteBuffer> {
+      public getLibrary() {
+        super("getLibrary");
+      }
+
+      public getLibrary_args getEmptyArgsInstance() {
+        return new getLibrary_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
+          public void onComplete(java.nio.ByteBuffer o) {
+            getLibrary_result result = new getLibrary_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getLibrary_result result = new getLibrary_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getLibrary_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.getLibrary(args.intpSettingName, args.libraryName,resultHandler);
+      }
+    }
+
+  }
+
+  public static class registerInterpreterProcess_args implements org.apache.thrift.TBase<registerInterpreterProcess_args, registerInterpreterProcess_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_args");
+
+    private static final org.apache.thrift.protocol.TField REGISTER_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("registerInfo", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new registerInterpreterProcess_argsStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new registerInterpreterProcess_argsTupleSchemeFactory();
@@ -17532,15 +18168,3510 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_argsStandardScheme getScheme() {
-        return new getResource_argsStandardScheme();
+    private static class getResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_argsStandardScheme getScheme() {
+        return new getResource_argsStandardScheme();
+      }
+    }
+
+    private static class getResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // RESOURCE_ID_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_argsTupleScheme getScheme() {
+        return new getResource_argsTupleScheme();
+      }
+    }
+
+    private static class getResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetResourceIdJson()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+    public @org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.InterpreterRPCException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
+    }
+
+    public getResource_result() {
+    }
+
+    public getResource_result(
+      java.nio.ByteBuffer success,
+      org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getResource_result(getResource_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
+      if (other.isSetEx()) {
+        this.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException(other.ex);
+      }
+    }
+
+    public getResource_result deepCopy() {
+      return new getResource_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public getResource_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public getResource_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public org.apache.zeppelin.interpreter.thrift.InterpreterRPCException getEx() {
+      return this.ex;
+    }
+
+    public getResource_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((org.apache.zeppelin.interpreter.thrift.InterpreterRPCException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getResource_result)
+        return this.equals((getResource_result)that);
+      return false;
+    }
+
+    public boolean equals(getResource_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getResource_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_resultStandardScheme getScheme() {
+        return new getResource_resultStandardScheme();
+      }
+    }
+
+    private static class getResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_resultTupleScheme getScheme() {
+        return new getResource_resultTupleScheme();
+      }
+    }
+
+    private static class getResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class invokeMethod_args implements org.apache.thrift.TBase<invokeMethod_args, invokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField INVOKE_METHOD_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMethodJson", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      INVOKE_METHOD_JSON((short)2, "invokeMethodJson");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // INVOKE_METHOD_JSON
+            return INVOKE_METHOD_JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INVOKE_METHOD_JSON, new org.apache.thrift.meta_data.FieldMetaData("invokeMethodJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_args.class, metaDataMap);
+    }
+
+    public invokeMethod_args() {
+    }
+
+    public invokeMethod_args(
+      java.lang.String intpGroupId,
+      java.lang.String invokeMethodJson)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.invokeMethodJson = invokeMethodJson;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public invokeMethod_args(invokeMethod_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetInvokeMethodJson()) {
+        this.invokeMethodJson = other.invokeMethodJson;
+      }
+    }
+
+    public invokeMethod_args deepCopy() {
+      return new invokeMethod_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.invokeMethodJson = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public invokeMethod_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getInvokeMethodJson() {
+      return this.invokeMethodJson;
+    }
+
+    public invokeMethod_args setInvokeMethodJson(@org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson) {
+      this.invokeMethodJson = invokeMethodJson;
+      return this;
+    }
+
+    public void unsetInvokeMethodJson() {
+      this.invokeMethodJson = null;
+    }
+
+    /** Returns true if field invokeMethodJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetInvokeMethodJson() {
+      return this.invokeMethodJson != null;
+    }
+
+    public void setInvokeMethodJsonIsSet(boolean value) {
+      if (!value) {
+        this.invokeMethodJson = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case INVOKE_METHOD_JSON:
+        if (value == null) {
+          unsetInvokeMethodJson();
+        } else {
+          setInvokeMethodJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case INVOKE_METHOD_JSON:
+        return getInvokeMethodJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case INVOKE_METHOD_JSON:
+        return isSetInvokeMethodJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof invokeMethod_args)
+        return this.equals((invokeMethod_args)that);
+      return false;
+    }
+
+    public boolean equals(invokeMethod_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_invokeMethodJson = true && this.isSetInvokeMethodJson();
+      boolean that_present_invokeMethodJson = true && that.isSetInvokeMethodJson();
+      if (this_present_invokeMethodJson || that_present_invokeMethodJson) {
+        if (!(this_present_invokeMethodJson && that_present_invokeMethodJson))
+          return false;
+        if (!this.invokeMethodJson.equals(that.invokeMethodJson))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetInvokeMethodJson()) ? 131071 : 524287);
+      if (isSetInvokeMethodJson())
+        hashCode = hashCode * 8191 + invokeMethodJson.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(invokeMethod_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMethodJson()).compareTo(other.isSetInvokeMethodJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInvokeMethodJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMethodJson, other.invokeMethodJson);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("invokeMethodJson:");
+      if (this.invokeMethodJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.invokeMethodJson);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class invokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_argsStandardScheme getScheme() {
+        return new invokeMethod_argsStandardScheme();
+      }
+    }
+
+    private static class invokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // INVOKE_METHOD_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.invokeMethodJson = iprot.readString();
+                struct.setInvokeMethodJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.invokeMethodJson != null) {
+          oprot.writeFieldBegin(INVOKE_METHOD_JSON_FIELD_DESC);
+          oprot.writeString(struct.invokeMethodJson);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class invokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_argsTupleScheme getScheme() {
+        return new invokeMethod_argsTupleScheme();
+      }
+    }
+
+    private static class invokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetInvokeMethodJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetInvokeMethodJson()) {
+          oprot.writeString(struct.invokeMethodJson);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.invokeMethodJson = iprot.readString();
+          struct.setInvokeMethodJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class invokeMethod_result implements org.apache.thrift.TBase<invokeMethod_result, invokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+    public @org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.InterpreterRPCException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_result.class, metaDataMap);
+    }
+
+    public invokeMethod_result() {
+    }
+
+    public invokeMethod_result(
+      java.nio.ByteBuffer success,
+      org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public invokeMethod_result(invokeMethod_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
+      if (other.isSetEx()) {
+        this.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException(other.ex);
+      }
+    }
+
+    public invokeMethod_result deepCopy() {
+      return new invokeMethod_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public invokeMethod_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public invokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public org.apache.zeppelin.interpreter.thrift.InterpreterRPCException getEx() {
+      return this.ex;
+    }
+
+    public invokeMethod_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((org.apache.zeppelin.interpreter.thrift.InterpreterRPCException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof invokeMethod_result)
+        return this.equals((invokeMethod_result)that);
+      return false;
+    }
+
+    public boolean equals(invokeMethod_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(invokeMethod_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class invokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_resultStandardScheme getScheme() {
+        return new invokeMethod_resultStandardScheme();
+      }
+    }
+
+    private static class invokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class invokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_resultTupleScheme getScheme() {
+        return new invokeMethod_resultTupleScheme();
+      }
+    }
+
+    private static class invokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class putResource_args implements org.apache.thrift.TBase<putResource_args, putResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<putResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("putResource_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new putResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new putResource_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(putResource_args.class, metaDataMap);
+    }
+
+    public putResource_args() {
+    }
+
+    public putResource_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.json = json;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public putResource_args(putResource_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
+      }
+    }
+
+    public putResource_args deepCopy() {
+      return new putResource_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.json = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public putResource_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getJson() {
+      return this.json;
+    }
+
+    public putResource_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof putResource_args)
+        return this.equals((putResource_args)that);
+      return false;
+    }
+
+    public boolean equals(putResource_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(putResource_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("putResource_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class putResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public putResource_argsStandardScheme getScheme() {
+        return new putResource_argsStandardScheme();
+      }
+    }
+
+    private static class putResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<putResource_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, putResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, putResource_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class putResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public putResource_argsTupleScheme getScheme() {
+        return new putResource_argsTupleScheme();
+      }
+    }
+
+    private static class putResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<putResource_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, putResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, putResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class putResource_result implements org.apache.thrift.TBase<putResource_result, putResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<putResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("putResource_result");
+
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new putResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new putResource_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.InterpreterRPCException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(putResource_result.class, metaDataMap);
+    }
+
+    public putResource_result() {
+    }
+
+    public putResource_result(
+      org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex)
+    {
+      this();
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public putResource_result(putResource_result other) {
+      if (other.isSetEx()) {
+        this.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException(other.ex);
+      }
+    }
+
+    public putResource_result deepCopy() {
+      return new putResource_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.ex = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public org.apache.zeppelin.interpreter.thrift.InterpreterRPCException getEx() {
+      return this.ex;
+    }
+
+    public putResource_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((org.apache.zeppelin.interpreter.thrift.InterpreterRPCException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof putResource_result)
+        return this.equals((putResource_result)that);
+      return false;
+    }
+
+    public boolean equals(putResource_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(putResource_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("putResource_result(");
+      boolean first = true;
+
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class putResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public putResource_resultStandardScheme getScheme() {
+        return new putResource_resultStandardScheme();
+      }
+    }
+
+    private static class putResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<putResource_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, putResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, putResource_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class putResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public putResource_resultTupleScheme getScheme() {
+        return new putResource_resultTupleScheme();
+      }
+    }
+
+    private static class putResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<putResource_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, putResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEx()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, putResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeResource_args implements org.apache.thrift.TBase<removeResource_args, removeResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeResource_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      RESOURCE_ID_JSON((short)2, "resourceIdJson");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_args.class, metaDataMap);
+    }
+
+    public removeResource_args() {
+    }
+
+    public removeResource_args(
+      java.lang.String intpGroupId,
+      java.lang.String resourceIdJson)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.resourceIdJson = resourceIdJson;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeResource_args(removeResource_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
+      }
+    }
+
+    public removeResource_args deepCopy() {
+      return new removeResource_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.resourceIdJson = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public removeResource_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceIdJson() {
+      return this.resourceIdJson;
+    }
+
+    public removeResource_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
+      return this;
+    }
+
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
+    }
+
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
+    }
+
+    public void setResourceIdJsonIsSet(boolean value) {
+      if (!value) {
+        this.resourceIdJson = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case RESOURCE_ID_JSON:
+        if (value == null) {
+          unsetResourceIdJson();
+        } else {
+          setResourceIdJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeResource_args)
+        return this.equals((removeResource_args)that);
+      return false;
+    }
+
+    public boolean equals(removeResource_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+          return false;
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
+      if (isSetResourceIdJson())
+        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeResource_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeResource_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceIdJson);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_argsStandardScheme getScheme() {
+        return new removeResource_argsStandardScheme();
+      }
+    }
+
+    private static class removeResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeResource_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RESOURCE_ID_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_argsTupleScheme getScheme() {
+        return new removeResource_argsTupleScheme();
+      }
+    }
+
+    private static class removeResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeResource_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetResourceIdJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeResource_result implements org.apache.thrift.TBase<removeResource_result, removeResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_result");
+
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeResource_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.InterpreterRPCException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_result.class, metaDataMap);
+    }
+
+    public removeResource_result() {
+    }
+
+    public removeResource_result(
+      org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex)
+    {
+      this();
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeResource_result(removeResource_result other) {
+      if (other.isSetEx()) {
+        this.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException(other.ex);
+      }
+    }
+
+    public removeResource_result deepCopy() {
+      return new removeResource_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.ex = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public org.apache.zeppelin.interpreter.thrift.InterpreterRPCException getEx() {
+      return this.ex;
+    }
+
+    public removeResource_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((org.apache.zeppelin.interpreter.thrift.InterpreterRPCException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeResource_result)
+        return this.equals((removeResource_result)that);
+      return false;
+    }
+
+    public boolean equals(removeResource_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeResource_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeResource_result(");
+      boolean first = true;
+
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_resultStandardScheme getScheme() {
+        return new removeResource_resultStandardScheme();
+      }
+    }
+
+    private static class removeResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeResource_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_resultTupleScheme getScheme() {
+        return new removeResource_resultTupleScheme();
+      }
+    }
+
+    private static class removeResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeResource_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEx()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class lookupResources_args implements org.apache.thrift.TBase<lookupResources_args, lookupResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<lookupResources_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lookupResources_args");
+
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new lookupResources_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new lookupResources_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      RESOURCE_ID_JSON((short)1, "resourceIdJson");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lookupResources_args.class, metaDataMap);
+    }
+
+    public lookupResources_args() {
+    }
+
+    public lookupResources_args(
+      java.lang.String resourceIdJson)
+    {
+      this();
+      this.resourceIdJson = resourceIdJson;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public lookupResources_args(lookupResources_args other) {
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
+      }
+    }
+
+    public lookupResources_args deepCopy() {
+      return new lookupResources_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.resourceIdJson = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceIdJson() {
+      return this.resourceIdJson;
+    }
+
+    public lookupResources_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
+      return this;
+    }
+
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
+    }
+
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
+    }
+
+    public void setResourceIdJsonIsSet(boolean value) {
+      if (!value) {
+        this.resourceIdJson = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        if (value == null) {
+          unsetResourceIdJson();
+        } else {
+          setResourceIdJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof lookupResources_args)
+        return this.equals((lookupResources_args)that);
+      return false;
+    }
+
+    public boolean equals(lookupResources_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+          return false;
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
+      if (isSetResourceIdJson())
+        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(lookupResources_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("lookupResources_args(");
+      boolean first = true;
+
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceIdJson);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class lookupResources_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public lookupResources_argsStandardScheme getScheme() {
+        return new lookupResources_argsStandardScheme();
       }
     }
 
-    private static class getResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_args> {
+    private static class lookupResources_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<lookupResources_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lookupResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17569,7 +21700,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lookupResources_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -17584,16 +21715,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_argsTupleScheme getScheme() {
-        return new getResource_argsTupleScheme();
+    private static class lookupResources_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public lookupResources_argsTupleScheme getScheme() {
+        return new lookupResources_argsTupleScheme();
       }
     }
 
-    private static class getResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_args> {
+    private static class lookupResources_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<lookupResources_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lookupResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetResourceIdJson()) {
@@ -17606,7 +21737,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lookupResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -17621,16 +21752,16 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
+  public static class lookupResources_result implements org.apache.thrift.TBase<lookupResources_result, lookupResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<lookupResources_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lookupResources_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new lookupResources_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new lookupResources_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
     public @org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -17701,39 +21832,41 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.InterpreterRPCException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lookupResources_result.class, metaDataMap);
     }
 
-    public getResource_result() {
+    public lookupResources_result() {
     }
 
-    public getResource_result(
-      java.nio.ByteBuffer success,
+    public lookupResources_result(
+      java.util.List<java.lang.String> success,
       org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex)
     {
       this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.success = success;
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getResource_result(getResource_result other) {
+    public lookupResources_result(lookupResources_result other) {
       if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
       }
       if (other.isSetEx()) {
         this.ex = new org.apache.zeppelin.interpreter.thrift.InterpreterRPCException(other.ex);
       }
     }
 
-    public getResource_result deepCopy() {
-      return new getResource_result(this);
+    public lookupResources_result deepCopy() {
+      return new lookupResources_result(this);
     }
 
     @Override
@@ -17742,22 +21875,29 @@ public class RemoteInterpreterEventService {
       this.ex = null;
     }
 
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.nio.ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public getResource_result setSuccess(byte[] success) {
-      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
-      return this;
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
     }
 
-    public getResource_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public lookupResources_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
       return this;
     }
 
@@ -17781,7 +21921,7 @@ public class RemoteInterpreterEventService {
       return this.ex;
     }
 
-    public getResource_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+    public lookupResources_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
       this.ex = ex;
       return this;
     }
@@ -17807,11 +21947,7 @@ public class RemoteInterpreterEventService {
         if (value == null) {
           unsetSuccess();
         } else {
-          if (value instanceof byte[]) {
-            setSuccess((byte[])value);
-          } else {
-            setSuccess((java.nio.ByteBuffer)value);
-          }
+          setSuccess((java.util.List<java.lang.String>)value);
         }
         break;
 
@@ -17858,12 +21994,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getResource_result)
-        return this.equals((getResource_result)that);
+      if (that instanceof lookupResources_result)
+        return this.equals((lookupResources_result)that);
       return false;
     }
 
-    public boolean equals(getResource_result that) {
+    public boolean equals(lookupResources_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -17906,7 +22042,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(getResource_result other) {
+    public int compareTo(lookupResources_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -17951,14 +22087,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("lookupResources_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -17994,15 +22130,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_resultStandardScheme getScheme() {
-        return new getResource_resultStandardScheme();
+    private static class lookupResources_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public lookupResources_resultStandardScheme getScheme() {
+        return new lookupResources_resultStandardScheme();
       }
     }
 
-    private static class getResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_result> {
+    private static class lookupResources_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<lookupResources_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lookupResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18013,8 +22149,18 @@ public class RemoteInterpreterEventService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list42 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list42.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem43;
+                  for (int _i44 = 0; _i44 < _list42.size; ++_i44)
+                  {
+                    _elem43 = iprot.readString();
+                    struct.success.add(_elem43);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -18040,13 +22186,20 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lookupResources_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter45 : struct.success)
+            {
+              oprot.writeString(_iter45);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -18060,16 +22213,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_resultTupleScheme getScheme() {
-        return new getResource_resultTupleScheme();
+    private static class lookupResources_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public lookupResources_resultTupleScheme getScheme() {
+        return new lookupResources_resultTupleScheme();
       }
     }
 
-    private static class getResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_result> {
+    private static class lookupResources_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<lookupResources_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lookupResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -18080,7 +22233,13 @@ public class RemoteInterpreterEventService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter46 : struct.success)
+            {
+              oprot.writeString(_iter46);
+            }
+          }
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -18088,11 +22247,20 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lookupResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
+          {
+            org.apache.thrift.protocol.TList _list47 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list47.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem48;
+            for (int _i49 = 0; _i49 < _list47.size; ++_i49)
+            {
+              _elem48 = iprot.readString();
+              struct.success.add(_elem48);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -18108,22 +22276,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class invokeMethod_args implements org.apache.thrift.TBase<invokeMethod_args, invokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_args");
+  public static class getResourceChunk_args implements org.apache.thrift.TBase<getResourceChunk_args, getResourceChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResourceChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourceChunk_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField INVOKE_METHOD_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMethodJson", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_CHUNK_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceChunkJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResourceChunk_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResourceChunk_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceChunkJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       INTP_GROUP_ID((short)1, "intpGroupId"),
-      INVOKE_METHOD_JSON((short)2, "invokeMethodJson");
+      RESOURCE_CHUNK_JSON((short)2, "resourceChunkJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -18141,8 +22309,8 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
-          case 2: // INVOKE_METHOD_JSON
-            return INVOKE_METHOD_JSON;
+          case 2: // RESOURCE_CHUNK_JSON
+            return RESOURCE_CHUNK_JSON;
           default:
             return null;
         }
@@ -18189,44 +22357,44 @@ public class RemoteInterpreterEventService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.INVOKE_METHOD_JSON, new org.apache.thrift.meta_data.FieldMetaData("invokeMethodJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_CHUNK_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceChunkJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourceChunk_args.class, metaDataMap);
     }
 
-    public invokeMethod_args() {
+    public getResourceChunk_args() {
     }
 
-    public invokeMethod_args(
+    public getResourceChunk_args(
       java.lang.String intpGroupId,
-      java.lang.String invokeMethodJson)
+      java.lang.String resourceChunkJson)
     {
       this();
       this.intpGroupId = intpGroupId;
-      this.invokeMethodJson = invokeMethodJson;
+      this.resourceChunkJson = resourceChunkJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public invokeMethod_args(invokeMethod_args other) {
+    public getResourceChunk_args(getResourceChunk_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetInvokeMethodJson()) {
-        this.invokeMethodJson = other.invokeMethodJson;
+      if (other.isSetResourceChunkJson()) {
+        this.resourceChunkJson = other.resourceChunkJson;
       }
     }
 
-    public invokeMethod_args deepCopy() {
-      return new invokeMethod_args(this);
+    public getResourceChunk_args deepCopy() {
+      return new getResourceChunk_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
-      this.invokeMethodJson = null;
+      this.resourceChunkJson = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -18234,7 +22402,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public invokeMethod_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public getResourceChunk_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -18255,27 +22423,27 @@ public class RemoteInterpreterEventService {
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getInvokeMethodJson() {
-      return this.invokeMethodJson;
+    public java.lang.String getResourceChunkJson() {
+      return this.resourceChunkJson;
     }
 
-    public invokeMethod_args setInvokeMethodJson(@org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson) {
-      this.invokeMethodJson = invokeMethodJson;
+    public getResourceChunk_args setResourceChunkJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceChunkJson) {
+      this.resourceChunkJson = resourceChunkJson;
       return this;
     }
 
-    public void unsetInvokeMethodJson() {
-      this.invokeMethodJson = null;
+    public void unsetResourceChunkJson() {
+      this.resourceChunkJson = null;
     }
 
-    /** Returns true if field invokeMethodJson is set (has been assigned a value) and false otherwise */
-    public boolean isSetInvokeMethodJson() {
-      return this.invokeMethodJson != null;
+    /** Returns true if field resourceChunkJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceChunkJson() {
+      return this.resourceChunkJson != null;
     }
 
-    public void setInvokeMethodJsonIsSet(boolean value) {
+    public void setResourceChunkJsonIsSet(boolean value) {
       if (!value) {
-        this.invokeMethodJson = null;
+        this.resourceChunkJson = null;
       }
     }
 
@@ -18289,11 +22457,11 @@ public class RemoteInterpreterEventService {
         }
         break;
 
-      case INVOKE_METHOD_JSON:
+      case RESOURCE_CHUNK_JSON:
         if (value == null) {
-          unsetInvokeMethodJson();
+          unsetResourceChunkJson();
         } else {
-          setInvokeMethodJson((java.lang.String)value);
+          setResourceChunkJson((java.lang.String)value);
         }
         break;
 
@@ -18306,8 +22474,8 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
-      case INVOKE_METHOD_JSON:
-        return getInvokeMethodJson();
+      case RESOURCE_CHUNK_JSON:
+        return getResourceChunkJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -18322,8 +22490,8 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
-      case INVOKE_METHOD_JSON:
-        return isSetInvokeMethodJson();
+      case RESOURCE_CHUNK_JSON:
+        return isSetResourceChunkJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -18332,12 +22500,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof invokeMethod_args)
-        return this.equals((invokeMethod_args)that);
+      if (that instanceof getResourceChunk_args)
+        return this.equals((getResourceChunk_args)that);
       return false;
     }
 
-    public boolean equals(invokeMethod_args that) {
+    public boolean equals(getResourceChunk_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -18352,12 +22520,12 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
-      boolean this_present_invokeMethodJson = true && this.isSetInvokeMethodJson();
-      boolean that_present_invokeMethodJson = true && that.isSetInvokeMethodJson();
-      if (this_present_invokeMethodJson || that_present_invokeMethodJson) {
-        if (!(this_present_invokeMethodJson && that_present_invokeMethodJson))
+      boolean this_present_resourceChunkJson = true && this.isSetResourceChunkJson();
+      boolean that_present_resourceChunkJson = true && that.isSetResourceChunkJson();
+      if (this_present_resourceChunkJson || that_present_resourceChunkJson) {
+        if (!(this_present_resourceChunkJson && that_present_resourceChunkJson))
           return false;
-        if (!this.invokeMethodJson.equals(that.invokeMethodJson))
+        if (!this.resourceChunkJson.equals(that.resourceChunkJson))
           return false;
       }
 
@@ -18372,15 +22540,15 @@ public class RemoteInterpreterEventService {
       if (isSetIntpGroupId())
         hashCode = hashCode * 8191 + intpGroupId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetInvokeMethodJson()) ? 131071 : 524287);
-      if (isSetInvokeMethodJson())
-        hashCode = hashCode * 8191 + invokeMethodJson.hashCode();
+      hashCode = hashCode * 8191 + ((isSetResourceChunkJson()) ? 131071 : 524287);
+      if (isSetResourceChunkJson())
+        hashCode = hashCode * 8191 + resourceChunkJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(invokeMethod_args other) {
+    public int compareTo(getResourceChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -18397,12 +22565,12 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMethodJson()).compareTo(other.isSetInvokeMethodJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceChunkJson()).compareTo(other.isSetResourceChunkJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInvokeMethodJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMethodJson, other.invokeMethodJson);
+      if (isSetResourceChunkJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceChunkJson, other.resourceChunkJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -18425,7 +22593,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResourceChunk_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -18436,11 +22604,11 @@ public class RemoteInterpreterEventService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("invokeMethodJson:");
-      if (this.invokeMethodJson == null) {
+      sb.append("resourceChunkJson:");
+      if (this.resourceChunkJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.invokeMethodJson);
+        sb.append(this.resourceChunkJson);
       }
       first = false;
       sb.append(")");
@@ -18468,15 +22636,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class invokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_argsStandardScheme getScheme() {
-        return new invokeMethod_argsStandardScheme();
+    private static class getResourceChunk_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_argsStandardScheme getScheme() {
+        return new getResourceChunk_argsStandardScheme();
       }
     }
 
-    private static class invokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_args> {
+    private static class getResourceChunk_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResourceChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18494,10 +22662,10 @@ public class RemoteInterpreterEventService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // INVOKE_METHOD_JSON
+            case 2: // RESOURCE_CHUNK_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.invokeMethodJson = iprot.readString();
-                struct.setInvokeMethodJsonIsSet(true);
+                struct.resourceChunkJson = iprot.readString();
+                struct.setResourceChunkJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -18513,7 +22681,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -18522,9 +22690,9 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.invokeMethodJson != null) {
-          oprot.writeFieldBegin(INVOKE_METHOD_JSON_FIELD_DESC);
-          oprot.writeString(struct.invokeMethodJson);
+        if (struct.resourceChunkJson != null) {
+          oprot.writeFieldBegin(RESOURCE_CHUNK_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceChunkJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -18533,35 +22701,35 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class invokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_argsTupleScheme getScheme() {
-        return new invokeMethod_argsTupleScheme();
+    private static class getResourceChunk_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_argsTupleScheme getScheme() {
+        return new getResourceChunk_argsTupleScheme();
       }
     }
 
-    private static class invokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_args> {
+    private static class getResourceChunk_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResourceChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetInvokeMethodJson()) {
+        if (struct.isSetResourceChunkJson()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetInvokeMethodJson()) {
-          oprot.writeString(struct.invokeMethodJson);
+        if (struct.isSetResourceChunkJson()) {
+          oprot.writeString(struct.resourceChunkJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -18569,8 +22737,8 @@ public class RemoteInterpreterEventService {
           struct.setIntpGroupIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.invokeMethodJson = iprot.readString();
-          struct.setInvokeMethodJsonIsSet(true);
+          struct.resourceChunkJson = iprot.readString();
+          struct.setResourceChunkJsonIsSet(true);
         }
       }
     }
@@ -18580,14 +22748,14 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class invokeMethod_result implements org.apache.thrift.TBase<invokeMethod_result, invokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_result");
+  public static class getResourceChunk_result implements org.apache.thrift.TBase<getResourceChunk_result, getResourceChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResourceChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourceChunk_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResourceChunk_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResourceChunk_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
     public @org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex; // required
@@ -18664,13 +22832,13 @@ public class RemoteInterpreterEventService {
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.InterpreterRPCException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourceChunk_result.class, metaDataMap);
     }
 
-    public invokeMethod_result() {
+    public getResourceChunk_result() {
     }
 
-    public invokeMethod_result(
+    public getResourceChunk_result(
       java.nio.ByteBuffer success,
       org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex)
     {
@@ -18682,7 +22850,7 @@ public class RemoteInterpreterEventService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public invokeMethod_result(invokeMethod_result other) {
+    public getResourceChunk_result(getResourceChunk_result other) {
       if (other.isSetSuccess()) {
         this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
@@ -18691,8 +22859,8 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public invokeMethod_result deepCopy() {
-      return new invokeMethod_result(this);
+    public getResourceChunk_result deepCopy() {
+      return new getResourceChunk_result(this);
     }
 
     @Override
@@ -18710,12 +22878,12 @@ public class RemoteInterpreterEventService {
       return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public invokeMethod_result setSuccess(byte[] success) {
+    public getResourceChunk_result setSuccess(byte[] success) {
       this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
       return this;
     }
 
-    public invokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+    public getResourceChunk_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
       this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
@@ -18740,7 +22908,7 @@ public class RemoteInterpreterEventService {
       return this.ex;
     }
 
-    public invokeMethod_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
+    public getResourceChunk_result setEx(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.InterpreterRPCException ex) {
       this.ex = ex;
       return this;
     }
@@ -18817,12 +22985,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof invokeMethod_result)
-        return this.equals((invokeMethod_result)that);
+      if (that instanceof getResourceChunk_result)
+        return this.equals((getResourceChunk_result)that);
       return false;
     }
 
-    public boolean equals(invokeMethod_result that) {
+    public boolean equals(getResourceChunk_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -18865,7 +23033,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(invokeMethod_result other) {
+    public int compareTo(getResourceChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -18910,7 +23078,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResourceChunk_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -18953,15 +23121,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class invokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_resultStandardScheme getScheme() {
-        return new invokeMethod_resultStandardScheme();
+    private static class getResourceChunk_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_resultStandardScheme getScheme() {
+        return new getResourceChunk_resultStandardScheme();
       }
     }
 
-    private static class invokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_result> {
+    private static class getResourceChunk_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResourceChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18999,7 +23167,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -19019,16 +23187,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class invokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_resultTupleScheme getScheme() {
-        return new invokeMethod_resultTupleScheme();
+    private static class getResourceChunk_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_resultTupleScheme getScheme() {
+        return new getResourceChunk_resultTupleScheme();
       }
     }
 
-    private static class invokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_result> {
+    private static class getResourceChunk_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResourceChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -19047,7 +23215,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -19941,14 +24109,14 @@ public class RemoteInterpreterEventService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list42 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<ParagraphInfo>(_list42.size);
-                  @org.apache.thrift.annotation.Nullable ParagraphInfo _elem43;
-                  for (int _i44 = 0; _i44 < _list42.size; ++_i44)
+                  org.apache.thrift.protocol.TList _list50 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<ParagraphInfo>(_list50.size);
+                  @org.apache.thrift.annotation.Nullable ParagraphInfo _elem51;
+                  for (int _i52 = 0; _i52 < _list50.size; ++_i52)
                   {
-                    _elem43 = new ParagraphInfo();
-                    _elem43.read(iprot);
-                    struct.success.add(_elem43);
+                    _elem51 = new ParagraphInfo();
+                    _elem51.read(iprot);
+                    struct.success.add(_elem51);
                   }
                   iprot.readListEnd();
                 }
@@ -19985,9 +24153,9 @@ public class RemoteInterpreterEventService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ParagraphInfo _iter45 : struct.success)
+            for (ParagraphInfo _iter53 : struct.success)
             {
-              _iter45.write(oprot);
+              _iter53.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -20026,9 +24194,9 @@ public class RemoteInterpreterEventService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ParagraphInfo _iter46 : struct.success)
+            for (ParagraphInfo _iter54 : struct.success)
             {
-              _iter46.write(oprot);
+              _iter54.write(oprot);
             }
           }
         }
@@ -20043,14 +24211,14 @@ public class RemoteInterpreterEventService {
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list47 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<ParagraphInfo>(_list47.size);
-            @org.apache.thrift.annotation.Nullable ParagraphInfo _elem48;
-            for (int _i49 = 0; _i49 < _list47.size; ++_i49)
+            org.apache.thrift.protocol.TList _list55 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<ParagraphInfo>(_list55.size);
+            @org.apache.thrift.annotation.Nullable ParagraphInfo _elem56;
+            for (int _i57 = 0; _i57 < _list55.size; ++_i57)
             {
-              _elem48 = new ParagraphInfo();
-              _elem48.read(iprot);
-              struct.success.add(_elem48);
+              _elem56 = new ParagraphInfo();
+              _elem56.read(iprot);
+              struct.success.add(_elem56);
             }
           }
           struct.setSuccessIsSet(true);
@@ -20755,14 +24923,14 @@ public class RemoteInterpreterEventService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list50 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<LibraryMetadata>(_list50.size);
-                  @org.apache.thrift.annotation.Nullable LibraryMetadata _elem51;
-                  for (int _i52 = 0; _i52 < _list50.size; ++_i52)
+                  org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<LibraryMetadata>(_list58.size);
+                  @org.apache.thrift.annotation.Nullable LibraryMetadata _elem59;
+                  for (int _i60 = 0; _i60 < _list58.size; ++_i60)
                   {
-                    _elem51 = new LibraryMetadata();
-                    _elem51.read(iprot);
-                    struct.success.add(_elem51);
+                    _elem59 = new LibraryMetadata();
+                    _elem59.read(iprot);
+                    struct.success.add(_elem59);
                   }
                   iprot.readListEnd();
                 }
@@ -20790,9 +24958,9 @@ public class RemoteInterpreterEventService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (LibraryMetadata _iter53 : struct.success)
+            for (LibraryMetadata _iter61 : struct.success)
             {
-              _iter53.write(oprot);
+              _iter61.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -20823,9 +24991,9 @@ public class RemoteInterpreterEventService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (LibraryMetadata _iter54 : struct.success)
+            for (LibraryMetadata _iter62 : struct.success)
             {
-              _iter54.write(oprot);
+              _iter62.write(oprot);
             }
           }
         }
@@ -20837,14 +25005,14 @@ public class RemoteInterpreterEventService {
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list55 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<LibraryMetadata>(_list55.size);
-            @org.apache.thrift.annotation.Nullable LibraryMetadata _elem56;
-            for (int _i57 = 0; _i57 < _list55.size; ++_i57)
+            org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<LibraryMetadata>(_list63.size);
+            @org.apache.thrift.annotation.Nullable LibraryMetadata _elem64;
+            for (int _i65 = 0; _i65 < _list63.size; ++_i65)
             {
-              _elem56 = new LibraryMetadata();
-              _elem56.read(iprot);
-              struct.success.add(_elem56);
+              _elem64 = new LibraryMetadata();
+              _elem64.read(iprot);
+              struct.success.add(_elem64);
             }
           }
           struct.setSuccessIsSet(true);
@@ -53,6 +53,10 @@ public class RemoteInterpreterService {
 
     public java.lang.String getStatus(java.lang.String sessionId, java.lang.String jobId) throws InterpreterRPCException, org.apache.thrift.TException;
 
+    public java.util.Map<java.lang.String,java.lang.String> getStatuses(java.util.List<java.lang.String> jobIds) throws InterpreterRPCException, org.apache.thrift.TException;
+
+    public java.util.Map<java.lang.String,java.lang.Integer> getProgresses(java.util.List<java.lang.String> paragraphIds) throws InterpreterRPCException, org.apache.thrift.TException;
+
     public java.util.List<java.lang.String> resourcePoolGetAll() throws InterpreterRPCException, org.apache.thrift.TException;
 
     public java.nio.ByteBuffer resourceGet(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName) throws InterpreterRPCException, org.apache.thrift.TException;
@@ -61,6 +65,8 @@ public class RemoteInterpreterService {
 
     public java.nio.ByteBuffer resourceInvokeMethod(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String invokeMessage) throws InterpreterRPCException, org.apache.thrift.TException;
 
+    public java.nio.ByteBuffer resourceGetChunk(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String chunkMessage) throws InterpreterRPCException, org.apache.thrift.TException;
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object) throws InterpreterRPCException, org.apache.thrift.TException;
 
     public void angularObjectAdd(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object) throws InterpreterRPCException, org.apache.thrift.TException;
@@ -103,6 +109,10 @@ public class RemoteInterpreterService {
 
     public void getStatus(java.lang.String sessionId, java.lang.String jobId, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
+    public void getStatuses(java.util.List<java.lang.String> jobIds, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.String>> resultHandler) throws org.apache.thrift.TException;
+
+    public void getProgresses(java.util.List<java.lang.String> paragraphIds, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.Integer>> resultHandler) throws org.apache.thrift.TException;
+
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
 
     public void resourceGet(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
@@ -111,6 +121,8 @@ public class RemoteInterpreterService {
 
     public void resourceInvokeMethod(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String invokeMessage, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
+    public void resourceGetChunk(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String chunkMessage, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void angularObjectAdd(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
@@ -454,6 +466,58 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatus failed: unknown result");
     }
 
+    public java.util.Map<java.lang.String,java.lang.String> getStatuses(java.util.List<java.lang.String> jobIds) throws InterpreterRPCException, org.apache.thrift.TException
+    {
+      send_getStatuses(jobIds);
+      return recv_getStatuses();
+    }
+
+    public void send_getStatuses(java.util.List<java.lang.String> jobIds) throws org.apache.thrift.TException
+    {
+      getStatuses_args args = new getStatuses_args();
+      args.setJobIds(jobIds);
+      sendBase("getStatuses", args);
+    }
+
+    public java.util.Map<java.lang.String,java.lang.String> recv_getStatuses() throws InterpreterRPCException, org.apache.thrift.TException
+    {
+      getStatuses_result result = new getStatuses_result();
+      receiveBase(result, "getStatuses");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatuses failed: unknown result");
+    }
+
+    public java.util.Map<java.lang.String,java.lang.Integer> getProgresses(java.util.List<java.lang.String> paragraphIds) throws InterpreterRPCException, org.apache.thrift.TException
+    {
+      send_getProgresses(paragraphIds);
+      return recv_getProgresses();
+    }
+
+    public void send_getProgresses(java.util.List<java.lang.String> paragraphIds) throws org.apache.thrift.TException
+    {
+      getProgresses_args args = new getProgresses_args();
+      args.setParagraphIds(paragraphIds);
+      sendBase("getProgresses", args);
+    }
+
+    public java.util.Map<java.lang.String,java.lang.Integer> recv_getProgresses() throws InterpreterRPCException, org.apache.thrift.TException
+    {
+      getProgresses_result result = new getProgresses_result();
+      receiveBase(result, "getProgresses");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getProgresses failed: unknown result");
+    }
+
     public java.util.List<java.lang.String> resourcePoolGetAll() throws InterpreterRPCException, org.apache.thrift.TException
     {
       send_resourcePoolGetAll();
@@ -564,6 +628,35 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceInvokeMethod failed: unknown result");
     }
 
+    public java.nio.ByteBuffer resourceGetChunk(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String chunkMessage) throws InterpreterRPCException, org.apache.thrift.TException
+    {
+      send_resourceGetChunk(sessionId, paragraphId, resourceName, chunkMessage);
+      return recv_resourceGetChunk();
+    }
+
+    public void send_resourceGetChunk(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String chunkMessage) throws org.apache.thrift.TException
+    {
+      resourceGetChunk_args args = new resourceGetChunk_args();
+      args.setSessionId(sessionId);
+      args.setParagraphId(paragraphId);
+      args.setResourceName(resourceName);
+      args.setChunkMessage(chunkMessage);
+      sendBase("resourceGetChunk", args);
+    }
+
+    public java.nio.ByteBuffer recv_resourceGetChunk() throws InterpreterRPCException, org.apache.thrift.TException
+    {
+      resourceGetChunk_result result = new resourceGetChunk_result();
+      receiveBase(result, "resourceGetChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceGetChunk failed: unknown result");
+    }
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object) throws InterpreterRPCException, org.apache.thrift.TException
     {
       send_angularObjectUpdate(name, sessionId, paragraphId, object);
@@ -1204,6 +1297,70 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void getStatuses(java.util.List<java.lang.String> jobIds, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getStatuses_call method_call = new getStatuses_call(jobIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getStatuses_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.Map<java.lang.String,java.lang.String>> {
+      private java.util.List<java.lang.String> jobIds;
+      public getStatuses_call(java.util.List<java.lang.String> jobIds, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.String>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.jobIds = jobIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getStatuses", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getStatuses_args args = new getStatuses_args();
+        args.setJobIds(jobIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.Map<java.lang.String,java.lang.String> getResult() throws InterpreterRPCException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getStatuses();
+      }
+    }
+
+    public void getProgresses(java.util.List<java.lang.String> paragraphIds, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getProgresses_call method_call = new getProgresses_call(paragraphIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getProgresses_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.Map<java.lang.String,java.lang.Integer>> {
+      private java.util.List<java.lang.String> paragraphIds;
+      public getProgresses_call(java.util.List<java.lang.String> paragraphIds, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.Integer>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paragraphIds = paragraphIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getProgresses", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getProgresses_args args = new getProgresses_args();
+        args.setParagraphIds(paragraphIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.Map<java.lang.String,java.lang.Integer> getResult() throws InterpreterRPCException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getProgresses();
+      }
+    }
+
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourcePoolGetAll_call method_call = new resourcePoolGetAll_call(resultHandler, this, ___protocolFactory, ___transport);
@@ -1350,6 +1507,47 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void resourceGetChunk(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String chunkMessage, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceGetChunk_call method_call = new resourceGetChunk_call(sessionId, paragraphId, resourceName, chunkMessage, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceGetChunk_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+      private java.lang.String sessionId;
+      private java.lang.String paragraphId;
+      private java.lang.String resourceName;
+      private java.lang.String chunkMessage;
+      public resourceGetChunk_call(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String chunkMessage, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.paragraphId = paragraphId;
+        this.resourceName = resourceName;
+        this.chunkMessage = chunkMessage;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceGetChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceGetChunk_args args = new resourceGetChunk_args();
+        args.setSessionId(sessionId);
+        args.setParagraphId(paragraphId);
+        args.setResourceName(resourceName);
+        args.setChunkMessage(chunkMessage);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.nio.ByteBuffer getResult() throws InterpreterRPCException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourceGetChunk();
+      }
+    }
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       angularObjectUpdate_call method_call = new angularObjectUpdate_call(name, sessionId, paragraphId, object, resultHandler, this, ___protocolFactory, ___transport);
@@ -1632,10 +1830,13 @@ public class RemoteInterpreterService {
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getStatuses", new getStatuses());
+      processMap.put("getProgresses", new getProgresses());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
+      processMap.put("resourceGetChunk", new resourceGetChunk());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
       processMap.put("angularObjectAdd", new angularObjectAdd());
       processMap.put("angularObjectRemove", new angularObjectRemove());
@@ -1991,6 +2192,64 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getStatuses<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getStatuses_args> {
+      public getStatuses() {
+        super("getStatuses");
+      }
+
+      public getStatuses_args getEmptyArgsInstance() {
+        return new getStatuses_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getStatuses_result getResult(I iface, getStatuses_args args) throws org.apache.thrift.TException {
+        getStatuses_result result = new getStatuses_result();
+        try {
+          result.success = iface.getStatuses(args.jobIds);
+        } catch (InterpreterRPCException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
+    public static class getProgresses<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getProgresses_args> {
+      public getProgresses() {
+        super("getProgresses");
+      }
+
+      public getProgresses_args getEmptyArgsInstance() {
+        return new getProgresses_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getProgresses_result getResult(I iface, getProgresses_args args) throws org.apache.thrift.TException {
+        getProgresses_result result = new getProgresses_result();
+        try {
+          result.success = iface.getProgresses(args.paragraphIds);
+        } catch (InterpreterRPCException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
     public static class resourcePoolGetAll<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourcePoolGetAll_args> {
       public resourcePoolGetAll() {
         super("resourcePoolGetAll");
@@ -2108,6 +2367,35 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceGetChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceGetChunk_args> {
+      public resourceGetChunk() {
+        super("resourceGetChunk");
+      }
+
+      public resourceGetChunk_args getEmptyArgsInstance() {
+        return new resourceGetChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public resourceGetChunk_result getResult(I iface, resourceGetChunk_args args) throws org.apache.thrift.TException {
+        resourceGetChunk_result result = new resourceGetChunk_result();
+        try {
+          result.success = iface.resourceGetChunk(args.sessionId, args.paragraphId, args.resourceName, args.chunkMessage);
+        } catch (InterpreterRPCException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
     public static class angularObjectUpdate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, angularObjectUpdate_args> {
       public angularObjectUpdate() {
         super("angularObjectUpdate");
@@ -2336,10 +2624,13 @@ public class RemoteInterpreterService {
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getStatuses", new getStatuses());
+      processMap.put("getProgresses", new getProgresses());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
+      processMap.put("resourceGetChunk", new resourceGetChunk());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
       processMap.put("angularObjectAdd", new angularObjectAdd());
       processMap.put("angularObjectRemove", new angularObjectRemove());
@@ -3120,20 +3411,20 @@ public class RemoteInterpreterService {
       }
     }
 
-    public static class resourcePoolGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolGetAll_args, java.util.List<java.lang.String>> {
-      public resourcePoolGetAll() {
-        super("resourcePoolGetAll");
+    public static class getStatuses<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatuses_args, java.util.Map<java.lang.String,java.lang.String>> {
+      public getStatuses() {
+        super("getStatuses");
       }
 
-      public resourcePoolGetAll_args getEmptyArgsInstance() {
-        return new resourcePoolGetAll_args();
+      public getStatuses_args getEmptyArgsInstance() {
+        return new getStatuses_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
-          public void onComplete(java.util.List<java.lang.String> o) {
-            resourcePoolGetAll_result result = new resourcePoolGetAll_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.String>>() { 
+          public void onComplete(java.util.Map<java.lang.String,java.lang.String> o) {
+            getStatuses_result result = new getStatuses_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -3148,7 +3439,7 @@ public class RemoteInterpreterService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            resourcePoolGetAll_result result = new resourcePoolGetAll_result();
+            getStatuses_result result = new getStatuses_result();
             if (e instanceof InterpreterRPCException) {
               result.ex = (InterpreterRPCException) e;
               result.setExIsSet(true);
@@ -3180,25 +3471,25 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, resourcePoolGetAll_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
-        iface.resourcePoolGetAll(resultHandler);
+      public void start(I iface, getStatuses_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.getStatuses(args.jobIds,resultHandler);
       }
     }
 
-    public static class resourceGet<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceGet_args, java.nio.ByteBuffer> {
-      public resourceGet() {
-        super("resourceGet");
+    public static class getProgresses<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getProgresses_args, java.util.Map<java.lang.String,java.lang.Integer>> {
+      public getProgresses() {
+        super("getProgresses");
       }
 
-      public resourceGet_args getEmptyArgsInstance() {
-        return new resourceGet_args();
+      public getProgresses_args getEmptyArgsInstance() {
+        return new getProgresses_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.Integer>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
-          public void onComplete(java.nio.ByteBuffer o) {
-            resourceGet_result result = new resourceGet_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.Integer>>() { 
+          public void onComplete(java.util.Map<java.lang.String,java.lang.Integer> o) {
+            getProgresses_result result = new getProgresses_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -3213,7 +3504,7 @@ public class RemoteInterpreterService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            resourceGet_result result = new resourceGet_result();
+            getProgresses_result result = new getProgresses_result();
             if (e instanceof InterpreterRPCException) {
               result.ex = (InterpreterRPCException) e;
               result.setExIsSet(true);
@@ -3245,27 +3536,26 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, resourceGet_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
-        iface.resourceGet(args.sessionId, args.paragraphId, args.resourceName,resultHandler);
+      public void start(I iface, getProgresses_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.Map<java.lang.String,java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
+        iface.getProgresses(args.paragraphIds,resultHandler);
       }
     }
 
-    public static class resourceRemove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceRemove_args, java.lang.Boolean> {
-      public resourceRemove() {
-        super("resourceRemove");
+    public static class resourcePoolGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolGetAll_args, java.util.List<java.lang.String>> {
+      public resourcePoolGetAll() {
+        super("resourcePoolGetAll");
       }
 
-      public resourceRemove_args getEmptyArgsInstance() {
-        return new resourceRemove_args();
+      public resourcePoolGetAll_args getEmptyArgsInstance() {
+        return new resourcePoolGetAll_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
-          public void onComplete(java.lang.Boolean o) {
-            resourceRemove_result result = new resourceRemove_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
+          public void onComplete(java.util.List<java.lang.String> o) {
+            resourcePoolGetAll_result result = new resourcePoolGetAll_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -3279,7 +3569,7 @@ public class RemoteInterpreterService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            resourceRemove_result result = new resourceRemove_result();
+            resourcePoolGetAll_result result = new resourcePoolGetAll_result();
             if (e instanceof InterpreterRPCException) {
               result.ex = (InterpreterRPCException) e;
               result.setExIsSet(true);
@@ -3311,25 +3601,25 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, resourceRemove_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.resourceRemove(args.sessionId, args.paragraphId, args.resourceName,resultHandler);
+      public void start(I iface, resourcePoolGetAll_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.resourcePoolGetAll(resultHandler);
       }
     }
 
-    public static class resourceInvokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceInvokeMethod_args, java.nio.ByteBuffer> {
-      public resourceInvokeMethod() {
-        super("resourceInvokeMethod");
+    public static class resourceGet<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceGet_args, java.nio.ByteBuffer> {
+      public resourceGet() {
+        super("resourceGet");
       }
 
-      public resourceInvokeMethod_args getEmptyArgsInstance() {
-        return new resourceInvokeMethod_args();
+      public resourceGet_args getEmptyArgsInstance() {
+        return new resourceGet_args();
       }
 
       public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
           public void onComplete(java.nio.ByteBuffer o) {
-            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+            resourceGet_result result = new resourceGet_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -3344,7 +3634,7 @@ public class RemoteInterpreterService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+            resourceGet_result result = new resourceGet_result();
             if (e instanceof InterpreterRPCException) {
               result.ex = (InterpreterRPCException) e;
               result.setExIsSet(true);
@@ -3376,9 +3666,205 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, resourceInvokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
-        iface.resourceInvokeMethod(args.sessionId, args.paragraphId, args.resourceName, args.invokeMessage,resultHandler);
-      }
+      public void start(I iface, resourceGet_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceGet(args.sessionId, args.paragraphId, args.resourceName,resultHandler);
+      }
+    }
+
+    public static class resourceRemove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceRemove_args, java.lang.Boolean> {
+      public resourceRemove() {
+        super("resourceRemove");
+      }
+
+      public resourceRemove_args getEmptyArgsInstance() {
+        return new resourceRemove_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
+          public void onComplete(java.lang.Boolean o) {
+            resourceRemove_result result = new resourceRemove_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourceRemove_result result = new resourceRemove_result();
+            if (e instanceof InterpreterRPCException) {
+              result.ex = (InterpreterRPCException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceRemove_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceRemove(args.sessionId, args.paragraphId, args.resourceName,resultHandler);
+      }
+    }
+
+    public static class resourceInvokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceInvokeMethod_args, java.nio.ByteBuffer> {
+      public resourceInvokeMethod() {
+        super("resourceInvokeMethod");
+      }
+
+      public resourceInvokeMethod_args getEmptyArgsInstance() {
+        return new resourceInvokeMethod_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
+          public void onComplete(java.nio.ByteBuffer o) {
+            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourceInvokeMethod_result result = new resourceInvokeMethod_result();
+            if (e instanceof InterpreterRPCException) {
+              result.ex = (InterpreterRPCException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceInvokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceInvokeMethod(args.sessionId, args.paragraphId, args.resourceName, args.invokeMessage,resultHandler);
+      }
+    }
+
+    public static class resourceGetChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceGetChunk_args, java.nio.ByteBuffer> {
+      public resourceGetChunk() {
+        super("resourceGetChunk");
+      }
+
+      public resourceGetChunk_args getEmptyArgsInstance() {
+        return new resourceGetChunk_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
+          public void onComplete(java.nio.ByteBuffer o) {
+            resourceGetChunk_result result = new resourceGetChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourceGetChunk_result result = new resourceGetChunk_result();
+            if (e instanceof InterpreterRPCException) {
+              result.ex = (InterpreterRPCException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceGetChunk_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceGetChunk(args.sessionId, args.paragraphId, args.resourceName, args.chunkMessage,resultHandler);
+      }
     }
 
     public static class angularObjectUpdate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectUpdate_args, Void> {
@@ -15234,17 +15720,19 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+  public static class getStatuses_args implements org.apache.thrift.TBase<getStatuses_args, getStatuses_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatuses_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatuses_args");
 
+    private static final org.apache.thrift.protocol.TField JOB_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("jobIds", org.apache.thrift.protocol.TType.LIST, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getStatuses_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getStatuses_argsTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> jobIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      JOB_IDS((short)1, "jobIds");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -15260,6 +15748,8 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // JOB_IDS
+            return JOB_IDS;
           default:
             return null;
         }
@@ -15299,38 +15789,107 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.JOB_IDS, new org.apache.thrift.meta_data.FieldMetaData("jobIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatuses_args.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_args() {
+    public getStatuses_args() {
+    }
+
+    public getStatuses_args(
+      java.util.List<java.lang.String> jobIds)
+    {
+      this();
+      this.jobIds = jobIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    public getStatuses_args(getStatuses_args other) {
+      if (other.isSetJobIds()) {
+        java.util.List<java.lang.String> __this__jobIds = new java.util.ArrayList<java.lang.String>(other.jobIds);
+        this.jobIds = __this__jobIds;
+      }
     }
 
-    public resourcePoolGetAll_args deepCopy() {
-      return new resourcePoolGetAll_args(this);
+    public getStatuses_args deepCopy() {
+      return new getStatuses_args(this);
     }
 
     @Override
     public void clear() {
+      this.jobIds = null;
+    }
+
+    public int getJobIdsSize() {
+      return (this.jobIds == null) ? 0 : this.jobIds.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getJobIdsIterator() {
+      return (this.jobIds == null) ? null : this.jobIds.iterator();
+    }
+
+    public void addToJobIds(java.lang.String elem) {
+      if (this.jobIds == null) {
+        this.jobIds = new java.util.ArrayList<java.lang.String>();
+      }
+      this.jobIds.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getJobIds() {
+      return this.jobIds;
+    }
+
+    public getStatuses_args setJobIds(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> jobIds) {
+      this.jobIds = jobIds;
+      return this;
+    }
+
+    public void unsetJobIds() {
+      this.jobIds = null;
+    }
+
+    /** Returns true if field jobIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobIds() {
+      return this.jobIds != null;
+    }
+
+    public void setJobIdsIsSet(boolean value) {
+      if (!value) {
+        this.jobIds = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case JOB_IDS:
+        if (value == null) {
+          unsetJobIds();
+        } else {
+          setJobIds((java.util.List<java.lang.String>)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case JOB_IDS:
+        return getJobIds();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -15342,6 +15901,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case JOB_IDS:
+        return isSetJobIds();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -15350,17 +15911,26 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_args)
-        return this.equals((resourcePoolGetAll_args)that);
+      if (that instanceof getStatuses_args)
+        return this.equals((getStatuses_args)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_args that) {
+    public boolean equals(getStatuses_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_jobIds = true && this.isSetJobIds();
+      boolean that_present_jobIds = true && that.isSetJobIds();
+      if (this_present_jobIds || that_present_jobIds) {
+        if (!(this_present_jobIds && that_present_jobIds))
+          return false;
+        if (!this.jobIds.equals(that.jobIds))
+          return false;
+      }
+
       return true;
     }
 
@@ -15368,17 +15938,31 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetJobIds()) ? 131071 : 524287);
+      if (isSetJobIds())
+        hashCode = hashCode * 8191 + jobIds.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_args other) {
+    public int compareTo(getStatuses_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetJobIds()).compareTo(other.isSetJobIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobIds, other.jobIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -15397,11 +15981,2828 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getStatuses_args(");
       boolean first = true;
 
-      sb.append(")");
-      return sb.toString();
+      sb.append("jobIds:");
+      if (this.jobIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobIds);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getStatuses_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStatuses_argsStandardScheme getScheme() {
+        return new getStatuses_argsStandardScheme();
+      }
+    }
+
+    private static class getStatuses_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getStatuses_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatuses_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // JOB_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list46 = iprot.readListBegin();
+                  struct.jobIds = new java.util.ArrayList<java.lang.String>(_list46.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem47;
+                  for (int _i48 = 0; _i48 < _list46.size; ++_i48)
+                  {
+                    _elem47 = iprot.readString();
+                    struct.jobIds.add(_elem47);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setJobIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatuses_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.jobIds != null) {
+          oprot.writeFieldBegin(JOB_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.jobIds.size()));
+            for (java.lang.String _iter49 : struct.jobIds)
+            {
+              oprot.writeString(_iter49);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getStatuses_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStatuses_argsTupleScheme getScheme() {
+        return new getStatuses_argsTupleScheme();
+      }
+    }
+
+    private static class getStatuses_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getStatuses_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatuses_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetJobIds()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetJobIds()) {
+          {
+            oprot.writeI32(struct.jobIds.size());
+            for (java.lang.String _iter50 : struct.jobIds)
+            {
+              oprot.writeString(_iter50);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatuses_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list51 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.jobIds = new java.util.ArrayList<java.lang.String>(_list51.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem52;
+            for (int _i53 = 0; _i53 < _list51.size; ++_i53)
+            {
+              _elem52 = iprot.readString();
+              struct.jobIds.add(_elem52);
+            }
+          }
+          struct.setJobIdsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getStatuses_result implements org.apache.thrift.TBase<getStatuses_result, getStatuses_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatuses_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatuses_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.MAP, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getStatuses_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getStatuses_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> success; // required
+    public @org.apache.thrift.annotation.Nullable InterpreterRPCException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterRPCException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatuses_result.class, metaDataMap);
+    }
+
+    public getStatuses_result() {
+    }
+
+    public getStatuses_result(
+      java.util.Map<java.lang.String,java.lang.String> success,
+      InterpreterRPCException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStatuses_result(getStatuses_result other) {
+      if (other.isSetSuccess()) {
+        java.util.Map<java.lang.String,java.lang.String> __this__success = new java.util.HashMap<java.lang.String,java.lang.String>(other.success);
+        this.success = __this__success;
+      }
+      if (other.isSetEx()) {
+        this.ex = new InterpreterRPCException(other.ex);
+      }
+    }
+
+    public getStatuses_result deepCopy() {
+      return new getStatuses_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public void putToSuccess(java.lang.String key, java.lang.String val) {
+      if (this.success == null) {
+        this.success = new java.util.HashMap<java.lang.String,java.lang.String>();
+      }
+      this.success.put(key, val);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Map<java.lang.String,java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public getStatuses_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InterpreterRPCException getEx() {
+      return this.ex;
+    }
+
+    public getStatuses_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.Map<java.lang.String,java.lang.String>)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((InterpreterRPCException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStatuses_result)
+        return this.equals((getStatuses_result)that);
+      return false;
+    }
+
+    public boolean equals(getStatuses_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getStatuses_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getStatuses_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getStatuses_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStatuses_resultStandardScheme getScheme() {
+        return new getStatuses_resultStandardScheme();
+      }
+    }
+
+    private static class getStatuses_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getStatuses_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatuses_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map54 = iprot.readMapBegin();
+                  struct.success = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map54.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _key55;
+                  @org.apache.thrift.annotation.Nullable java.lang.String _val56;
+                  for (int _i57 = 0; _i57 < _map54.size; ++_i57)
+                  {
+                    _key55 = iprot.readString();
+                    _val56 = iprot.readString();
+                    struct.success.put(_key55, _val56);
+                  }
+                  iprot.readMapEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new InterpreterRPCException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatuses_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter58 : struct.success.entrySet())
+            {
+              oprot.writeString(_iter58.getKey());
+              oprot.writeString(_iter58.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getStatuses_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStatuses_resultTupleScheme getScheme() {
+        return new getStatuses_resultTupleScheme();
+      }
+    }
+
+    private static class getStatuses_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getStatuses_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatuses_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter59 : struct.success.entrySet())
+            {
+              oprot.writeString(_iter59.getKey());
+              oprot.writeString(_iter59.getValue());
+            }
+          }
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatuses_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TMap _map60 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map60.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _key61;
+            @org.apache.thrift.annotation.Nullable java.lang.String _val62;
+            for (int _i63 = 0; _i63 < _map60.size; ++_i63)
+            {
+              _key61 = iprot.readString();
+              _val62 = iprot.readString();
+              struct.success.put(_key61, _val62);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new InterpreterRPCException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getProgresses_args implements org.apache.thrift.TBase<getProgresses_args, getProgresses_args._Fields>, java.io.Serializable, Cloneable, Comparable<getProgresses_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgresses_args");
+
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphIds", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getProgresses_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getProgresses_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> paragraphIds; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PARAGRAPH_IDS((short)1, "paragraphIds");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PARAGRAPH_IDS
+            return PARAGRAPH_IDS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PARAGRAPH_IDS, new org.apache.thrift.meta_data.FieldMetaData("paragraphIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgresses_args.class, metaDataMap);
+    }
+
+    public getProgresses_args() {
+    }
+
+    public getProgresses_args(
+      java.util.List<java.lang.String> paragraphIds)
+    {
+      this();
+      this.paragraphIds = paragraphIds;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getProgresses_args(getProgresses_args other) {
+      if (other.isSetParagraphIds()) {
+        java.util.List<java.lang.String> __this__paragraphIds = new java.util.ArrayList<java.lang.String>(other.paragraphIds);
+        this.paragraphIds = __this__paragraphIds;
+      }
+    }
+
+    public getProgresses_args deepCopy() {
+      return new getProgresses_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.paragraphIds = null;
+    }
+
+    public int getParagraphIdsSize() {
+      return (this.paragraphIds == null) ? 0 : this.paragraphIds.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getParagraphIdsIterator() {
+      return (this.paragraphIds == null) ? null : this.paragraphIds.iterator();
+    }
+
+    public void addToParagraphIds(java.lang.String elem) {
+      if (this.paragraphIds == null) {
+        this.paragraphIds = new java.util.ArrayList<java.lang.String>();
+      }
+      this.paragraphIds.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getParagraphIds() {
+      return this.paragraphIds;
+    }
+
+    public getProgresses_args setParagraphIds(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> paragraphIds) {
+      this.paragraphIds = paragraphIds;
+      return this;
+    }
+
+    public void unsetParagraphIds() {
+      this.paragraphIds = null;
+    }
+
+    /** Returns true if field paragraphIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphIds() {
+      return this.paragraphIds != null;
+    }
+
+    public void setParagraphIdsIsSet(boolean value) {
+      if (!value) {
+        this.paragraphIds = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case PARAGRAPH_IDS:
+        if (value == null) {
+          unsetParagraphIds();
+        } else {
+          setParagraphIds((java.util.List<java.lang.String>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PARAGRAPH_IDS:
+        return getParagraphIds();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PARAGRAPH_IDS:
+        return isSetParagraphIds();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getProgresses_args)
+        return this.equals((getProgresses_args)that);
+      return false;
+    }
+
+    public boolean equals(getProgresses_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_paragraphIds = true && this.isSetParagraphIds();
+      boolean that_present_paragraphIds = true && that.isSetParagraphIds();
+      if (this_present_paragraphIds || that_present_paragraphIds) {
+        if (!(this_present_paragraphIds && that_present_paragraphIds))
+          return false;
+        if (!this.paragraphIds.equals(that.paragraphIds))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetParagraphIds()) ? 131071 : 524287);
+      if (isSetParagraphIds())
+        hashCode = hashCode * 8191 + paragraphIds.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getProgresses_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphIds()).compareTo(other.isSetParagraphIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphIds, other.paragraphIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getProgresses_args(");
+      boolean first = true;
+
+      sb.append("paragraphIds:");
+      if (this.paragraphIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphIds);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getProgresses_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgresses_argsStandardScheme getScheme() {
+        return new getProgresses_argsStandardScheme();
+      }
+    }
+
+    private static class getProgresses_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getProgresses_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgresses_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PARAGRAPH_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.paragraphIds = new java.util.ArrayList<java.lang.String>(_list64.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
+                  {
+                    _elem65 = iprot.readString();
+                    struct.paragraphIds.add(_elem65);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setParagraphIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgresses_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.paragraphIds != null) {
+          oprot.writeFieldBegin(PARAGRAPH_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paragraphIds.size()));
+            for (java.lang.String _iter67 : struct.paragraphIds)
+            {
+              oprot.writeString(_iter67);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getProgresses_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgresses_argsTupleScheme getScheme() {
+        return new getProgresses_argsTupleScheme();
+      }
+    }
+
+    private static class getProgresses_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getProgresses_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgresses_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetParagraphIds()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetParagraphIds()) {
+          {
+            oprot.writeI32(struct.paragraphIds.size());
+            for (java.lang.String _iter68 : struct.paragraphIds)
+            {
+              oprot.writeString(_iter68);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgresses_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paragraphIds = new java.util.ArrayList<java.lang.String>(_list69.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
+            {
+              _elem70 = iprot.readString();
+              struct.paragraphIds.add(_elem70);
+            }
+          }
+          struct.setParagraphIdsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getProgresses_result implements org.apache.thrift.TBase<getProgresses_result, getProgresses_result._Fields>, java.io.Serializable, Cloneable, Comparable<getProgresses_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgresses_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.MAP, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getProgresses_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getProgresses_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Integer> success; // required
+    public @org.apache.thrift.annotation.Nullable InterpreterRPCException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterRPCException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgresses_result.class, metaDataMap);
+    }
+
+    public getProgresses_result() {
+    }
+
+    public getProgresses_result(
+      java.util.Map<java.lang.String,java.lang.Integer> success,
+      InterpreterRPCException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getProgresses_result(getProgresses_result other) {
+      if (other.isSetSuccess()) {
+        java.util.Map<java.lang.String,java.lang.Integer> __this__success = new java.util.HashMap<java.lang.String,java.lang.Integer>(other.success);
+        this.success = __this__success;
+      }
+      if (other.isSetEx()) {
+        this.ex = new InterpreterRPCException(other.ex);
+      }
+    }
+
+    public getProgresses_result deepCopy() {
+      return new getProgresses_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public void putToSuccess(java.lang.String key, int val) {
+      if (this.success == null) {
+        this.success = new java.util.HashMap<java.lang.String,java.lang.Integer>();
+      }
+      this.success.put(key, val);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Map<java.lang.String,java.lang.Integer> getSuccess() {
+      return this.success;
+    }
+
+    public getProgresses_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Integer> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InterpreterRPCException getEx() {
+      return this.ex;
+    }
+
+    public getProgresses_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.Map<java.lang.String,java.lang.Integer>)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((InterpreterRPCException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getProgresses_result)
+        return this.equals((getProgresses_result)that);
+      return false;
+    }
+
+    public boolean equals(getProgresses_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getProgresses_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getProgresses_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getProgresses_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgresses_resultStandardScheme getScheme() {
+        return new getProgresses_resultStandardScheme();
+      }
+    }
+
+    private static class getProgresses_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getProgresses_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgresses_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map72 = iprot.readMapBegin();
+                  struct.success = new java.util.HashMap<java.lang.String,java.lang.Integer>(2*_map72.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _key73;
+                  int _val74;
+                  for (int _i75 = 0; _i75 < _map72.size; ++_i75)
+                  {
+                    _key73 = iprot.readString();
+                    _val74 = iprot.readI32();
+                    struct.success.put(_key73, _val74);
+                  }
+                  iprot.readMapEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new InterpreterRPCException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgresses_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, struct.success.size()));
+            for (java.util.Map.Entry<java.lang.String, java.lang.Integer> _iter76 : struct.success.entrySet())
+            {
+              oprot.writeString(_iter76.getKey());
+              oprot.writeI32(_iter76.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getProgresses_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgresses_resultTupleScheme getScheme() {
+        return new getProgresses_resultTupleScheme();
+      }
+    }
+
+    private static class getProgresses_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getProgresses_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgresses_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.util.Map.Entry<java.lang.String, java.lang.Integer> _iter77 : struct.success.entrySet())
+            {
+              oprot.writeString(_iter77.getKey());
+              oprot.writeI32(_iter77.getValue());
+            }
+          }
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgresses_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TMap _map78 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.success = new java.util.HashMap<java.lang.String,java.lang.Integer>(2*_map78.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _key79;
+            int _val80;
+            for (int _i81 = 0; _i81 < _map78.size; ++_i81)
+            {
+              _key79 = iprot.readString();
+              _val80 = iprot.readI32();
+              struct.success.put(_key79, _val80);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new InterpreterRPCException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_argsTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    }
+
+    public resourcePoolGetAll_args deepCopy() {
+      return new resourcePoolGetAll_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_args)
+        return this.equals((resourcePoolGetAll_args)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_argsStandardScheme getScheme() {
+        return new resourcePoolGetAll_argsStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_argsTupleScheme getScheme() {
+        return new resourcePoolGetAll_argsTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
+    public @org.apache.thrift.annotation.Nullable InterpreterRPCException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterRPCException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_result() {
+    }
+
+    public resourcePoolGetAll_result(
+      java.util.List<java.lang.String> success,
+      InterpreterRPCException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
+      }
+      if (other.isSetEx()) {
+        this.ex = new InterpreterRPCException(other.ex);
+      }
+    }
+
+    public resourcePoolGetAll_result deepCopy() {
+      return new resourcePoolGetAll_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public resourcePoolGetAll_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InterpreterRPCException getEx() {
+      return this.ex;
+    }
+
+    public resourcePoolGetAll_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.String>)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((InterpreterRPCException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_result)
+        return this.equals((resourcePoolGetAll_result)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_resultStandardScheme getScheme() {
+        return new resourcePoolGetAll_resultStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list82 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list82.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem83;
+                  for (int _i84 = 0; _i84 < _list82.size; ++_i84)
+                  {
+                    _elem83 = iprot.readString();
+                    struct.success.add(_elem83);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new InterpreterRPCException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter85 : struct.success)
+            {
+              oprot.writeString(_iter85);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_resultTupleScheme getScheme() {
+        return new resourcePoolGetAll_resultTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter86 : struct.success)
+            {
+              oprot.writeString(_iter86);
+            }
+          }
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list87 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list87.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem88;
+            for (int _i89 = 0; _i89 < _list87.size; ++_i89)
+            {
+              _elem88 = iprot.readString();
+              struct.success.add(_elem88);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new InterpreterRPCException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SESSION_ID((short)1, "sessionId"),
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      RESOURCE_NAME((short)3, "resourceName");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 3: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
+    }
+
+    public resourceGet_args() {
+    }
+
+    public resourceGet_args(
+      java.lang.String sessionId,
+      java.lang.String paragraphId,
+      java.lang.String resourceName)
+    {
+      this();
+      this.sessionId = sessionId;
+      this.paragraphId = paragraphId;
+      this.resourceName = resourceName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceGet_args(resourceGet_args other) {
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
+    }
+
+    public resourceGet_args deepCopy() {
+      return new resourceGet_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.sessionId = null;
+      this.paragraphId = null;
+      this.resourceName = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getSessionId() {
+      return this.sessionId;
+    }
+
+    public resourceGet_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public resourceGet_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceName() {
+      return this.resourceName;
+    }
+
+    public resourceGet_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+      this.resourceName = resourceName;
+      return this;
+    }
+
+    public void unsetResourceName() {
+      this.resourceName = null;
+    }
+
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
+    }
+
+    public void setResourceNameIsSet(boolean value) {
+      if (!value) {
+        this.resourceName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((java.lang.String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((java.lang.String)value);
+        }
+        break;
+
+      case RESOURCE_NAME:
+        if (value == null) {
+          unsetResourceName();
+        } else {
+          setResourceName((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_ID:
+        return getSessionId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case RESOURCE_NAME:
+        return getResourceName();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case RESOURCE_NAME:
+        return isSetResourceName();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceGet_args)
+        return this.equals((resourceGet_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceGet_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
+          return false;
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSessionId()) ? 131071 : 524287);
+      if (isSetSessionId())
+        hashCode = hashCode * 8191 + sessionId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
+      if (isSetParagraphId())
+        hashCode = hashCode * 8191 + paragraphId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetResourceName()) ? 131071 : 524287);
+      if (isSetResourceName())
+        hashCode = hashCode * 8191 + resourceName.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceGet_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_args(");
+      boolean first = true;
+
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
     }
 
     public void validate() throws org.apache.thrift.TException {
@@ -15425,15 +18826,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_argsStandardScheme getScheme() {
-        return new resourcePoolGetAll_argsStandardScheme();
+    private static class resourceGet_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_argsStandardScheme getScheme() {
+        return new resourceGet_argsStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_args> {
+    private static class resourceGet_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15443,6 +18844,30 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RESOURCE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -15454,32 +18879,80 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolGetAll_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_argsTupleScheme getScheme() {
-        return new resourcePoolGetAll_argsTupleScheme();
+    private static class resourceGet_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_argsTupleScheme getScheme() {
+        return new resourceGet_argsTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_args> {
+    private static class resourceGet_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetResourceName()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
       }
     }
 
@@ -15488,16 +18961,16 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
     public @org.apache.thrift.annotation.Nullable InterpreterRPCException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -15568,41 +19041,39 @@ public class RemoteInterpreterService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterRPCException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_result() {
+    public resourceGet_result() {
     }
 
-    public resourcePoolGetAll_result(
-      java.util.List<java.lang.String> success,
+    public resourceGet_result(
+      java.nio.ByteBuffer success,
       InterpreterRPCException ex)
     {
       this();
-      this.success = success;
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+    public resourceGet_result(resourceGet_result other) {
       if (other.isSetSuccess()) {
-        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
-        this.success = __this__success;
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
       if (other.isSetEx()) {
         this.ex = new InterpreterRPCException(other.ex);
       }
     }
 
-    public resourcePoolGetAll_result deepCopy() {
-      return new resourcePoolGetAll_result(this);
+    public resourceGet_result deepCopy() {
+      return new resourceGet_result(this);
     }
 
     @Override
@@ -15611,29 +19082,22 @@ public class RemoteInterpreterService {
       this.ex = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<java.lang.String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
     }
 
-    public void addToSuccess(java.lang.String elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<java.lang.String>();
-      }
-      this.success.add(elem);
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.util.List<java.lang.String> getSuccess() {
-      return this.success;
+    public resourceGet_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
     }
 
-    public resourcePoolGetAll_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
-      this.success = success;
+    public resourceGet_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
 
@@ -15657,7 +19121,7 @@ public class RemoteInterpreterService {
       return this.ex;
     }
 
-    public resourcePoolGetAll_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
+    public resourceGet_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
       this.ex = ex;
       return this;
     }
@@ -15683,7 +19147,11 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.util.List<java.lang.String>)value);
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
         }
         break;
 
@@ -15730,12 +19198,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_result)
-        return this.equals((resourcePoolGetAll_result)that);
+      if (that instanceof resourceGet_result)
+        return this.equals((resourceGet_result)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_result that) {
+    public boolean equals(resourceGet_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -15778,7 +19246,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_result other) {
+    public int compareTo(resourceGet_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15823,14 +19291,14 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -15866,15 +19334,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_resultStandardScheme getScheme() {
-        return new resourcePoolGetAll_resultStandardScheme();
+    private static class resourceGet_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_resultStandardScheme getScheme() {
+        return new resourceGet_resultStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_result> {
+    private static class resourceGet_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15885,18 +19353,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list46 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.String>(_list46.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _elem47;
-                  for (int _i48 = 0; _i48 < _list46.size; ++_i48)
-                  {
-                    _elem47 = iprot.readString();
-                    struct.success.add(_elem47);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -15922,20 +19380,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (java.lang.String _iter49 : struct.success)
-            {
-              oprot.writeString(_iter49);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeBinary(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -15949,16 +19400,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourcePoolGetAll_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_resultTupleScheme getScheme() {
-        return new resourcePoolGetAll_resultTupleScheme();
+    private static class resourceGet_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_resultTupleScheme getScheme() {
+        return new resourceGet_resultTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_result> {
+    private static class resourceGet_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -15969,13 +19420,7 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (java.lang.String _iter50 : struct.success)
-            {
-              oprot.writeString(_iter50);
-            }
-          }
+          oprot.writeBinary(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -15983,20 +19428,11 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list51 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.String>(_list51.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _elem52;
-            for (int _i53 = 0; _i53 < _list51.size; ++_i53)
-            {
-              _elem52 = iprot.readString();
-              struct.success.add(_elem52);
-            }
-          }
+          struct.success = iprot.readBinary();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -16012,15 +19448,15 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
+  public static class resourceRemove_args implements org.apache.thrift.TBase<resourceRemove_args, resourceRemove_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
@@ -16103,13 +19539,13 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_args.class, metaDataMap);
     }
 
-    public resourceGet_args() {
+    public resourceRemove_args() {
     }
 
-    public resourceGet_args(
+    public resourceRemove_args(
       java.lang.String sessionId,
       java.lang.String paragraphId,
       java.lang.String resourceName)
@@ -16123,7 +19559,7 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_args(resourceGet_args other) {
+    public resourceRemove_args(resourceRemove_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
@@ -16135,8 +19571,8 @@ public class RemoteInterpreterService {
       }
     }
 
-    public resourceGet_args deepCopy() {
-      return new resourceGet_args(this);
+    public resourceRemove_args deepCopy() {
+      return new resourceRemove_args(this);
     }
 
     @Override
@@ -16151,7 +19587,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public resourceGet_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public resourceRemove_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -16176,7 +19612,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public resourceGet_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public resourceRemove_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -16201,7 +19637,7 @@ public class RemoteInterpreterService {
       return this.resourceName;
     }
 
-    public resourceGet_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+    public resourceRemove_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
       this.resourceName = resourceName;
       return this;
     }
@@ -16287,12 +19723,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_args)
-        return this.equals((resourceGet_args)that);
+      if (that instanceof resourceRemove_args)
+        return this.equals((resourceRemove_args)that);
       return false;
     }
 
-    public boolean equals(resourceGet_args that) {
+    public boolean equals(resourceRemove_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -16348,7 +19784,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceGet_args other) {
+    public int compareTo(resourceRemove_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16403,7 +19839,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -16454,15 +19890,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceGet_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_argsStandardScheme getScheme() {
-        return new resourceGet_argsStandardScheme();
+    private static class resourceRemove_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_argsStandardScheme getScheme() {
+        return new resourceRemove_argsStandardScheme();
       }
     }
 
-    private static class resourceGet_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_args> {
+    private static class resourceRemove_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16507,7 +19943,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -16532,16 +19968,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceGet_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_argsTupleScheme getScheme() {
-        return new resourceGet_argsTupleScheme();
+    private static class resourceRemove_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_argsTupleScheme getScheme() {
+        return new resourceRemove_argsTupleScheme();
       }
     }
 
-    private static class resourceGet_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_args> {
+    private static class resourceRemove_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSessionId()) {
@@ -16566,7 +20002,7 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -16589,16 +20025,16 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
+  public static class resourceRemove_result implements org.apache.thrift.TBase<resourceRemove_result, resourceRemove_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+    public boolean success; // required
     public @org.apache.thrift.annotation.Nullable InterpreterRPCException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -16665,83 +20101,75 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterRPCException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_result.class, metaDataMap);
     }
 
-    public resourceGet_result() {
+    public resourceRemove_result() {
     }
 
-    public resourceGet_result(
-      java.nio.ByteBuffer success,
+    public resourceRemove_result(
+      boolean success,
       InterpreterRPCException ex)
     {
       this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.success = success;
+      setSuccessIsSet(true);
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_result(resourceGet_result other) {
-      if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
-      }
+    public resourceRemove_result(resourceRemove_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetEx()) {
         this.ex = new InterpreterRPCException(other.ex);
       }
     }
 
-    public resourceGet_result deepCopy() {
-      return new resourceGet_result(this);
+    public resourceRemove_result deepCopy() {
+      return new resourceRemove_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.ex = null;
     }
 
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
-    }
-
-    public java.nio.ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
-    }
-
-    public resourceGet_result setSuccess(byte[] success) {
-      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
-      return this;
+    public boolean isSuccess() {
+      return this.success;
     }
 
-    public resourceGet_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public resourceRemove_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -16749,7 +20177,7 @@ public class RemoteInterpreterService {
       return this.ex;
     }
 
-    public resourceGet_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
+    public resourceRemove_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
       this.ex = ex;
       return this;
     }
@@ -16775,11 +20203,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          if (value instanceof byte[]) {
-            setSuccess((byte[])value);
-          } else {
-            setSuccess((java.nio.ByteBuffer)value);
-          }
+          setSuccess((java.lang.Boolean)value);
         }
         break;
 
@@ -16798,7 +20222,7 @@ public class RemoteInterpreterService {
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return isSuccess();
 
       case EX:
         return getEx();
@@ -16826,23 +20250,23 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_result)
-        return this.equals((resourceGet_result)that);
+      if (that instanceof resourceRemove_result)
+        return this.equals((resourceRemove_result)that);
       return false;
     }
 
-    public boolean equals(resourceGet_result that) {
+    public boolean equals(resourceRemove_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -16862,9 +20286,7 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + ((success) ? 131071 : 524287);
 
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
@@ -16874,7 +20296,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceGet_result other) {
+    public int compareTo(resourceRemove_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16919,15 +20341,11 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex:");
@@ -16956,21 +20374,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class resourceGet_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_resultStandardScheme getScheme() {
-        return new resourceGet_resultStandardScheme();
+    private static class resourceRemove_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_resultStandardScheme getScheme() {
+        return new resourceRemove_resultStandardScheme();
       }
     }
 
-    private static class resourceGet_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_result> {
+    private static class resourceRemove_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16981,8 +20401,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -17008,13 +20428,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -17028,16 +20448,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceGet_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_resultTupleScheme getScheme() {
-        return new resourceGet_resultTupleScheme();
+    private static class resourceRemove_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_resultTupleScheme getScheme() {
+        return new resourceRemove_resultTupleScheme();
       }
     }
 
-    private static class resourceGet_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_result> {
+    private static class resourceRemove_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -17048,7 +20468,7 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -17056,11 +20476,11 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -17076,25 +20496,28 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceRemove_args implements org.apache.thrift.TBase<resourceRemove_args, resourceRemove_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_args");
+  public static class resourceInvokeMethod_args implements org.apache.thrift.TBase<resourceInvokeMethod_args, resourceInvokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField INVOKE_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMessage", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMessage; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SESSION_ID((short)1, "sessionId"),
       PARAGRAPH_ID((short)2, "paragraphId"),
-      RESOURCE_NAME((short)3, "resourceName");
+      RESOURCE_NAME((short)3, "resourceName"),
+      INVOKE_MESSAGE((short)4, "invokeMessage");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -17116,6 +20539,8 @@ public class RemoteInterpreterService {
             return PARAGRAPH_ID;
           case 3: // RESOURCE_NAME
             return RESOURCE_NAME;
+          case 4: // INVOKE_MESSAGE
+            return INVOKE_MESSAGE;
           default:
             return null;
         }
@@ -17166,28 +20591,32 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INVOKE_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("invokeMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_args.class, metaDataMap);
     }
 
-    public resourceRemove_args() {
+    public resourceInvokeMethod_args() {
     }
 
-    public resourceRemove_args(
+    public resourceInvokeMethod_args(
       java.lang.String sessionId,
       java.lang.String paragraphId,
-      java.lang.String resourceName)
+      java.lang.String resourceName,
+      java.lang.String invokeMessage)
     {
       this();
       this.sessionId = sessionId;
       this.paragraphId = paragraphId;
       this.resourceName = resourceName;
+      this.invokeMessage = invokeMessage;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceRemove_args(resourceRemove_args other) {
+    public resourceInvokeMethod_args(resourceInvokeMethod_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
@@ -17197,10 +20626,13 @@ public class RemoteInterpreterService {
       if (other.isSetResourceName()) {
         this.resourceName = other.resourceName;
       }
+      if (other.isSetInvokeMessage()) {
+        this.invokeMessage = other.invokeMessage;
+      }
     }
 
-    public resourceRemove_args deepCopy() {
-      return new resourceRemove_args(this);
+    public resourceInvokeMethod_args deepCopy() {
+      return new resourceInvokeMethod_args(this);
     }
 
     @Override
@@ -17208,6 +20640,7 @@ public class RemoteInterpreterService {
       this.sessionId = null;
       this.paragraphId = null;
       this.resourceName = null;
+      this.invokeMessage = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -17215,7 +20648,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public resourceRemove_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public resourceInvokeMethod_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -17240,7 +20673,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public resourceRemove_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public resourceInvokeMethod_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -17265,7 +20698,7 @@ public class RemoteInterpreterService {
       return this.resourceName;
     }
 
-    public resourceRemove_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+    public resourceInvokeMethod_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
       this.resourceName = resourceName;
       return this;
     }
@@ -17285,6 +20718,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getInvokeMessage() {
+      return this.invokeMessage;
+    }
+
+    public resourceInvokeMethod_args setInvokeMessage(@org.apache.thrift.annotation.Nullable java.lang.String invokeMessage) {
+      this.invokeMessage = invokeMessage;
+      return this;
+    }
+
+    public void unsetInvokeMessage() {
+      this.invokeMessage = null;
+    }
+
+    /** Returns true if field invokeMessage is set (has been assigned a value) and false otherwise */
+    public boolean isSetInvokeMessage() {
+      return this.invokeMessage != null;
+    }
+
+    public void setInvokeMessageIsSet(boolean value) {
+      if (!value) {
+        this.invokeMessage = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case SESSION_ID:
@@ -17311,6 +20769,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case INVOKE_MESSAGE:
+        if (value == null) {
+          unsetInvokeMessage();
+        } else {
+          setInvokeMessage((java.lang.String)value);
+        }
+        break;
+
       }
     }
 
@@ -17326,6 +20792,9 @@ public class RemoteInterpreterService {
       case RESOURCE_NAME:
         return getResourceName();
 
+      case INVOKE_MESSAGE:
+        return getInvokeMessage();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -17343,6 +20812,8 @@ public class RemoteInterpreterService {
         return isSetParagraphId();
       case RESOURCE_NAME:
         return isSetResourceName();
+      case INVOKE_MESSAGE:
+        return isSetInvokeMessage();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -17351,12 +20822,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceRemove_args)
-        return this.equals((resourceRemove_args)that);
+      if (that instanceof resourceInvokeMethod_args)
+        return this.equals((resourceInvokeMethod_args)that);
       return false;
     }
 
-    public boolean equals(resourceRemove_args that) {
+    public boolean equals(resourceInvokeMethod_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -17389,6 +20860,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_invokeMessage = true && this.isSetInvokeMessage();
+      boolean that_present_invokeMessage = true && that.isSetInvokeMessage();
+      if (this_present_invokeMessage || that_present_invokeMessage) {
+        if (!(this_present_invokeMessage && that_present_invokeMessage))
+          return false;
+        if (!this.invokeMessage.equals(that.invokeMessage))
+          return false;
+      }
+
       return true;
     }
 
@@ -17408,11 +20888,15 @@ public class RemoteInterpreterService {
       if (isSetResourceName())
         hashCode = hashCode * 8191 + resourceName.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetInvokeMessage()) ? 131071 : 524287);
+      if (isSetInvokeMessage())
+        hashCode = hashCode * 8191 + invokeMessage.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourceRemove_args other) {
+    public int compareTo(resourceInvokeMethod_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -17449,6 +20933,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMessage()).compareTo(other.isSetInvokeMessage());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInvokeMessage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMessage, other.invokeMessage);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -17467,7 +20961,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -17493,6 +20987,14 @@ public class RemoteInterpreterService {
         sb.append(this.resourceName);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("invokeMessage:");
+      if (this.invokeMessage == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.invokeMessage);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -17518,15 +21020,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceRemove_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_argsStandardScheme getScheme() {
-        return new resourceRemove_argsStandardScheme();
+    private static class resourceInvokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_argsStandardScheme getScheme() {
+        return new resourceInvokeMethod_argsStandardScheme();
       }
     }
 
-    private static class resourceRemove_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_args> {
+    private static class resourceInvokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17560,6 +21062,14 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 4: // INVOKE_MESSAGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.invokeMessage = iprot.readString();
+                struct.setInvokeMessageIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -17571,7 +21081,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -17590,22 +21100,27 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.resourceName);
           oprot.writeFieldEnd();
         }
+        if (struct.invokeMessage != null) {
+          oprot.writeFieldBegin(INVOKE_MESSAGE_FIELD_DESC);
+          oprot.writeString(struct.invokeMessage);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourceRemove_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_argsTupleScheme getScheme() {
-        return new resourceRemove_argsTupleScheme();
+    private static class resourceInvokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_argsTupleScheme getScheme() {
+        return new resourceInvokeMethod_argsTupleScheme();
       }
     }
 
-    private static class resourceRemove_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_args> {
+    private static class resourceInvokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSessionId()) {
@@ -17617,7 +21132,10 @@ public class RemoteInterpreterService {
         if (struct.isSetResourceName()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetInvokeMessage()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetSessionId()) {
           oprot.writeString(struct.sessionId);
         }
@@ -17627,12 +21145,15 @@ public class RemoteInterpreterService {
         if (struct.isSetResourceName()) {
           oprot.writeString(struct.resourceName);
         }
+        if (struct.isSetInvokeMessage()) {
+          oprot.writeString(struct.invokeMessage);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(3);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.sessionId = iprot.readString();
           struct.setSessionIdIsSet(true);
@@ -17645,6 +21166,10 @@ public class RemoteInterpreterService {
           struct.resourceName = iprot.readString();
           struct.setResourceNameIsSet(true);
         }
+        if (incoming.get(3)) {
+          struct.invokeMessage = iprot.readString();
+          struct.setInvokeMessageIsSet(true);
+        }
       }
     }
 
@@ -17653,16 +21178,16 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceRemove_result implements org.apache.thrift.TBase<resourceRemove_result, resourceRemove_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_result");
+  public static class resourceInvokeMethod_result implements org.apache.thrift.TBase<resourceInvokeMethod_result, resourceInvokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_resultTupleSchemeFactory();
 
-    public boolean success; // required
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
     public @org.apache.thrift.annotation.Nullable InterpreterRPCException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -17729,75 +21254,83 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterRPCException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_result.class, metaDataMap);
     }
 
-    public resourceRemove_result() {
+    public resourceInvokeMethod_result() {
     }
 
-    public resourceRemove_result(
-      boolean success,
+    public resourceInvokeMethod_result(
+      java.nio.ByteBuffer success,
       InterpreterRPCException ex)
     {
       this();
-      this.success = success;
-      setSuccessIsSet(true);
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceRemove_result(resourceRemove_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public resourceInvokeMethod_result(resourceInvokeMethod_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
       if (other.isSetEx()) {
         this.ex = new InterpreterRPCException(other.ex);
       }
     }
 
-    public resourceRemove_result deepCopy() {
-      return new resourceRemove_result(this);
+    public resourceInvokeMethod_result deepCopy() {
+      return new resourceInvokeMethod_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
       this.ex = null;
     }
 
-    public boolean isSuccess() {
-      return this.success;
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
     }
 
-    public resourceRemove_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public resourceInvokeMethod_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public resourceInvokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -17805,7 +21338,7 @@ public class RemoteInterpreterService {
       return this.ex;
     }
 
-    public resourceRemove_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
+    public resourceInvokeMethod_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
       this.ex = ex;
       return this;
     }
@@ -17831,7 +21364,11 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Boolean)value);
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
         }
         break;
 
@@ -17850,7 +21387,7 @@ public class RemoteInterpreterService {
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return isSuccess();
+        return getSuccess();
 
       case EX:
         return getEx();
@@ -17878,23 +21415,23 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceRemove_result)
-        return this.equals((resourceRemove_result)that);
+      if (that instanceof resourceInvokeMethod_result)
+        return this.equals((resourceInvokeMethod_result)that);
       return false;
     }
 
-    public boolean equals(resourceRemove_result that) {
+    public boolean equals(resourceInvokeMethod_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -17914,7 +21451,9 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((success) ? 131071 : 524287);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
@@ -17924,7 +21463,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceRemove_result other) {
+    public int compareTo(resourceInvokeMethod_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -17969,11 +21508,15 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex:");
@@ -18002,23 +21545,21 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class resourceRemove_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_resultStandardScheme getScheme() {
-        return new resourceRemove_resultStandardScheme();
+    private static class resourceInvokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_resultStandardScheme getScheme() {
+        return new resourceInvokeMethod_resultStandardScheme();
       }
     }
 
-    private static class resourceRemove_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_result> {
+    private static class resourceInvokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18029,8 +21570,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -18056,13 +21597,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          oprot.writeBinary(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -18076,16 +21617,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceRemove_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_resultTupleScheme getScheme() {
-        return new resourceRemove_resultTupleScheme();
+    private static class resourceInvokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_resultTupleScheme getScheme() {
+        return new resourceInvokeMethod_resultTupleScheme();
       }
     }
 
-    private static class resourceRemove_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_result> {
+    private static class resourceInvokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -18096,7 +21637,7 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          oprot.writeBinary(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -18104,11 +21645,11 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = iprot.readBinary();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -18124,28 +21665,28 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceInvokeMethod_args implements org.apache.thrift.TBase<resourceInvokeMethod_args, resourceInvokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_args");
+  public static class resourceGetChunk_args implements org.apache.thrift.TBase<resourceGetChunk_args, resourceGetChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGetChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGetChunk_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField INVOKE_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMessage", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField CHUNK_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("chunkMessage", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGetChunk_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGetChunk_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMessage; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String chunkMessage; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SESSION_ID((short)1, "sessionId"),
       PARAGRAPH_ID((short)2, "paragraphId"),
       RESOURCE_NAME((short)3, "resourceName"),
-      INVOKE_MESSAGE((short)4, "invokeMessage");
+      CHUNK_MESSAGE((short)4, "chunkMessage");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -18167,8 +21708,8 @@ public class RemoteInterpreterService {
             return PARAGRAPH_ID;
           case 3: // RESOURCE_NAME
             return RESOURCE_NAME;
-          case 4: // INVOKE_MESSAGE
-            return INVOKE_MESSAGE;
+          case 4: // CHUNK_MESSAGE
+            return CHUNK_MESSAGE;
           default:
             return null;
         }
@@ -18219,32 +21760,32 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.INVOKE_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("invokeMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.CHUNK_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("chunkMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGetChunk_args.class, metaDataMap);
     }
 
-    public resourceInvokeMethod_args() {
+    public resourceGetChunk_args() {
     }
 
-    public resourceInvokeMethod_args(
+    public resourceGetChunk_args(
       java.lang.String sessionId,
       java.lang.String paragraphId,
       java.lang.String resourceName,
-      java.lang.String invokeMessage)
+      java.lang.String chunkMessage)
     {
       this();
       this.sessionId = sessionId;
       this.paragraphId = paragraphId;
       this.resourceName = resourceName;
-      this.invokeMessage = invokeMessage;
+      this.chunkMessage = chunkMessage;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceInvokeMethod_args(resourceInvokeMethod_args other) {
+    public resourceGetChunk_args(resourceGetChunk_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
@@ -18254,13 +21795,13 @@ public class RemoteInterpreterService {
       if (other.isSetResourceName()) {
         this.resourceName = other.resourceName;
       }
-      if (other.isSetInvokeMessage()) {
-        this.invokeMessage = other.invokeMessage;
+      if (other.isSetChunkMessage()) {
+        this.chunkMessage = other.chunkMessage;
       }
     }
 
-    public resourceInvokeMethod_args deepCopy() {
-      return new resourceInvokeMethod_args(this);
+    public resourceGetChunk_args deepCopy() {
+      return new resourceGetChunk_args(this);
     }
 
     @Override
@@ -18268,7 +21809,7 @@ public class RemoteInterpreterService {
       this.sessionId = null;
       this.paragraphId = null;
       this.resourceName = null;
-      this.invokeMessage = null;
+      this.chunkMessage = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -18276,7 +21817,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public resourceInvokeMethod_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public resourceGetChunk_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -18301,7 +21842,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public resourceInvokeMethod_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public resourceGetChunk_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -18326,7 +21867,7 @@ public class RemoteInterpreterService {
       return this.resourceName;
     }
 
-    public resourceInvokeMethod_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+    public resourceGetChunk_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
       this.resourceName = resourceName;
       return this;
     }
@@ -18347,27 +21888,27 @@ public class RemoteInterpreterService {
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getInvokeMessage() {
-      return this.invokeMessage;
+    public java.lang.String getChunkMessage() {
+      return this.chunkMessage;
     }
 
-    public resourceInvokeMethod_args setInvokeMessage(@org.apache.thrift.annotation.Nullable java.lang.String invokeMessage) {
-      this.invokeMessage = invokeMessage;
+    public resourceGetChunk_args setChunkMessage(@org.apache.thrift.annotation.Nullable java.lang.String chunkMessage) {
+      this.chunkMessage = chunkMessage;
       return this;
     }
 
-    public void unsetInvokeMessage() {
-      this.invokeMessage = null;
+    public void unsetChunkMessage() {
+      this.chunkMessage = null;
     }
 
-    /** Returns true if field invokeMessage is set (has been assigned a value) and false otherwise */
-    public boolean isSetInvokeMessage() {
-      return this.invokeMessage != null;
+    /** Returns true if field chunkMessage is set (has been assigned a value) and false otherwise */
+    public boolean isSetChunkMessage() {
+      return this.chunkMessage != null;
     }
 
-    public void setInvokeMessageIsSet(boolean value) {
+    public void setChunkMessageIsSet(boolean value) {
       if (!value) {
-        this.invokeMessage = null;
+        this.chunkMessage = null;
       }
     }
 
@@ -18397,11 +21938,11 @@ public class RemoteInterpreterService {
         }
         break;
 
-      case INVOKE_MESSAGE:
+      case CHUNK_MESSAGE:
         if (value == null) {
-          unsetInvokeMessage();
+          unsetChunkMessage();
         } else {
-          setInvokeMessage((java.lang.String)value);
+          setChunkMessage((java.lang.String)value);
         }
         break;
 
@@ -18420,8 +21961,8 @@ public class RemoteInterpreterService {
       case RESOURCE_NAME:
         return getResourceName();
 
-      case INVOKE_MESSAGE:
-        return getInvokeMessage();
+      case CHUNK_MESSAGE:
+        return getChunkMessage();
 
       }
       throw new java.lang.IllegalStateException();
@@ -18440,8 +21981,8 @@ public class RemoteInterpreterService {
         return isSetParagraphId();
       case RESOURCE_NAME:
         return isSetResourceName();
-      case INVOKE_MESSAGE:
-        return isSetInvokeMessage();
+      case CHUNK_MESSAGE:
+        return isSetChunkMessage();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -18450,12 +21991,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceInvokeMethod_args)
-        return this.equals((resourceInvokeMethod_args)that);
+      if (that instanceof resourceGetChunk_args)
+        return this.equals((resourceGetChunk_args)that);
       return false;
     }
 
-    public boolean equals(resourceInvokeMethod_args that) {
+    public boolean equals(resourceGetChunk_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -18488,12 +22029,12 @@ public class RemoteInterpreterService {
           return false;
       }
 
-      boolean this_present_invokeMessage = true && this.isSetInvokeMessage();
-      boolean that_present_invokeMessage = true && that.isSetInvokeMessage();
-      if (this_present_invokeMessage || that_present_invokeMessage) {
-        if (!(this_present_invokeMessage && that_present_invokeMessage))
+      boolean this_present_chunkMessage = true && this.isSetChunkMessage();
+      boolean that_present_chunkMessage = true && that.isSetChunkMessage();
+      if (this_present_chunkMessage || that_present_chunkMessage) {
+        if (!(this_present_chunkMessage && that_present_chunkMessage))
           return false;
-        if (!this.invokeMessage.equals(that.invokeMessage))
+        if (!this.chunkMessage.equals(that.chunkMessage))
           return false;
       }
 
@@ -18516,15 +22057,15 @@ public class RemoteInterpreterService {
       if (isSetResourceName())
         hashCode = hashCode * 8191 + resourceName.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetInvokeMessage()) ? 131071 : 524287);
-      if (isSetInvokeMessage())
-        hashCode = hashCode * 8191 + invokeMessage.hashCode();
+      hashCode = hashCode * 8191 + ((isSetChunkMessage()) ? 131071 : 524287);
+      if (isSetChunkMessage())
+        hashCode = hashCode * 8191 + chunkMessage.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourceInvokeMethod_args other) {
+    public int compareTo(resourceGetChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -18561,12 +22102,12 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMessage()).compareTo(other.isSetInvokeMessage());
+      lastComparison = java.lang.Boolean.valueOf(isSetChunkMessage()).compareTo(other.isSetChunkMessage());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInvokeMessage()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMessage, other.invokeMessage);
+      if (isSetChunkMessage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.chunkMessage, other.chunkMessage);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -18589,7 +22130,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGetChunk_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -18616,11 +22157,11 @@ public class RemoteInterpreterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("invokeMessage:");
-      if (this.invokeMessage == null) {
+      sb.append("chunkMessage:");
+      if (this.chunkMessage == null) {
         sb.append("null");
       } else {
-        sb.append(this.invokeMessage);
+        sb.append(this.chunkMessage);
       }
       first = false;
       sb.append(")");
@@ -18648,15 +22189,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceInvokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_argsStandardScheme getScheme() {
-        return new resourceInvokeMethod_argsStandardScheme();
+    private static class resourceGetChunk_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGetChunk_argsStandardScheme getScheme() {
+        return new resourceGetChunk_argsStandardScheme();
       }
     }
 
-    private static class resourceInvokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_args> {
+    private static class resourceGetChunk_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGetChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGetChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18690,10 +22231,10 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // INVOKE_MESSAGE
+            case 4: // CHUNK_MESSAGE
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.invokeMessage = iprot.readString();
-                struct.setInvokeMessageIsSet(true);
+                struct.chunkMessage = iprot.readString();
+                struct.setChunkMessageIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -18709,7 +22250,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGetChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -18728,9 +22269,9 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.resourceName);
           oprot.writeFieldEnd();
         }
-        if (struct.invokeMessage != null) {
-          oprot.writeFieldBegin(INVOKE_MESSAGE_FIELD_DESC);
-          oprot.writeString(struct.invokeMessage);
+        if (struct.chunkMessage != null) {
+          oprot.writeFieldBegin(CHUNK_MESSAGE_FIELD_DESC);
+          oprot.writeString(struct.chunkMessage);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -18739,16 +22280,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceInvokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_argsTupleScheme getScheme() {
-        return new resourceInvokeMethod_argsTupleScheme();
+    private static class resourceGetChunk_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGetChunk_argsTupleScheme getScheme() {
+        return new resourceGetChunk_argsTupleScheme();
       }
     }
 
-    private static class resourceInvokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_args> {
+    private static class resourceGetChunk_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGetChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGetChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSessionId()) {
@@ -18760,7 +22301,7 @@ public class RemoteInterpreterService {
         if (struct.isSetResourceName()) {
           optionals.set(2);
         }
-        if (struct.isSetInvokeMessage()) {
+        if (struct.isSetChunkMessage()) {
           optionals.set(3);
         }
         oprot.writeBitSet(optionals, 4);
@@ -18773,13 +22314,13 @@ public class RemoteInterpreterService {
         if (struct.isSetResourceName()) {
           oprot.writeString(struct.resourceName);
         }
-        if (struct.isSetInvokeMessage()) {
-          oprot.writeString(struct.invokeMessage);
+        if (struct.isSetChunkMessage()) {
+          oprot.writeString(struct.chunkMessage);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGetChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
@@ -18795,8 +22336,8 @@ public class RemoteInterpreterService {
           struct.setResourceNameIsSet(true);
         }
         if (incoming.get(3)) {
-          struct.invokeMessage = iprot.readString();
-          struct.setInvokeMessageIsSet(true);
+          struct.chunkMessage = iprot.readString();
+          struct.setChunkMessageIsSet(true);
         }
       }
     }
@@ -18806,14 +22347,14 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceInvokeMethod_result implements org.apache.thrift.TBase<resourceInvokeMethod_result, resourceInvokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_result");
+  public static class resourceGetChunk_result implements org.apache.thrift.TBase<resourceGetChunk_result, resourceGetChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGetChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGetChunk_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGetChunk_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGetChunk_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
     public @org.apache.thrift.annotation.Nullable InterpreterRPCException ex; // required
@@ -18890,13 +22431,13 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterRPCException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGetChunk_result.class, metaDataMap);
     }
 
-    public resourceInvokeMethod_result() {
+    public resourceGetChunk_result() {
     }
 
-    public resourceInvokeMethod_result(
+    public resourceGetChunk_result(
       java.nio.ByteBuffer success,
       InterpreterRPCException ex)
     {
@@ -18908,7 +22449,7 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceInvokeMethod_result(resourceInvokeMethod_result other) {
+    public resourceGetChunk_result(resourceGetChunk_result other) {
       if (other.isSetSuccess()) {
         this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
@@ -18917,8 +22458,8 @@ public class RemoteInterpreterService {
       }
     }
 
-    public resourceInvokeMethod_result deepCopy() {
-      return new resourceInvokeMethod_result(this);
+    public resourceGetChunk_result deepCopy() {
+      return new resourceGetChunk_result(this);
     }
 
     @Override
@@ -18936,12 +22477,12 @@ public class RemoteInterpreterService {
       return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public resourceInvokeMethod_result setSuccess(byte[] success) {
+    public resourceGetChunk_result setSuccess(byte[] success) {
       this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
       return this;
     }
 
-    public resourceInvokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+    public resourceGetChunk_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
       this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
@@ -18966,7 +22507,7 @@ public class RemoteInterpreterService {
       return this.ex;
     }
 
-    public resourceInvokeMethod_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
+    public resourceGetChunk_result setEx(@org.apache.thrift.annotation.Nullable InterpreterRPCException ex) {
       this.ex = ex;
       return this;
     }
@@ -19043,12 +22584,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceInvokeMethod_result)
-        return this.equals((resourceInvokeMethod_result)that);
+      if (that instanceof resourceGetChunk_result)
+        return this.equals((resourceGetChunk_result)that);
       return false;
     }
 
-    public boolean equals(resourceInvokeMethod_result that) {
+    public boolean equals(resourceGetChunk_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -19091,7 +22632,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceInvokeMethod_result other) {
+    public int compareTo(resourceGetChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19136,7 +22677,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGetChunk_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -19179,15 +22720,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceInvokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_resultStandardScheme getScheme() {
-        return new resourceInvokeMethod_resultStandardScheme();
+    private static class resourceGetChunk_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGetChunk_resultStandardScheme getScheme() {
+        return new resourceGetChunk_resultStandardScheme();
       }
     }
 
-    private static class resourceInvokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_result> {
+    private static class resourceGetChunk_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGetChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGetChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19225,7 +22766,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGetChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -19245,16 +22786,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceInvokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_resultTupleScheme getScheme() {
-        return new resourceInvokeMethod_resultTupleScheme();
+    private static class resourceGetChunk_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGetChunk_resultTupleScheme getScheme() {
+        return new resourceGetChunk_resultTupleScheme();
       }
     }
 
-    private static class resourceInvokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_result> {
+    private static class resourceGetChunk_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGetChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGetChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -19273,7 +22814,7 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGetChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -52,7 +52,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources().filterByName(name);
+      ResourceSet resources = connector.lookupResources(new ResourceId(id(), name));
       if (resources.isEmpty()) {
         return null;
       } else {
@@ -79,7 +79,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources()
+      ResourceSet resources = connector.lookupResources(new ResourceId(id(), name))
           .filterByNoteId(noteId)
           .filterByParagraphId(paragraphId)
           .filterByName(name);
@@ -94,6 +94,36 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
   }
 
+  @Override
+  public void put(String name, Object object) {
+    super.put(name, object);
+    connector.putResource(super.get(name));
+  }
+
+  @Override
+  public void put(String noteId, String paragraphId, String name, Object object) {
+    super.put(noteId, paragraphId, name, object);
+    connector.putResource(super.get(noteId, paragraphId, name));
+  }
+
+  @Override
+  public Resource remove(String name) {
+    Resource resource = super.remove(name);
+    if (resource != null) {
+      connector.removeResource(resource.getResourceId());
+    }
+    return resource;
+  }
+
+  @Override
+  public Resource remove(String noteId, String paragraphId, String name) {
+    Resource resource = super.remove(noteId, paragraphId, name);
+    if (resource != null) {
+      connector.removeResource(resource.getResourceId());
+    }
+    return resource;
+  }
+
   @Override
   public ResourceSet getAll() {
     return getAll(true);
@@ -14,41 +14,41 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+package org.apache.zeppelin.resource;
 
-package org.apache.zeppelin.interpreter.remote;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 
 /**
- * This element stores the buffered
- * append-data of paragraph's output.
+ * Java serialization, it works for every Serializable object.
  */
-public class AppendOutputBuffer {
+public class JavaResourceSerializer implements ResourceSerializer {
 
-  private String noteId;
-  private String paragraphId;
-  private int index;
-  private String data;
+  public static final byte ID = 1;
 
-  public AppendOutputBuffer(String noteId, String paragraphId, int index, String data) {
-    this.noteId = noteId;
-    this.paragraphId = paragraphId;
-    this.index = index;
-    this.data = data;
+  @Override
+  public byte id() {
+    return ID;
   }
 
-  public String getNoteId() {
-    return noteId;
+  @Override
+  public String name() {
+    return "java";
   }
 
-  public String getParagraphId() {
-    return paragraphId;
+  @Override
+  public void serialize(Object o, OutputStream out) throws IOException {
+    ObjectOutputStream oos = new ObjectOutputStream(out);
+    oos.writeObject(o);
+    oos.flush();
   }
 
-  public int getIndex() {
-    return index;
+  @Override
+  public Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+    ObjectInputStream oin = new ObjectInputStream(in);
+    return oin.readObject();
   }
-
-  public String getData() {
-    return data;
-  }
-
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.pool.KryoPool;
+import com.esotericsoftware.kryo.serializers.FieldSerializer;
+import com.esotericsoftware.kryo.serializers.JavaSerializer;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Kryo serialization, which is much faster and more compact than java serialization.
+ *
+ * Classes which customize their java serialization (writeObject, writeReplace, readResolve,
+ * Externalizable) and have no dedicated kryo serializer are still written with java
+ * serialization, so that their invariants are kept.
+ */
+public class KryoResourceSerializer implements ResourceSerializer {
+
+  public static final byte ID = 2;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final KryoPool pool = new KryoPool.Builder(KryoResourceSerializer::createKryo)
+      .softReferences()
+      .build();
+
+  private static Kryo createKryo() {
+    Kryo kryo = new Kryo() {
+      @Override
+      public Serializer getDefaultSerializer(Class type) {
+        Serializer serializer = super.getDefaultSerializer(type);
+        if (serializer instanceof FieldSerializer && hasCustomJavaSerialization(type)) {
+          return new JavaSerializer();
+        }
+        return serializer;
+      }
+    };
+    kryo.setRegistrationRequired(false);
+    // classes without no-arg constructor are instantiated like java serialization does
+    kryo.setInstantiatorStrategy(
+        new Kryo.DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+    return kryo;
+  }
+
+  static boolean hasCustomJavaSerialization(Class<?> type) {
+    if (Externalizable.class.isAssignableFrom(type)) {
+      return true;
+    }
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod("writeObject", ObjectOutputStream.class);
+        return true;
+      } catch (NoSuchMethodException e) {
+        // continue
+      }
+      for (String method : new String[]{"writeReplace", "readResolve"}) {
+        try {
+          c.getDeclaredMethod(method);
+          return true;
+        } catch (NoSuchMethodException e) {
+          // continue
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public byte id() {
+    return ID;
+  }
+
+  @Override
+  public String name() {
+    return "kryo";
+  }
+
+  @Override
+  public void serialize(Object o, OutputStream out) throws IOException {
+    Kryo kryo = borrow();
+    Output output = new Output(out, BUFFER_SIZE);
+    // a kryo which failed in the middle of the object graph is not reused
+    kryo.writeClassAndObject(output, o);
+    output.flush();
+    pool.release(kryo);
+  }
+
+  @Override
+  public Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+    Kryo kryo = borrow();
+    Object o = kryo.readClassAndObject(new Input(in, BUFFER_SIZE));
+    pool.release(kryo);
+    return o;
+  }
+
+  private Kryo borrow() {
+    Kryo kryo = pool.borrow();
+    // resolve classes like java serialization does in the interpreters which load classes
+    // dynamically, e.g. classes defined in the repl of spark interpreter.
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    kryo.setClassLoader(classLoader != null ? classLoader : getClass().getClassLoader());
+    return kryo;
+  }
+}
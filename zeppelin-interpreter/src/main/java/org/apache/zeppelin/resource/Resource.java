@@ -25,11 +25,7 @@ import org.apache.zeppelin.common.JsonSerializable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
@@ -386,39 +382,21 @@ public class Resource implements JsonSerializable, Serializable {
     }
   }
 
+  /**
+   * Serialize the object with the configured {@link ResourceSerializer}.
+   *
+   * @return null if the object is not serializable
+   */
   public static ByteBuffer serializeObject(Object o) throws IOException {
     if (o == null || !(o instanceof Serializable)) {
       return null;
     }
-
-    ByteArrayOutputStream out = new ByteArrayOutputStream();
-    try {
-      ObjectOutputStream oos;
-      oos = new ObjectOutputStream(out);
-      oos.writeObject(o);
-      oos.close();
-      out.close();
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-    return ByteBuffer.wrap(out.toByteArray());
+    return ResourceSerializers.serialize(o);
   }
 
   public static Object deserializeObject(ByteBuffer buf)
       throws IOException, ClassNotFoundException {
-    if (buf == null) {
-      return null;
-    }
-    InputStream ins = ByteBufferInputStream.get(buf);
-    ObjectInputStream oin;
-    Object object = null;
-
-    oin = new ObjectInputStream(ins);
-    object = oin.readObject();
-    oin.close();
-    ins.close();
-
-    return object;
+    return ResourceSerializers.deserialize(buf);
   }
 
   private void logException(Exception e) {
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream of a serialized resource which is read in chunks. The next chunk is only read
+ * when the previous one is consumed, so that one chunk at a time is held in memory.
+ * A chunk shorter than the chunk size is the last one, it may be empty.
+ */
+public class ResourceChunkInputStream extends InputStream {
+
+  /**
+   * Read the chunk of the serialized resource at the offset.
+   */
+  @FunctionalInterface
+  public interface ChunkReader {
+    ByteBuffer read(int offset) throws IOException;
+  }
+
+  private final ChunkReader reader;
+  private final int chunkSize;
+  private ByteBuffer chunk = ByteBuffer.allocate(0);
+  private int offset = 0;
+  private boolean lastChunkRead = false;
+
+  public ResourceChunkInputStream(ChunkReader reader, int chunkSize) {
+    this.reader = reader;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @return whether there is data left, the next chunk is read when the current one is consumed
+   */
+  private boolean nextChunk() throws IOException {
+    while (!chunk.hasRemaining()) {
+      if (lastChunkRead) {
+        return false;
+      }
+      chunk = reader.read(offset);
+      offset += chunk.remaining();
+      lastChunkRead = chunk.remaining() < chunkSize;
+    }
+    return true;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextChunk()) {
+      return -1;
+    }
+    return chunk.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!nextChunk()) {
+      return -1;
+    }
+    len = Math.min(len, chunk.remaining());
+    chunk.get(bytes, off, len);
+    return len;
+  }
+
+  @Override
+  public int available() {
+    return chunk.remaining();
+  }
+
+  /**
+   * Read up to the last chunk, so that the reader knows the read is done and can release the
+   * serialized resource. A deserializer may stop before the final empty chunk.
+   */
+  public void readToEnd() throws IOException {
+    while (nextChunk()) {
+      chunk.position(chunk.limit());
+    }
+  }
+}
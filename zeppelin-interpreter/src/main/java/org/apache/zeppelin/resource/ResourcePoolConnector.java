@@ -26,6 +26,28 @@ public interface ResourcePoolConnector {
    */
   ResourceSet getAllResources();
 
+  /**
+   * Look up the resources which have the same name as the given resource id in all other
+   * resource pools in remote processes
+   * @return
+   */
+  default ResourceSet lookupResources(ResourceId id) {
+    return getAllResources().filterByName(id.getName());
+  }
+
+  /**
+   * Notify that the resource is put into the local resource pool, so that other resource pools
+   * can look it up
+   */
+  default void putResource(Resource resource) {
+  }
+
+  /**
+   * Notify that the resource is removed from the local resource pool
+   */
+  default void removeResource(ResourceId id) {
+  }
+
   /**
    * Read remote object
    * @return
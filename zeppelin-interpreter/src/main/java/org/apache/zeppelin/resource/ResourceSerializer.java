@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Serializes the objects of resource pool which are transferred between processes.
+ *
+ * The serializer is selected by zeppelin.interpreter.resource.serializer, either the name of a
+ * builtin serializer or the class name of a custom one which has a no-arg constructor. The id is
+ * written in front of every serialized object, so that the reader picks the serializer of the
+ * writer.
+ */
+public interface ResourceSerializer {
+
+  /**
+   * Unique id of this serializer, written as the first byte of the serialized object.
+   */
+  byte id();
+
+  /**
+   * Name to select this serializer in zeppelin.interpreter.resource.serializer
+   */
+  String name();
+
+  void serialize(Object o, OutputStream out) throws IOException;
+
+  Object deserialize(InputStream in) throws IOException, ClassNotFoundException;
+}
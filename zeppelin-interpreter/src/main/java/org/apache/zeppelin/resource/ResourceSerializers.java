@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link ResourceSerializer}s. Serialized objects are framed as one byte of
+ * serializer id followed by the output of that serializer.
+ */
+public class ResourceSerializers {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceSerializers.class);
+
+  private static final Map<Byte, ResourceSerializer> SERIALIZERS = new ConcurrentHashMap<>();
+  private static final ResourceSerializer JAVA = new JavaResourceSerializer();
+  private static volatile ResourceSerializer defaultSerializer;
+
+  static {
+    register(JAVA);
+    register(new KryoResourceSerializer());
+    defaultSerializer = SERIALIZERS.get(KryoResourceSerializer.ID);
+  }
+
+  private ResourceSerializers() {
+  }
+
+  public static void register(ResourceSerializer serializer) {
+    ResourceSerializer existing = SERIALIZERS.putIfAbsent(serializer.id(), serializer);
+    if (existing != null && existing.getClass() != serializer.getClass()) {
+      throw new IllegalArgumentException("Serializer id " + serializer.id() + " of "
+          + serializer.getClass().getName() + " is already used by "
+          + existing.getClass().getName());
+    }
+  }
+
+  /**
+   * Use the serializer of the given name or class name to serialize objects.
+   */
+  public static void setDefault(String serializer) {
+    for (ResourceSerializer s : SERIALIZERS.values()) {
+      if (s.name().equalsIgnoreCase(serializer) || s.getClass().getName().equals(serializer)) {
+        defaultSerializer = s;
+        return;
+      }
+    }
+    try {
+      ResourceSerializer s = (ResourceSerializer) Class.forName(serializer)
+          .getDeclaredConstructor().newInstance();
+      register(s);
+      defaultSerializer = s;
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      LOGGER.warn("Unknown resource serializer: {}, use {}", serializer,
+          defaultSerializer.name(), e);
+    }
+  }
+
+  public static ResourceSerializer getDefault() {
+    return defaultSerializer;
+  }
+
+  public static ByteBuffer serialize(Object o) throws IOException {
+    return serialize(o, defaultSerializer);
+  }
+
+  /**
+   * Serialize the object, fall back to java serialization if the given serializer fails.
+   *
+   * @return serialized object, the returned buffer wraps the output array without copy
+   */
+  public static ByteBuffer serialize(Object o, ResourceSerializer serializer) throws IOException {
+    BufferOutputStream out = new BufferOutputStream();
+    if (serializer != JAVA) {
+      try {
+        out.write(serializer.id());
+        serializer.serialize(o, out);
+        return out.toByteBuffer();
+      } catch (RuntimeException | StackOverflowError e) {
+        LOGGER.debug("Fail to serialize {} with {}, fall back to java serialization",
+            o.getClass().getName(), serializer.name(), e);
+        out.reset();
+      }
+    }
+    out.write(JAVA.id());
+    JAVA.serialize(o, out);
+    return out.toByteBuffer();
+  }
+
+  public static Object deserialize(ByteBuffer buf) throws IOException, ClassNotFoundException {
+    if (buf == null || !buf.hasRemaining()) {
+      return null;
+    }
+    try (InputStream in = ByteBufferInputStream.get(buf)) {
+      return deserialize(in);
+    }
+  }
+
+  /**
+   * Deserialize the object from the stream, e.g. a {@link ResourceChunkInputStream} which reads
+   * it in chunks. The stream is not closed.
+   *
+   * @return the object, null when the stream is empty
+   */
+  public static Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+    int id = in.read();
+    if (id == -1) {
+      return null;
+    }
+    ResourceSerializer serializer = SERIALIZERS.get((byte) id);
+    if (serializer == null) {
+      throw new IOException("Unknown resource serializer id: " + id);
+    }
+    return serializer.deserialize(in);
+  }
+
+  /**
+   * ByteArrayOutputStream which exposes its buffer instead of copying it.
+   */
+  private static class BufferOutputStream extends ByteArrayOutputStream {
+    BufferOutputStream() {
+      super(1024);
+    }
+
+    ByteBuffer toByteBuffer() {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
+}
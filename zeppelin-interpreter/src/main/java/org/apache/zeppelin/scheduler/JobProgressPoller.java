@@ -17,51 +17,30 @@
 
 package org.apache.zeppelin.scheduler;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
- * Polls job progress with given interval
+ * Polls the progress of all the running {@link JobWithProgressPoller}s from a few shared threads.
+ * Progress which doesn't change is polled less often, up to {@link #MAX_BACKOFF} times the
+ * interval of the job.
  *
  * @see Job#progress()
  * @see JobListener#onProgressUpdate(org.apache.zeppelin.scheduler.Job, int)
- *
- * TODO(moon) : add description.
  */
-public class JobProgressPoller extends Thread {
+public class JobProgressPoller {
   public static final long DEFAULT_INTERVAL_MSEC = 500;
-  private static final Logger LOGGER = LoggerFactory.getLogger(JobProgressPoller.class);
+  public static final int MAX_BACKOFF = 4;
+  private static final int NUM_THREADS = 4;
 
-  private Job<?> job;
-  private long intervalMs;
+  private JobProgressPoller() {
+  }
 
-  public JobProgressPoller(Job<?> job, long intervalMs) {
-    super("JobProgressPoller, jobId=" + job.getId());
-    this.job = job;
-    if (intervalMs < 0) {
-      throw new IllegalArgumentException("polling interval can't be " + intervalMs);
-    }
-    this.intervalMs = intervalMs == 0 ? DEFAULT_INTERVAL_MSEC : intervalMs;
+  //Using the Initialization-on-demand holder idiom (https://en.wikipedia.org/wiki/Initialization-on-demand_holder_idiom)
+  private static final class InstanceHolder {
+    private static final SharedJobPoller<Integer> INSTANCE = new SharedJobPoller<>(
+        "JobProgressPoller",
+        ExecutorFactory.singleton().createOrGetScheduled("JobProgressPoller", NUM_THREADS));
   }
 
-  @Override
-  public void run() {
-    try {
-      while (!Thread.interrupted()) {
-        JobListener listener = job.getListener();
-        if (listener != null) {
-          try {
-            if (job.isRunning()) {
-              listener.onProgressUpdate(job, job.progress());
-            }
-          } catch (Exception e) {
-            LOGGER.error("Can not get or update progress", e);
-          }
-        }
-        Thread.sleep(intervalMs);
-      }
-    } catch (InterruptedException ignored) {
-      // just ignore this exception
-    }
+  public static SharedJobPoller<Integer> singleton() {
+    return InstanceHolder.INSTANCE;
   }
 }
@@ -19,7 +19,6 @@ package org.apache.zeppelin.scheduler;
 
 public abstract class JobWithProgressPoller<T> extends Job<T> {
 
-  private transient JobProgressPoller progressPoller;
   private long progressUpdateIntervalMs;
 
 
@@ -37,19 +36,69 @@ public abstract class JobWithProgressPoller<T> extends Job<T> {
     this(jobId, jobId, listener);
   }
 
+  /**
+   * Jobs which return the same batch get their progress polled together, e.g. the paragraphs
+   * running in one interpreter process.
+   *
+   * @return null to poll the progress of this job alone with {@link #progress()}
+   */
+  protected SharedJobPoller.Batch<Integer> getProgressBatch() {
+    return null;
+  }
+
+  /**
+   * Called with every polled progress, including the ones polled in batch.
+   */
+  protected void onProgressPolled(int progress) {
+  }
+
   @Override
   public void onJobStarted() {
     super.onJobStarted();
-    progressPoller = new JobProgressPoller(this, progressUpdateIntervalMs);
-    progressPoller.start();
+    long intervalMs = progressUpdateIntervalMs > 0 ?
+        progressUpdateIntervalMs : JobProgressPoller.DEFAULT_INTERVAL_MSEC;
+    JobProgressPoller.singleton().add(new ProgressPolledJob(), intervalMs,
+        intervalMs * JobProgressPoller.MAX_BACKOFF);
   }
 
   @Override
   public void onJobEnded() {
     super.onJobEnded();
-    if (this.progressPoller != null) {
-      this.progressPoller.interrupt();
-      this.progressPoller = null;
+    JobProgressPoller.singleton().remove(this);
+  }
+
+  private class ProgressPolledJob implements SharedJobPoller.PolledJob<Integer> {
+
+    @Override
+    public Job<?> getJob() {
+      return JobWithProgressPoller.this;
+    }
+
+    @Override
+    public SharedJobPoller.Batch<Integer> getBatch() {
+      return getProgressBatch();
+    }
+
+    @Override
+    public boolean isPollable() {
+      return isRunning() && getListener() != null;
+    }
+
+    @Override
+    public Integer poll() {
+      return progress();
+    }
+
+    @Override
+    public boolean onPolled(Integer progress, boolean changed) {
+      if (progress != null) {
+        onProgressPolled(progress);
+        JobListener listener = getListener();
+        if (changed && listener != null && isRunning()) {
+          listener.onProgressUpdate(JobWithProgressPoller.this, progress);
+        }
+      }
+      return true;
     }
   }
 }
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Polls a value (e.g. progress or status) of many jobs from a few shared threads, instead of one
+ * thread per job.
+ *
+ * Every {@link #TICK_MSEC} the jobs which are due are collected. Jobs of the same {@link Batch},
+ * e.g. the jobs running in one interpreter process, are polled together with one call, other jobs
+ * are polled one by one. The interval of a job grows up to its max interval while its value
+ * doesn't change, and goes back to the initial interval when it changes.
+ *
+ * @param <V> type of the polled value
+ */
+public class SharedJobPoller<V> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SharedJobPoller.class);
+
+  static final long TICK_MSEC = 50;
+
+  /**
+   * Polls the values of several jobs at once. The jobs are polled one by one with
+   * {@link PolledJob#poll()} when it fails.
+   */
+  public interface Batch<V> {
+    /**
+     * @return values by job id, jobs without value are left out
+     */
+    Map<String, V> poll(List<Job<?>> jobs) throws Exception;
+  }
+
+  /**
+   * A job registered to the poller.
+   */
+  public interface PolledJob<V> {
+    Job<?> getJob();
+
+    /**
+     * @return the batch to poll this job with, or null to poll it alone with {@link #poll()}
+     */
+    Batch<V> getBatch();
+
+    /**
+     * @return whether the job should be polled at this moment, e.g. only when it is running
+     */
+    default boolean isPollable() {
+      return true;
+    }
+
+    V poll() throws Exception;
+
+    /**
+     * @param value polled value, null when the batch returned no value for this job
+     * @param changed whether the value is different from the previous polled one
+     * @return false to stop polling this job
+     */
+    boolean onPolled(V value, boolean changed);
+  }
+
+  private final String name;
+  private final ScheduledExecutorService executor;
+  private final LongSupplier clock;
+  // by job identity, since the hashCode of some jobs (e.g. Paragraph) changes while they run
+  private final Map<Job<?>, Entry<V>> entries =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private final AtomicBoolean started = new AtomicBoolean(false);
+  private final AtomicLong pollCount = new AtomicLong();
+
+  public SharedJobPoller(String name, ScheduledExecutorService executor) {
+    this(name, executor, System::currentTimeMillis);
+  }
+
+  SharedJobPoller(String name, ScheduledExecutorService executor, LongSupplier clock) {
+    this.name = name;
+    this.executor = executor;
+    this.clock = clock;
+  }
+
+  /**
+   * Start polling the job, replaces the previous registration of the same job.
+   *
+   * @param intervalMs initial polling interval
+   * @param maxIntervalMs max polling interval while the polled value doesn't change
+   */
+  public void add(PolledJob<V> polledJob, long intervalMs, long maxIntervalMs) {
+    if (intervalMs <= 0) {
+      throw new IllegalArgumentException("polling interval can't be " + intervalMs);
+    }
+    entries.put(polledJob.getJob(),
+        new Entry<>(polledJob, intervalMs, Math.max(intervalMs, maxIntervalMs),
+            clock.getAsLong()));
+    if (started.compareAndSet(false, true)) {
+      executor.scheduleWithFixedDelay(this::tick, TICK_MSEC, TICK_MSEC, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public void remove(Job<?> job) {
+    entries.remove(job);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return number of poll calls done so far, one per batch or per job polled alone
+   */
+  public long getPollCount() {
+    return pollCount.get();
+  }
+
+  void tick() {
+    try {
+      long now = clock.getAsLong();
+      List<Entry<V>> candidates;
+      synchronized (entries) {
+        candidates = new ArrayList<>(entries.values());
+      }
+      Map<Batch<V>, List<Entry<V>>> batches = new IdentityHashMap<>();
+      for (Entry<V> entry : candidates) {
+        if (entry.nextPollTime > now || entry.inFlight.get()
+            || !entry.polledJob.isPollable()) {
+          continue;
+        }
+        Batch<V> batch = entry.polledJob.getBatch();
+        if (batch == null) {
+          entry.inFlight.set(true);
+          executor.execute(() -> pollAlone(entry));
+        } else {
+          batches.computeIfAbsent(batch, b -> new ArrayList<>()).add(entry);
+        }
+      }
+      for (Map.Entry<Batch<V>, List<Entry<V>>> batch : batches.entrySet()) {
+        batch.getValue().forEach(entry -> entry.inFlight.set(true));
+        executor.execute(() -> pollBatch(batch.getKey(), batch.getValue()));
+      }
+    } catch (Exception e) {
+      LOGGER.error("Error in {}", name, e);
+    }
+  }
+
+  private void pollAlone(Entry<V> entry) {
+    pollCount.incrementAndGet();
+    try {
+      onPolled(entry, entry.polledJob.poll());
+    } catch (Exception e) {
+      LOGGER.error("{} can not poll job {}", name, entry.polledJob.getJob().getId(), e);
+      reschedule(entry, false);
+    }
+  }
+
+  private void pollBatch(Batch<V> batch, List<Entry<V>> batchEntries) {
+    pollCount.incrementAndGet();
+    List<Job<?>> jobs = new ArrayList<>(batchEntries.size());
+    for (Entry<V> entry : batchEntries) {
+      jobs.add(entry.polledJob.getJob());
+    }
+    Map<String, V> values;
+    try {
+      values = batch.poll(jobs);
+    } catch (Exception e) {
+      // e.g. the interpreter process doesn't support batch polling
+      LOGGER.warn("{} can not poll {} jobs in batch, poll them one by one", name, jobs.size(), e);
+      batchEntries.forEach(this::pollAlone);
+      return;
+    }
+    for (Entry<V> entry : batchEntries) {
+      try {
+        onPolled(entry, values.get(entry.polledJob.getJob().getId()));
+      } catch (Exception e) {
+        LOGGER.error("{} can not update job {}", name, entry.polledJob.getJob().getId(), e);
+        reschedule(entry, false);
+      }
+    }
+  }
+
+  private void onPolled(Entry<V> entry, V value) {
+    boolean changed = value != null && !Objects.equals(value, entry.lastValue);
+    if (value != null) {
+      entry.lastValue = value;
+    }
+    if (entry.polledJob.onPolled(value, changed)) {
+      reschedule(entry, changed);
+    } else {
+      entries.remove(entry.polledJob.getJob(), entry);
+      entry.inFlight.set(false);
+    }
+  }
+
+  private void reschedule(Entry<V> entry, boolean changed) {
+    entry.interval = changed ? entry.initialInterval
+        : Math.min(entry.interval * 2, entry.maxInterval);
+    entry.nextPollTime = clock.getAsLong() + entry.interval;
+    entry.inFlight.set(false);
+  }
+
+  private static class Entry<V> {
+    private final PolledJob<V> polledJob;
+    private final long initialInterval;
+    private final long maxInterval;
+    private final AtomicBoolean inFlight = new AtomicBoolean(false);
+    private volatile long interval;
+    private volatile long nextPollTime;
+    private volatile V lastValue;
+
+    Entry(PolledJob<V> polledJob, long initialInterval, long maxInterval, long firstPollTime) {
+      this.polledJob = polledJob;
+      this.initialInterval = initialInterval;
+      this.maxInterval = maxInterval;
+      this.interval = initialInterval;
+      this.nextPollTime = firstPollTime;
+    }
+  }
+}
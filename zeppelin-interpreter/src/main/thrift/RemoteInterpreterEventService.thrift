@@ -135,6 +135,10 @@ service RemoteInterpreterEventService {
   list<string> getAllResources(1: string intpGroupId) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
   binary getResource(1: string resourceIdJson) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
   binary invokeMethod(1: string intpGroupId, 2: string invokeMethodJson) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
+  void putResource(1: string intpGroupId, 2: string json) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
+  void removeResource(1: string intpGroupId, 2: string resourceIdJson) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
+  list<string> lookupResources(1: string resourceIdJson) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
+  binary getResourceChunk(1: string intpGroupId, 2: string resourceChunkJson) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
 
   list<ParagraphInfo> getParagraphList(1: string user, 2: string noteId) throws (1: RemoteInterpreterService.InterpreterRPCException ex);
 
@@ -105,6 +105,10 @@ service RemoteInterpreterService {
   void shutdown();
 
   string getStatus(1: string sessionId, 2:string jobId) throws (1: InterpreterRPCException ex);
+  // statuses of the given jobs in all the sessions, UNKNOWN for the jobs not found
+  map<string, string> getStatuses(1: list<string> jobIds) throws (1: InterpreterRPCException ex);
+  // progresses of the given running paragraphs, paragraphs which are not running are left out
+  map<string, i32> getProgresses(1: list<string> paragraphIds) throws (1: InterpreterRPCException ex);
 
   list<string> resourcePoolGetAll() throws (1: InterpreterRPCException ex);
   // get value of resource
@@ -113,6 +117,8 @@ service RemoteInterpreterService {
   bool resourceRemove(1: string sessionId, 2: string paragraphId, 3:string resourceName) throws (1: InterpreterRPCException ex);
   // invoke method on resource
   binary resourceInvokeMethod(1: string sessionId, 2: string paragraphId, 3:string resourceName, 4:string invokeMessage) throws (1: InterpreterRPCException ex);
+  // get a chunk of the serialized value of resource
+  binary resourceGetChunk(1: string sessionId, 2: string paragraphId, 3:string resourceName, 4:string chunkMessage) throws (1: InterpreterRPCException ex);
 
   void angularObjectUpdate(1: string name, 2: string sessionId, 3: string paragraphId, 4: string object) throws (1: InterpreterRPCException ex);
   void angularObjectAdd(1: string name, 2: string sessionId, 3: string paragraphId, 4: string object) throws (1: InterpreterRPCException ex);
@@ -20,6 +20,9 @@ package org.apache.zeppelin.dep;
 import org.apache.commons.io.FileUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.eclipse.aether.RepositoryException;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -29,7 +32,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 class DependencyResolverTest {
@@ -104,6 +115,105 @@ class DependencyResolverTest {
     });
   }
 
+  @Test
+  void testConcurrentLoads() throws Exception {
+    File jar = new File(tmpDir, "a-1.0.jar");
+    FileUtils.touch(jar);
+    AtomicInteger resolutions = new AtomicInteger();
+    DependencyResolver countingResolver =
+        new DependencyResolver(testPath, ZeppelinConfiguration.load()) {
+      @Override
+      public List<ArtifactResult> getArtifactsWithDep(String dependency,
+                                                      Collection<String> excludes)
+          throws RepositoryException {
+        resolutions.incrementAndGet();
+        try {
+          Thread.sleep(200);
+        } catch (InterruptedException e) {
+          throw new RepositoryException("interrupted", e);
+        }
+        if (dependency.startsWith("invalid")) {
+          throw new RepositoryException("Cannot fetch dependencies for " + dependency);
+        }
+        ArtifactResult result = new ArtifactResult(new ArtifactRequest());
+        result.setArtifact(new DefaultArtifact(dependency).setFile(jar));
+        return Collections.singletonList(result);
+      }
+    };
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<List<File>>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> countingResolver.load("org.test:a:1.0")));
+      }
+      for (Future<List<File>> future : futures) {
+        assertEquals(Collections.singletonList(jar), future.get(10, TimeUnit.SECONDS));
+      }
+      // the concurrent loads share one resolution, which is cached
+      assertEquals(1, resolutions.get());
+      countingResolver.load("org.test:a:1.0");
+      assertEquals(1, resolutions.get());
+
+      // different exclusions and changed repositories resolve it again
+      countingResolver.load("org.test:a:1.0", Collections.singletonList("org.test:b"));
+      assertEquals(2, resolutions.get());
+      countingResolver.addRepo("test", tmpDir.toURI().toString(), false);
+      countingResolver.load("org.test:a:1.0");
+      assertEquals(3, resolutions.get());
+
+      // failures are not cached
+      assertThrows(RepositoryException.class, () -> countingResolver.load("invalid:a:1.0"));
+      assertThrows(RepositoryException.class, () -> countingResolver.load("invalid:a:1.0"));
+      assertEquals(5, resolutions.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testResolutionsDoNotOverlap() throws Exception {
+    File jar = new File(tmpDir, "a-1.0.jar");
+    FileUtils.touch(jar);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    DependencyResolver trackingResolver =
+        new DependencyResolver(testPath, ZeppelinConfiguration.load()) {
+      @Override
+      public List<ArtifactResult> getArtifactsWithDep(String dependency,
+                                                      Collection<String> excludes)
+          throws RepositoryException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException e) {
+          throw new RepositoryException("interrupted", e);
+        } finally {
+          running.decrementAndGet();
+        }
+        ArtifactResult result = new ArtifactResult(new ArtifactRequest());
+        result.setArtifact(new DefaultArtifact(dependency).setFile(jar));
+        return Collections.singletonList(result);
+      }
+    };
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<File>>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        String artifact = "org.test:a" + i + ":1.0";
+        futures.add(executor.submit(() -> trackingResolver.load(artifact)));
+      }
+      for (Future<List<File>> future : futures) {
+        assertEquals(Collections.singletonList(jar), future.get(10, TimeUnit.SECONDS));
+      }
+      // different artifacts share the local repository, they are resolved one at a time
+      assertEquals(1, maxRunning.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void should_throw_exception_if_dependency_not_found() throws Exception {
     FileNotFoundException exception = assertThrows(FileNotFoundException.class, () -> {
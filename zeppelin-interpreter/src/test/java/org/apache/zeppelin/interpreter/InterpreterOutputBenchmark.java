@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the per-byte write path of {@link InterpreterOutput} with the bulk one, using
+ * chunks of log-like text. Run it with the main method from the test classpath, e.g. in the IDE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterpreterOutputBenchmark {
+
+  @Param({"80", "1024"})
+  public int lineLength;
+
+  private byte[] chunk;
+  private InterpreterOutput out;
+
+  @Setup
+  public void setUp() {
+    StringBuilder line = new StringBuilder("INFO [Executor task launch worker] ");
+    while (line.length() < lineLength - 1) {
+      line.append('x');
+    }
+    line.setLength(lineLength - 1);
+    line.append('\n');
+
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < 64 * 1024) {
+      sb.append(line);
+    }
+    chunk = sb.toString().getBytes(StandardCharsets.UTF_8);
+    InterpreterOutput.LIMIT = Integer.MAX_VALUE;
+  }
+
+  @Setup(Level.Invocation)
+  public void newOutput() {
+    out = new InterpreterOutput();
+  }
+
+  @Benchmark
+  public InterpreterOutput perByteWrite() throws IOException {
+    for (byte b : chunk) {
+      out.write(b);
+    }
+    return out;
+  }
+
+  @Benchmark
+  public InterpreterOutput bulkWrite() throws IOException {
+    out.write(chunk, 0, chunk.length);
+    return out;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(InterpreterOutputBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -201,6 +201,54 @@ class InterpreterOutputTest implements InterpreterOutputListener {
     InterpreterOutput.LIMIT = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
   }
 
+  @Test
+  void testBulkWriteIsSameAsPerByteWrite() throws IOException {
+    String[] inputs = {
+        "hello\nworld",
+        "%html <h3>hello</h3>\n%text world\n",
+        "%table key\tvalue\nhello\t100\n\n%text done",
+        "progress 10%\rprogress 50%\rprogress 100%\n",
+        "%unknown display system\n%%text\n",
+        "\n\n%text hello\n"
+    };
+    for (String input : inputs) {
+      InterpreterOutput perByte = new InterpreterOutput(this);
+      for (byte b : input.getBytes()) {
+        perByte.write(b);
+      }
+      perByte.flush();
+
+      InterpreterOutput bulk = new InterpreterOutput(this);
+      // write with a non-zero offset to check offset handling as well
+      byte[] padded = ("xx" + input).getBytes();
+      bulk.write(padded, 2, padded.length - 2);
+      bulk.flush();
+
+      assertEquals(perByte.size(), bulk.size(), input);
+      for (int i = 0; i < perByte.size(); i++) {
+        assertEquals(perByte.getOutputAt(i).getType(), bulk.getOutputAt(i).getType(), input);
+        assertEquals(new String(perByte.getOutputAt(i).toByteArray()),
+            new String(bulk.getOutputAt(i).toByteArray()), input);
+      }
+      perByte.close();
+      bulk.close();
+    }
+  }
+
+  @Test
+  void testBulkWriteTruncate() throws IOException {
+    InterpreterOutput.LIMIT = 10;
+    out = new InterpreterOutput(this);
+
+    out.write("%text hello world\nmore\n".getBytes());
+    assertEquals(2, out.size());
+    assertEquals("hello world", new String(out.getOutputAt(0).toByteArray()));
+    out.getOutputAt(1).flush();
+    assertTrue(new String(out.getOutputAt(1).toByteArray()).contains("truncated"));
+
+    // restore default
+    InterpreterOutput.LIMIT = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+  }
 
   @Override
   public void onUpdateAll(InterpreterOutput out) {
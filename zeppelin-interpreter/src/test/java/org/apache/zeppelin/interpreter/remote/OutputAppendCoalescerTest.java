@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutputAppendCoalescerTest {
+
+  private final List<String> sent = Collections.synchronizedList(new LinkedList<>());
+  private final CountDownLatch threeSent = new CountDownLatch(3);
+
+  private void send(String noteId, String paragraphId, int index, String data) {
+    sent.add(noteId + ":" + paragraphId + ":" + index + ":" + data);
+    threeSent.countDown();
+  }
+
+  @Test
+  void testMergeAppendsOfSameParagraph() throws InterruptedException {
+    OutputAppendCoalescer coalescer = new OutputAppendCoalescer(this::send, 300, 1024);
+    coalescer.append("note1", "p1", 0, "line1\n");
+    coalescer.append("note1", "p1", 0, "line2\n");
+    coalescer.append("note1", "p1", 1, "line3\n");
+    coalescer.append("note1", "p2", 0, "line4\n");
+    assertTrue(sent.isEmpty());
+
+    // sent by the scheduled flush once the window expires
+    assertTrue(threeSent.await(10, TimeUnit.SECONDS));
+    assertEquals(3, sent.size());
+    assertTrue(sent.contains("note1:p1:0:line1\nline2\n"));
+    assertTrue(sent.contains("note1:p1:1:line3\n"));
+    assertTrue(sent.contains("note1:p2:0:line4\n"));
+    // appends of the same paragraph keep their order
+    assertTrue(sent.indexOf("note1:p1:0:line1\nline2\n") < sent.indexOf("note1:p1:1:line3\n"));
+  }
+
+  @Test
+  void testExplicitFlush() {
+    OutputAppendCoalescer coalescer = new OutputAppendCoalescer(this::send, 60 * 1000, 1024);
+    coalescer.append("note1", "p1", 0, "line1\n");
+    coalescer.append("note1", "p2", 0, "line2\n");
+    coalescer.flush("note1", "p1");
+    assertEquals(1, sent.size());
+    assertEquals("note1:p1:0:line1\n", sent.get(0));
+
+    coalescer.close();
+    assertEquals(2, sent.size());
+    assertEquals("note1:p2:0:line2\n", sent.get(1));
+  }
+
+  @Test
+  void testFlushWhenBufferIsFull() {
+    OutputAppendCoalescer coalescer = new OutputAppendCoalescer(this::send, 60 * 1000, 10);
+    coalescer.append("note1", "p1", 0, "12345");
+    assertTrue(sent.isEmpty());
+    coalescer.append("note1", "p1", 0, "67890");
+    assertEquals(1, sent.size());
+    assertEquals("note1:p1:0:1234567890", sent.get(0));
+  }
+
+  @Test
+  void testDisabled() {
+    OutputAppendCoalescer coalescer = new OutputAppendCoalescer(this::send, 0, 1024);
+    coalescer.append("note1", "p1", 0, "line1\n");
+    coalescer.append("note1", "p1", 0, "line2\n");
+    assertEquals(2, sent.size());
+  }
+}
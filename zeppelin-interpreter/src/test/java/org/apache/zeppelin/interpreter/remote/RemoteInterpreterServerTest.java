@@ -23,22 +23,29 @@ import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.LazyOpenInterpreter;
+import org.apache.zeppelin.interpreter.thrift.InterpreterRPCException;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
+import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceId;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -216,6 +223,62 @@ class RemoteInterpreterServerTest {
     assertEquals(false, isThreadRunning(interpreter1.getScheduler().getName()));
   }
 
+  @Test
+  void testResourceGetChunk() throws Exception {
+    RemoteInterpreterServer server = new RemoteInterpreterServer("localhost",
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces(), ":", "groupId", true);
+    server.init(new HashMap<>());
+    server.intpEventClient = mock(RemoteInterpreterEventClient.class);
+    Map<String, String> intpProperties = new HashMap<>();
+    intpProperties.put("zeppelin.interpreter.localRepo", "/tmp");
+    server.createInterpreter("group_1", "session_1", Test1Interpreter.class.getName(),
+        intpProperties, "user_1");
+    // the size of the serialized value is a multiple of the chunk size
+    byte[] value = new byte[10000];
+    ByteBuffer serialized = Resource.serializeObject(value);
+    if (serialized.remaining() % 2 != 0) {
+      value = new byte[10001];
+      serialized = Resource.serializeObject(value);
+    }
+    int chunkSize = serialized.remaining() / 2;
+    server.getResourcePool().put("note_1", "paragraph_1", "resource_1", value);
+    ResourceId resourceId = server.getResourcePool()
+        .get("note_1", "paragraph_1", "resource_1").getResourceId();
+
+    // two reads of the same resource at the same time
+    ByteArrayOutputStream read1 = new ByteArrayOutputStream();
+    ByteArrayOutputStream read2 = new ByteArrayOutputStream();
+    boolean done1 = false;
+    boolean done2 = false;
+    while (!done1 || !done2) {
+      if (!done1) {
+        done1 = readChunk(server, new ResourceChunkEventMessage(resourceId, "read_1",
+            read1.size(), chunkSize), read1);
+      }
+      if (!done2) {
+        done2 = readChunk(server, new ResourceChunkEventMessage(resourceId, "read_2",
+            read2.size(), chunkSize), read2);
+      }
+    }
+    assertArrayEquals(read1.toByteArray(), read2.toByteArray());
+    assertEquals(serialized, ByteBuffer.wrap(read1.toByteArray()));
+
+    // the serialized value is evicted once the last chunk is read
+    assertThrows(InterpreterRPCException.class, () -> server.resourceGetChunk("note_1",
+        "paragraph_1", "resource_1",
+        new ResourceChunkEventMessage(resourceId, "read_1", chunkSize, chunkSize).toJson()));
+  }
+
+  private boolean readChunk(RemoteInterpreterServer server, ResourceChunkEventMessage message,
+                            ByteArrayOutputStream out) throws TException {
+    ByteBuffer chunk = server.resourceGetChunk("note_1", "paragraph_1", "resource_1",
+        message.toJson());
+    byte[] bytes = new byte[chunk.remaining()];
+    chunk.get(bytes);
+    out.write(bytes, 0, bytes.length);
+    return bytes.length < message.length;
+  }
+
   private boolean isThreadRunning(String schedulerName) {
     boolean res = false;
     Set<Thread> threads = Thread.getAllStackTraces().keySet();
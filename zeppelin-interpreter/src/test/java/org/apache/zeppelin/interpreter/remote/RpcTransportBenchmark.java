@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Load test of the thrift transports of the rpc from interpreter processes to zeppelin server.
+ * Every simulated interpreter process has its own connection pool to the event server, all the
+ * connections of the pools are opened before the measurement. Throughput and latency (SampleTime) of
+ * appendOutput calls are measured by JMH, the number of threads started by the server for the
+ * idle and busy connections is printed in the end of each trial.
+ * Run it with the main method from the test classpath, e.g. in the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(64)
+@Fork(1)
+public class RpcTransportBenchmark {
+
+  @Param({"blocking", "nonblocking"})
+  public String transport;
+
+  @Param({"100", "300"})
+  public int processes;
+
+  @Param({"10"})
+  public int connectionPoolSize;
+
+  private RpcTransport rpcTransport;
+  private TServerTransport serverTransport;
+  private TServer server;
+  private List<PooledRemoteClient<RemoteInterpreterEventService.Client>> clients;
+  private List<TTransport> idleConnections;
+  private int threadsBeforeServer;
+
+  @Setup
+  public void setUp() throws Exception {
+    rpcTransport = RpcTransport.of(transport);
+    threadsBeforeServer = ManagementFactory.getThreadMXBean().getThreadCount();
+    serverTransport = rpcTransport.createServerTransport(
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces());
+    RemoteInterpreterEventService.Iface handler = (RemoteInterpreterEventService.Iface)
+        Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{RemoteInterpreterEventService.Iface.class}, (proxy, method, args) -> null);
+    server = rpcTransport.createServer(serverTransport,
+        new RemoteInterpreterEventService.Processor<>(handler), "RpcTransportBenchmark", 1000);
+    new Thread(server::serve, "RpcTransportBenchmark-Server").start();
+    while (!server.isServing()) {
+      Thread.sleep(100);
+    }
+
+    int port = RpcTransport.getLocalPort(serverTransport);
+    clients = new ArrayList<>();
+    idleConnections = new ArrayList<>();
+    for (int i = 0; i < processes; i++) {
+      clients.add(new PooledRemoteClient<>(() -> createClient(port), connectionPoolSize));
+      // the other connections of the pool, which are opened by a busy interpreter process
+      // and are idle most of the time
+      for (int j = 1; j < connectionPoolSize; j++) {
+        idleConnections.add(rpcTransport.openClientTransport("localhost", port));
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    // threads of clients are not started, the difference is the threads of the server
+    int serverThreads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBeforeServer;
+    System.out.printf("%n%s transport, %d processes x %d connections: %d server threads%n",
+        transport, processes, connectionPoolSize, serverThreads);
+    for (PooledRemoteClient<RemoteInterpreterEventService.Client> client : clients) {
+      client.close();
+    }
+    for (TTransport connection : idleConnections) {
+      connection.close();
+    }
+    server.stop();
+    serverTransport.close();
+  }
+
+  @Benchmark
+  public void appendOutput() {
+    PooledRemoteClient<RemoteInterpreterEventService.Client> client =
+        clients.get(ThreadLocalRandom.current().nextInt(clients.size()));
+    client.callRemoteFunction(c -> {
+      c.appendOutput(new OutputAppendEvent("note", "paragraph", 0, "output line\n", null));
+      return null;
+    });
+  }
+
+  private RemoteInterpreterEventService.Client createClient(int port) throws IOException {
+    try {
+      return new RemoteInterpreterEventService.Client(
+          new TBinaryProtocol(rpcTransport.openClientTransport("localhost", port)));
+    } catch (TTransportException e) {
+      throw new IOException(e);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(RpcTransportBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
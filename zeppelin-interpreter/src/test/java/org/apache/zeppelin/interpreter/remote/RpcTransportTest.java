@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RpcTransportTest {
+
+  @Test
+  void testOf() {
+    assertEquals(RpcTransport.BLOCKING, RpcTransport.of("blocking"));
+    assertEquals(RpcTransport.NONBLOCKING, RpcTransport.of(" NonBlocking "));
+    assertThrows(IllegalArgumentException.class, () -> RpcTransport.of("netty"));
+  }
+
+  @Test
+  void testConcurrentCalls() throws Exception {
+    for (RpcTransport rpcTransport : RpcTransport.values()) {
+      ConcurrentLinkedQueue<OutputAppendEvent> events = new ConcurrentLinkedQueue<>();
+      try (TServerTransport serverTransport = rpcTransport.createServerTransport(
+          RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces())) {
+        TServer server = startServer(rpcTransport, serverTransport, events);
+        int port = RpcTransport.getLocalPort(serverTransport);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (PooledRemoteClient<RemoteInterpreterEventService.Client> remoteClient =
+                 new PooledRemoteClient<>(() -> createClient(rpcTransport, port), 4)) {
+          List<Future<?>> futures = new ArrayList<>();
+          for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+              for (int j = 0; j < 100; j++) {
+                remoteClient.callRemoteFunction(client -> {
+                  client.appendOutput(new OutputAppendEvent("note", "paragraph", 0, "data", null));
+                  return null;
+                });
+              }
+            }));
+          }
+          for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+          }
+          // larger than the default max frame size of thrift
+          String largeOutput = StringUtils.repeat("x", 20 * 1024 * 1024);
+          remoteClient.callRemoteFunction(client -> {
+            client.appendOutput(new OutputAppendEvent("note", "paragraph", 0, largeOutput, null));
+            return null;
+          });
+        } finally {
+          executor.shutdownNow();
+          server.stop();
+        }
+        assertEquals(801, events.size(), rpcTransport.name());
+        assertTrue(events.stream().anyMatch(event -> event.getData().length() == 20 * 1024 * 1024));
+      }
+    }
+  }
+
+  private TServer startServer(RpcTransport rpcTransport,
+                              TServerTransport serverTransport,
+                              ConcurrentLinkedQueue<OutputAppendEvent> events)
+      throws InterruptedException {
+    RemoteInterpreterEventService.Iface handler = (RemoteInterpreterEventService.Iface)
+        Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{RemoteInterpreterEventService.Iface.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("appendOutput")) {
+                events.add((OutputAppendEvent) args[0]);
+              }
+              return null;
+            });
+    TServer server = rpcTransport.createServer(serverTransport,
+        new RemoteInterpreterEventService.Processor<>(handler), "RpcTransportTest", 1000);
+    new Thread(server::serve, "RpcTransportTest-Server").start();
+    long start = System.currentTimeMillis();
+    while (!server.isServing() && System.currentTimeMillis() - start < 10 * 1000) {
+      Thread.sleep(100);
+    }
+    assertTrue(server.isServing());
+    return server;
+  }
+
+  private static RemoteInterpreterEventService.Client createClient(RpcTransport rpcTransport,
+                                                                  int port) throws IOException {
+    try {
+      return new RemoteInterpreterEventService.Client(
+          new TBinaryProtocol(rpcTransport.openClientTransport("localhost", port)));
+    } catch (TTransportException e) {
+      throw new IOException(e);
+    }
+  }
+}
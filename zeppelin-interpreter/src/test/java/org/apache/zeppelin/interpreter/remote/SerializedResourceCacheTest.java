@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SerializedResourceCacheTest {
+
+  private final AtomicInteger serializations = new AtomicInteger();
+
+  private ByteBuffer serialize() {
+    serializations.incrementAndGet();
+    return ByteBuffer.wrap(new byte[250]);
+  }
+
+  @Test
+  void testSerializeOncePerRead() throws IOException {
+    SerializedResourceCache cache = new SerializedResourceCache();
+    int offset = 0;
+    while (true) {
+      ByteBuffer chunk = cache.getChunk(
+          new ResourceChunkEventMessage(null, "read1", offset, 100), this::serialize);
+      offset += chunk.remaining();
+      if (chunk.remaining() < 100) {
+        break;
+      }
+    }
+    assertEquals(250, offset);
+    assertEquals(1, serializations.get());
+    // released after the last chunk
+    assertEquals(0, cache.size());
+    assertNull(cache.getChunk(
+        new ResourceChunkEventMessage(null, "read1", 100, 100), this::serialize));
+  }
+
+  @Test
+  void testExpire() throws IOException {
+    SerializedResourceCache cache = new SerializedResourceCache(-1);
+    cache.getChunk(new ResourceChunkEventMessage(null, "read1", 0, 100), this::serialize);
+    assertNull(cache.getChunk(
+        new ResourceChunkEventMessage(null, "read1", 100, 100), this::serialize));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testMissingResource() throws IOException {
+    SerializedResourceCache cache = new SerializedResourceCache();
+    assertEquals(0, cache.getChunk(
+        new ResourceChunkEventMessage(null, "read1", 0, 100), () -> null).remaining());
+    assertEquals(0, cache.size());
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.interpreter.remote.ResourceChunkEventMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares java and kryo serialization of a table-like resource (rows of doubles) of different
+ * sizes up to 1GB, including the reassembly of the chunks the resource is transferred in.
+ * Run it with the main method from the test classpath, e.g. in the IDE. The 1GB case holds the
+ * table, its serialized value and the deserialized copy at once, hence the 8GB heap of the fork.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ResourceSerializerBenchmark {
+
+  private static final int ROW_LENGTH = 128;
+  private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+  @Param({"1024", "1048576", "67108864", "1073741824"})
+  public long payloadBytes;
+
+  @Param({"java", "kryo"})
+  public String serializer;
+
+  private ArrayList<double[]> rows;
+  private ResourceSerializer resourceSerializer;
+  private ByteBuffer serialized;
+
+  @Setup
+  public void setUp() throws IOException {
+    int numRows = (int) Math.max(1, payloadBytes / (ROW_LENGTH * Double.BYTES));
+    rows = new ArrayList<>(numRows);
+    for (int i = 0; i < numRows; i++) {
+      double[] row = new double[ROW_LENGTH];
+      for (int j = 0; j < ROW_LENGTH; j++) {
+        row[j] = i * ROW_LENGTH + j;
+      }
+      rows.add(row);
+    }
+    ResourceSerializers.setDefault(serializer);
+    resourceSerializer = ResourceSerializers.getDefault();
+    serialized = ResourceSerializers.serialize(rows, resourceSerializer);
+  }
+
+  @Benchmark
+  public ByteBuffer serialize() throws IOException {
+    return ResourceSerializers.serialize(rows, resourceSerializer);
+  }
+
+  @Benchmark
+  public Object deserialize() throws IOException, ClassNotFoundException {
+    return ResourceSerializers.deserialize(serialized.duplicate());
+  }
+
+  @Benchmark
+  public Object deserializeChunks() throws IOException, ClassNotFoundException {
+    ResourceChunkInputStream in = new ResourceChunkInputStream(offset ->
+        new ResourceChunkEventMessage(null, null, offset, CHUNK_SIZE).chunkOf(serialized),
+        CHUNK_SIZE);
+    Object value = ResourceSerializers.deserialize(in);
+    in.readToEnd();
+    return value;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(ResourceSerializerBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
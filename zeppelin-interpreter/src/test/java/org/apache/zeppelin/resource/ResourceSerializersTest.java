@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.apache.zeppelin.interpreter.remote.ResourceChunkEventMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceSerializersTest {
+
+  /**
+   * Serializable class without no-arg constructor.
+   */
+  static class Row implements Serializable {
+    private final String name;
+    private final double[] values;
+    private transient String cache = "cache";
+
+    Row(String name, double[] values) {
+      this.name = name;
+      this.values = values;
+    }
+  }
+
+  /**
+   * Singleton which relies on readResolve.
+   */
+  static class Singleton implements Serializable {
+    static final Singleton INSTANCE = new Singleton();
+
+    private Singleton() {
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+      return INSTANCE;
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    ResourceSerializers.setDefault("kryo");
+  }
+
+  @Test
+  void testRoundTrip() throws IOException, ClassNotFoundException {
+    Map<String, Object> map = new HashMap<>();
+    map.put("row", new Row("r1", new double[]{1.0, 2.0}));
+    map.put("list", new ArrayList<>(List.of(1, 2, 3)));
+
+    for (String serializer : new String[]{"kryo", "java"}) {
+      ResourceSerializers.setDefault(serializer);
+      ByteBuffer buffer = Resource.serializeObject(map);
+      assertEquals(ResourceSerializers.getDefault().id(), buffer.get(buffer.position()));
+
+      Map<String, Object> result = (Map<String, Object>) Resource.deserializeObject(buffer);
+      Row row = (Row) result.get("row");
+      assertEquals("r1", row.name);
+      assertEquals(2.0, row.values[1]);
+      assertNull(row.cache);
+      assertEquals(List.of(1, 2, 3), result.get("list"));
+    }
+  }
+
+  @Test
+  void testCustomJavaSerialization() throws IOException, ClassNotFoundException {
+    assertTrue(KryoResourceSerializer.hasCustomJavaSerialization(Singleton.class));
+    assertFalse(KryoResourceSerializer.hasCustomJavaSerialization(Row.class));
+    assertSame(Singleton.INSTANCE,
+        Resource.deserializeObject(Resource.serializeObject(Singleton.INSTANCE)));
+  }
+
+  @Test
+  void testEmptyBuffer() throws IOException, ClassNotFoundException {
+    assertNull(Resource.deserializeObject(ByteBuffer.allocate(0)));
+    assertNull(Resource.serializeObject(new Object()));
+  }
+
+  @Test
+  void testDeserializeChunks() throws IOException, ClassNotFoundException {
+    double[] values = new double[10000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+    ByteBuffer serialized = Resource.serializeObject(new Row("r1", values));
+
+    List<Integer> offsets = new ArrayList<>();
+    ResourceChunkInputStream in = chunkInputStream(serialized, 1000, offsets);
+    // chunks are read one by one, when the previous one is consumed
+    in.read();
+    assertEquals(1, offsets.size());
+    in = chunkInputStream(serialized, 1000, offsets);
+    offsets.clear();
+    Row row = (Row) ResourceSerializers.deserialize(in);
+    in.readToEnd();
+    assertEquals(9999.0, row.values[9999]);
+    assertEquals(serialized.remaining() / 1000 + 1, offsets.size());
+    assertEquals(-1, in.read());
+
+    // a value whose size is a multiple of the chunk size ends with an empty chunk
+    offsets.clear();
+    in = chunkInputStream(serialized, serialized.remaining(), offsets);
+    row = (Row) ResourceSerializers.deserialize(in);
+    in.readToEnd();
+    assertEquals(9999.0, row.values[9999]);
+    assertEquals(Arrays.asList(0, serialized.remaining()), offsets);
+  }
+
+  private ResourceChunkInputStream chunkInputStream(ByteBuffer serialized, int chunkSize,
+                                                    List<Integer> offsets) {
+    return new ResourceChunkInputStream(offset -> {
+      offsets.add(offset);
+      ResourceChunkEventMessage message =
+          new ResourceChunkEventMessage(null, null, offset, chunkSize);
+      ByteBuffer chunk = message.chunkOf(serialized);
+      assertEquals(message.isLastChunkOf(serialized), chunk.remaining() < chunkSize);
+      return chunk;
+    }, chunkSize);
+  }
+
+  @Test
+  void testUnknownSerializer() {
+    ResourceSerializers.setDefault("java");
+    ResourceSerializers.setDefault("org.apache.zeppelin.NoSuchSerializer");
+    assertEquals("java", ResourceSerializers.getDefault().name());
+  }
+}
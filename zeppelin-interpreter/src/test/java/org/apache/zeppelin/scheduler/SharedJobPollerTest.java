@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SharedJobPollerTest {
+
+  private long now = 0;
+  private SharedJobPoller<Integer> poller;
+
+  @BeforeEach
+  void setUp() {
+    // polls run inline in tick(), which the test drives itself along with the clock
+    ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(executor).execute(any(Runnable.class));
+    poller = new SharedJobPoller<>("test", executor, () -> now);
+  }
+
+  /**
+   * Tick at now, then every {@link SharedJobPoller#TICK_MSEC} up to now + ms.
+   */
+  private void runFor(long ms) {
+    long end = now + ms;
+    poller.tick();
+    while (now < end) {
+      now += SharedJobPoller.TICK_MSEC;
+      poller.tick();
+    }
+  }
+
+  private static SharedJobPoller.Batch<Integer> batch(AtomicInteger batchCalls,
+                                                      AtomicInteger polledJobs) {
+    return jobs -> {
+      batchCalls.incrementAndGet();
+      polledJobs.addAndGet(jobs.size());
+      Map<String, Integer> values = new HashMap<>();
+      for (Job<?> job : jobs) {
+        values.put(job.getId(), 10);
+      }
+      return values;
+    };
+  }
+
+  @Test
+  void testBatch() {
+    AtomicInteger batchCalls = new AtomicInteger();
+    AtomicInteger polledJobs = new AtomicInteger();
+    SharedJobPoller.Batch<Integer> batch = batch(batchCalls, polledJobs);
+
+    List<TestPolledJob> testJobs = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      TestPolledJob testJob = new TestPolledJob("job_" + i, batch);
+      testJobs.add(testJob);
+      poller.add(testJob, 100, 100);
+    }
+    runFor(1000);
+
+    // polled at 0, 100, ..., 1000 ms, all the jobs in one call each time
+    for (TestPolledJob testJob : testJobs) {
+      assertEquals(11, testJob.polled.get());
+      assertEquals(10, testJob.lastValue);
+    }
+    assertEquals(11, batchCalls.get());
+    assertEquals(11, poller.getPollCount());
+    assertEquals(1100, polledJobs.get());
+
+    for (TestPolledJob testJob : testJobs) {
+      poller.remove(testJob.getJob());
+    }
+    assertEquals(0, poller.size());
+  }
+
+  @Test
+  void testBackoff() {
+    TestPolledJob unchanged = new TestPolledJob("unchanged", null);
+    TestPolledJob changing = new TestPolledJob("changing", null);
+    changing.changing = true;
+    poller.add(unchanged, 50, 400);
+    poller.add(changing, 50, 400);
+    runFor(1500);
+
+    // interval of the unchanged value doubles up to 400ms after the first value,
+    // the changing one stays at 50ms
+    assertEquals(Arrays.asList(0L, 50L, 150L, 350L, 750L, 1150L), unchanged.pollTimes);
+    assertEquals(1, unchanged.changes.get());
+    assertEquals(31, changing.polled.get());
+    assertEquals(31, changing.changes.get());
+  }
+
+  @Test
+  void testBackoffReset() {
+    TestPolledJob testJob = new TestPolledJob("job", null);
+    poller.add(testJob, 50, 400);
+    runFor(750);
+    assertEquals(Arrays.asList(0L, 50L, 150L, 350L, 750L), testJob.pollTimes);
+
+    // a change brings the interval back to 50ms
+    testJob.changing = true;
+    runFor(1000);
+    assertEquals(Arrays.asList(0L, 50L, 150L, 350L, 750L, 1150L, 1200L, 1250L),
+        testJob.pollTimes.subList(0, 8));
+  }
+
+  @Test
+  void testStopPolling() {
+    TestPolledJob testJob = new TestPolledJob("job", null);
+    testJob.maxPolls = 3;
+    poller.add(testJob, 50, 50);
+    runFor(1000);
+
+    assertEquals(Arrays.asList(0L, 50L, 100L), testJob.pollTimes);
+    assertEquals(0, poller.size());
+  }
+
+  @Test
+  void testPollingCost() {
+    // 100 running paragraphs in 4 interpreter processes, for one minute, with the status
+    // polling intervals of RemoteScheduler while the status doesn't change
+    AtomicInteger polledJobs = new AtomicInteger();
+    AtomicInteger batchCalls = new AtomicInteger();
+    for (int process = 0; process < 4; process++) {
+      SharedJobPoller.Batch<Integer> batch = batch(batchCalls, polledJobs);
+      for (int i = 0; i < 25; i++) {
+        poller.add(new TestPolledJob("job_" + process + "_" + i, batch), 100, 400);
+      }
+    }
+    runFor(60 * 1000);
+
+    // one getStatus call per job every 100ms would be 60000 calls
+    assertEquals(608, poller.getPollCount());
+    assertEquals(608 * 25, polledJobs.get());
+  }
+
+  private class TestPolledJob implements SharedJobPoller.PolledJob<Integer> {
+    private final Job<?> job;
+    private final SharedJobPoller.Batch<Integer> batch;
+    private final AtomicInteger polled = new AtomicInteger();
+    private final AtomicInteger changes = new AtomicInteger();
+    private final List<Long> pollTimes = new ArrayList<>();
+    private volatile Integer lastValue;
+    private volatile boolean changing;
+    private int maxPolls = Integer.MAX_VALUE;
+
+    TestPolledJob(String jobId, SharedJobPoller.Batch<Integer> batch) {
+      this.job = new SleepingJob(jobId, null, 0);
+      this.batch = batch;
+    }
+
+    @Override
+    public Job<?> getJob() {
+      return job;
+    }
+
+    @Override
+    public SharedJobPoller.Batch<Integer> getBatch() {
+      return batch;
+    }
+
+    @Override
+    public Integer poll() {
+      return changing ? polled.get() : 0;
+    }
+
+    @Override
+    public boolean onPolled(Integer value, boolean changed) {
+      pollTimes.add(now);
+      lastValue = value;
+      if (changed) {
+        changes.incrementAndGet();
+      }
+      return polled.incrementAndGet() < maxPolls;
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.launcher;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.ProgressHandler;
+import com.spotify.docker.client.exceptions.DockerException;
+import com.spotify.docker.client.exceptions.ImageNotFoundException;
+import com.spotify.docker.client.messages.ContainerConfig;
+import com.spotify.docker.client.messages.ContainerExit;
+import com.spotify.docker.client.messages.Image;
+import com.spotify.docker.client.messages.ImageInfo;
+import org.apache.zeppelin.interpreter.launcher.utils.TarFileEntry;
+import org.apache.zeppelin.interpreter.launcher.utils.TarUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Image which contains the interpreter files of zeppelin server on top of the configured
+ * container image, so that they are not copied into the container on every interpreter start.
+ *
+ * The image is tagged by a hash of the base image id and the path, size and modification time of
+ * the interpreter files, not of their content. It is built once and reused until the interpreter
+ * files or the base image change, older images of the interpreter group are removed then.
+ * The directories of the interpreter files are cleared in the base image before they are copied,
+ * so that no stale file of the base image is left in them.
+ */
+class DockerInterpreterImage {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DockerInterpreterImage.class);
+
+  private static final String REPOSITORY_PREFIX = "zeppelin-interpreter-";
+  private static final int TAG_LENGTH = 16;
+  // so that an image is built only once by concurrent interpreter starts
+  private static final Map<String, Object> BUILD_LOCKS = new ConcurrentHashMap<>();
+
+  private final String baseImage;
+  private final String repository;
+  // local file or directory -> path in the container
+  private final Map<String, String> files;
+
+  DockerInterpreterImage(String baseImage, String interpreterGroupName, Map<String, String> files) {
+    this.baseImage = baseImage;
+    this.repository = REPOSITORY_PREFIX
+        + interpreterGroupName.toLowerCase().replaceAll("[^a-z0-9._-]", "-");
+    this.files = new TreeMap<>(files);
+  }
+
+  String getRepository() {
+    return repository;
+  }
+
+  /**
+   * @return name of the image with the interpreter files, it is built if it doesn't exist yet
+   */
+  String prepare(DockerClient docker, ProgressHandler progressHandler)
+      throws IOException, DockerException, InterruptedException {
+    ImageInfo baseImageInfo = getBaseImage(docker, progressHandler);
+    String image = repository + ":" + getTag(baseImageInfo.id());
+    synchronized (BUILD_LOCKS.computeIfAbsent(image, key -> new Object())) {
+      if (exists(docker, image)) {
+        LOGGER.info("Reuse interpreter image {}", image);
+        return image;
+      }
+      build(docker, image, baseImageInfo);
+      removeOutdatedImages(docker, image);
+      return image;
+    }
+  }
+
+  private ImageInfo getBaseImage(DockerClient docker, ProgressHandler progressHandler)
+      throws DockerException, InterruptedException {
+    try {
+      return docker.inspectImage(baseImage);
+    } catch (ImageNotFoundException e) {
+      LOGGER.info("wait docker pull image {} ...", baseImage);
+      docker.pull(baseImage, progressHandler);
+      return docker.inspectImage(baseImage);
+    }
+  }
+
+  private static boolean exists(DockerClient docker, String image)
+      throws DockerException, InterruptedException {
+    try {
+      docker.inspectImage(image);
+      return true;
+    } catch (ImageNotFoundException e) {
+      return false;
+    }
+  }
+
+  /**
+   * The content of the interpreter files is not hashed, so that the tag is computed without
+   * reading them on every interpreter start. A file which is replaced by one of the same size and
+   * modification time is not detected, remove the image to rebuild it then.
+   */
+  @VisibleForTesting
+  String getTag(String baseImageId) throws IOException {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(baseImageId, StandardCharsets.UTF_8);
+    for (Map.Entry<String, String> entry : files.entrySet()) {
+      putFile(hasher, new File(entry.getKey()), entry.getValue());
+    }
+    return hasher.hash().toString().substring(0, TAG_LENGTH);
+  }
+
+  private static void putFile(Hasher hasher, File file, String path) throws IOException {
+    if (file.isDirectory()) {
+      File[] children = file.listFiles();
+      if (children == null) {
+        throw new IOException("Can't list directory " + file);
+      }
+      Arrays.sort(children, Comparator.comparing(File::getName));
+      for (File child : children) {
+        putFile(hasher, child, path + "/" + child.getName());
+      }
+    } else {
+      hasher.putString(path, StandardCharsets.UTF_8)
+          .putLong(file.length())
+          .putLong(file.lastModified());
+    }
+  }
+
+  private void build(DockerClient docker, String image, ImageInfo baseImageInfo)
+      throws IOException, DockerException, InterruptedException {
+    LOGGER.info("Build interpreter image {} from {}", image, baseImage);
+    ContainerConfig containerConfig = ContainerConfig.builder()
+        .image(baseImage)
+        .cmd("sh", "-c", removeCommand(files.values()))
+        .build();
+    String containerId = docker.createContainer(containerConfig).id();
+    File tarFile = Files.createTempFile("zeppelin-interpreter-image", ".tar.gz").toFile();
+    try {
+      docker.startContainer(containerId);
+      ContainerExit exit = docker.waitContainer(containerId);
+      if (exit != null && exit.statusCode() != null && exit.statusCode() != 0) {
+        // the files are still copied over the ones of the base image
+        LOGGER.warn("Fail to clear the interpreter directories in {}, exit code {}",
+            baseImage, exit.statusCode());
+      }
+      List<TarFileEntry> tarFileEntries = new ArrayList<>();
+      for (Map.Entry<String, String> entry : files.entrySet()) {
+        tarFileEntries.add(new TarFileEntry(new File(entry.getKey()), entry.getValue()));
+      }
+      TarUtils.compress(tarFile.getAbsolutePath(), tarFileEntries);
+      try (InputStream inputStream = new FileInputStream(tarFile)) {
+        docker.copyToContainer(inputStream, containerId, "/");
+      }
+      String[] repositoryAndTag = image.split(":");
+      // keep the command of the base image instead of the one which cleared the directories
+      ContainerConfig.Builder imageConfig = ContainerConfig.builder().image(baseImage);
+      if (baseImageInfo.config() != null && baseImageInfo.config().cmd() != null) {
+        imageConfig.cmd(baseImageInfo.config().cmd());
+      }
+      docker.commitContainer(containerId, repositoryAndTag[0], repositoryAndTag[1],
+          imageConfig.build(), "Interpreter files of zeppelin server", null);
+    } finally {
+      Files.deleteIfExists(tarFile.toPath());
+      docker.removeContainer(containerId);
+    }
+  }
+
+  /**
+   * @return shell command which removes the paths in the container
+   */
+  static String removeCommand(Collection<String> paths) {
+    StringBuilder command = new StringBuilder("rm -rf");
+    for (String path : paths) {
+      command.append(" '").append(path.replace("'", "'\\''")).append("'");
+    }
+    return command.toString();
+  }
+
+  private void removeOutdatedImages(DockerClient docker, String image) throws InterruptedException {
+    try {
+      for (Image outdatedImage : docker.listImages(DockerClient.ListImagesParam.byName(repository))) {
+        if (outdatedImage.repoTags() == null || outdatedImage.repoTags().contains(image)) {
+          continue;
+        }
+        for (String repoTag : outdatedImage.repoTags()) {
+          LOGGER.info("Remove outdated interpreter image {}", repoTag);
+          docker.removeImage(repoTag);
+        }
+      }
+    } catch (DockerException e) {
+      // e.g. it is still used by a running interpreter, it is removed by the next build
+      LOGGER.warn("Fail to remove outdated interpreter images of {}", repository, e);
+    }
+  }
+}
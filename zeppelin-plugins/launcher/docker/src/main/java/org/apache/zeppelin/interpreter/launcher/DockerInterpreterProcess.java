@@ -40,16 +40,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.spotify.docker.client.DefaultDockerClient;
 import com.spotify.docker.client.DockerClient;
-import com.spotify.docker.client.LogStream;
 import com.spotify.docker.client.ProgressHandler;
 import com.spotify.docker.client.exceptions.DockerException;
 import com.spotify.docker.client.messages.Container;
 import com.spotify.docker.client.messages.ContainerConfig;
 import com.spotify.docker.client.messages.ContainerCreation;
-import com.spotify.docker.client.messages.ExecCreation;
 import com.spotify.docker.client.messages.HostConfig;
 import com.spotify.docker.client.messages.PortBinding;
-import com.spotify.docker.client.messages.ProgressMessage;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.filefilter.FileFilterUtils;
 import org.apache.commons.lang.StringUtils;
@@ -62,7 +59,6 @@ import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_SERVER_KERBEROS_KEYTAB;
 
 public class DockerInterpreterProcess extends RemoteInterpreterProcess {
@@ -93,6 +89,10 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
   @VisibleForTesting
   boolean uploadLocalLibToContainter = true;
 
+  // Build an image with the uploaded local library once, instead of uploading it on every start
+  @VisibleForTesting
+  boolean useInterpreterImageCache = true;
+
   private ZeppelinConfiguration zConf;
 
   private String zeppelinHome;
@@ -106,6 +106,12 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
 
   private static final String CONTAINER_UPLOAD_TAR_DIR = "/tmp/zeppelin-tar";
 
+  private static final ProgressHandler PULL_PROGRESS_HANDLER = message -> {
+    if (null != message.error()) {
+      LOGGER.error(message.toString());
+    }
+  };
+
   public DockerInterpreterProcess(
       ZeppelinConfiguration zConf,
       String containerImage,
@@ -135,6 +141,7 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     containerSparkHome = zConf.getString(ConfVars.ZEPPELIN_DOCKER_CONTAINER_SPARK_HOME);
     uploadLocalLibToContainter = zConf.getBoolean(
         ConfVars.ZEPPELIN_DOCKER_UPLOAD_LOCAL_LIB_TO_CONTAINTER);
+    useInterpreterImageCache = zConf.getBoolean(ConfVars.ZEPPELIN_DOCKER_INTERPRETER_IMAGE_CACHE);
 
     try {
       this.zeppelinHome = getZeppelinHome();
@@ -186,51 +193,65 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     }
     LOGGER.info("dockerCommand = {}", dockerCommand);
 
+    // collected before the envs of the container, they may change them
+    Map<String, String> copyFiles = getRunFiles();
+    // directories in the container whose content is replaced by the copied files
+    List<String> clearedDirs = new ArrayList<>();
+    if (copyFiles.containsValue(containerSparkHome + "/conf")) {
+      clearedDirs.add(containerSparkHome + "/conf");
+    }
+    boolean useInterpreterImage = uploadLocalLibToContainter && useInterpreterImageCache;
+    if (uploadLocalLibToContainter && !useInterpreterImageCache) {
+      Map<String, String> interpreterFiles = getInterpreterFiles();
+      for (Map.Entry<String, String> entry : interpreterFiles.entrySet()) {
+        if (new File(entry.getKey()).isDirectory()) {
+          clearedDirs.add(entry.getValue());
+        }
+      }
+      copyFiles.putAll(interpreterFiles);
+    }
+    String stagingDir = "";
+    if (!clearedDirs.isEmpty()) {
+      stagingDir = CONTAINER_UPLOAD_TAR_DIR;
+      // a created container can't run commands before it is started, so the files are staged
+      // and moved in place by the container, after the directories are cleared
+      dockerCommand = DockerInterpreterImage.removeCommand(clearedDirs)
+          + "; cp -R " + CONTAINER_UPLOAD_TAR_DIR + "/. /"
+          + "; rm -rf " + CONTAINER_UPLOAD_TAR_DIR + "\n" + dockerCommand;
+    }
+
     List<String> listEnv = getListEnvs();
     LOGGER.info("docker listEnv = {}", listEnv);
 
-    // check if the interpreter process exit script
-    // if interpreter process exit, then container need exit
-    StringBuilder sbStartCmd = new StringBuilder();
-    sbStartCmd.append("sleep 20; ");
-    sbStartCmd.append("process=RemoteInterpreterServer; ");
-    sbStartCmd.append("RUNNING_PIDS=$(ps x | grep $process | grep -v grep | awk '{print $1}'); ");
-    sbStartCmd.append("while [ ! -z \"$RUNNING_PIDS\" ]; ");
-    sbStartCmd.append("do sleep 1; ");
-    sbStartCmd.append("RUNNING_PIDS=$(ps x | grep $process | grep -v grep | awk '{print $1}'); ");
-    sbStartCmd.append("done");
-
-    // Create container with exposed ports
-    final ContainerConfig containerConfig = ContainerConfig.builder()
-        .hostConfig(hostConfig)
-        .hostname(this.intpEventServerHost)
-        .image(containerImage)
-        .workingDir("/")
-        .env(listEnv)
-        .cmd("sh", "-c", sbStartCmd.toString())
-        .build();
-
     try {
-      LOGGER.info("wait docker pull image {} ...", containerImage);
-      docker.pull(containerImage, new ProgressHandler() {
-        @Override
-        public void progress(ProgressMessage message) throws DockerException {
-          if (null != message.error()) {
-            LOGGER.error(message.toString());
-          }
-        }
-      });
+      String image = containerImage;
+      if (useInterpreterImage) {
+        image = new DockerInterpreterImage(containerImage, interpreterGroupName,
+            getInterpreterFiles()).prepare(docker, PULL_PROGRESS_HANDLER);
+      } else {
+        LOGGER.info("wait docker pull image {} ...", containerImage);
+        docker.pull(containerImage, PULL_PROGRESS_HANDLER);
+      }
+
+      // The interpreter is the main process of the container, so the container exits with it
+      final ContainerConfig containerConfig = ContainerConfig.builder()
+          .hostConfig(hostConfig)
+          .hostname(this.intpEventServerHost)
+          .image(image)
+          .workingDir("/")
+          .env(listEnv)
+          .cmd("sh", "-c", dockerCommand)
+          .build();
 
       final ContainerCreation containerCreation
           = docker.createContainer(containerConfig, containerName);
       String containerId = containerCreation.id();
 
+      // files are copied before the interpreter starts
+      deployToContainer(containerId, copyFiles, stagingDir);
+
       // Start container
       docker.startContainer(containerId);
-
-      copyRunFileToContainer(containerId);
-
-      execInContainer(containerId, dockerCommand, false);
     } catch (DockerException e) {
       throw new IOException(e);
     } catch (InterruptedException e) {
@@ -241,7 +262,8 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
 
     long startTime = System.currentTimeMillis();
     long timeoutTime = startTime + getConnectTimeout();
-    // wait until interpreter send dockerStarted message through thrift rpc
+    // wait until interpreter send dockerStarted message through thrift rpc,
+    // which is sent once its thrift server is serving
     synchronized (dockerStarted) {
       LOGGER.info("Waiting for interpreter container to be ready");
       while (!dockerStarted.get() && !Thread.currentThread().isInterrupted()) {
@@ -263,21 +285,6 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
         }
       }
     }
-
-    // waits for interpreter thrift rpc server ready
-    while (System.currentTimeMillis() - startTime < getConnectTimeout()) {
-      if (RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(getHost(), getPort())) {
-        break;
-      } else {
-        try {
-          Thread.sleep(1000);
-        } catch (InterruptedException e) {
-          LOGGER.error(e.getMessage(), e);
-          // Restore interrupted state...
-          Thread.currentThread().interrupt();
-        }
-      }
-    }
   }
 
   @Override
@@ -352,11 +359,8 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
       }
     }
     try {
-      // Kill container
-      docker.killContainer(containerName);
-
-      // Remove container
-      docker.removeContainer(containerName);
+      // Kill and remove container, it may have exited with the interpreter already
+      docker.removeContainer(containerName, DockerClient.RemoveContainerParam.forceKill());
     } catch (InterruptedException e) {
       LOGGER.error(e.getMessage(), e);
       // Restore interrupted state...
@@ -445,19 +449,12 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
   // keytab file & zeppelin-site.xml & krb5.conf
   // NOTE: The path to the file uploaded to the container,
   // Can not be repeated, otherwise it will lead to failure.
-  private void copyRunFileToContainer(String containerId)
-      throws IOException, DockerException, InterruptedException {
+  private Map<String, String> getRunFiles() throws IOException {
     HashMap<String, String> copyFiles = new HashMap<>();
 
-    // Rebuild directory
-    rmInContainer(containerId, containerZeppelinHome);
-    mkdirInContainer(containerId, containerZeppelinHome);
-
-
     // 1) zeppelin-site.xml is uploaded to `${CONTAINER_ZEPPELIN_HOME}` directory in the container
     String confPath = "/conf";
     String zeplConfPath = getPathByHome(zeppelinHome, confPath);
-    mkdirInContainer(containerId, containerZeppelinHome);
     String containerZeplConfPath = containerZeppelinHome + confPath;
     copyFiles.put(
         zeplConfPath + "/zeppelin-site.xml", containerZeplConfPath + "/zeppelin-site.xml");
@@ -469,7 +466,6 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     String krb5conf = "/etc/krb5.conf";
     File krb5File = new File(krb5conf);
     if (krb5File.exists()) {
-      rmInContainer(containerId, krb5conf);
       copyFiles.put(krb5conf, krb5conf);
     } else {
       LOGGER.warn("{} file not found, Did not upload the krb5.conf to the container!", krb5conf);
@@ -509,108 +505,63 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
       copyFiles.put(hadoopConfDir, hadoopConfDir);
     }
 
-    // 5) spark conf dir
+    // 5) spark conf dir, it replaces the one of the image
     if (envs.containsKey("SPARK_CONF_DIR")) {
       String sparkConfDir = envs.get("SPARK_CONF_DIR");
-      rmInContainer(containerId, containerSparkHome + "/conf");
-      mkdirInContainer(containerId, containerSparkHome + "/conf");
       copyFiles.put(sparkConfDir, containerSparkHome + "/conf");
       envs.put("SPARK_CONF_DIR", containerSparkHome + "/conf");
     }
+    return copyFiles;
+  }
 
-    if (uploadLocalLibToContainter){
-      // 6) ${ZEPPELIN_HOME}/bin is uploaded to `${CONTAINER_ZEPPELIN_HOME}`
-      //    directory in the container
-      String binPath = "/bin";
-      String zeplBinPath = getPathByHome(zeppelinHome, binPath);
-      String containerZeplBinPath = containerZeppelinHome + binPath;
-      mkdirInContainer(containerId, containerZeplBinPath);
-      docker.copyToContainer(new File(zeplBinPath).toPath(), containerId, containerZeplBinPath);
-
-      // 7) ${ZEPPELIN_HOME}/interpreter/spark is uploaded to `${CONTAINER_ZEPPELIN_HOME}`
-      //    directory in the container
-      String intpGrpPath = "/interpreter/" + interpreterGroupName;
-      String intpGrpAllPath = getPathByHome(zeppelinHome, intpGrpPath);
-      String containerIntpGrpPath = containerZeppelinHome + intpGrpPath;
-      mkdirInContainer(containerId, containerIntpGrpPath);
-      docker.copyToContainer(new File(intpGrpAllPath).toPath(), containerId, containerIntpGrpPath);
-
-      // 8) ${ZEPPELIN_HOME}/lib/interpreter/zeppelin-interpreter-shaded-<version>.jar
-      //    is uploaded to `${CONTAINER_ZEPPELIN_HOME}` directory in the container
-      String intpPath = "/interpreter";
-      String intpAllPath = getPathByHome(zeppelinHome, intpPath);
-      String containerIntpAllPath = containerZeppelinHome + intpPath;
-      Collection<File> listFiles = FileUtils.listFiles(new File(intpAllPath),
-          FileFilterUtils.suffixFileFilter("jar"), null);
-      for (File jarfile : listFiles) {
-        String jarfilePath = jarfile.getAbsolutePath();
-        String jarfileName = jarfile.getName();
-        String containerJarfilePath = containerIntpAllPath + "/" + jarfileName;
-        if (!StringUtils.isBlank(jarfilePath)) {
-          copyFiles.putIfAbsent(jarfilePath, containerJarfilePath);
-        }
+  // local library of the interpreter, which is uploaded if uploadLocalLibToContainter is true
+  private Map<String, String> getInterpreterFiles() throws IOException {
+    Map<String, String> copyFiles = new HashMap<>();
+
+    // 6) ${ZEPPELIN_HOME}/bin is uploaded to `${CONTAINER_ZEPPELIN_HOME}`
+    //    directory in the container
+    String binPath = "/bin";
+    copyFiles.put(getPathByHome(zeppelinHome, binPath), containerZeppelinHome + binPath);
+
+    // 7) ${ZEPPELIN_HOME}/interpreter/spark is uploaded to `${CONTAINER_ZEPPELIN_HOME}`
+    //    directory in the container
+    String intpGrpPath = "/interpreter/" + interpreterGroupName;
+    copyFiles.put(getPathByHome(zeppelinHome, intpGrpPath), containerZeppelinHome + intpGrpPath);
+
+    // 8) ${ZEPPELIN_HOME}/lib/interpreter/zeppelin-interpreter-shaded-<version>.jar
+    //    is uploaded to `${CONTAINER_ZEPPELIN_HOME}` directory in the container
+    String intpPath = "/interpreter";
+    String intpAllPath = getPathByHome(zeppelinHome, intpPath);
+    String containerIntpAllPath = containerZeppelinHome + intpPath;
+    Collection<File> listFiles = FileUtils.listFiles(new File(intpAllPath),
+        FileFilterUtils.suffixFileFilter("jar"), null);
+    for (File jarfile : listFiles) {
+      String jarfilePath = jarfile.getAbsolutePath();
+      String jarfileName = jarfile.getName();
+      String containerJarfilePath = containerIntpAllPath + "/" + jarfileName;
+      if (!StringUtils.isBlank(jarfilePath)) {
+        copyFiles.putIfAbsent(jarfilePath, containerJarfilePath);
       }
     }
-
-    deployToContainer(containerId, copyFiles);
+    return copyFiles;
   }
 
-  private void deployToContainer(String containerId, HashMap<String, String> copyFiles)
+  private void deployToContainer(String containerId, Map<String, String> copyFiles,
+                                 String stagingDir)
       throws InterruptedException, DockerException, IOException {
-    // mkdir CONTAINER_UPLOAD_TAR_DIR
-    mkdirInContainer(containerId, CONTAINER_UPLOAD_TAR_DIR);
-
     // file tar package
-    String tarFile = file2Tar(copyFiles);
+    String tarFile = file2Tar(copyFiles, stagingDir);
 
-    // copy tar to ZEPPELIN_CONTAINER_DIR, auto unzip
+    // copy tar to the root directory, auto unzip, missing directories are created
     try (InputStream inputStream = new FileInputStream(tarFile)) {
-      docker.copyToContainer(inputStream, containerId, CONTAINER_UPLOAD_TAR_DIR);
+      docker.copyToContainer(inputStream, containerId, "/");
     }
 
-    // copy all files in CONTAINER_UPLOAD_TAR_DIR to the root directory
-    cpdirInContainer(containerId, CONTAINER_UPLOAD_TAR_DIR + "/*", "/");
-
     // delete tar file in the local
     Files.delete(Paths.get(tarFile));
   }
 
-  private void mkdirInContainer(String containerId, String path)
-      throws DockerException, InterruptedException {
-    String execCommand = "mkdir " + path + " -p";
-    execInContainer(containerId, execCommand, true);
-  }
-
-  private void rmInContainer(String containerId, String path)
-      throws DockerException, InterruptedException {
-    String execCommand = "rm " + path + " -R";
-    execInContainer(containerId, execCommand, true);
-  }
-
-  private void cpdirInContainer(String containerId, String from, String to)
-      throws DockerException, InterruptedException {
-    String execCommand = "cp " + from + " " + to + " -R";
-    execInContainer(containerId, execCommand, true);
-  }
-
-  private void execInContainer(String containerId, String execCommand, boolean logout)
-      throws DockerException, InterruptedException {
-
-    LOGGER.info("exec container commmand: {}", execCommand);
-
-    final String[] command = {"sh", "-c", execCommand};
-    final ExecCreation execCreation = docker.execCreate(
-        containerId, command, DockerClient.ExecCreateParam.attachStdout(),
-        DockerClient.ExecCreateParam.attachStderr());
-
-    LogStream logStream = docker.execStart(execCreation.id());
-    while (logStream.hasNext() && logout) {
-      final String log = UTF_8.decode(logStream.next().content()).toString();
-      LOGGER.info(log);
-    }
-  }
-
-  private String file2Tar(HashMap<String, String> copyFiles) throws IOException {
+  private String file2Tar(Map<String, String> copyFiles, String stagingDir) throws IOException {
     File tmpDir = Files.createTempDirectory("file2Tar").toFile();
 
     Date date = new Date();
@@ -619,7 +570,7 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     List<TarFileEntry> tarFileEntries = new ArrayList<>();
     for (Map.Entry<String, String> entry : copyFiles.entrySet()) {
       String filePath = entry.getKey();
-      String archivePath = entry.getValue();
+      String archivePath = stagingDir + entry.getValue();
       TarFileEntry tarFileEntry = new TarFileEntry(new File(filePath), archivePath);
       tarFileEntries.add(tarFileEntry);
     }
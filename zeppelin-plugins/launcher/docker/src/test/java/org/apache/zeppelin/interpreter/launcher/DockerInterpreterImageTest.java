@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.launcher;
+
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.ProgressHandler;
+import com.spotify.docker.client.exceptions.ImageNotFoundException;
+import com.spotify.docker.client.messages.ContainerConfig;
+import com.spotify.docker.client.messages.ContainerCreation;
+import com.spotify.docker.client.messages.Image;
+import com.spotify.docker.client.messages.ImageInfo;
+import com.spotify.docker.client.shaded.com.google.common.collect.ImmutableList;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DockerInterpreterImageTest {
+
+  private File zeppelinHome;
+  private Map<String, String> files;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    zeppelinHome = Files.createTempDirectory("DockerInterpreterImageTest").toFile();
+    File binDir = new File(zeppelinHome, "bin");
+    FileUtils.write(new File(binDir, "interpreter.sh"), "echo", StandardCharsets.UTF_8);
+    File intpDir = new File(zeppelinHome, "interpreter/sh");
+    FileUtils.write(new File(intpDir, "zeppelin-shell.jar"), "jar", StandardCharsets.UTF_8);
+    files = new HashMap<>();
+    files.put(binDir.getAbsolutePath(), "/opt/zeppelin/bin");
+    files.put(intpDir.getAbsolutePath(), "/opt/zeppelin/interpreter/sh");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    FileUtils.deleteDirectory(zeppelinHome);
+  }
+
+  @Test
+  void testTag() throws IOException {
+    DockerInterpreterImage image = new DockerInterpreterImage("apache/zeppelin", "My Sh", files);
+    assertEquals("zeppelin-interpreter-my-sh", image.getRepository());
+    String tag = image.getTag("sha256:1");
+    assertEquals(16, tag.length());
+    assertEquals(tag, new DockerInterpreterImage("apache/zeppelin", "My Sh", files)
+        .getTag("sha256:1"));
+    // the image is rebuilt if the base image or the interpreter files change
+    assertNotEquals(tag, image.getTag("sha256:2"));
+    FileUtils.write(new File(zeppelinHome, "interpreter/sh/zeppelin-shell.jar"), "new jar",
+        StandardCharsets.UTF_8);
+    assertNotEquals(tag, image.getTag("sha256:1"));
+  }
+
+  @Test
+  void testPrepare() throws Exception {
+    DockerInterpreterImage image = new DockerInterpreterImage("apache/zeppelin", "sh", files);
+    String imageName = image.getRepository() + ":" + image.getTag("sha256:1");
+    DockerClient docker = mock(DockerClient.class);
+    ImageInfo baseImageInfo = mock(ImageInfo.class);
+    when(baseImageInfo.id()).thenReturn("sha256:1");
+    when(docker.inspectImage("apache/zeppelin")).thenReturn(baseImageInfo);
+    when(docker.inspectImage(imageName)).thenThrow(new ImageNotFoundException(imageName));
+    ContainerCreation containerCreation = mock(ContainerCreation.class);
+    when(containerCreation.id()).thenReturn("container_1");
+    when(docker.createContainer(any(ContainerConfig.class))).thenReturn(containerCreation);
+    Image outdatedImage = mock(Image.class);
+    when(outdatedImage.repoTags()).thenReturn(ImmutableList.of("zeppelin-interpreter-sh:old"));
+    Image newImage = mock(Image.class);
+    when(newImage.repoTags()).thenReturn(ImmutableList.of(imageName));
+    when(docker.listImages(any())).thenReturn(Arrays.asList(outdatedImage, newImage));
+
+    // build the image
+    assertEquals(imageName, image.prepare(docker, mock(ProgressHandler.class)));
+    // the directories of the interpreter files are cleared before they are copied
+    ArgumentCaptor<ContainerConfig> containerConfig =
+        ArgumentCaptor.forClass(ContainerConfig.class);
+    verify(docker).createContainer(containerConfig.capture());
+    assertEquals(Arrays.asList("sh", "-c",
+        "rm -rf '/opt/zeppelin/bin' '/opt/zeppelin/interpreter/sh'"),
+        containerConfig.getValue().cmd());
+    InOrder inOrder = inOrder(docker);
+    inOrder.verify(docker).startContainer("container_1");
+    inOrder.verify(docker).waitContainer("container_1");
+    inOrder.verify(docker).copyToContainer(any(InputStream.class), eq("container_1"), eq("/"));
+    verify(docker).commitContainer(eq("container_1"), eq(image.getRepository()),
+        eq(image.getTag("sha256:1")), any(), anyString(), any());
+    verify(docker).removeContainer("container_1");
+    verify(docker).removeImage("zeppelin-interpreter-sh:old");
+    verify(docker, never()).removeImage(imageName);
+    verify(docker, never()).pull(anyString(), any(ProgressHandler.class));
+
+    // reuse the image
+    DockerClient docker2 = mock(DockerClient.class);
+    when(docker2.inspectImage("apache/zeppelin")).thenReturn(baseImageInfo);
+    when(docker2.inspectImage(imageName)).thenReturn(mock(ImageInfo.class));
+    assertEquals(imageName, image.prepare(docker2, mock(ProgressHandler.class)));
+    verify(docker2, never()).createContainer(any(ContainerConfig.class));
+  }
+
+  @Test
+  void testRemoveCommand() {
+    assertEquals("rm -rf '/opt/zeppelin/bin' '/opt/it'\\''s'",
+        DockerInterpreterImage.removeCommand(Arrays.asList("/opt/zeppelin/bin", "/opt/it's")));
+  }
+}
@@ -57,6 +57,7 @@ class DockerInterpreterProcessTest {
 
     assertEquals("/opt/spark", interpreterProcess.containerSparkHome);
     assertTrue(interpreterProcess.uploadLocalLibToContainter);
+    assertTrue(interpreterProcess.useInterpreterImageCache);
     assertNotEquals("http://my-docker-host:2375", interpreterProcess.dockerHost);
   }
 
@@ -68,6 +69,8 @@ class DockerInterpreterProcessTest {
         .thenReturn(false);
     when(zConf.getString(ConfVars.ZEPPELIN_DOCKER_HOST))
         .thenReturn("http://my-docker-host:2375");
+    when(zConf.getBoolean(ConfVars.ZEPPELIN_DOCKER_INTERPRETER_IMAGE_CACHE))
+        .thenReturn(false);
 
     Properties properties = new Properties();
     properties.setProperty(
@@ -89,6 +92,7 @@ class DockerInterpreterProcessTest {
 
     assertEquals("my-spark-home", intp.containerSparkHome);
     assertFalse(intp.uploadLocalLibToContainter);
+    assertFalse(intp.useInterpreterImageCache);
     assertEquals("http://my-docker-host:2375", intp.dockerHost);
   }
 
@@ -44,8 +44,6 @@ import com.google.common.collect.Maps;
 import com.hubspot.jinjava.Jinjava;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.api.model.PodStatus;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.LocalPortForward;
 import io.fabric8.kubernetes.client.Watch;
@@ -55,6 +53,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterManagedProcess
   private static final Logger LOGGER = LoggerFactory.getLogger(K8sRemoteInterpreterProcess.class);
   private static final int K8S_INTERPRETER_SERVICE_PORT = 12321;
   private final KubernetesClient client;
+  private final PodPhaseInformer podPhaseInformer;
   private final String interpreterNamespace;
   private final String interpreterGroupName;
   private final File specTemplates;
@@ -83,7 +82,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterManagedProcess
 
   public K8sRemoteInterpreterProcess(
           KubernetesClient client,
-          String interpreterNamespace,
+          PodPhaseInformer podPhaseInformer,
           File specTemplates,
           String containerImage,
           String interpreterGroupId,
@@ -112,7 +111,8 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterManagedProcess
           interpreterGroupId,
           isUserImpersonatedForSpark);
     this.client = client;
-    this.interpreterNamespace = interpreterNamespace;
+    this.podPhaseInformer = podPhaseInformer;
+    this.interpreterNamespace = podPhaseInformer.getNamespace();
     this.specTemplates = specTemplates;
     this.containerImage = containerImage;
     this.interpreterGroupName = interpreterGroupName;
@@ -162,7 +162,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterManagedProcess
       // WATCH
       PodPhaseWatcher podWatcher = new PodPhaseWatcher(
           phase -> StringUtils.equalsAnyIgnoreCase(phase, "Succeeded", "Failed", "Running"));
-      try (Watch watch = client.pods().inNamespace(interpreterNamespace).withName(podName).watch(podWatcher)) {
+      try (Watch watch = podPhaseInformer.watch(podName, podWatcher)) {
         podWatcher.getCountDownLatch().await();
       } catch (InterruptedException e) {
         LOGGER.error("Interrupt received during waiting for Running phase. Try to stop the interpreter and interrupt the current thread.", e);
@@ -201,7 +201,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterManagedProcess
     super.stop();
     // WATCH for soft shutdown
     PodPhaseWatcher podWatcher = new PodPhaseWatcher(phase -> StringUtils.equalsAny(phase, "Succeeded", "Failed"));
-    try (Watch watch = client.pods().inNamespace(interpreterNamespace).withName(podName).watch(podWatcher)) {
+    try (Watch watch = podPhaseInformer.watch(podName, podWatcher)) {
       if (!podWatcher.getCountDownLatch().await(RemoteInterpreterServer.DEFAULT_SHUTDOWN_TIMEOUT + 500L,
           TimeUnit.MILLISECONDS)) {
         LOGGER.warn("Pod {} doesn't terminate in time", podName);
@@ -239,19 +239,16 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterManagedProcess
     return "Running".equalsIgnoreCase(getPodPhase()) && started.get();
   }
 
+  /**
+   * @return phase of the interpreter pod from the cache of the shared pod informer
+   */
   public String getPodPhase() {
     try {
-      Pod pod = client.pods().inNamespace(interpreterNamespace).withName(podName).get();
-      if (pod != null) {
-        PodStatus status = pod.getStatus();
-        if (status != null) {
-          return status.getPhase();
-        }
-      }
+      return podPhaseInformer.getPodPhase(podName);
     } catch (Exception e) {
       LOGGER.error("Can't get pod phase", e);
     }
-    return "Unknown";
+    return PodPhaseInformer.UNKNOWN_PHASE;
   }
   /**
    * Apply spec file(s) in the path.
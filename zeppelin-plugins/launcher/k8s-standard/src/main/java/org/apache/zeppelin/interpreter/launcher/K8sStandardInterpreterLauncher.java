@@ -23,6 +23,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.recovery.RecoveryStorage;
@@ -40,12 +41,18 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(K8sStandardInterpreterLauncher.class);
   private final KubernetesClient client;
+  // pod informers by namespace, shared by all interpreter processes
+  private final Map<String, PodPhaseInformer> podPhaseInformers = new ConcurrentHashMap<>();
 
   public K8sStandardInterpreterLauncher(ZeppelinConfiguration zConf, RecoveryStorage recoveryStorage) {
     super(zConf, recoveryStorage);
     client = new DefaultKubernetesClient();
   }
 
+  PodPhaseInformer getPodPhaseInformer(String namespace) {
+    return podPhaseInformers.computeIfAbsent(namespace, ns -> new PodPhaseInformer(client, ns));
+  }
+
 
   /**
    * @return Get hostname. It should be the same to Service name (and Pod name) of the Kubernetes or
@@ -107,7 +114,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
 
     return new K8sRemoteInterpreterProcess(
             client,
-            K8sUtils.getInterpreterNamespace(context.getProperties(), zConf),
+            getPodPhaseInformer(K8sUtils.getInterpreterNamespace(context.getProperties(), zConf)),
             new File(zConf.getK8sTemplatesDir(), "interpreter"),
             zConf.getK8sContainerImage(),
             context.getInterpreterGroupId(),
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.launcher;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodStatus;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+/**
+ * Keeps the pods of one namespace in a local cache, which is shared by all interpreter processes
+ * in this namespace. So the phase of an interpreter pod is looked up without a call to the
+ * kubernetes api server, and waiting for a phase doesn't open a watch per pod.
+ *
+ * The informer is started on first use, which lists the pods of the namespace once and then
+ * watches them.
+ */
+public class PodPhaseInformer implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PodPhaseInformer.class);
+  public static final String UNKNOWN_PHASE = "Unknown";
+
+  private final KubernetesClient client;
+  private final String namespace;
+  // watchers of the pods by pod name
+  private final Map<String, Set<Watcher<Pod>>> watchers = new ConcurrentHashMap<>();
+  private SharedIndexInformer<Pod> informer;
+  private boolean closed = false;
+
+  public PodPhaseInformer(KubernetesClient client, String namespace) {
+    this.client = client;
+    this.namespace = namespace;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  private synchronized SharedIndexInformer<Pod> getInformer() {
+    if (closed) {
+      throw new IllegalStateException("Pod informer of namespace " + namespace + " is closed");
+    }
+    if (informer == null) {
+      LOGGER.info("Start pod informer of namespace {}", namespace);
+      // blocks until the pods are listed, the informer is recreated on next use if it fails
+      informer = client.pods().inNamespace(namespace).inform(new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod pod) {
+          notifyWatchers(Watcher.Action.ADDED, pod);
+        }
+
+        @Override
+        public void onUpdate(Pod oldPod, Pod newPod) {
+          notifyWatchers(Watcher.Action.MODIFIED, newPod);
+        }
+
+        @Override
+        public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+          notifyWatchers(Watcher.Action.DELETED, pod);
+        }
+      }, 0);
+    }
+    return informer;
+  }
+
+  private void notifyWatchers(Watcher.Action action, Pod pod) {
+    Set<Watcher<Pod>> podWatchers = watchers.get(pod.getMetadata().getName());
+    if (podWatchers != null) {
+      for (Watcher<Pod> watcher : podWatchers) {
+        watcher.eventReceived(action, pod);
+      }
+    }
+  }
+
+  /**
+   * @return the pod from the local cache, null if there's no such pod
+   */
+  public Pod getPod(String podName) {
+    return getInformer().getStore().getByKey(Cache.namespaceKeyFunc(namespace, podName));
+  }
+
+  /**
+   * @return phase of the pod from the local cache, {@link #UNKNOWN_PHASE} if it isn't known
+   */
+  public String getPodPhase(String podName) {
+    Pod pod = getPod(podName);
+    if (pod != null) {
+      PodStatus status = pod.getStatus();
+      if (status != null && status.getPhase() != null) {
+        return status.getPhase();
+      }
+    }
+    return UNKNOWN_PHASE;
+  }
+
+  /**
+   * Like {@code client.pods().withName(podName).watch(watcher)}, but based on the events of the
+   * informer. The watcher receives the cached pod immediately if there's one.
+   *
+   * @return watch which removes the watcher when it is closed
+   */
+  public Watch watch(String podName, Watcher<Pod> watcher) {
+    SharedIndexInformer<Pod> podInformer = getInformer();
+    watchers.computeIfAbsent(podName, name -> new CopyOnWriteArraySet<>()).add(watcher);
+    Pod pod = podInformer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, podName));
+    if (pod != null) {
+      watcher.eventReceived(Watcher.Action.ADDED, pod);
+    }
+    return () -> {
+      watchers.computeIfPresent(podName, (name, podWatchers) -> {
+        podWatchers.remove(watcher);
+        return podWatchers.isEmpty() ? null : podWatchers;
+      });
+      watcher.onClose();
+    };
+  }
+
+  @Override
+  public void close() {
+    SharedIndexInformer<Pod> podInformer;
+    synchronized (this) {
+      closed = true;
+      podInformer = informer;
+      informer = null;
+    }
+    if (podInformer != null) {
+      LOGGER.info("Stop pod informer of namespace {}", namespace);
+      podInformer.close();
+    }
+    // so that threads which are waiting for a phase will continue
+    watchers.values().forEach(podWatchers -> podWatchers.forEach(Watcher::onClose));
+    watchers.clear();
+  }
+}
@@ -37,6 +37,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.Pod;
@@ -48,6 +50,17 @@ import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 class K8sRemoteInterpreterProcessTest {
 
   KubernetesClient client;
+  PodPhaseInformer podPhaseInformer;
+
+  @BeforeEach
+  void setUp() {
+    podPhaseInformer = new PodPhaseInformer(client, "default");
+  }
+
+  @AfterEach
+  void tearDown() {
+    podPhaseInformer.close();
+  }
 
   @Test
   void testPredefinedPortNumbers() {
@@ -57,7 +70,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
         client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -93,7 +106,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
         client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -150,7 +163,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -208,7 +221,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -262,7 +275,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -303,7 +316,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -349,7 +362,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -387,7 +400,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
         client,
-        "default",
+        podPhaseInformer,
         new File(".skip"),
         "interpreter-container:1.0",
         "shared_process",
@@ -424,7 +437,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         file,
         "interpreter-container:1.0",
         "shared_process",
@@ -460,7 +473,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         file,
         "interpreter-container:1.0",
         "shared_process",
@@ -505,7 +518,7 @@ class K8sRemoteInterpreterProcessTest {
 
     K8sRemoteInterpreterProcess intp = new K8sRemoteInterpreterProcess(
       client,
-        "default",
+        podPhaseInformer,
         file,
         "interpreter-container:1.0",
         "shared_process",
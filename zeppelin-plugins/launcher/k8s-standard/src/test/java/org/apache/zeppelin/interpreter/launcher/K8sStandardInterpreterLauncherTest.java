@@ -17,7 +17,10 @@
 
 package org.apache.zeppelin.interpreter.launcher;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -68,6 +71,16 @@ class K8sStandardInterpreterLauncherTest {
     assertTrue(client instanceof K8sRemoteInterpreterProcess);
   }
 
+  @Test
+  void testPodPhaseInformerIsShared() {
+    ZeppelinConfiguration zConf = ZeppelinConfiguration.load();
+    K8sStandardInterpreterLauncher launcher = new K8sStandardInterpreterLauncher(zConf, null);
+    PodPhaseInformer informer = launcher.getPodPhaseInformer("ns1");
+    assertSame(informer, launcher.getPodPhaseInformer("ns1"));
+    assertNotSame(informer, launcher.getPodPhaseInformer("ns2"));
+    assertEquals("ns2", launcher.getPodPhaseInformer("ns2").getNamespace());
+  }
+
   @Test
   void testK8sLauncherWithSparkAndUserImpersonate() throws IOException {
     // given
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.launcher;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+@EnableKubernetesMockClient(https = false, crud = true)
+class PodPhaseInformerTest {
+
+  KubernetesClient client;
+  KubernetesMockServer server;
+  PodPhaseInformer informer;
+
+  @BeforeEach
+  void setUp() {
+    informer = new PodPhaseInformer(client, "ns1");
+  }
+
+  @AfterEach
+  void tearDown() {
+    informer.close();
+  }
+
+  @Test
+  void testPodPhaseFromCache() {
+    createPod("pod1", "Pending");
+    createPod("pod2", "Running");
+    // the informer lists the pods of the namespace on first use
+    assertEquals("Pending", informer.getPodPhase("pod1"));
+    assertEquals("Running", informer.getPodPhase("pod2"));
+    assertEquals(PodPhaseInformer.UNKNOWN_PHASE, informer.getPodPhase("pod3"));
+
+    // lookups are served from the cache
+    int requestCount = server.getRequestCount();
+    for (int i = 0; i < 100; i++) {
+      assertEquals("Running", informer.getPodPhase("pod2"));
+    }
+    assertEquals(requestCount, server.getRequestCount());
+
+    // the cache is updated by the events of the watch
+    updatePhase("pod1", "Running");
+    await().atMost(10, TimeUnit.SECONDS).until(() -> "Running".equals(informer.getPodPhase("pod1")));
+    client.pods().inNamespace("ns1").withName("pod2").delete();
+    await().atMost(10, TimeUnit.SECONDS).until(() -> informer.getPod("pod2") == null);
+    assertEquals(PodPhaseInformer.UNKNOWN_PHASE, informer.getPodPhase("pod2"));
+  }
+
+  @Test
+  void testWatch() throws InterruptedException {
+    createPod("pod1", "Pending");
+    PodPhaseWatcher podWatcher = new PodPhaseWatcher(
+        phase -> StringUtils.equalsAnyIgnoreCase(phase, "Succeeded", "Failed", "Running"));
+    PodPhaseWatcher otherPodWatcher = new PodPhaseWatcher(
+        phase -> StringUtils.equalsAnyIgnoreCase(phase, "Succeeded", "Failed", "Running"));
+    try (Watch watch = informer.watch("pod1", podWatcher);
+         Watch otherWatch = informer.watch("pod2", otherPodWatcher)) {
+      assertFalse(podWatcher.getCountDownLatch().await(500, TimeUnit.MILLISECONDS));
+      updatePhase("pod1", "Running");
+      assertTrue(podWatcher.getCountDownLatch().await(10, TimeUnit.SECONDS));
+      // only the watchers of the pod receive its events
+      assertEquals(1, otherPodWatcher.getCountDownLatch().getCount());
+    }
+    // closing the watch releases the waiting threads, like a closed kubernetes watch
+    assertEquals(0, otherPodWatcher.getCountDownLatch().getCount());
+  }
+
+  @Test
+  void testWatchPodInPhase() throws InterruptedException {
+    createPod("pod1", "Running");
+    PodPhaseWatcher podWatcher = new PodPhaseWatcher(
+        phase -> StringUtils.equalsAnyIgnoreCase(phase, "Succeeded", "Failed", "Running"));
+    // the cached pod is already in the phase
+    try (Watch watch = informer.watch("pod1", podWatcher)) {
+      assertTrue(podWatcher.getCountDownLatch().await(1, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void testClose() throws InterruptedException {
+    PodPhaseWatcher podWatcher = new PodPhaseWatcher(phase -> false);
+    informer.watch("pod1", podWatcher);
+    informer.close();
+    assertTrue(podWatcher.getCountDownLatch().await(1, TimeUnit.SECONDS));
+    assertThrows(IllegalStateException.class, () -> informer.getPodPhase("pod1"));
+  }
+
+  private void createPod(String name, String phase) {
+    client.pods().inNamespace("ns1")
+        .resource(new PodBuilder().withNewMetadata().withName(name).endMetadata()
+            .withNewStatus().withPhase(phase).endStatus().build())
+        .create();
+  }
+
+  private void updatePhase(String name, String phase) {
+    Pod pod = client.pods().inNamespace("ns1").withName(name).get();
+    pod.getStatus().setPhase(phase);
+    client.pods().inNamespace("ns1").resource(pod).updateStatus();
+  }
+}
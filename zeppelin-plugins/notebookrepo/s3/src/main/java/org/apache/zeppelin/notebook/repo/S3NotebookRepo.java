@@ -209,6 +209,36 @@ public class S3NotebookRepo extends AbstractNotebookRepo {
     return notesInfo;
   }
 
+  /**
+   * ETags of the note objects, they are taken from the listing of the objects.
+   */
+  @Override
+  public Map<String, String> getNoteStamps(AuthenticationInfo subject) throws IOException {
+    Map<String, String> stamps = new HashMap<>();
+    try {
+      ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
+              .withBucketName(bucketName)
+              .withPrefix(user + "/" + "notebook");
+      ObjectListing objectListing;
+      do {
+        objectListing = s3client.listObjects(listObjectsRequest);
+        for (S3ObjectSummary objectSummary : objectListing.getObjectSummaries()) {
+          if (objectSummary.getKey().endsWith(".zpln")) {
+            try {
+              stamps.put(getNoteId(objectSummary.getKey()), objectSummary.getETag());
+            } catch (IOException e) {
+              LOGGER.warn(e.getMessage());
+            }
+          }
+        }
+        listObjectsRequest.setMarker(objectListing.getNextMarker());
+      } while (objectListing.isTruncated());
+    } catch (AmazonClientException ace) {
+      throw new IOException("Fail to list objects in S3", ace);
+    }
+    return stamps;
+  }
+
   private NoteInfo getNoteInfo(String key) throws IOException {
     return new NoteInfo(getNoteId(key), getNotePath(rootFolder, key));
   }
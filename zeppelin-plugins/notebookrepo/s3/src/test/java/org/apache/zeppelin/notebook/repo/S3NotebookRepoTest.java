@@ -40,7 +40,9 @@ import java.io.IOException;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class S3NotebookRepoTest {
@@ -98,6 +100,27 @@ class S3NotebookRepoTest {
     assertNotNull(Class.forName("com.amazonaws.auth.STSSessionCredentialsProvider", false, getClass().getClassLoader()));
   }
 
+  @Test
+  void testNoteStamps() throws IOException {
+    assertTrue(notebookRepo.getNoteStamps(anonymous).isEmpty());
+
+    Note note1 = new Note();
+    note1.setZeppelinConfiguration(zConf);
+    note1.setNoteParser(noteParser);
+    note1.setPath("/spark/note_1");
+    notebookRepo.save(note1, anonymous);
+    String stamp = notebookRepo.getNoteStamps(anonymous).get(note1.getId());
+    assertNotNull(stamp);
+
+    // unchanged note keeps its stamp
+    notebookRepo.save(note1, anonymous);
+    assertEquals(stamp, notebookRepo.getNoteStamps(anonymous).get(note1.getId()));
+
+    note1.setName("new_name");
+    notebookRepo.save(note1, anonymous);
+    assertNotEquals(stamp, notebookRepo.getNoteStamps(anonymous).get(note1.getId()));
+  }
+
   @Test
   void testNotebookRepo() throws IOException {
     Map<String, NoteInfo> notesInfo = notebookRepo.list(anonymous);
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.rest;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.annotation.ZeppelinApi;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.AuthorizationService;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.notebook.blob.BlobStorage;
+import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
+import org.apache.zeppelin.rest.exception.ForbiddenException;
+import org.apache.zeppelin.rest.exception.NoteNotFoundException;
+import org.apache.zeppelin.rest.exception.ParagraphNotFoundException;
+import org.apache.zeppelin.service.AuthenticationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rest api endpoint of the paragraph outputs in the blob storage.
+ * Blobs never change, so they are cached by the browser and support range requests.
+ * A blob is only served as the output of a paragraph of a note which the user can read.
+ */
+@Path("/blob")
+@Singleton
+public class BlobRestApi extends AbstractRestApi {
+  private static final Logger LOGGER = LoggerFactory.getLogger(BlobRestApi.class);
+
+  private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d*)-(\\d*)");
+  // enough to recognize the formats of image outputs
+  private static final int SNIFF_LENGTH = 256;
+
+  private final BlobStorage blobStorage;
+  private final Notebook notebook;
+  private final AuthorizationService authorizationService;
+
+  @Inject
+  public BlobRestApi(NotebookRepoSync notebookRepo,
+                     Notebook notebook,
+                     AuthenticationService authenticationService,
+                     AuthorizationService authorizationService) {
+    super(authenticationService);
+    this.blobStorage = notebookRepo.getBlobStorage();
+    this.notebook = notebook;
+    this.authorizationService = authorizationService;
+  }
+
+  /**
+   * Get the content of a blob.
+   *
+   * @param id id of the blob, the sha-256 hash of its content
+   * @param noteId id of the note of the paragraph
+   * @param paragraphId id of the paragraph which has the blob as output
+   */
+  @GET
+  @Path("{id}")
+  @ZeppelinApi
+  public Response getBlob(@PathParam("id") String id,
+                          @QueryParam("noteId") String noteId,
+                          @QueryParam("paragraphId") String paragraphId,
+                          @HeaderParam("Range") String range,
+                          @Context Request request) throws IOException {
+    if (!BlobStorage.isValidId(id)) {
+      return Response.status(Status.NOT_FOUND).build();
+    }
+    if (StringUtils.isBlank(noteId) || StringUtils.isBlank(paragraphId)) {
+      return Response.status(Status.BAD_REQUEST)
+          .entity("noteId and paragraphId are required")
+          .type(MediaType.TEXT_PLAIN)
+          .build();
+    }
+    checkIfUserCanRead(noteId);
+    // the content of a blob never changes, a cached blob is valid without looking at the note
+    EntityTag etag = new EntityTag(id);
+    CacheControl cacheControl = new CacheControl();
+    cacheControl.setPrivate(true);
+    cacheControl.setMaxAge((int) TimeUnit.DAYS.toSeconds(365));
+    Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+    if (notModified != null) {
+      return notModified.cacheControl(cacheControl).build();
+    }
+    if (!isOutputOfParagraph(id, noteId, paragraphId)) {
+      return Response.status(Status.NOT_FOUND).build();
+    }
+    long size = blobStorage.getSize(id);
+    if (size < 0) {
+      return Response.status(Status.NOT_FOUND).build();
+    }
+
+    long start = 0;
+    long end = size - 1;
+    boolean partial = false;
+    if (range != null) {
+      Matcher matcher = RANGE_PATTERN.matcher(range.trim());
+      // multiple ranges are not supported, the whole blob is returned for them
+      if (matcher.matches()) {
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+          if (!first.isEmpty()) {
+            start = Long.parseLong(first);
+            if (!last.isEmpty()) {
+              end = Math.min(Long.parseLong(last), size - 1);
+            }
+          } else if (!last.isEmpty()) {
+            // suffix range, the last n bytes
+            start = Math.max(0, size - Long.parseLong(last));
+          } else {
+            start = size;
+          }
+        } catch (NumberFormatException e) {
+          // too large for a long
+          start = size;
+        }
+        if (start > end) {
+          // with an entity, so that the error page of the servlet container keeps the headers
+          return Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+              .header("Content-Range", "bytes */" + size)
+              .entity("Range not satisfiable: " + range)
+              .type(MediaType.TEXT_PLAIN)
+              .build();
+        }
+        partial = true;
+      }
+    }
+
+    final long offset = start;
+    final long length = end - start + 1;
+    StreamingOutput output = out -> {
+      try (InputStream in = blobStorage.open(id)) {
+        IOUtils.copyLarge(in, out, offset, length);
+      } catch (FileNotFoundException e) {
+        LOGGER.warn("Blob {} is deleted while it is read", id);
+        throw e;
+      }
+    };
+    Response.ResponseBuilder builder = partial
+        ? Response.status(Status.PARTIAL_CONTENT)
+            .header("Content-Range", "bytes " + start + "-" + end + "/" + size)
+        : Response.ok();
+    return builder.entity(output)
+        .type(getMediaType(id))
+        .header(HttpHeaders.CONTENT_LENGTH, length)
+        .header("Accept-Ranges", "bytes")
+        .tag(etag)
+        .cacheControl(cacheControl)
+        .build();
+  }
+
+  private void checkIfUserCanRead(String noteId) {
+    Set<String> userAndRoles = new HashSet<>();
+    userAndRoles.add(authenticationService.getPrincipal());
+    userAndRoles.addAll(authenticationService.getAssociatedRoles());
+    if (!authorizationService.hasReadPermission(userAndRoles, noteId)) {
+      throw new ForbiddenException("Insufficient privileges you cannot get this blob");
+    }
+  }
+
+  private boolean isOutputOfParagraph(String id, String noteId, String paragraphId)
+      throws IOException {
+    return notebook.processNote(noteId,
+      note -> {
+        if (note == null) {
+          throw new NoteNotFoundException(noteId);
+        }
+        Paragraph paragraph = note.getParagraph(paragraphId);
+        if (paragraph == null) {
+          throw new ParagraphNotFoundException(paragraphId);
+        }
+        InterpreterResult result = paragraph.getReturn();
+        return result != null && result.message().stream()
+            .anyMatch(message -> id.equals(BlobStorage.getReferencedId(message)));
+      });
+  }
+
+  private String getMediaType(String id) throws IOException {
+    byte[] head = new byte[SNIFF_LENGTH];
+    int read;
+    try (InputStream in = blobStorage.open(id)) {
+      read = IOUtils.read(in, head);
+    }
+    if (startsWith(head, read, new byte[] {(byte) 0x89, 'P', 'N', 'G'})) {
+      return "image/png";
+    } else if (startsWith(head, read, new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+      return "image/jpeg";
+    } else if (startsWith(head, read, "GIF8".getBytes(StandardCharsets.US_ASCII))) {
+      return "image/gif";
+    } else if (new String(head, 0, read, StandardCharsets.UTF_8).contains("<svg")) {
+      return "image/svg+xml";
+    }
+    return MediaType.APPLICATION_OCTET_STREAM;
+  }
+
+  private static boolean startsWith(byte[] data, int length, byte[] prefix) {
+    if (length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (data[i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
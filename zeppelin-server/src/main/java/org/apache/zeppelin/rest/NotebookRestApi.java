@@ -830,6 +830,7 @@ public class NotebookRestApi extends AbstractRestApi {
    * @param noteId ID of Note
    * @param blocking blocking until jobs are done
    * @param isolated use isolated interpreter for running this note
+   * @param parallel run the paragraphs which don't depend on each other at the same time
    * @param message any parameters passed to note
    * @return JSON with status.OK
    * @throws IOException
@@ -841,6 +842,7 @@ public class NotebookRestApi extends AbstractRestApi {
   public Response runNoteJobs(@PathParam("noteId") String noteId,
                               @DefaultValue("false") @QueryParam("blocking") boolean blocking,
                               @DefaultValue("false") @QueryParam("isolated") boolean isolated,
+                              @DefaultValue("false") @QueryParam("parallel") boolean parallel,
                               String message)
       throws Exception, IllegalArgumentException {
 
@@ -850,7 +852,8 @@ public class NotebookRestApi extends AbstractRestApi {
       params.putAll(request.getParams());
     }
 
-    LOGGER.info("Run note jobs, noteId: {}, blocking: {}, isolated: {}, params: {}", noteId, blocking, isolated, params);
+    LOGGER.info("Run note jobs, noteId: {}, blocking: {}, isolated: {}, parallel: {}, params: {}",
+        noteId, blocking, isolated, parallel, params);
     return notebook.processNote(noteId,
       note -> {
         AuthenticationInfo subject = new AuthenticationInfo(authenticationService.getPrincipal());
@@ -859,7 +862,7 @@ public class NotebookRestApi extends AbstractRestApi {
         checkIfUserCanRun(noteId, "Insufficient privileges you cannot run job for this note");
         //TODO(zjffdu), can we run a note via rest api when cron is enabled ?
         try {
-          note.runAll(subject, blocking, isolated, params);
+          note.runAll(subject, blocking, isolated, params, parallel);
           return new JsonResponse<>(Status.OK).build();
         } catch (Exception e) {
           return new JsonResponse<>(Status.INTERNAL_SERVER_ERROR, "Fail to run note").build();
@@ -1208,14 +1211,20 @@ public class NotebookRestApi extends AbstractRestApi {
   @GET
   @Path("search")
   @ZeppelinApi
-  public Response search(@QueryParam("q") String queryTerm) {
+  public Response search(@QueryParam("q") String queryTerm,
+                         @DefaultValue("0") @QueryParam("offset") int offset,
+                         @DefaultValue("20") @QueryParam("limit") int limit) {
     LOGGER.info("Searching notes for: {}", queryTerm);
+    if (offset < 0 || limit <= 0) {
+      return new JsonResponse<>(Status.BAD_REQUEST, "offset must not be negative and limit must be "
+          + "positive").build();
+    }
     String principal = authenticationService.getPrincipal();
     Set<String> roles = authenticationService.getAssociatedRoles();
     HashSet<String> userAndRoles = new HashSet<>();
     userAndRoles.add(principal);
     userAndRoles.addAll(roles);
-    List<Map<String, String>> notesFound = noteSearchService.query(queryTerm);
+    List<Map<String, String>> notesFound = noteSearchService.query(queryTerm, offset, limit);
     for (int i = 0; i < notesFound.size(); i++) {
       String[] ids = notesFound.get(i).get("id").split("/", 2);
       String noteId = ids[0];
@@ -27,7 +27,9 @@ public class CacheControlFilter implements ContainerResponseFilter {
 
   @Override
   public void filter(ContainerRequestContext req, ContainerResponseContext res) {
-      if (req.getMethod().equals(HttpMethod.GET)) {
+      // responses which set their own cache control, e.g. immutable blobs, are kept as is
+      if (req.getMethod().equals(HttpMethod.GET)
+          && !res.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
         CacheControl cc = new CacheControl();
         cc.setNoCache(true);
         res.getHeaders().add(HttpHeaders.CACHE_CONTROL, cc);
@@ -24,6 +24,7 @@ import java.util.Set;
 import jakarta.ws.rs.core.Application;
 
 import org.apache.zeppelin.rest.AdminRestApi;
+import org.apache.zeppelin.rest.BlobRestApi;
 import org.apache.zeppelin.rest.ConfigurationsRestApi;
 import org.apache.zeppelin.rest.CredentialRestApi;
 import org.apache.zeppelin.rest.HeliumRestApi;
@@ -43,6 +44,7 @@ public class RestApiApplication extends Application {
   public Set<Class<?>> getClasses() {
     Set<Class<?>> s = new HashSet<>();
     s.add(AdminRestApi.class);
+    s.add(BlobRestApi.class);
     s.add(ConfigurationsRestApi.class);
     s.add(CredentialRestApi.class);
     s.add(HeliumRestApi.class);
@@ -36,9 +36,18 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Service class for JobManager Page
+ * Service class for JobManager Page.
+ *
+ * It keeps an in-memory index of NoteJobInfo which is refreshed by note and paragraph events,
+ * so that the JobManager page and its updates are answered without loading every note.
+ * The index is built from the NoteInfo metadata of the notes, the job info of a note which
+ * is not loaded yet has no paragraphs until the note is loaded or one of its paragraphs runs.
+ * Notes added out of band are picked up from the metadata on every query, and the index is
+ * rebuilt when all notes are reloaded.
  */
 public class JobManagerService {
 
@@ -47,6 +56,8 @@ public class JobManagerService {
   private final Notebook notebook;
   private final AuthorizationService authorizationService;
   private final ZeppelinConfiguration zConf;
+  // noteId -> NoteJobInfo
+  private final Map<String, NoteJobInfo> noteJobInfos = new ConcurrentHashMap<>();
 
   @Inject
   public JobManagerService(Notebook notebook,
@@ -55,6 +66,8 @@ public class JobManagerService {
     this.notebook = notebook;
     this.authorizationService = authorizationService;
     this.zConf = zConf;
+    // notes may be changed out of band, their job infos are stale
+    notebook.addNotesReloadListener(noteJobInfos::clear);
   }
 
   public void checkIfJobManagerIsEnabled() throws JobManagerForbiddenException {
@@ -85,7 +98,7 @@ public class JobManagerService {
         if (jobNote == null) {
           callback.onFailure(new IOException("Note " + noteId + " not found"), context);
         } else {
-          notesJobInfo.add(new NoteJobInfo(jobNote));
+          notesJobInfo.add(refreshNoteJobInfo(jobNote));
           callback.onSuccess(notesJobInfo, context);
         }
         return notesJobInfo;
@@ -93,7 +106,49 @@ public class JobManagerService {
   }
 
   /**
-   * Get all NoteJobInfo after lastUpdateServerUnixTime
+   * Get the NoteJobInfo of this note which is already loaded, e.g. when its paragraph status
+   * is changed.
+   */
+  public List<NoteJobInfo> getNoteJobInfo(Note note,
+                                          ServiceContext context,
+                                          ServiceCallback<List<NoteJobInfo>> callback)
+      throws IOException {
+    if (isJobManagerDisabled(context, callback)) {
+      return Collections.emptyList();
+    }
+    List<NoteJobInfo> notesJobInfo = new ArrayList<>();
+    notesJobInfo.add(refreshNoteJobInfo(note));
+    callback.onSuccess(notesJobInfo, context);
+    return notesJobInfo;
+  }
+
+  /**
+   * Refresh the NoteJobInfo of this note in the index without notifying anyone.
+   */
+  public void updateNoteJobInfo(Note note) {
+    if (zConf.isJobManagerEnabled()) {
+      refreshNoteJobInfo(note);
+    }
+  }
+
+  private NoteJobInfo refreshNoteJobInfo(Note note) {
+    NoteJobInfo noteJobInfo = new NoteJobInfo(note);
+    noteJobInfos.put(note.getId(), noteJobInfo);
+    return noteJobInfo;
+  }
+
+  /**
+   * Add the notes which are not in the index yet from their metadata, without loading them.
+   */
+  private void indexNewNotes() {
+    for (NoteInfo noteInfo : notebook.getNotesInfo()) {
+      // don't overwrite the one refreshed by events
+      noteJobInfos.computeIfAbsent(noteInfo.getId(), id -> new NoteJobInfo(noteInfo));
+    }
+  }
+
+  /**
+   * Get all NoteJobInfo after lastUpdateServerUnixTime, all of them when it is 0.
    */
   public List<NoteJobInfo> getNoteJobInfoByUnixTime(long lastUpdateServerUnixTime,
                                                     ServiceContext context,
@@ -103,13 +158,19 @@ public class JobManagerService {
       return Collections.emptyList();
     }
 
+    indexNewNotes();
     List<NoteJobInfo> notesJobInfo = new LinkedList<>();
-    for (NoteInfo noteInfo : notebook.getNotesInfo()) {
-      if (authorizationService.isOwner(context.getUserAndRoles(), noteInfo.getId())) {
-        NoteJobInfo noteJobInfo = notebook.processNote(noteInfo.getId(), NoteJobInfo::new);
-        if (noteJobInfo.unixTimeLastRun > lastUpdateServerUnixTime) {
-          notesJobInfo.add(noteJobInfo);
-        }
+    for (NoteJobInfo noteJobInfo : noteJobInfos.values()) {
+      if (!notebook.containsNoteById(noteJobInfo.noteId)) {
+        // note is removed without event, e.g. reloaded from NotebookRepo
+        noteJobInfos.remove(noteJobInfo.noteId, noteJobInfo);
+        continue;
+      }
+      // the notes which are only indexed from metadata have no last run time
+      if ((lastUpdateServerUnixTime == 0 || noteJobInfo.unixTimeLastRun > lastUpdateServerUnixTime
+          || noteJobInfo.isRunningJob)
+          && authorizationService.isOwner(context.getUserAndRoles(), noteJobInfo.noteId)) {
+        notesJobInfo.add(noteJobInfo);
       }
     }
     callback.onSuccess(notesJobInfo, context);
@@ -122,6 +183,7 @@ public class JobManagerService {
     if (isJobManagerDisabled(context, callback)) {
       return;
     }
+    noteJobInfos.remove(noteId);
     List<NoteJobInfo> notesJobInfo = new ArrayList<>();
     notesJobInfo.add(new NoteJobInfo(noteId, true));
     callback.onSuccess(notesJobInfo, context);
@@ -207,6 +269,16 @@ public class JobManagerService {
           !StringUtils.isBlank(note.getConfig().get("cron").toString());
     }
 
+    /**
+     * Job info of a note which is not loaded, only its name is known.
+     */
+    public NoteJobInfo(NoteInfo noteInfo) {
+      this.noteId = noteInfo.getId();
+      this.noteName = noteInfo.getNoteName();
+      this.noteType = "normal";
+      this.paragraphs = new ArrayList<>();
+    }
+
     public NoteJobInfo(String noteId, boolean isRemoved) {
       this.noteId = noteId;
       this.isRemoved = isRemoved;
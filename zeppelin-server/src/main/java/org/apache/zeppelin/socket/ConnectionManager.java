@@ -54,6 +54,7 @@ import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manager class for managing websocket connections
@@ -224,77 +225,126 @@ public class ConnectionManager {
     return gson.toJson(m);
   }
 
+  /**
+   * Serialize message once for all the recipients of one broadcast, and record the time spent.
+   */
+  private String serializeForBroadcast(Message m) {
+    long start = System.nanoTime();
+    String serialized = serializeMessage(m);
+    Metrics.timer("zeppelin_websocket_serialization", Tags.of("op", String.valueOf(m.op)))
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return serialized;
+  }
+
+  private void recordFanOut(Message m, String serialized, int recipients) {
+    if (recipients > 0) {
+      Metrics.counter("zeppelin_websocket_fanout_bytes", Tags.of("op", String.valueOf(m.op)))
+          .increment((double) utf8Length(serialized) * recipients);
+    }
+  }
+
+  static long utf8Length(String s) {
+    long length = 0;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+          && Character.isLowSurrogate(s.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static void send(NotebookSocket conn, Message m, String serialized) throws IOException {
+    if (OutboundQueue.isConflatable(m.op)) {
+      conn.send(m, serialized);
+    } else {
+      conn.send(serialized);
+    }
+  }
+
   public void broadcast(Message m) {
+    String serialized = serializeForBroadcast(m);
+    int sent = 0;
     synchronized (connectedSockets) {
       for (NotebookSocket ns : connectedSockets) {
         try {
-          ns.send(serializeMessage(m));
+          send(ns, m, serialized);
+          sent++;
         } catch (IOException | RuntimeException e) {
           LOGGER.error("Send error: {}", m, e);
         }
       }
     }
+    recordFanOut(m, serialized, sent);
   }
 
   public void broadcast(String noteId, Message m) {
-    List<NotebookSocket> socketsToBroadcast;
-    synchronized (noteSocketMap) {
-      broadcastToWatchers(noteId, StringUtils.EMPTY, m);
-      Set<NotebookSocket> sockets = noteSocketMap.get(noteId);
-      if (sockets == null || sockets.isEmpty()) {
-        return;
-      }
-      socketsToBroadcast = new ArrayList<>(sockets);
-    }
-    LOGGER.debug("SEND >> {}", m);
-    for (NotebookSocket conn : socketsToBroadcast) {
-      try {
-        conn.send(serializeMessage(m));
-      } catch (IOException | RuntimeException e) {
-        LOGGER.error("socket error", e);
-      }
-    }
+    broadcastExcept(noteId, m, null);
   }
 
-  private void broadcastToWatchers(String noteId, String subject, Message message) {
+  private void broadcastToWatchers(String noteId, String subject, Message message,
+                                   String serializedMessage) {
     synchronized (watcherSockets) {
+      if (watcherSockets.isEmpty()) {
+        return;
+      }
+      String watcherMessage = WatcherMessage.builder(noteId)
+          .subject(subject)
+          .message(serializedMessage)
+          .build()
+          .toJson();
+      int sent = 0;
       for (NotebookSocket watcher : watcherSockets) {
         try {
-          watcher.send(
-              WatcherMessage.builder(noteId)
-                  .subject(subject)
-                  .message(serializeMessage(message))
-                  .build()
-                  .toJson());
+          watcher.send(watcherMessage);
+          sent++;
         } catch (IOException | RuntimeException e) {
           LOGGER.error("Cannot broadcast message to watcher", e);
         }
       }
+      recordFanOut(message, watcherMessage, sent);
     }
   }
 
   public void broadcastExcept(String noteId, Message m, NotebookSocket exclude) {
     List<NotebookSocket> socketsToBroadcast;
+    String serialized;
     synchronized (noteSocketMap) {
-      broadcastToWatchers(noteId, StringUtils.EMPTY, m);
       Set<NotebookSocket> socketSet = noteSocketMap.get(noteId);
-      if (socketSet == null || socketSet.isEmpty()) {
+      boolean hasNoteSockets = socketSet != null && !socketSet.isEmpty();
+      if (!hasNoteSockets && watcherSockets.isEmpty()) {
+        return;
+      }
+      serialized = serializeForBroadcast(m);
+      broadcastToWatchers(noteId, StringUtils.EMPTY, m, serialized);
+      if (!hasNoteSockets) {
         return;
       }
       socketsToBroadcast = new ArrayList<>(socketSet);
     }
 
     LOGGER.debug("SEND >> {}", m);
+    int sent = 0;
     for (NotebookSocket conn : socketsToBroadcast) {
-      if (exclude.equals(conn)) {
+      if (conn.equals(exclude)) {
         continue;
       }
       try {
-        conn.send(serializeMessage(m));
+        send(conn, m, serialized);
+        sent++;
       } catch (IOException | RuntimeException e) {
         LOGGER.error("socket error", e);
       }
     }
+    recordFanOut(m, serialized, sent);
   }
 
   /**
@@ -330,23 +380,35 @@ public class ConnectionManager {
 
 
   public void multicastToUser(String user, Message m) {
-    if (!userSocketMap.containsKey(user)) {
+    Queue<NotebookSocket> userSockets = userSocketMap.get(user);
+    if (userSockets == null) {
       LOGGER.warn("Multicasting to user {} that is not in connections map", user);
       return;
     }
+    multicast(m, userSockets);
+  }
 
-    for (NotebookSocket conn : userSocketMap.get(user)) {
-      unicast(m, conn);
+  /**
+   * Send the message to the sockets, and once to the watchers. Both the message and the watcher
+   * message are serialized once.
+   */
+  private void multicast(Message m, Iterable<NotebookSocket> sockets) {
+    String serialized = serializeForBroadcast(m);
+    int sent = 0;
+    for (NotebookSocket conn : sockets) {
+      try {
+        send(conn, m, serialized);
+        sent++;
+      } catch (IOException | RuntimeException e) {
+        LOGGER.error("socket error", e);
+      }
     }
+    recordFanOut(m, serialized, sent);
+    broadcastToWatchers(StringUtils.EMPTY, StringUtils.EMPTY, m, serialized);
   }
 
   public void unicast(Message m, NotebookSocket conn) {
-    try {
-      conn.send(serializeMessage(m));
-    } catch (IOException | RuntimeException e) {
-      LOGGER.error("socket error", e);
-    }
-    broadcastToWatchers(StringUtils.EMPTY, StringUtils.EMPTY, m);
+    multicast(m, Collections.singletonList(conn));
   }
 
   public void unicastParagraph(Note note, Paragraph p, String user, String msgId) {
@@ -354,15 +416,14 @@ public class ConnectionManager {
       return;
     }
 
-    if (!userSocketMap.containsKey(user)) {
+    Queue<NotebookSocket> userSockets = userSocketMap.get(user);
+    if (userSockets == null) {
       LOGGER.warn("Failed to send unicast. user {} that is not in connections map", user);
       return;
     }
 
-    for (NotebookSocket conn : userSocketMap.get(user)) {
-      Message m = new Message(Message.OP.PARAGRAPH).withMsgId(msgId).put("paragraph", p);
-      unicast(m, conn);
-    }
+    multicast(new Message(Message.OP.PARAGRAPH).withMsgId(msgId).put("paragraph", p),
+        userSockets);
   }
 
   public interface UserIterator {
@@ -254,7 +254,12 @@ public class NotebookServer implements AngularObjectRegistryListener,
     String origin = String.valueOf(headers.get(CorsUtils.HEADER_ORIGIN));
     if (checkOrigin(origin)) {
       NotebookSocket notebookSocket = sessionIdNotebookSocketMap
-          .computeIfAbsent(session.getId(), unused -> new NotebookSocket(session, headers));
+          .computeIfAbsent(session.getId(), unused -> new NotebookSocket(session, headers,
+              this::serializeMessage,
+              zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_POLICY),
+              zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_WEBSOCKET_OUTBOUND_QUEUE_SIZE),
+              zConf.getLong(
+                  ZeppelinConfiguration.ConfVars.ZEPPELIN_WEBSOCKET_OUTBOUND_SLOW_CONSUMER_TIMEOUT)));
       onOpen(notebookSocket);
     } else {
       LOGGER.error("Websocket request is not allowed by {} settings. Origin: {}", ZEPPELIN_ALLOWED_ORIGINS,
@@ -504,6 +509,7 @@ public class NotebookServer implements AngularObjectRegistryListener,
   }
 
   private void removeConnection(NotebookSocket notebookSocket) {
+    notebookSocket.close();
     connectionManager.removeConnection(notebookSocket);
     connectionManager.removeWatcherConnection(notebookSocket);
     connectionManager.removeConnectionFromAllNote(notebookSocket);
@@ -1175,7 +1181,7 @@ public class NotebookServer implements AngularObjectRegistryListener,
           throw new IOException("No such note: " + noteId);
         } else {
           Message resp = new Message(OP.CONVERTED_NOTE_NBFORMAT)
-              .put("nbformat", new JupyterUtil().getNbformat(note.toJson()))
+              .put("nbformat", new JupyterUtil().getNbformat(getNotebook().toExportedJson(note)))
               .put("noteName", fromMessage.get("noteName"));
           conn.send(serializeMessage(resp));
           return null;
@@ -1865,9 +1871,7 @@ public class NotebookServer implements AngularObjectRegistryListener,
   @Override
   public void onParagraphRemove(Paragraph p) {
     try {
-      ServiceContext context =
-          new ServiceContext(new AuthenticationInfo(), authorizationService.getOwners(p.getNote().getId()));
-      getJobManagerService().getNoteJobInfoByUnixTime(System.currentTimeMillis() - 5000, context,
+      getJobManagerService().getNoteJobInfo(p.getNote(), null,
           new JobManagerServiceCallback());
     } catch (IOException e) {
       LOGGER.warn("can not broadcast for job manager: {}", e.getMessage(), e);
@@ -1894,7 +1898,7 @@ public class NotebookServer implements AngularObjectRegistryListener,
   @Override
   public void onParagraphCreate(Paragraph p) {
     try {
-      getJobManagerService().getNoteJobInfo(p.getNote().getId(), null,
+      getJobManagerService().getNoteJobInfo(p.getNote(), null,
           new JobManagerServiceCallback());
     } catch (IOException e) {
       LOGGER.warn("can not broadcast for job manager: {}", e.getMessage(), e);
@@ -1909,7 +1913,7 @@ public class NotebookServer implements AngularObjectRegistryListener,
   @Override
   public void onNoteCreate(Note note, AuthenticationInfo subject) {
     try {
-      getJobManagerService().getNoteJobInfo(note.getId(), null,
+      getJobManagerService().getNoteJobInfo(note, null,
           new JobManagerServiceCallback());
     } catch (IOException e) {
       LOGGER.warn("can not broadcast for job manager: {}", e.getMessage(), e);
@@ -1918,13 +1922,14 @@ public class NotebookServer implements AngularObjectRegistryListener,
 
   @Override
   public void onNoteUpdate(Note note, AuthenticationInfo subject) {
-    // do nothing
+    // note name or cron may be changed, no need to broadcast it
+    getJobManagerService().updateNoteJobInfo(note);
   }
 
   @Override
   public void onParagraphStatusChange(Paragraph p, Status status) {
     try {
-      getJobManagerService().getNoteJobInfo(p.getNote().getId(), null,
+      getJobManagerService().getNoteJobInfo(p.getNote(), null,
           new JobManagerServiceCallback());
     } catch (IOException e) {
       LOGGER.warn("can not broadcast for job manager: {}", e.getMessage(), e);
@@ -16,14 +16,20 @@
  */
 package org.apache.zeppelin.socket;
 
+import io.micrometer.core.instrument.Tags;
+
 import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.common.Message;
 import org.apache.zeppelin.utils.ServerUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import jakarta.websocket.CloseReason;
 import jakarta.websocket.Session;
 
 /**
@@ -35,11 +41,32 @@ public class NotebookSocket {
   private Session session;
   private Map<String, Object> headers;
   private String user;
+  private final OutboundQueue outboundQueue;
 
-  public NotebookSocket(Session session, Map<String, Object> headers) {
+  public NotebookSocket(Session session, Map<String, Object> headers,
+                        Function<Message, String> serializer,
+                        String outboundQueuePolicy,
+                        int outboundQueueSize,
+                        long slowConsumerTimeoutMs) {
     this.session = session;
     this.headers = headers;
     this.user = StringUtils.EMPTY;
+    this.outboundQueue = new OutboundQueue(new OutboundQueue.Transport() {
+      @Override
+      public void sendText(String text, Consumer<Throwable> onComplete) {
+        session.getAsyncRemote().sendText(text, result -> onComplete.accept(result.getException()));
+      }
+
+      @Override
+      public void disconnect(String reason) {
+        try {
+          session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, reason));
+        } catch (IOException e) {
+          LOGGER.warn("Fail to close session {}", session.getId(), e);
+        }
+      }
+    }, serializer, OutboundQueue.Policy.fromString(outboundQueuePolicy), outboundQueueSize,
+        slowConsumerTimeoutMs, Tags.of("session", session.getId()));
     LOGGER.debug("NotebookSocket created for session: {}", session.getId());
   }
 
@@ -48,11 +75,19 @@ public class NotebookSocket {
   }
 
   public void send(String serializeMessage) throws IOException {
-    session.getAsyncRemote().sendText(serializeMessage, result -> {
-      if (result.getException() != null) {
-        LOGGER.error("Failed to send async message for User {} in Session {}: {}", this.user, this.session.getId(), result.getException());
-      }
-    });
+    outboundQueue.offer(serializeMessage);
+  }
+
+  /**
+   * Send paragraph status message, which may be merged with or superseded by the following
+   * messages of the same paragraph when this connection can not keep up.
+   */
+  public void send(Message message, String serializeMessage) throws IOException {
+    outboundQueue.offer(message, serializeMessage);
+  }
+
+  public void close() {
+    outboundQueue.close();
   }
 
   public String getUser() {
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+import org.apache.zeppelin.common.Message;
+import org.apache.zeppelin.common.Message.OP;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Outbound frame queue of one websocket connection. Only one frame is in flight at a time,
+ * the next one is sent when the previous send completes, so a slow browser only piles up
+ * frames in this queue instead of in the websocket container.
+ *
+ * With {@link Policy#CONFLATE}, paragraph progress and output update frames supersede the
+ * queued ones of the same paragraph, and consecutive output append frames of the same paragraph
+ * are merged into one.
+ *
+ * A consumer is disconnected when its queue stays over the capacity for the slow consumer
+ * timeout, so a short burst is absorbed as long as the backlog drains back in time. The queue
+ * is also bounded to {@link #HARD_LIMIT_FACTOR} times the capacity during that grace period.
+ * A consumer whose send has not completed within the slow consumer timeout while frames are
+ * pending is disconnected as well.
+ */
+class OutboundQueue {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboundQueue.class);
+
+  static final int HARD_LIMIT_FACTOR = 4;
+
+  /**
+   * How frames of paragraph status messages are queued.
+   */
+  enum Policy {
+    // queue every frame as it is
+    NONE,
+    // drop superseded progress/update frames and merge consecutive append frames
+    CONFLATE;
+
+    static Policy fromString(String policy) {
+      for (Policy p : values()) {
+        if (p.name().equalsIgnoreCase(policy)) {
+          return p;
+        }
+      }
+      LOGGER.warn("Unknown websocket outbound queue policy: {}, use {}", policy, CONFLATE);
+      return CONFLATE;
+    }
+  }
+
+  /**
+   * Underlying connection.
+   */
+  interface Transport {
+    /**
+     * Send text asynchronously, onComplete is called with the error or null when it is done.
+     */
+    void sendText(String text, Consumer<Throwable> onComplete);
+
+    void disconnect(String reason);
+  }
+
+  private final Transport transport;
+  private final Function<Message, String> serializer;
+  private final Policy policy;
+  private final int capacity;
+  private final long slowConsumerTimeoutMs;
+  private final LongSupplier clock;
+
+  private final LinkedList<Frame> frames = new LinkedList<>();
+  private boolean sending = false;
+  private Thread drainingThread;
+  private long sendingSince = 0;
+  // when the queue went over the capacity, -1 while it is within
+  private long overCapacitySince = -1;
+  private boolean closed = false;
+
+  private final List<Meter> meters = new ArrayList<>();
+  private final Counter conflatedCounter;
+  private final Counter mergedCounter;
+  private final Counter evictedCounter;
+
+  OutboundQueue(Transport transport,
+                Function<Message, String> serializer,
+                Policy policy,
+                int capacity,
+                long slowConsumerTimeoutMs,
+                Tags tags) {
+    this(transport, serializer, policy, capacity, slowConsumerTimeoutMs, tags,
+        System::currentTimeMillis);
+  }
+
+  OutboundQueue(Transport transport,
+                Function<Message, String> serializer,
+                Policy policy,
+                int capacity,
+                long slowConsumerTimeoutMs,
+                Tags tags,
+                LongSupplier clock) {
+    this.transport = transport;
+    this.serializer = serializer;
+    this.policy = policy;
+    this.capacity = capacity;
+    this.slowConsumerTimeoutMs = slowConsumerTimeoutMs;
+    this.clock = clock;
+
+    meters.add(Gauge.builder("zeppelin_websocket_outbound_queue_depth", this, OutboundQueue::size)
+        .tags(tags)
+        .register(Metrics.globalRegistry));
+    this.conflatedCounter = registerDropCounter(tags, "conflated");
+    this.mergedCounter = registerDropCounter(tags, "merged");
+    this.evictedCounter = registerDropCounter(tags, "evicted");
+  }
+
+  private Counter registerDropCounter(Tags tags, String reason) {
+    Counter counter = Counter.builder("zeppelin_websocket_outbound_dropped")
+        .tags(tags)
+        .tag("reason", reason)
+        .register(Metrics.globalRegistry);
+    meters.add(counter);
+    return counter;
+  }
+
+  static boolean isConflatable(OP op) {
+    return op == OP.PROGRESS || op == OP.PARAGRAPH_UPDATE_OUTPUT
+        || op == OP.PARAGRAPH_APPEND_OUTPUT;
+  }
+
+  void offer(String text) {
+    enqueue(new Frame(null, text));
+  }
+
+  void offer(Message message, String text) {
+    enqueue(new Frame(isConflatable(message.op) ? message : null, text));
+  }
+
+  private void enqueue(Frame frame) {
+    String disconnectReason;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      if (policy == Policy.CONFLATE && frame.message != null) {
+        conflate(frame);
+      } else {
+        frames.add(frame);
+      }
+      disconnectReason = checkSlowConsumer();
+      if (disconnectReason != null) {
+        evictedCounter.increment(frames.size());
+        frames.clear();
+        closed = true;
+      }
+    }
+    if (disconnectReason != null) {
+      LOGGER.warn("Disconnect slow websocket consumer, {}", disconnectReason);
+      transport.disconnect(disconnectReason);
+      return;
+    }
+    drain();
+  }
+
+  /**
+   * @return why this consumer should be disconnected, or null when it keeps up
+   */
+  private String checkSlowConsumer() {
+    long now = clock.getAsLong();
+    if (frames.size() > (long) capacity * HARD_LIMIT_FACTOR) {
+      return "outbound queue exceeds " + ((long) capacity * HARD_LIMIT_FACTOR) + " frames";
+    }
+    if (frames.size() > capacity) {
+      if (overCapacitySince < 0) {
+        overCapacitySince = now;
+      }
+      long overMs = now - overCapacitySince;
+      if (overMs >= slowConsumerTimeoutMs) {
+        return "outbound queue exceeds " + capacity + " frames for " + overMs + " ms";
+      }
+    } else {
+      overCapacitySince = -1;
+    }
+    if (sending && !frames.isEmpty()) {
+      long pendingMs = now - sendingSince;
+      if (pendingMs >= slowConsumerTimeoutMs) {
+        return "no send completed for " + pendingMs + " ms";
+      }
+    }
+    return null;
+  }
+
+  private void conflate(Frame frame) {
+    Message message = frame.message;
+    if (message.op == OP.PARAGRAPH_APPEND_OUTPUT) {
+      Frame last = frames.peekLast();
+      if (last != null && last.message != null
+          && last.message.op == OP.PARAGRAPH_APPEND_OUTPUT && sameOutput(last.message, message)) {
+        Message merged = new Message(OP.PARAGRAPH_APPEND_OUTPUT).withMsgId(last.message.msgId);
+        merged.ticket = last.message.ticket;
+        merged.principal = last.message.principal;
+        merged.roles = last.message.roles;
+        merged.data.putAll(last.message.data);
+        merged.put("data", String.valueOf(last.message.get("data")) + message.get("data"));
+        frames.set(frames.size() - 1, new Frame(merged, null));
+        mergedCounter.increment();
+        return;
+      }
+    } else {
+      // progress and output update frames carry the full state, older ones of the same
+      // paragraph are superseded. So are the queued output appends of the same output.
+      Iterator<Frame> iterator = frames.iterator();
+      while (iterator.hasNext()) {
+        Frame queued = iterator.next();
+        if (queued.message != null && supersedes(message, queued.message)) {
+          iterator.remove();
+          conflatedCounter.increment();
+        }
+      }
+    }
+    frames.add(frame);
+  }
+
+  private static boolean supersedes(Message newer, Message older) {
+    if (newer.op == OP.PROGRESS) {
+      return older.op == OP.PROGRESS && Objects.equals(newer.get("id"), older.get("id"));
+    }
+    return (older.op == OP.PARAGRAPH_UPDATE_OUTPUT || older.op == OP.PARAGRAPH_APPEND_OUTPUT)
+        && sameOutput(newer, older);
+  }
+
+  private static boolean sameOutput(Message m1, Message m2) {
+    return Objects.equals(m1.get("noteId"), m2.get("noteId"))
+        && Objects.equals(m1.get("paragraphId"), m2.get("paragraphId"))
+        && Objects.equals(m1.get("index"), m2.get("index"));
+  }
+
+  private void drain() {
+    while (true) {
+      Frame frame;
+      synchronized (this) {
+        if (sending || closed || frames.isEmpty()) {
+          drainingThread = null;
+          return;
+        }
+        frame = frames.poll();
+        if (frames.size() <= capacity) {
+          overCapacitySince = -1;
+        }
+        sending = true;
+        sendingSince = clock.getAsLong();
+        drainingThread = Thread.currentThread();
+      }
+      String text = frame.text != null ? frame.text : serializer.apply(frame.message);
+      try {
+        transport.sendText(text, this::onSent);
+      } catch (RuntimeException e) {
+        LOGGER.error("Fail to send websocket message", e);
+        onSent(e);
+      }
+    }
+  }
+
+  private void onSent(Throwable error) {
+    if (error != null) {
+      LOGGER.error("Failed to send async message: {}", error.toString());
+    }
+    boolean drainHere;
+    synchronized (this) {
+      sending = false;
+      // the send completed synchronously, the loop in drain() picks up the next frame
+      drainHere = drainingThread != Thread.currentThread();
+    }
+    if (drainHere) {
+      drain();
+    }
+  }
+
+  synchronized int size() {
+    return frames.size();
+  }
+
+  void close() {
+    synchronized (this) {
+      closed = true;
+      frames.clear();
+    }
+    for (Meter meter : meters) {
+      Metrics.globalRegistry.remove(meter);
+    }
+  }
+
+  private static class Frame {
+    private final Message message;
+    private final String text;
+
+    Frame(Message message, String text) {
+      this.message = message;
+      this.text = text;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.rest;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.apache.zeppelin.MiniZeppelinServer;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.GsonNoteParser;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.notebook.blob.BlobStorage;
+import org.apache.zeppelin.notebook.blob.LocalBlobStorage;
+import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+import jakarta.ws.rs.core.Response.Status;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlobRestApiTest extends AbstractTestRestApi {
+
+  private static MiniZeppelinServer zepServer;
+
+  private Notebook notebook;
+  private byte[] content;
+  private String id;
+  private String noteId;
+  private String paragraphId;
+  private String blobUrl;
+
+  @BeforeAll
+  public static void init() throws Exception {
+    zepServer = new MiniZeppelinServer(BlobRestApiTest.class.getSimpleName());
+    zepServer.addInterpreter("md");
+    zepServer.getZeppelinConfiguration().setProperty(
+        ConfVars.ZEPPELIN_NOTEBOOK_BLOB_STORAGE_CLASS.getVarName(),
+        LocalBlobStorage.class.getName());
+    zepServer.getZeppelinConfiguration().setProperty(
+        ConfVars.ZEPPELIN_NOTEBOOK_BLOB_THRESHOLD.getVarName(), "10");
+    zepServer.start();
+  }
+
+  @AfterAll
+  public static void destroy() throws Exception {
+    zepServer.destroy();
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    zConf = zepServer.getZeppelinConfiguration();
+    content = new byte[100];
+    byte[] pngSignature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    System.arraycopy(pngSignature, 0, content, 0, pngSignature.length);
+    for (int i = pngSignature.length; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    String base64Content = Base64.getEncoder().encodeToString(content);
+    BlobStorage blobStorage = zepServer.getService(NotebookRepoSync.class).getBlobStorage();
+    id = blobStorage.put(content);
+
+    notebook = zepServer.getService(Notebook.class);
+    noteId = notebook.createNote("note_blob", AuthenticationInfo.ANONYMOUS);
+    paragraphId = notebook.processNote(noteId,
+      note -> {
+        Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+        p.setReturn(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+            InterpreterResult.Type.IMG, base64Content), null);
+        notebook.saveNote(note, AuthenticationInfo.ANONYMOUS);
+        return p.getId();
+      });
+    blobUrl = "/blob/" + id + "?noteId=" + noteId + "&paragraphId=" + paragraphId;
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    notebook.removeNote(noteId, AuthenticationInfo.ANONYMOUS);
+  }
+
+  @Test
+  void testExportedNoteHasInlineOutputs() throws IOException {
+    // the saved note references the blob, which the frontend loads from the rest api
+    notebook.processNote(noteId,
+      note -> {
+        assertEquals(BlobStorage.REFERENCE_PREFIX + id,
+            note.getParagraph(paragraphId).getReturn().message().get(0).getData());
+        return null;
+      });
+    Note exportedNote = new GsonNoteParser(zConf).fromJson(null, notebook.exportNote(noteId));
+    assertEquals(Base64.getEncoder().encodeToString(content),
+        exportedNote.getParagraph(paragraphId).getReturn().message().get(0).getData());
+  }
+
+  @Test
+  void testGetBlob() throws IOException {
+    String etag;
+    try (CloseableHttpResponse get = httpGet(blobUrl)) {
+      assertEquals(Status.OK.getStatusCode(), get.getStatusLine().getStatusCode());
+      assertEquals("image/png", get.getFirstHeader("Content-Type").getValue());
+      assertTrue(get.getFirstHeader("Cache-Control").getValue().contains("max-age"));
+      etag = get.getFirstHeader("ETag").getValue();
+      assertArrayEquals(content, EntityUtils.toByteArray(get.getEntity()));
+    }
+
+    HttpGet httpGet = new HttpGet(getUrlToTest(zConf) + blobUrl);
+    httpGet.setHeader("If-None-Match", etag);
+    try (CloseableHttpResponse get = getHttpClient().execute(httpGet)) {
+      assertEquals(Status.NOT_MODIFIED.getStatusCode(), get.getStatusLine().getStatusCode());
+    }
+  }
+
+  @Test
+  void testGetBlobRange() throws IOException {
+    HttpGet httpGet = new HttpGet(getUrlToTest(zConf) + blobUrl);
+    httpGet.setHeader("Range", "bytes=10-19");
+    try (CloseableHttpResponse get = getHttpClient().execute(httpGet)) {
+      assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), get.getStatusLine().getStatusCode());
+      assertEquals("bytes 10-19/100", get.getFirstHeader("Content-Range").getValue());
+      assertArrayEquals(Arrays.copyOfRange(content, 10, 20),
+          EntityUtils.toByteArray(get.getEntity()));
+    }
+
+    httpGet.setHeader("Range", "bytes=-10");
+    try (CloseableHttpResponse get = getHttpClient().execute(httpGet)) {
+      assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), get.getStatusLine().getStatusCode());
+      assertArrayEquals(Arrays.copyOfRange(content, 90, 100),
+          EntityUtils.toByteArray(get.getEntity()));
+    }
+
+    httpGet.setHeader("Range", "bytes=100-");
+    try (CloseableHttpResponse get = getHttpClient().execute(httpGet)) {
+      assertEquals(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(),
+          get.getStatusLine().getStatusCode());
+      assertEquals("bytes */100", get.getFirstHeader("Content-Range").getValue());
+    }
+
+    httpGet.setHeader("Range", "bytes=99999999999999999999-");
+    try (CloseableHttpResponse get = getHttpClient().execute(httpGet)) {
+      assertEquals(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(),
+          get.getStatusLine().getStatusCode());
+    }
+  }
+
+  @Test
+  void testGetNotExistingBlob() throws IOException {
+    String unknownId = id.replace(id.charAt(0), id.charAt(0) == '0' ? '1' : '0');
+    try (CloseableHttpResponse get = httpGet(blobUrl.replace(id, unknownId))) {
+      assertEquals(Status.NOT_FOUND.getStatusCode(), get.getStatusLine().getStatusCode());
+    }
+    try (CloseableHttpResponse get = httpGet(blobUrl.replace(id, "invalid"))) {
+      assertEquals(Status.NOT_FOUND.getStatusCode(), get.getStatusLine().getStatusCode());
+    }
+  }
+
+  @Test
+  void testGetBlobOfParagraph() throws IOException {
+    try (CloseableHttpResponse get = httpGet("/blob/" + id)) {
+      assertEquals(Status.BAD_REQUEST.getStatusCode(), get.getStatusLine().getStatusCode());
+    }
+    // the blob isn't an output of the paragraph
+    String otherId = zepServer.getService(NotebookRepoSync.class).getBlobStorage()
+        .put(new byte[] {1, 2, 3});
+    try (CloseableHttpResponse get = httpGet(blobUrl.replace(id, otherId))) {
+      assertEquals(Status.NOT_FOUND.getStatusCode(), get.getStatusLine().getStatusCode());
+    }
+    try (CloseableHttpResponse get = httpGet(blobUrl.replace(paragraphId, "unknown"))) {
+      assertEquals(Status.NOT_FOUND.getStatusCode(), get.getStatusLine().getStatusCode());
+    }
+  }
+}
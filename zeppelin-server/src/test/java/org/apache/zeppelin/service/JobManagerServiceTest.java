@@ -18,26 +18,38 @@
 package org.apache.zeppelin.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.AuthorizationService;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.service.JobManagerService.NoteJobInfo;
 import org.apache.zeppelin.service.exception.JobManagerForbiddenException;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 
 public class JobManagerServiceTest {
 
@@ -111,4 +123,98 @@ public class JobManagerServiceTest {
     }
   }
 
+  @Nested
+  class WhenJobManagerIsEnabled {
+
+    @BeforeEach
+    void enableJobManager() throws IOException {
+      when(zConf.isJobManagerEnabled()).thenReturn(true);
+      when(mockNotebook.getNotesInfo()).thenReturn(Arrays.asList(
+          new NoteInfo("note1", "/note1"), new NoteInfo("note2", "/note2")));
+      when(mockNotebook.containsNoteById(any())).thenReturn(true);
+      when(mockAuthorizationService.isOwner(ArgumentMatchers.<Set<String>>any(), any(String.class))).thenReturn(true);
+    }
+
+    private Note createNote(String noteId, long dateFinished) {
+      Paragraph paragraph = mock(Paragraph.class);
+      when(paragraph.getId()).thenReturn("paragraph_" + noteId);
+      when(paragraph.getStatus()).thenReturn(Job.Status.FINISHED);
+      when(paragraph.isTerminated()).thenReturn(true);
+      when(paragraph.getDateFinished()).thenReturn(new Date(dateFinished));
+      Note note = mock(Note.class);
+      when(note.getId()).thenReturn(noteId);
+      when(note.getName()).thenReturn(noteId);
+      when(note.getConfig()).thenReturn(new HashMap<>());
+      when(note.getParagraphs()).thenReturn(Arrays.asList(paragraph));
+      return note;
+    }
+
+    @Test
+    void getNoteJobInfoByUnixTime_doesNotLoadNotes() throws IOException {
+      // notes are indexed from their metadata
+      List<NoteJobInfo> result = jobManagerService.getNoteJobInfoByUnixTime(
+          0, serviceContext, new SimpleServiceCallback<>());
+      assertEquals(2, result.size());
+      result = jobManagerService.getNoteJobInfoByUnixTime(
+          1500, serviceContext, new SimpleServiceCallback<>());
+      assertEquals(0, result.size());
+
+      // job info of note1 is refreshed by the paragraph event
+      Note updatedNote1 = createNote("note1", 3000);
+      jobManagerService.getNoteJobInfo(updatedNote1, serviceContext,
+          new SimpleServiceCallback<>());
+      result = jobManagerService.getNoteJobInfoByUnixTime(
+          2500, serviceContext, new SimpleServiceCallback<>());
+      assertEquals(1, result.size());
+      assertEquals(2, jobManagerService.getNoteJobInfoByUnixTime(
+          0, serviceContext, new SimpleServiceCallback<>()).size());
+
+      verify(mockNotebook, never()).processNote(any(), any());
+    }
+
+    @Test
+    void getNoteJobInfoByUnixTime_indexesNewNotes() throws IOException {
+      assertEquals(2, jobManagerService.getNoteJobInfoByUnixTime(
+          0, serviceContext, new SimpleServiceCallback<>()).size());
+
+      // note3 is added out of band
+      when(mockNotebook.getNotesInfo()).thenReturn(Arrays.asList(
+          new NoteInfo("note1", "/note1"), new NoteInfo("note2", "/note2"),
+          new NoteInfo("note3", "/folder/note3")));
+      List<NoteJobInfo> result = jobManagerService.getNoteJobInfoByUnixTime(
+          0, serviceContext, new SimpleServiceCallback<>());
+      assertEquals(3, result.size());
+      verify(mockNotebook, never()).processNote(any(), any());
+    }
+
+    @Test
+    void reloadAllNotes_rebuildsIndex() throws IOException {
+      ArgumentCaptor<Runnable> reloadListener = ArgumentCaptor.forClass(Runnable.class);
+      verify(mockNotebook).addNotesReloadListener(reloadListener.capture());
+
+      jobManagerService.getNoteJobInfo(createNote("note1", 3000), serviceContext,
+          new SimpleServiceCallback<>());
+      assertEquals(1, jobManagerService.getNoteJobInfoByUnixTime(
+          2500, serviceContext, new SimpleServiceCallback<>()).size());
+
+      // note1 is changed out of band, its job info is dropped with the reload
+      reloadListener.getValue().run();
+      assertEquals(0, jobManagerService.getNoteJobInfoByUnixTime(
+          2500, serviceContext, new SimpleServiceCallback<>()).size());
+      assertEquals(2, jobManagerService.getNoteJobInfoByUnixTime(
+          0, serviceContext, new SimpleServiceCallback<>()).size());
+    }
+
+    @Test
+    void removeNoteJobInfo_removesNoteFromIndex() throws IOException {
+      assertEquals(2, jobManagerService.getNoteJobInfoByUnixTime(
+          0, serviceContext, new SimpleServiceCallback<>()).size());
+      when(mockNotebook.getNotesInfo()).thenReturn(Arrays.asList(
+          new NoteInfo("note2", "/note2")));
+      jobManagerService.removeNoteJobInfo("note1", serviceContext,
+          new SimpleServiceCallback<>());
+      assertEquals(1, jobManagerService.getNoteJobInfoByUnixTime(
+          0, serviceContext, new SimpleServiceCallback<>()).size());
+    }
+  }
 }
@@ -19,16 +19,24 @@ package org.apache.zeppelin.socket;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.zeppelin.common.Message;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.AuthorizationService;
 import org.apache.zeppelin.util.WatcherSecurityKey;
@@ -168,4 +176,74 @@ class ConnectionManagerTest {
     // Verify it's completely removed
     assertFalse(manager.watcherSockets.contains(socket));
   }
+
+  @Test
+  void broadcastSerializesMessageOnce() throws IOException {
+    AuthorizationService authService = mock(AuthorizationService.class);
+    AtomicInteger serializeCount = new AtomicInteger();
+    ConnectionManager manager = new ConnectionManager(authService, ZeppelinConfiguration.load()) {
+      @Override
+      protected String serializeMessage(Message m) {
+        serializeCount.incrementAndGet();
+        return super.serializeMessage(m);
+      }
+    };
+
+    List<NotebookSocket> sockets = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      NotebookSocket socket = mock(NotebookSocket.class);
+      sockets.add(socket);
+      manager.noteSocketMap.computeIfAbsent("note1", k -> new HashSet<>()).add(socket);
+    }
+    NotebookSocket watcher = mock(NotebookSocket.class);
+    manager.watcherSockets.add(watcher);
+
+    Message message = new Message(Message.OP.PARAGRAPH).put("paragraph", "p1");
+    manager.broadcast("note1", message);
+
+    assertEquals(1, serializeCount.get());
+    String serialized = manager.serializeMessage(message);
+    for (NotebookSocket socket : sockets) {
+      verify(socket, times(1)).send(serialized);
+    }
+    verify(watcher, times(1)).send(anyString());
+
+    // multicast to all connections of one user
+    serializeCount.set(0);
+    for (NotebookSocket socket : sockets) {
+      manager.addUserConnection("user1", socket);
+    }
+    manager.multicastToUser("user1", message);
+    assertEquals(1, serializeCount.get());
+    for (NotebookSocket socket : sockets) {
+      verify(socket, times(2)).send(serialized);
+    }
+    // watchers get the multicast message once
+    verify(watcher, times(2)).send(anyString());
+  }
+
+  @Test
+  void broadcastToAllGoesThroughConflation() throws IOException {
+    AuthorizationService authService = mock(AuthorizationService.class);
+    ConnectionManager manager = new ConnectionManager(authService, ZeppelinConfiguration.load());
+    NotebookSocket socket = mock(NotebookSocket.class);
+    manager.connectedSockets.add(socket);
+
+    Message progress = new Message(Message.OP.PROGRESS).put("id", "p1").put("progress", 10);
+    manager.broadcast(progress);
+    verify(socket, times(1)).send(progress, manager.serializeMessage(progress));
+
+    Message other = new Message(Message.OP.NOTES_INFO);
+    manager.broadcast(other);
+    verify(socket, times(1)).send(manager.serializeMessage(other));
+  }
+
+  @Test
+  void utf8Length() {
+    assertEquals(0, ConnectionManager.utf8Length(""));
+    assertEquals(5, ConnectionManager.utf8Length("hello"));
+    for (String s : new String[]{"caf\u00e9", "\u4e2d\u6587", "emoji \ud83d\ude00"}) {
+      assertEquals(s.getBytes(StandardCharsets.UTF_8).length, ConnectionManager.utf8Length(s));
+    }
+  }
 }
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Tags;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.zeppelin.common.Message;
+import org.apache.zeppelin.common.Message.OP;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OutboundQueueTest {
+
+  /**
+   * Transport which holds the completion of each send until complete() is called,
+   * just like a slow client.
+   */
+  private static class SlowTransport implements OutboundQueue.Transport {
+    private final List<String> sent = new ArrayList<>();
+    private Consumer<Throwable> pending;
+    private boolean disconnected = false;
+    private String disconnectReason;
+
+    @Override
+    public void sendText(String text, Consumer<Throwable> onComplete) {
+      sent.add(text);
+      pending = onComplete;
+    }
+
+    @Override
+    public void disconnect(String reason) {
+      disconnected = true;
+      disconnectReason = reason;
+    }
+
+    void complete() {
+      Consumer<Throwable> onComplete = pending;
+      pending = null;
+      onComplete.accept(null);
+    }
+  }
+
+  private SlowTransport transport;
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    transport = new SlowTransport();
+    now = 1000;
+  }
+
+  private OutboundQueue createQueue(OutboundQueue.Policy policy, int capacity, long timeout) {
+    return new OutboundQueue(transport, Message::toJson, policy, capacity, timeout,
+        Tags.of("session", "test"), () -> now);
+  }
+
+  private static Message progress(String paragraphId, int progress) {
+    return new Message(OP.PROGRESS).put("id", paragraphId).put("progress", progress);
+  }
+
+  private static Message append(String paragraphId, String data) {
+    return new Message(OP.PARAGRAPH_APPEND_OUTPUT).put("noteId", "note1")
+        .put("paragraphId", paragraphId).put("index", 0).put("data", data);
+  }
+
+  private static Message update(String paragraphId, String data) {
+    return new Message(OP.PARAGRAPH_UPDATE_OUTPUT).put("noteId", "note1")
+        .put("paragraphId", paragraphId).put("index", 0).put("type", "TEXT").put("data", data);
+  }
+
+  private void offer(OutboundQueue queue, Message m) {
+    queue.offer(m, m.toJson());
+  }
+
+  @Test
+  void testOneFrameInFlight() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.NONE, 100, 60000);
+    queue.offer("m1");
+    queue.offer("m2");
+    queue.offer("m3");
+    assertEquals(1, transport.sent.size());
+    assertEquals(2, queue.size());
+
+    transport.complete();
+    transport.complete();
+    assertEquals(3, transport.sent.size());
+    assertEquals("m3", transport.sent.get(2));
+    assertEquals(0, queue.size());
+    queue.close();
+  }
+
+  @Test
+  void testConflate() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.CONFLATE, 100, 60000);
+    // in flight
+    queue.offer("first");
+
+    offer(queue, progress("p1", 10));
+    offer(queue, progress("p2", 10));
+    offer(queue, progress("p1", 20));
+    offer(queue, append("p1", "a"));
+    offer(queue, append("p1", "b"));
+    offer(queue, append("p2", "c"));
+    assertEquals(4, queue.size());
+
+    transport.complete();
+    transport.complete();
+    transport.complete();
+    transport.complete();
+    assertEquals(5, transport.sent.size());
+    assertEquals(progress("p2", 10).toJson(), transport.sent.get(1));
+    assertEquals(progress("p1", 20).toJson(), transport.sent.get(2));
+    assertEquals("ab", Message.fromJson(transport.sent.get(3)).get("data"));
+    assertEquals("c", Message.fromJson(transport.sent.get(4)).get("data"));
+
+    // output update supersedes the queued appends of the same paragraph
+    offer(queue, append("p1", "d"));
+    offer(queue, append("p1", "e"));
+    offer(queue, append("p2", "f"));
+    offer(queue, update("p1", "all"));
+    assertEquals(2, queue.size());
+    transport.complete();
+    transport.complete();
+    assertEquals(update("p1", "all").toJson(), transport.sent.get(transport.sent.size() - 1));
+    queue.close();
+  }
+
+  @Test
+  void testNoConflate() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.NONE, 100, 60000);
+    queue.offer("first");
+    offer(queue, progress("p1", 10));
+    offer(queue, progress("p1", 20));
+    offer(queue, append("p1", "a"));
+    offer(queue, append("p1", "b"));
+    assertEquals(4, queue.size());
+    queue.close();
+  }
+
+  @Test
+  void testMergedAppendKeepsMessageInfo() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.CONFLATE, 100, 60000);
+    queue.offer("first");
+    Message m1 = append("p1", "a").withMsgId("msg1");
+    m1.principal = "user1";
+    m1.ticket = "ticket1";
+    offer(queue, m1);
+    offer(queue, append("p1", "b"));
+    assertEquals(1, queue.size());
+
+    transport.complete();
+    Message merged = Message.fromJson(transport.sent.get(1));
+    assertEquals("ab", merged.get("data"));
+    assertEquals("msg1", merged.msgId);
+    assertEquals("user1", merged.principal);
+    assertEquals("ticket1", merged.ticket);
+    queue.close();
+  }
+
+  @Test
+  void testDisconnectOverCapacity() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.CONFLATE, 2, 60000);
+    // a burst over the capacity is tolerated during the grace period
+    for (int i = 1; i <= 5; i++) {
+      queue.offer("m" + i);
+    }
+    assertFalse(transport.disconnected);
+    assertEquals(4, queue.size());
+
+    // the client keeps sending, but slower than frames come in
+    int next = 6;
+    for (int step = 0; step < 2; step++) {
+      now += 20000;
+      transport.complete();
+      queue.offer("m" + next++);
+      queue.offer("m" + next++);
+      assertFalse(transport.disconnected);
+    }
+    assertEquals(6, queue.size());
+
+    // the backlog persists over the slow consumer timeout
+    now += 20000;
+    transport.complete();
+    queue.offer("m" + next++);
+    assertTrue(transport.disconnected);
+    assertTrue(transport.disconnectReason.contains("exceeds 2 frames for 60000 ms"),
+        transport.disconnectReason);
+    assertEquals(0, queue.size());
+
+    // closed queue doesn't accept messages anymore
+    queue.offer("m" + next);
+    assertEquals(0, queue.size());
+    queue.close();
+  }
+
+  @Test
+  void testDrainedBacklogResetsGracePeriod() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.CONFLATE, 2, 60000);
+    queue.offer("m1");
+    queue.offer("m2");
+    queue.offer("m3");
+    queue.offer("m4");
+    assertEquals(3, queue.size());
+
+    // the client catches up within the grace period
+    now += 50000;
+    transport.complete();
+    assertEquals(2, queue.size());
+
+    // a new burst starts a new grace period
+    now += 50000;
+    queue.offer("m5");
+    assertFalse(transport.disconnected);
+    now += 50000;
+    transport.complete();
+    queue.offer("m6");
+    assertFalse(transport.disconnected);
+    assertEquals(3, queue.size());
+    queue.close();
+  }
+
+  @Test
+  void testDisconnectOverHardLimit() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.CONFLATE, 2, 60000);
+    // m1 is in flight, the rest is queued
+    for (int i = 0; i <= 2 * OutboundQueue.HARD_LIMIT_FACTOR; i++) {
+      queue.offer("m" + i);
+    }
+    assertFalse(transport.disconnected);
+    queue.offer("last");
+    assertTrue(transport.disconnected);
+    assertEquals(0, queue.size());
+    queue.close();
+  }
+
+  @Test
+  void testDisconnectStalledConsumer() {
+    OutboundQueue queue = createQueue(OutboundQueue.Policy.CONFLATE, 100, 0);
+    queue.offer("m1");
+    assertFalse(transport.disconnected);
+    // m1 is still in flight after the timeout
+    queue.offer("m2");
+    assertTrue(transport.disconnected);
+    assertEquals(0, queue.size());
+    queue.close();
+  }
+}
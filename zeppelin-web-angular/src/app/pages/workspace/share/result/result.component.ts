@@ -52,6 +52,7 @@ import {
   HeliumVisualizationBundle
 } from '@zeppelin/interfaces';
 import {
+  BaseUrlService,
   ClassicVisualizationService,
   DynamicTemplate,
   HeliumService,
@@ -100,6 +101,7 @@ export class NotebookParagraphResultComponent implements OnInit, AfterViewInit,
   @Input() result!: ParagraphIResultsMsgItem;
   @Input() config?: ParagraphConfigResult;
   @Input() id!: string;
+  @Input() noteId?: string | null;
   @Input() published = false;
   @Input() currentCol?: number = 12;
   @Input() isPending!: boolean;
@@ -180,7 +182,8 @@ export class NotebookParagraphResultComponent implements OnInit, AfterViewInit,
     private sanitizer: DomSanitizer,
     private ngZService: NgZService,
     private heliumService: HeliumService,
-    private classicVisualizationService: ClassicVisualizationService
+    private classicVisualizationService: ClassicVisualizationService,
+    private baseUrlService: BaseUrlService
   ) {}
 
   ngOnInit() {
@@ -371,7 +374,15 @@ export class NotebookParagraphResultComponent implements OnInit, AfterViewInit,
   }
 
   renderImg(): void {
-    this.imgData = this.sanitizer.bypassSecurityTrustUrl(`data:image/png;base64,${this.result.data}`);
+    // large images are stored in the blob storage of the server, the result only references them
+    if (this.result.data.startsWith('blob:')) {
+      const blobId = this.result.data.substring('blob:'.length);
+      const query = `noteId=${this.noteId}&paragraphId=${this.id}`;
+      const blobUrl = `${this.baseUrlService.getRestApiBase()}/blob/${blobId}?${query}`;
+      this.imgData = this.sanitizer.bypassSecurityTrustUrl(blobUrl);
+    } else {
+      this.imgData = this.sanitizer.bypassSecurityTrustUrl(`data:image/png;base64,${this.result.data}`);
+    }
   }
 
   setGraphConfig() {
@@ -915,6 +915,11 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
   };
 
   $scope.getBase64ImageSrc = function(base64Data) {
+    // large images are stored in the blob storage of the server, the result only references them
+    if (base64Data && base64Data.indexOf('blob:') === 0) {
+      return baseUrlSrv.getRestApiBase() + '/blob/' + base64Data.substring('blob:'.length) +
+        '?noteId=' + $route.current.pathParams.noteId + '&paragraphId=' + paragraph.id;
+    }
     return 'data:image/png;base64,' + base64Data;
   };
 
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timeline of the interpreter bootstrap of zeppelin server, e.g. reading of interpreter settings
+ * and downloading of interpreter dependencies, which shows where the startup time goes.
+ * Steps may run in parallel. The timeline is logged once it is sealed and all its steps are
+ * finished, steps started afterwards are not recorded.
+ */
+public class BootstrapTimeline {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BootstrapTimeline.class);
+
+  private final long startNanos = System.nanoTime();
+  // guarded by this
+  private final List<Step> steps = new ArrayList<>();
+  private int running = 0;
+  private boolean sealed = false;
+  private boolean finished = false;
+
+  public synchronized Step start(String name) {
+    Step step = new Step(name, !finished);
+    if (step.recorded) {
+      steps.add(step);
+      running++;
+    }
+    return step;
+  }
+
+  /**
+   * No more steps are started by the bootstrap itself, the timeline is finished when the running
+   * steps are finished.
+   */
+  public synchronized void seal() {
+    sealed = true;
+    finishIfDone();
+  }
+
+  public synchronized boolean isFinished() {
+    return finished;
+  }
+
+  private synchronized void end(Step step) {
+    if (step.recorded && !finished) {
+      running--;
+      finishIfDone();
+    }
+  }
+
+  private void finishIfDone() {
+    if (sealed && running == 0 && !finished) {
+      finished = true;
+      LOGGER.info("Interpreter bootstrap finished, timeline:{}", report());
+    }
+  }
+
+  /**
+   * @return one line per step ordered by its start: start offset, duration and name of the step
+   */
+  public synchronized String report() {
+    List<Step> sortedSteps = new ArrayList<>(steps);
+    sortedSteps.sort(Comparator.comparingLong(step -> step.startNanos));
+    StringBuilder builder = new StringBuilder();
+    for (Step step : sortedSteps) {
+      long endNanos = step.endNanos;
+      builder.append(String.format("%n  +%6d ms %8s  %s",
+          TimeUnit.NANOSECONDS.toMillis(step.startNanos - startNanos),
+          endNanos == 0 ? "running" : TimeUnit.NANOSECONDS.toMillis(endNanos - step.startNanos)
+              + " ms",
+          step.name));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * A step of the bootstrap, which ends when it is closed.
+   */
+  public class Step implements AutoCloseable {
+    private final String name;
+    private final boolean recorded;
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos = 0;
+
+    private Step(String name, boolean recorded) {
+      this.name = name;
+      this.recorded = recorded;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getDurationMs() {
+      long end = endNanos == 0 ? System.nanoTime() : endNanos;
+      return TimeUnit.NANOSECONDS.toMillis(end - startNanos);
+    }
+
+    @Override
+    public void close() {
+      if (endNanos == 0) {
+        endNanos = System.nanoTime();
+        end(this);
+      }
+    }
+  }
+}
@@ -43,9 +43,12 @@ import org.apache.zeppelin.interpreter.recovery.NullRecoveryStorage;
 import org.apache.zeppelin.interpreter.recovery.RecoveryStorage;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
+import org.apache.zeppelin.interpreter.remote.RpcTransport;
 import org.apache.zeppelin.plugin.PluginManager;
+import org.apache.zeppelin.scheduler.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,10 +68,14 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
 import static org.apache.zeppelin.util.IdHashes.generateId;
 
@@ -78,6 +85,10 @@ import static org.apache.zeppelin.util.IdHashes.generateId;
 public class InterpreterSetting {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterSetting.class);
+  // dependencies of different interpreters are downloaded in parallel by these threads, the
+  // threads are only kept while there are downloads.
+  private static final int DEPENDENCY_LOADER_THREADS = 8;
+  private static final ThreadPoolExecutor DEPENDENCY_LOADER = createDependencyLoader();
   private static final String SHARED_PROCESS = "shared_process";
   private static final String SHARED_SESSION = "shared_session";
   private static final Map<String, Object> DEFAULT_EDITOR = ImmutableMap.of(
@@ -137,6 +148,8 @@ public class InterpreterSetting {
 
   private transient RecoveryStorage recoveryStorage;
   private transient RemoteInterpreterEventServer interpreterEventServer;
+  // guarded by this, created when the setting is ready and closed with the setting
+  private transient WarmProcessPool warmProcessPool;
 
   ///////////////////////////////////////////////////////////////////////////////////////////
 
@@ -541,6 +554,7 @@ public class InterpreterSetting {
 
   public void close() {
     LOGGER.info("Close InterpreterSetting: {}", name);
+    closeWarmProcessPool();
     List<Thread> closeThreads = interpreterGroups.values().stream()
             .map(g -> new Thread(g::close, name + "-close"))
             .peek(t -> t.setUncaughtExceptionHandler((th, e) ->
@@ -683,6 +697,8 @@ public class InterpreterSetting {
 
   public void setDependencies(List<Dependency> dependencies) {
     this.dependencies = dependencies;
+    // warm processes are launched with the classpath of the old dependencies
+    closeWarmProcessPool();
     if (!this.dependencies.isEmpty()) {
       loadInterpreterDependencies();
     } else {
@@ -860,15 +876,135 @@ public class InterpreterSetting {
                                                                  String userName,
                                                                  Properties properties)
       throws IOException {
+    RemoteInterpreterProcess process = launchInterpreterProcess(interpreterGroupId, userName,
+        properties);
+    recoveryStorage.onInterpreterClientStart(process);
+    return process;
+  }
+
+  /**
+   * Creates a process of the warm process pool, it is not recorded by the recovery storage
+   * until it is bound to an interpreter group.
+   */
+  synchronized RemoteInterpreterManagedProcess createWarmInterpreterProcess(String warmProcessId,
+                                                                            String userName,
+                                                                            Properties properties)
+      throws IOException {
+    RemoteInterpreterProcess process = launchInterpreterProcess(warmProcessId, userName,
+        properties);
+    if (!(process instanceof RemoteInterpreterManagedProcess)) {
+      throw new IOException("Interpreter process of " + name + " can not be launched ahead");
+    }
+    return (RemoteInterpreterManagedProcess) process;
+  }
+
+  private RemoteInterpreterProcess launchInterpreterProcess(String interpreterGroupId,
+                                                            String userName,
+                                                            Properties properties)
+      throws IOException {
     InterpreterLauncher launcher = createLauncher(properties);
+    RpcTransport rpcTransport = interpreterEventServer.getRpcTransport();
+    // interpreter process gets the transport via environment variable, because its thrift server
+    // is started before it is initialized with the properties.
+    Properties launchProperties = new Properties();
+    launchProperties.putAll(properties);
+    launchProperties.setProperty(ZEPPELIN_INTERPRETER_RPC_TRANSPORT.name(), rpcTransport.name());
     InterpreterLaunchContext launchContext = new
-        InterpreterLaunchContext(properties, option, interpreterRunner, userName,
+        InterpreterLaunchContext(launchProperties, option, interpreterRunner, userName,
         interpreterGroupId, id, group, name, interpreterEventServer.getPort(), interpreterEventServer.getHost());
     RemoteInterpreterProcess process = (RemoteInterpreterProcess) launcher.launch(launchContext);
-    recoveryStorage.onInterpreterClientStart(process);
+    process.setRpcTransport(rpcTransport);
     return process;
   }
 
+  /**
+   * Warm processes are launched before the user is known, so they can't be impersonated. They
+   * are only supported by the standard launcher, whose processes are local and cheap to keep
+   * idle, and not with recovery, which would leave the idle processes behind.
+   */
+  private boolean isWarmProcessPoolSupported(Properties properties) {
+    return !option.isUserImpersonate()
+        && !option.isExistingProcess()
+        && !zConf.isRecoveryEnabled()
+        && "StandardInterpreterLauncher".equals(getLauncherPlugin(properties));
+  }
+
+  /**
+   * @return the warm process pool, null if it is disabled or the setting is not ready
+   */
+  private synchronized WarmProcessPool getOrCreateWarmProcessPool() {
+    if (warmProcessPool == null && status == Status.READY) {
+      Properties properties = getJavaProperties();
+      int size = Integer.parseInt(properties.getProperty(WarmProcessPool.SIZE_PROPERTY, "0"));
+      if (size > 0 && isWarmProcessPoolSupported(properties)) {
+        LOGGER.info("Create warm process pool of size {} for interpreter setting: {}", size, name);
+        warmProcessPool = new WarmProcessPool(this, properties, size);
+      }
+    }
+    return warmProcessPool;
+  }
+
+  /**
+   * Launches the warm processes of this setting in background, if its warm process pool is
+   * enabled.
+   */
+  public void fillWarmProcessPool() {
+    WarmProcessPool pool = getOrCreateWarmProcessPool();
+    if (pool != null) {
+      pool.fill();
+    }
+  }
+
+  private void closeWarmProcessPool() {
+    WarmProcessPool pool;
+    synchronized (this) {
+      pool = warmProcessPool;
+      warmProcessPool = null;
+    }
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  /**
+   * Hands over a warm process to the interpreter group.
+   *
+   * @return the started and initialized process, null if there's no warm process for the
+   *     properties of the interpreter group
+   */
+  RemoteInterpreterProcess takeWarmInterpreterProcess(String interpreterGroupId,
+                                                      Properties properties) {
+    WarmProcessPool pool = getOrCreateWarmProcessPool();
+    if (pool == null) {
+      return null;
+    }
+    RemoteInterpreterManagedProcess process = pool.take(properties);
+    if (process != null) {
+      String warmProcessId = process.getInterpreterGroupId();
+      LOGGER.info("Bind warm interpreter process {} to interpreter group: {}", warmProcessId,
+          interpreterGroupId);
+      process.setInterpreterGroupId(interpreterGroupId);
+      interpreterEventServer.bindInterpreterProcess(warmProcessId, interpreterGroupId);
+    }
+    return process;
+  }
+
+  @VisibleForTesting
+  synchronized int getIdleWarmProcessCount() {
+    return warmProcessPool == null ? 0 : warmProcessPool.getIdleCount();
+  }
+
+  /**
+   * @return the launching or idle warm process with the given id, null if there's no such one
+   */
+  RemoteInterpreterProcess getWarmInterpreterProcess(String warmProcessId) {
+    WarmProcessPool pool;
+    synchronized (this) {
+      pool = warmProcessPool;
+    }
+    return pool == null ? null : pool.getWarmProcess(warmProcessId);
+  }
+
   List<Interpreter> getOrCreateSession(String user, String noteId) {
     return getOrCreateSession(getExecutionContext(user, noteId));
   }
@@ -961,62 +1097,76 @@ public class InterpreterSetting {
     }
   }
 
+  private static ThreadPoolExecutor createDependencyLoader() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(DEPENDENCY_LOADER_THREADS,
+        DEPENDENCY_LOADER_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new NamedThreadFactory("InterpreterDependencyLoader"));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private void loadInterpreterDependencies() {
     setStatus(Status.DOWNLOADING_DEPENDENCIES);
     setErrorReason(null);
-    Thread t = new Thread() {
-      @Override
-      public void run() {
-        try {
-          // dependencies to prevent library conflict
-          File localRepoDir = new File(zConf.getInterpreterLocalRepoPath() + '/' + id);
-          if (localRepoDir.exists()) {
-            try {
-              FileUtils.forceDelete(localRepoDir);
-            } catch (FileNotFoundException e) {
-              LOGGER.info("A file that does not exist cannot be deleted, nothing to worry", e);
-            }
+    BootstrapTimeline timeline = interpreterSettingManager == null ? null
+        : interpreterSettingManager.getBootstrapTimeline();
+    BootstrapTimeline.Step step = timeline == null ? null
+        : timeline.start("download dependencies of " + name);
+    DEPENDENCY_LOADER.execute(() -> {
+      try {
+        // dependencies to prevent library conflict
+        File localRepoDir = new File(zConf.getInterpreterLocalRepoPath() + '/' + id);
+        if (localRepoDir.exists()) {
+          try {
+            FileUtils.forceDelete(localRepoDir);
+          } catch (FileNotFoundException e) {
+            LOGGER.info("A file that does not exist cannot be deleted, nothing to worry", e);
           }
+        }
 
-          // load dependencies
-          List<Dependency> deps = getDependencies();
-          if (deps != null && !deps.isEmpty()) {
-            LOGGER.info("Start to download dependencies for interpreter: {}", name);
-            for (Dependency d : deps) {
-              File destDir = new File(
-                  zConf.getAbsoluteDir(ZeppelinConfiguration.ConfVars.ZEPPELIN_DEP_LOCALREPO));
-
-              if (d.getExclusions() != null) {
-                dependencyResolver.load(d.getGroupArtifactVersion(), d.getExclusions(),
-                    new File(destDir, id));
-              } else {
-                dependencyResolver
-                    .load(d.getGroupArtifactVersion(), new File(destDir, id));
-              }
+        // load dependencies
+        List<Dependency> deps = getDependencies();
+        if (deps != null && !deps.isEmpty()) {
+          LOGGER.info("Start to download dependencies for interpreter: {}", name);
+          long start = System.currentTimeMillis();
+          for (Dependency d : deps) {
+            File destDir = new File(
+                zConf.getAbsoluteDir(ZeppelinConfiguration.ConfVars.ZEPPELIN_DEP_LOCALREPO));
+
+            if (d.getExclusions() != null) {
+              dependencyResolver.load(d.getGroupArtifactVersion(), d.getExclusions(),
+                  new File(destDir, id));
+            } else {
+              dependencyResolver
+                  .load(d.getGroupArtifactVersion(), new File(destDir, id));
             }
-            LOGGER.info("Finish downloading dependencies for interpreter: {}", name);
           }
-
-          setStatus(Status.READY);
-          setErrorReason(null);
-        } catch (Exception e) {
-          LOGGER.error(String.format("Error while downloading repos for interpreter group : %s," +
-                  " go to interpreter setting page click on edit and save it again to make " +
-                  "this interpreter work properly. : %s",
-              getGroup(), e.getLocalizedMessage()), e);
-          setErrorReason(e.getLocalizedMessage());
-          setStatus(Status.ERROR);
+          LOGGER.info("Finish downloading dependencies for interpreter: {} in {} ms", name,
+              System.currentTimeMillis() - start);
         }
 
-        try {
-          interpreterSettingManager.saveToFile();
-        } catch (IOException e) {
-          LOGGER.error("Fail to save interpreter.json", e);
+        setStatus(Status.READY);
+        setErrorReason(null);
+        fillWarmProcessPool();
+      } catch (Exception e) {
+        LOGGER.error(String.format("Error while downloading repos for interpreter group : %s," +
+                " go to interpreter setting page click on edit and save it again to make " +
+                "this interpreter work properly. : %s",
+            getGroup(), e.getLocalizedMessage()), e);
+        setErrorReason(e.getLocalizedMessage());
+        setStatus(Status.ERROR);
+      } finally {
+        if (step != null) {
+          step.close();
         }
       }
-    };
 
-    t.start();
+      try {
+        interpreterSettingManager.saveToFile();
+      } catch (IOException e) {
+        LOGGER.error("Fail to save interpreter.json", e);
+      }
+    });
   }
 
   public void convertPermissionsFromUsersToOwners(List<String> users) {
@@ -33,6 +33,9 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import jakarta.inject.Inject;
@@ -62,6 +65,7 @@ import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
 import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.util.ReflectionUtils;
 import org.apache.zeppelin.storage.ConfigStorage;
@@ -107,6 +111,7 @@ public class InterpreterSettingManager implements NoteEventListener {
 
   private static final Pattern VALID_INTERPRETER_NAME = Pattern.compile("^[-_a-zA-Z0-9]+$");
   private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterSettingManager.class);
+  private static final String INTERPRETER_DIR_SCANNER = "InterpreterDirScanner";
   private static final Map<String, Object> DEFAULT_EDITOR = ImmutableMap.of(
       "language", (Object) "text",
       "editOnDblClick", false);
@@ -146,6 +151,7 @@ public class InterpreterSettingManager implements NoteEventListener {
   private Map<String, String> jupyterKernelLanguageMap = new HashMap<>();
   private List<String> includesInterpreters;
   private List<String> excludesInterpreters;
+  private final BootstrapTimeline bootstrapTimeline = new BootstrapTimeline();
 
   @Inject
   public InterpreterSettingManager(ZeppelinConfiguration zConf,
@@ -191,7 +197,9 @@ public class InterpreterSettingManager implements NoteEventListener {
     this.appEventListener = appEventListener;
 
     this.interpreterEventServer = new RemoteInterpreterEventServer(zConf, this);
-    this.interpreterEventServer.start();
+    try (BootstrapTimeline.Step step = bootstrapTimeline.start("start interpreter event server")) {
+      this.interpreterEventServer.start();
+    }
 
     this.recoveryStorage =
         ReflectionUtils.createClazzInstance(
@@ -388,13 +396,27 @@ public class InterpreterSettingManager implements NoteEventListener {
               ConfVars.ZEPPELIN_INTERPRETER_EXCLUDES.getVarName()));
     }
     loadJupyterKernelLanguageMap();
-    loadInterpreterSettingFromDefaultDir(true);
-    loadFromFile();
-    saveToFile();
+    try (BootstrapTimeline.Step step = bootstrapTimeline.start("read interpreter settings")) {
+      loadInterpreterSettingFromDefaultDir(true);
+    }
+    try (BootstrapTimeline.Step step = bootstrapTimeline.start("load interpreter.json")) {
+      loadFromFile();
+      saveToFile();
+    }
     initMetrics();
 
     // must init Recovery after init of InterpreterSettingManager
-    recoveryStorage.init();
+    try (BootstrapTimeline.Step step = bootstrapTimeline.start("init recovery storage")) {
+      recoveryStorage.init();
+    }
+    // settings which are still downloading dependencies launch their warm processes afterwards
+    interpreterSettings.values().forEach(InterpreterSetting::fillWarmProcessPool);
+    // downloads of interpreter dependencies may still be running
+    bootstrapTimeline.seal();
+  }
+
+  BootstrapTimeline getBootstrapTimeline() {
+    return bootstrapTimeline;
   }
 
   /**
@@ -428,32 +450,86 @@ public class InterpreterSettingManager implements NoteEventListener {
     // 1. detect interpreter setting via interpreter-setting.json in each interpreter folder
     // 2. detect interpreter setting in interpreter.json that is saved before
     String interpreterJson = zConf.getInterpreterJson();
-    ClassLoader cl = Thread.currentThread().getContextClassLoader();
-    if (Files.exists(interpreterDirPath)) {
-      try (DirectoryStream<Path> directoryPaths = Files
-        .newDirectoryStream(interpreterDirPath,
-          entry -> Files.exists(entry)
-                  && Files.isDirectory(entry)
-                  && shouldRegister(entry.toFile().getName()))) {
-        for (Path interpreterDir : directoryPaths) {
-
-          String interpreterDirString = interpreterDir.toString();
-          /**
-           * Register interpreter by the following ordering
-           * 1. Register it from path {ZEPPELIN_HOME}/interpreter/{interpreter_name}/
-           *    interpreter-setting.json
-           * 2. Register it from interpreter-setting.json in classpath
-           *    {ZEPPELIN_HOME}/interpreter/{interpreter_name}
-           */
-          if (!registerInterpreterFromPath(interpreterDirString, interpreterJson, override) &&
-            !registerInterpreterFromResource(cl, interpreterDirString, interpreterJson, override)) {
-            LOGGER.warn("No interpreter-setting.json found in {}", interpreterDirString);
+    if (!Files.exists(interpreterDirPath)) {
+      LOGGER.warn("InterpreterDir {} doesn't exist", interpreterDirPath);
+      return;
+    }
+    List<Path> interpreterDirs = new ArrayList<>();
+    try (DirectoryStream<Path> directoryPaths = Files
+      .newDirectoryStream(interpreterDirPath,
+        entry -> Files.exists(entry)
+                && Files.isDirectory(entry)
+                && shouldRegister(entry.toFile().getName()))) {
+      directoryPaths.forEach(interpreterDirs::add);
+    }
+    if (interpreterDirs.isEmpty()) {
+      return;
+    }
+
+    // reading interpreter-setting.json of an interpreter may need to scan all its jars, the
+    // interpreter dirs are read in parallel and registered in the order of the dirs.
+    ExecutorService executor = ExecutorFactory.singleton().createOrGet(
+        INTERPRETER_DIR_SCANNER, Runtime.getRuntime().availableProcessors());
+    List<Future<List<RegisteredInterpreter>>> futures = new ArrayList<>();
+    try {
+      for (Path interpreterDir : interpreterDirs) {
+        futures.add(executor.submit(() -> {
+          try (BootstrapTimeline.Step step = bootstrapTimeline.start(
+              "read interpreter setting of " + interpreterDir.getFileName())) {
+            return readInterpreterSetting(interpreterDir.toString(), interpreterJson);
           }
+        }));
+      }
+      for (int i = 0; i < interpreterDirs.size(); i++) {
+        String interpreterDirString = interpreterDirs.get(i).toString();
+        List<RegisteredInterpreter> registeredInterpreters = getResult(futures.get(i));
+        if (registeredInterpreters == null) {
+          LOGGER.warn("No interpreter-setting.json found in {}", interpreterDirString);
+        } else {
+          registerInterpreterSetting(registeredInterpreters, interpreterDirString, override);
         }
       }
-    } else {
-      LOGGER.warn("InterpreterDir {} doesn't exist", interpreterDirPath);
+    } finally {
+      // the executor is shared, only cancel the reads of this call
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private static <T> T getResult(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading interpreter settings", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Read interpreter setting by the following ordering
+   * 1. Read it from path {ZEPPELIN_HOME}/interpreter/{interpreter_name}/
+   *    interpreter-setting.json
+   * 2. Read it from interpreter-setting.json in classpath
+   *    {ZEPPELIN_HOME}/interpreter/{interpreter_name}
+   *
+   * @return null if no interpreter-setting.json is found
+   */
+  private List<RegisteredInterpreter> readInterpreterSetting(String interpreterDir,
+                                                             String interpreterJson)
+      throws IOException {
+    List<RegisteredInterpreter> registeredInterpreters =
+        readInterpreterSettingFromPath(interpreterDir, interpreterJson);
+    if (registeredInterpreters == null) {
+      registeredInterpreters = readInterpreterSettingFromResource(interpreterDir, interpreterJson);
     }
+    return registeredInterpreters;
   }
 
   public void setNotebook(Notebook notebook) {
@@ -472,35 +548,34 @@ public class InterpreterSettingManager implements NoteEventListener {
     return appEventListener;
   }
 
-  private boolean registerInterpreterFromResource(ClassLoader cl, String interpreterDir,
-                                                  String interpreterJson, boolean override) throws IOException {
+  private List<RegisteredInterpreter> readInterpreterSettingFromResource(String interpreterDir,
+                                                                         String interpreterJson)
+      throws IOException {
     URL[] urls = recursiveBuildLibList(new File(interpreterDir));
-    ClassLoader tempClassLoader = new URLClassLoader(urls, null);
+    try (URLClassLoader tempClassLoader = new URLClassLoader(urls, null)) {
+      URL url = tempClassLoader.getResource(interpreterJson);
+      if (url == null) {
+        return null;
+      }
 
-    URL url = tempClassLoader.getResource(interpreterJson);
-    if (url == null) {
-      return false;
+      LOGGER.debug("Reading interpreter-setting.json from {} as Resource", url);
+      try (InputStream stream = url.openStream()) {
+        return getInterpreterListFromJson(stream);
+      }
     }
-
-    LOGGER.debug("Reading interpreter-setting.json from {} as Resource", url);
-    List<RegisteredInterpreter> registeredInterpreterList =
-        getInterpreterListFromJson(url.openStream());
-    registerInterpreterSetting(registeredInterpreterList, interpreterDir, override);
-    return true;
   }
 
-  private boolean registerInterpreterFromPath(String interpreterDir, String interpreterJson,
-      boolean override) throws IOException {
-
+  private List<RegisteredInterpreter> readInterpreterSettingFromPath(String interpreterDir,
+                                                                     String interpreterJson)
+      throws IOException {
     Path interpreterJsonPath = Paths.get(interpreterDir, interpreterJson);
     if (Files.exists(interpreterJsonPath)) {
       LOGGER.debug("Reading interpreter-setting.json from file {}", interpreterJsonPath);
-      List<RegisteredInterpreter> registeredInterpreterList =
-          getInterpreterListFromJson(new FileInputStream(interpreterJsonPath.toFile()));
-      registerInterpreterSetting(registeredInterpreterList, interpreterDir, override);
-      return true;
+      try (InputStream stream = new FileInputStream(interpreterJsonPath.toFile())) {
+        return getInterpreterListFromJson(stream);
+      }
     }
-    return false;
+    return null;
   }
 
   private List<RegisteredInterpreter> getInterpreterListFromJson(InputStream stream) {
@@ -591,6 +666,20 @@ public class InterpreterSettingManager implements NoteEventListener {
     return null;
   }
 
+  /**
+   * @return the warm interpreter process with the given id, which is not bound to an interpreter
+   *     group yet, null if there's no such one
+   */
+  public RemoteInterpreterProcess getWarmInterpreterProcess(String warmProcessId) {
+    for (InterpreterSetting setting : interpreterSettings.values()) {
+      RemoteInterpreterProcess process = setting.getWarmInterpreterProcess(warmProcessId);
+      if (process != null) {
+        return process;
+      }
+    }
+    return null;
+  }
+
   /**
    * Get editor setting for one paragraph based on its paragraph text and noteId
    *
@@ -952,6 +1041,7 @@ public class InterpreterSettingManager implements NoteEventListener {
         intpSetting.setProperties(properties);
         intpSetting.setDependencies(dependencies);
         intpSetting.postProcessing();
+        intpSetting.fillWarmProcessPool();
         if (initiator) {
           saveToFile();
         }
@@ -1016,6 +1106,7 @@ public class InterpreterSettingManager implements NoteEventListener {
     InterpreterSetting setting = interpreterSettings.get(id);
     copyDependenciesFromLocalPath(setting);
     setting.close();
+    setting.fillWarmProcessPool();
   }
 
   public InterpreterSetting get(String id) {
@@ -19,6 +19,7 @@
 package org.apache.zeppelin.interpreter;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Scheduler;
@@ -28,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -65,11 +67,16 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
       throws IOException {
     synchronized (interpreterProcessCreationLock) {
       if (remoteInterpreterProcess == null) {
-        LOGGER.info("Create InterpreterProcess for InterpreterGroup: {}", getId());
-        remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
-                properties);
-        remoteInterpreterProcess.start(userName);
-        remoteInterpreterProcess.init(zConf);
+        remoteInterpreterProcess = interpreterSetting.takeWarmInterpreterProcess(id, properties);
+        if (remoteInterpreterProcess != null) {
+          LOGGER.info("Use warm InterpreterProcess for InterpreterGroup: {}", getId());
+        } else {
+          LOGGER.info("Create InterpreterProcess for InterpreterGroup: {}", getId());
+          remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
+                  properties);
+          remoteInterpreterProcess.start(userName);
+          remoteInterpreterProcess.init(zConf);
+        }
         getInterpreterSetting().getRecoveryStorage()
                 .onInterpreterClientStart(remoteInterpreterProcess);
       }
@@ -146,15 +153,19 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
   }
 
   private void closeInterpreter(Interpreter interpreter) {
-    Scheduler scheduler = interpreter.getScheduler();
+    List<Scheduler> schedulers = interpreter instanceof RemoteInterpreter ?
+        ((RemoteInterpreter) interpreter).getSchedulers() :
+        Collections.singletonList(interpreter.getScheduler());
     try {
       if (Boolean.parseBoolean(
               interpreter.getProperty("zeppelin.interpreter.close.cancel_job", "true"))) {
-        for (final Job<?> job : scheduler.getAllJobs()) {
-          if (!job.isTerminated()) {
-            job.abort();
-            job.setStatus(Job.Status.ABORT);
-            LOGGER.info("Job {} aborted ", job.getJobName());
+        for (Scheduler scheduler : schedulers) {
+          for (final Job<?> job : scheduler.getAllJobs()) {
+            if (!job.isTerminated()) {
+              job.abort();
+              job.setStatus(Job.Status.ABORT);
+              LOGGER.info("Job {} aborted ", job.getJobName());
+            }
           }
         }
       } else {
@@ -167,7 +178,9 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
       LOGGER.warn("Fail to close interpreter {}", interpreter.getClassName(), e);
     } finally {
       //TODO(zjffdu) move the close of schedule to Interpreter
-      SchedulerFactory.singleton().removeScheduler(scheduler.getName());
+      for (Scheduler scheduler : schedulers) {
+        SchedulerFactory.singleton().removeScheduler(scheduler.getName());
+      }
     }
   }
 
@@ -24,18 +24,21 @@ import java.util.OptionalInt;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.thrift.TException;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.helium.ApplicationEventListener;
 import org.apache.zeppelin.interpreter.remote.AppendOutputRunner;
 import org.apache.zeppelin.interpreter.remote.InvokeResourceMethodEventMessage;
+import org.apache.zeppelin.interpreter.remote.ResourceChunkEventMessage;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObject;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.interpreter.remote.RpcTransport;
+import org.apache.zeppelin.interpreter.remote.SerializedResourceCache;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
@@ -54,7 +57,9 @@ import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.resource.ResourceSerializers;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.NamedThreadFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,28 +73,36 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 
 public class RemoteInterpreterEventServer implements RemoteInterpreterEventService.Iface {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteInterpreterEventServer.class);
   private static final Gson GSON = new Gson();
+  private static final int STOP_TIMEOUT_MS = 60 * 1000;
 
   private int port;
   private String host;
   private ZeppelinConfiguration zConf;
-  private TThreadPoolServer thriftServer;
+  private final RpcTransport rpcTransport;
+  private TServer thriftServer;
   private InterpreterSettingManager interpreterSettingManager;
 
-  private final ScheduledExecutorService appendService =
-      Executors.newSingleThreadScheduledExecutor();
-  private ScheduledFuture<?> appendFuture;
+  private final ExecutorService appendService =
+      Executors.newSingleThreadExecutor(new NamedThreadFactory("AppendOutputRunner"));
+  private Future<?> appendFuture;
   private AppendOutputRunner runner;
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
+  // intpGroupId -> (resourceId -> resource json), resources published by the registered
+  // interpreter processes when they are put into or removed from their resource pools.
+  private final Map<String, Map<ResourceId, String>> resourceDirectory =
+      new ConcurrentHashMap<>();
+  // serialized values of the resources of interpreter groups without process, by read id
+  private final SerializedResourceCache serializedResources = new SerializedResourceCache();
 
 
   public RemoteInterpreterEventServer(ZeppelinConfiguration zConf,
@@ -98,22 +111,27 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     this.interpreterSettingManager = interpreterSettingManager;
     this.listener = interpreterSettingManager.getRemoteInterpreterProcessListener();
     this.appListener = interpreterSettingManager.getAppEventListener();
+    this.rpcTransport = RpcTransport.of(zConf);
+    ResourceSerializers.setDefault(
+        zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_SERIALIZER));
   }
 
   public void start() throws IOException {
     Thread startingThread = new Thread() {
       @Override
       public void run() {
-        try (TServerSocket tSocket = new TServerSocket(zConf.getZeppelinServerRpcPort().orElse(
-            RemoteInterpreterUtils.findAvailablePort(zConf.getZeppelinServerRPCPortRange())))
+        try (TServerTransport serverTransport = rpcTransport.createServerTransport(
+            zConf.getZeppelinServerRpcPort().orElse(
+                RemoteInterpreterUtils.findAvailablePort(zConf.getZeppelinServerRPCPortRange())))
         ) {
-          port = tSocket.getServerSocket().getLocalPort();
+          port = RpcTransport.getLocalPort(serverTransport);
           host = RemoteInterpreterUtils.findAvailableHostAddress();
-          LOGGER.info("InterpreterEventServer is starting at {}:{}", host, port);
+          LOGGER.info("InterpreterEventServer is starting at {}:{} with {} transport",
+              host, port, rpcTransport);
           RemoteInterpreterEventService.Processor<RemoteInterpreterEventServer> processor =
               new RemoteInterpreterEventService.Processor<>(RemoteInterpreterEventServer.this);
-          thriftServer = new TThreadPoolServer(
-              new TThreadPoolServer.Args(tSocket).processor(processor));
+          thriftServer = rpcTransport.createServer(serverTransport, processor,
+              "InterpreterEventServer-Worker", STOP_TIMEOUT_MS);
           thriftServer.serve();
         } catch (IOException | TTransportException e ) {
           throw new RuntimeException("Fail to create TServerSocket", e);
@@ -139,9 +157,12 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
     LOGGER.info("RemoteInterpreterEventServer is started");
 
-    runner = new AppendOutputRunner(listener);
-    appendFuture = appendService.scheduleWithFixedDelay(
-        runner, 0, AppendOutputRunner.BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
+    runner = new AppendOutputRunner(listener,
+        zConf.getLong(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_MAX_LATENCY),
+        zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_MAX_SIZE),
+        zConf.getLong(
+            ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_MAX_BUFFERED_SIZE));
+    appendFuture = appendService.submit(runner);
   }
 
   public void stop() {
@@ -164,17 +185,27 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return host;
   }
 
+  public RpcTransport getRpcTransport() {
+    return rpcTransport;
+  }
+
   @Override
   public void registerInterpreterProcess(RegisterInfo registerInfo) throws InterpreterRPCException, TException {
     InterpreterGroup interpreterGroup =
         interpreterSettingManager.getInterpreterGroupById(registerInfo.getInterpreterGroupId());
-    if (interpreterGroup == null) {
-      LOGGER.warn("Unable to register interpreter process, because no such interpreterGroup: {}",
-              registerInfo.getInterpreterGroupId());
-      return;
+    RemoteInterpreterProcess interpreterProcess;
+    if (interpreterGroup != null) {
+      interpreterProcess = ((ManagedInterpreterGroup) interpreterGroup).getInterpreterProcess();
+    } else {
+      // warm process which is not bound to an interpreter group yet
+      interpreterProcess = interpreterSettingManager.getWarmInterpreterProcess(
+          registerInfo.getInterpreterGroupId());
+      if (interpreterProcess == null) {
+        LOGGER.warn("Unable to register interpreter process, because no such interpreterGroup: {}",
+                registerInfo.getInterpreterGroupId());
+        return;
+      }
     }
-    RemoteInterpreterProcess interpreterProcess =
-        ((ManagedInterpreterGroup) interpreterGroup).getInterpreterProcess();
     if (interpreterProcess == null) {
       LOGGER.warn("Unable to register interpreter process, because no interpreter process associated with " +
               "interpreterGroup: {}", registerInfo.getInterpreterGroupId());
@@ -182,12 +213,27 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
     LOGGER.info("Register interpreter process: {}:{}, interpreterGroup: {}",
             registerInfo.getHost(), registerInfo.getPort(), registerInfo.getInterpreterGroupId());
+    // keep the resources already known, e.g. the process registers again after a reconnect
+    resourceDirectory.putIfAbsent(registerInfo.getInterpreterGroupId(), new ConcurrentHashMap<>());
     interpreterProcess.processStarted(registerInfo.port, registerInfo.host);
   }
 
+  /**
+   * Moves the registration of a warm interpreter process to the interpreter group it is bound to.
+   */
+  public void bindInterpreterProcess(String warmProcessId, String intpGroupId) {
+    Map<ResourceId, String> resources = resourceDirectory.remove(warmProcessId);
+    Map<ResourceId, String> groupResources =
+        resourceDirectory.computeIfAbsent(intpGroupId, id -> new ConcurrentHashMap<>());
+    if (resources != null) {
+      groupResources.putAll(resources);
+    }
+  }
+
   @Override
   public void unRegisterInterpreterProcess(String intpGroupId) throws InterpreterRPCException, TException {
     LOGGER.info("Unregister interpreter process: {}", intpGroupId);
+    resourceDirectory.remove(intpGroupId);
     InterpreterGroup interpreterGroup =
             interpreterSettingManager.getInterpreterGroupById(intpGroupId);
     if (interpreterGroup == null) {
@@ -406,18 +452,54 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
   @Override
   public ByteBuffer getResource(String resourceIdJson) throws InterpreterRPCException, TException {
     ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
-    Object o = getResource(resourceId);
-    ByteBuffer obj;
-    if (o == null) {
+    ByteBuffer obj = getSerializedResource(resourceId);
+    if (obj == null) {
       obj = ByteBuffer.allocate(0);
-    } else {
+    }
+    return obj;
+  }
+
+  /**
+   * Read a chunk of the serialized resource from the interpreter process which holds it.
+   * The chunk is passed through as it is, without deserializing it in zeppelin server.
+   * The resource of an interpreter group without process is serialized once per read.
+   *
+   * @param intpGroupId caller interpreter group id
+   * @param resourceChunkJson resource id and the range of the chunk
+   * @return
+   * @throws TException
+   */
+  @Override
+  public ByteBuffer getResourceChunk(String intpGroupId, String resourceChunkJson)
+      throws InterpreterRPCException, TException {
+    ResourceChunkEventMessage message = ResourceChunkEventMessage.fromJson(resourceChunkJson);
+    ResourceId resourceId = message.resourceId;
+    ManagedInterpreterGroup intpGroup =
+        interpreterSettingManager.getInterpreterGroupById(resourceId.getResourcePoolId());
+    if (intpGroup == null) {
+      return ByteBuffer.allocate(0);
+    }
+    RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+    if (remoteInterpreterProcess == null) {
+      ByteBuffer chunk;
       try {
-        obj = Resource.serializeObject(o);
+        chunk = serializedResources.getChunk(message,
+            () -> serializeLocalResource(intpGroup, resourceId));
       } catch (IOException e) {
         throw new InterpreterRPCException(e.toString());
       }
-    }
-    return obj;
+      if (chunk == null) {
+        throw new InterpreterRPCException("Resource " + resourceId.getName()
+            + " is not being read, or it is expired");
+      }
+      return chunk;
+    }
+    return remoteInterpreterProcess.callRemoteFunction(client ->
+        client.resourceGetChunk(
+            resourceId.getNoteId(),
+            resourceId.getParagraphId(),
+            resourceId.getName(),
+            resourceChunkJson));
   }
 
   /**
@@ -446,6 +528,64 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return obj;
   }
 
+  @Override
+  public void putResource(String intpGroupId, String json)
+      throws InterpreterRPCException, TException {
+    Resource resource = RemoteResource.fromJson(json);
+    resourceDirectory.computeIfPresent(intpGroupId, (id, resources) -> {
+      resources.put(resource.getResourceId(), json);
+      return resources;
+    });
+  }
+
+  @Override
+  public void removeResource(String intpGroupId, String resourceIdJson)
+      throws InterpreterRPCException, TException {
+    ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
+    resourceDirectory.computeIfPresent(intpGroupId, (id, resources) -> {
+      resources.remove(resourceId);
+      return resources;
+    });
+  }
+
+  /**
+   * Look up the resources which have the same name as the given resource id in all resource
+   * pools except the resource pool of the given resource id (the caller).
+   *
+   * @param resourceIdJson resource id of the caller resource pool and the resource name
+   * @return
+   * @throws TException
+   */
+  @Override
+  public List<String> lookupResources(String resourceIdJson)
+      throws InterpreterRPCException, TException {
+    ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
+    List<String> resourceList = new LinkedList<>();
+    for (ManagedInterpreterGroup intpGroup : interpreterSettingManager.getAllInterpreterGroup()) {
+      if (intpGroup.getId().equals(resourceId.getResourcePoolId())) {
+        continue;
+      }
+      RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+      Map<ResourceId, String> resources = resourceDirectory.get(intpGroup.getId());
+      if (remoteInterpreterProcess != null && !remoteInterpreterProcess.isRunning()) {
+        continue;
+      } else if (resources != null) {
+        for (Map.Entry<ResourceId, String> entry : resources.entrySet()) {
+          if (entry.getKey().getName().equals(resourceId.getName())) {
+            resourceList.add(entry.getValue());
+          }
+        }
+      } else {
+        // interpreter process which is not registered to this server (e.g. recovered),
+        // ask it directly.
+        for (Resource r : getAllResources(intpGroup).filterByName(resourceId.getName())) {
+          resourceList.add(r.toJson());
+        }
+      }
+    }
+    return resourceList;
+  }
+
   @Override
   public List<ParagraphInfo> getParagraphList(String user, String noteId)
           throws InterpreterRPCException, TException {
@@ -517,25 +657,35 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return null;
   }
 
-  private Object getResource(final ResourceId resourceId) {
+  private ByteBuffer getSerializedResource(final ResourceId resourceId)
+      throws InterpreterRPCException {
     ManagedInterpreterGroup intpGroup = interpreterSettingManager
         .getInterpreterGroupById(resourceId.getResourcePoolId());
     if (intpGroup == null) {
       return null;
     }
     RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
-    ByteBuffer buffer = remoteInterpreterProcess.callRemoteFunction(client ->
+    if (remoteInterpreterProcess == null) {
+      try {
+        return serializeLocalResource(intpGroup, resourceId);
+      } catch (IOException e) {
+        throw new InterpreterRPCException(e.toString());
+      }
+    }
+    // serialized value is passed through, it is only deserialized by the caller.
+    return remoteInterpreterProcess.callRemoteFunction(client ->
             client.resourceGet(
                 resourceId.getNoteId(),
                 resourceId.getParagraphId(),
                 resourceId.getName()));
+  }
 
-    try {
-      return Resource.deserializeObject(buffer);
-    } catch (Exception e) {
-      LOGGER.error(e.getMessage(), e);
-    }
-    return null;
+  private static ByteBuffer serializeLocalResource(ManagedInterpreterGroup intpGroup,
+                                                  ResourceId resourceId) throws IOException {
+    ResourcePool localPool = intpGroup.getResourcePool();
+    Resource resource = localPool == null ? null : localPool.get(
+        resourceId.getNoteId(), resourceId.getParagraphId(), resourceId.getName());
+    return resource == null ? null : Resource.serializeObject(resource.get());
   }
 
   private ResourceSet getAllResourcePoolExcept(String interpreterGroupId) {
@@ -544,19 +694,24 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
       if (intpGroup.getId().equals(interpreterGroupId)) {
         continue;
       }
+      resourceSet.addAll(getAllResources(intpGroup));
+    }
+    return resourceSet;
+  }
 
-      RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
-      if (remoteInterpreterProcess == null) {
-        ResourcePool localPool = intpGroup.getResourcePool();
-        if (localPool != null) {
-          resourceSet.addAll(localPool.getAll());
-        }
-      } else if (remoteInterpreterProcess.isRunning()) {
-        List<String> resourceList = remoteInterpreterProcess.callRemoteFunction(
-                client -> client.resourcePoolGetAll());
-        for (String res : resourceList) {
-          resourceSet.add(RemoteResource.fromJson(res));
-        }
+  private ResourceSet getAllResources(ManagedInterpreterGroup intpGroup) {
+    ResourceSet resourceSet = new ResourceSet();
+    RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+    if (remoteInterpreterProcess == null) {
+      ResourcePool localPool = intpGroup.getResourcePool();
+      if (localPool != null) {
+        resourceSet.addAll(localPool.getAll());
+      }
+    } else if (remoteInterpreterProcess.isRunning()) {
+      List<String> resourceList = remoteInterpreterProcess.callRemoteFunction(
+              client -> client.resourcePoolGetAll());
+      for (String res : resourceList) {
+        resourceSet.add(RemoteResource.fromJson(res));
       }
     }
     return resourceSet;
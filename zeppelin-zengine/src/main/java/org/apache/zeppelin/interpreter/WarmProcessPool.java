@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
+import org.apache.zeppelin.scheduler.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interpreter processes of one interpreter setting, which are launched ahead of time and handed
+ * over to interpreter groups on demand, so that the first paragraph of an interpreter group
+ * doesn't wait for its interpreter process to start.
+ *
+ * Warm processes are launched with the properties of the interpreter setting under their own
+ * id, they are registered to zeppelin server but no interpreter is created in them. A process
+ * is only handed over to an interpreter group which uses the same properties, it is bound to
+ * the group by the first createInterpreter call. Every hand over launches a new warm process in
+ * background.
+ */
+class WarmProcessPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WarmProcessPool.class);
+
+  static final String SIZE_PROPERTY = "zeppelin.interpreter.warm.pool.size";
+  // warm processes are not impersonated, see InterpreterSetting#isWarmProcessPoolSupported
+  private static final String WARM_PROCESS_USER = "anonymous";
+
+  private final InterpreterSetting interpreterSetting;
+  private final Properties properties;
+  private final int size;
+  private final ExecutorService launchExecutor;
+  private final AtomicInteger idCounter = new AtomicInteger();
+
+  // guarded by this
+  private final Deque<RemoteInterpreterManagedProcess> idleProcesses = new ArrayDeque<>();
+  private int launching = 0;
+  private boolean closed = false;
+  // warm processes which are launching or idle by their id, for the registration
+  private final Map<String, RemoteInterpreterManagedProcess> warmProcesses =
+      new ConcurrentHashMap<>();
+
+  WarmProcessPool(InterpreterSetting interpreterSetting, Properties properties, int size) {
+    this.interpreterSetting = interpreterSetting;
+    this.properties = properties;
+    this.size = size;
+    this.launchExecutor = Executors.newCachedThreadPool(
+        new NamedThreadFactory("WarmProcessLauncher-" + interpreterSetting.getName()));
+  }
+
+  /**
+   * Launches warm processes in background until the pool is full.
+   */
+  synchronized void fill() {
+    while (!closed && idleProcesses.size() + launching < size) {
+      String warmProcessId = interpreterSetting.getName() + "-warm-"
+          + idCounter.incrementAndGet();
+      launching++;
+      launchExecutor.execute(() -> launch(warmProcessId));
+    }
+  }
+
+  private void launch(String warmProcessId) {
+    LOGGER.info("Launch warm interpreter process: {}", warmProcessId);
+    RemoteInterpreterManagedProcess process = null;
+    boolean launched = false;
+    try {
+      process = interpreterSetting.createWarmInterpreterProcess(warmProcessId,
+          WARM_PROCESS_USER, properties);
+      warmProcesses.put(warmProcessId, process);
+      process.start(WARM_PROCESS_USER);
+      process.init(interpreterSetting.getConf());
+      launched = true;
+    } catch (Exception e) {
+      // not relaunched until the next hand over, so that a broken setting doesn't launch
+      // processes in a loop
+      LOGGER.warn("Fail to launch warm interpreter process: {}", warmProcessId, e);
+    }
+
+    boolean stop;
+    synchronized (this) {
+      launching--;
+      stop = closed || !launched;
+      if (!stop) {
+        idleProcesses.add(process);
+      }
+    }
+    if (stop) {
+      warmProcesses.remove(warmProcessId);
+      if (process != null) {
+        process.stop();
+      }
+    }
+  }
+
+  /**
+   * @param properties properties of the interpreter group which needs a process
+   * @return an idle warm process which is removed from the pool, null if there's no idle one or
+   *     the pool was launched with other properties
+   */
+  RemoteInterpreterManagedProcess take(Properties properties) {
+    RemoteInterpreterManagedProcess process;
+    synchronized (this) {
+      if (closed || !this.properties.equals(properties)) {
+        return null;
+      }
+      Iterator<RemoteInterpreterManagedProcess> iterator = idleProcesses.iterator();
+      while (iterator.hasNext()) {
+        RemoteInterpreterManagedProcess idleProcess = iterator.next();
+        if (!idleProcess.isRunning()) {
+          // e.g. shut down by the lifecycle manager of the process because it was idle too long
+          LOGGER.info("Warm interpreter process {} is not running any more",
+              idleProcess.getInterpreterGroupId());
+          iterator.remove();
+          warmProcesses.remove(idleProcess.getInterpreterGroupId());
+        }
+      }
+      process = idleProcesses.poll();
+      if (process != null) {
+        warmProcesses.remove(process.getInterpreterGroupId());
+      }
+    }
+    fill();
+    return process;
+  }
+
+  /**
+   * @return the launching or idle warm process with the given id
+   */
+  RemoteInterpreterManagedProcess getWarmProcess(String warmProcessId) {
+    return warmProcesses.get(warmProcessId);
+  }
+
+  synchronized int getIdleCount() {
+    return idleProcesses.size();
+  }
+
+  /**
+   * Stops the idle processes, processes which are still launching are stopped once they are
+   * started.
+   */
+  void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    launchExecutor.shutdown();
+    RemoteInterpreterManagedProcess process;
+    while ((process = pollIdleProcess()) != null) {
+      LOGGER.info("Stop warm interpreter process: {}", process.getInterpreterGroupId());
+      warmProcesses.remove(process.getInterpreterGroupId());
+      process.stop();
+    }
+  }
+
+  private synchronized RemoteInterpreterManagedProcess pollIdleProcess() {
+    return idleProcesses.poll();
+  }
+}
@@ -26,6 +26,7 @@ import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterRunningProcess;
+import org.apache.zeppelin.interpreter.remote.RpcTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,6 +83,8 @@ public class RecoveryUtils {
     int connectionPoolSize = Integer.parseInt(interpreterProperties.getProperty(
             ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE.getVarName(),
             ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE.getIntValue() + ""));
+    // the recovered process was launched with the configured transport
+    RpcTransport rpcTransport = RpcTransport.of(zConf);
 
     Map<String, InterpreterClient> clients = new HashMap<>();
 
@@ -96,6 +99,7 @@ public class RecoveryUtils {
                 interpreterSettingManager.getInterpreterEventServer().getHost(),
                 interpreterSettingManager.getInterpreterEventServer().getPort(),
                 hostPort[0], Integer.parseInt(hostPort[1]), true);
+        client.setRpcTransport(rpcTransport);
         clients.put(interpreterGroupId, client);
         LOGGER.info("Recovering Interpreter Process: " + interpreterGroupId + ", " +
                 hostPort[0] + ":" + hostPort[1]);
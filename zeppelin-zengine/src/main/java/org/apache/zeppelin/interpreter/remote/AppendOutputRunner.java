@@ -17,97 +17,359 @@
 
 package org.apache.zeppelin.interpreter.remote;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * This thread sends paragraph's append-data
- * periodically, rather than continously, with
- * a period of BUFFER_TIME_MS. It handles append-data
- * for all paragraphs across all notebooks.
+ * This thread sends the append-data of paragraph outputs to the listener. It handles append-data
+ * for all paragraphs across all notebooks, append-data of the same paragraph output is merged.
+ *
+ * Append-data is buffered per paragraph output without locks. When appends are rare, they are
+ * sent as soon as they arrive. When they arrive faster than they are sent, the runner waits
+ * before it flushes, so that more of them are merged, the wait grows up to maxLatencyMs.
+ * A flush sends at most maxFlushSize characters of each paragraph output and leaves the rest to
+ * the next flush, so one paragraph with a lot of output doesn't delay the others.
+ *
+ * At most maxBufferedSize characters are buffered per paragraph output. Further appends are
+ * dropped until the buffer drains, instead of blocking the interpreter process which sends them,
+ * and {@link #DROPPED_OUTPUT_MARKER} is sent in their place. Appends only stream the output to
+ * the frontend, the whole output is sent again when the paragraph finishes.
  */
 public class AppendOutputRunner implements Runnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AppendOutputRunner.class);
-  public static final Long BUFFER_TIME_MS = Long.valueOf(100);
-  private static final Long SAFE_PROCESSING_TIME = Long.valueOf(10);
-  private static final Long SAFE_PROCESSING_STRING_SIZE = Long.valueOf(100000);
+  public static final long DEFAULT_MAX_LATENCY_MS = 100;
+  public static final int DEFAULT_MAX_FLUSH_SIZE = 64 * 1024;
+  public static final long DEFAULT_MAX_BUFFERED_SIZE = 4 * 1024 * 1024;
+  static final String DROPPED_OUTPUT_MARKER =
+      "\n... output skipped, it is produced faster than it can be sent ...\n";
+  // the running runners, the gauge is registered once and reports the queue depth of all of them
+  private static final Set<AppendOutputRunner> RUNNERS = ConcurrentHashMap.newKeySet();
+
+  static {
+    Gauge.builder("zeppelin_output_append_queue_depth", RUNNERS,
+            runners -> runners.stream().mapToLong(AppendOutputRunner::getQueueDepth).sum())
+        .register(Metrics.globalRegistry);
+  }
 
-  private final BlockingQueue<AppendOutputBuffer> queue = new LinkedBlockingQueue<>();
   private final RemoteInterpreterProcessListener listener;
+  private final long maxLatencyMs;
+  private final int maxFlushSize;
+  private final long maxBufferedSize;
+  private final Map<OutputKey, OutputBuffer> buffers = new ConcurrentHashMap<>();
+  // set by the first append after the runner started a flush, the runner waits for it
+  private final AtomicBoolean pending = new AtomicBoolean();
+  private final Semaphore wakeUp = new Semaphore(0);
+  // wait before the next flush, only accessed by the thread of run()
+  private long batchWaitMs = 0;
+
+  private final AtomicLong queueDepth = new AtomicLong();
+  private final DistributionSummary flushSize;
+  private final Timer latency;
+  private final Counter dropped;
 
   public AppendOutputRunner(RemoteInterpreterProcessListener listener) {
+    this(listener, DEFAULT_MAX_LATENCY_MS, DEFAULT_MAX_FLUSH_SIZE);
+  }
+
+  public AppendOutputRunner(RemoteInterpreterProcessListener listener,
+                            long maxLatencyMs,
+                            int maxFlushSize) {
+    this(listener, maxLatencyMs, maxFlushSize, DEFAULT_MAX_BUFFERED_SIZE);
+  }
+
+  /**
+   * @param maxLatencyMs max wait before buffered append-data is flushed
+   * @param maxFlushSize max number of characters of one paragraph output sent by one flush
+   * @param maxBufferedSize max number of characters buffered per paragraph output, further
+   *     append-data is dropped
+   */
+  public AppendOutputRunner(RemoteInterpreterProcessListener listener,
+                            long maxLatencyMs,
+                            int maxFlushSize,
+                            long maxBufferedSize) {
     this.listener = listener;
+    this.maxLatencyMs = maxLatencyMs;
+    this.maxFlushSize = maxFlushSize;
+    this.maxBufferedSize = maxBufferedSize;
+    this.flushSize = Metrics.summary("zeppelin_output_append_flush_size", Tags.empty());
+    this.latency = Metrics.timer("zeppelin_output_append_latency", Tags.empty());
+    this.dropped = Metrics.counter("zeppelin_output_append_dropped", Tags.empty());
   }
 
+  /**
+   * Flushes the buffered append-data until the thread is interrupted.
+   */
   @Override
   public void run() {
-
-    Map<String, StringBuilder> stringBufferMap = new HashMap<>();
-    List<AppendOutputBuffer> list = new LinkedList<>();
-
-    /* "drainTo" method does not wait for any element
-     * to be present in the queue, and thus this loop would
-     * continuosly run (with period of BUFFER_TIME_MS). "take()" method
-     * waits for the queue to become non-empty and then removes
-     * one element from it. Rest elements from queue (if present) are
-     * removed using "drainTo" method. Thus we save on some un-necessary
-     * cpu-cycles.
-     */
+    RUNNERS.add(this);
     try {
-      list.add(queue.take());
+      while (!Thread.currentThread().isInterrupted()) {
+        wakeUp.acquire();
+        if (batchWaitMs > 0) {
+          Thread.sleep(batchWaitMs);
+        }
+        pending.set(false);
+        FlushResult result = flush();
+        if (result.chunks > result.calls) {
+          // appends arrived faster than they were sent, merge more of them in the next flush
+          batchWaitMs = Math.min(maxLatencyMs, Math.max(1, batchWaitMs * 2));
+        } else {
+          batchWaitMs = 0;
+        }
+      }
     } catch (InterruptedException e) {
-      LOGGER.error("Wait for OutputBuffer queue interrupted: {}", e.getMessage());
+      LOGGER.debug("AppendOutputRunner is interrupted");
+      Thread.currentThread().interrupt();
+    } finally {
+      RUNNERS.remove(this);
     }
-    Long processingStartTime = System.currentTimeMillis();
-    queue.drainTo(list);
+  }
 
-    for (AppendOutputBuffer buffer: list) {
-      String noteId = buffer.getNoteId();
-      String paragraphId = buffer.getParagraphId();
-      int index = buffer.getIndex();
-      String stringBufferKey = noteId + ":" + paragraphId + ":" + index;
+  /**
+   * Number of buffered append-data which are not sent yet.
+   */
+  long getQueueDepth() {
+    return queueDepth.get();
+  }
 
-      StringBuilder builder = stringBufferMap.containsKey(stringBufferKey) ?
-          stringBufferMap.get(stringBufferKey) : new StringBuilder();
+  public void appendBuffer(String noteId, String paragraphId, int index, String outputToAppend) {
+    OutputKey key = new OutputKey(noteId, paragraphId, index);
+    Chunk chunk = new Chunk(outputToAppend, System.nanoTime());
+    OutputBuffer buffer;
+    Offer offer;
+    while (true) {
+      buffer = buffers.computeIfAbsent(key, k -> new OutputBuffer());
+      offer = buffer.offer(chunk, maxBufferedSize);
+      if (offer != Offer.RETIRED) {
+        break;
+      }
+      // the buffer was drained and removed by the runner, help to remove it and use a new one
+      buffers.remove(key, buffer);
+    }
+    if (offer == Offer.QUEUED) {
+      buffer.stopDropping();
+    } else {
+      dropped.increment(outputToAppend.length());
+      if (!buffer.startDropping()) {
+        return;
+      }
+      LOGGER.warn("More than {} characters of output of paragraph {} of note {} are buffered, "
+          + "drop output appends until they are sent", maxBufferedSize, paragraphId, noteId);
+      // the marker is queued even though the buffer is full, unless it was just retired
+      if (buffer.offer(new Chunk(DROPPED_OUTPUT_MARKER, chunk.enqueueNanos), Long.MAX_VALUE)
+          != Offer.QUEUED) {
+        return;
+      }
+    }
+    queueDepth.incrementAndGet();
+    signal();
+  }
 
-      builder.append(buffer.getData());
-      stringBufferMap.put(stringBufferKey, builder);
+  private void signal() {
+    if (pending.compareAndSet(false, true)) {
+      wakeUp.release();
     }
-    Long processingTime = System.currentTimeMillis() - processingStartTime;
+  }
 
-    if (processingTime > SAFE_PROCESSING_TIME) {
-      LOGGER.warn("Processing time for buffered append-output is high: {} milliseconds.", processingTime);
-    } else {
-      LOGGER.debug("Processing time for append-output took {} milliseconds", processingTime);
+  /**
+   * Sends the buffered append-data of every paragraph output, at most maxFlushSize characters
+   * of each.
+   */
+  FlushResult flush() {
+    FlushResult result = new FlushResult();
+    for (Map.Entry<OutputKey, OutputBuffer> entry : buffers.entrySet()) {
+      OutputKey key = entry.getKey();
+      OutputBuffer buffer = entry.getValue();
+      Chunk oldest = buffer.oldest();
+      if (oldest != null) {
+        StringBuilder builder = new StringBuilder();
+        int chunks = buffer.drainTo(builder, maxFlushSize);
+        queueDepth.addAndGet(-chunks);
+        try {
+          listener.onOutputAppend(key.noteId, key.paragraphId, key.index, builder.toString());
+        } catch (RuntimeException e) {
+          LOGGER.warn("Fail to send append-data of paragraph {} of note {}",
+              key.paragraphId, key.noteId, e);
+        }
+        latency.record(System.nanoTime() - oldest.enqueueNanos, TimeUnit.NANOSECONDS);
+        flushSize.record(builder.length());
+        result.calls++;
+        result.chunks += chunks;
+      }
+      if (buffer.hasChunks()) {
+        // more than maxFlushSize is buffered, or an append is in progress
+        signal();
+      } else if (buffer.retire()) {
+        buffers.remove(key, buffer);
+      }
     }
+    return result;
+  }
+
+  static class FlushResult {
+    // number of calls of the listener
+    int calls;
+    // number of appends sent by the calls
+    int chunks;
+  }
+
+  private static final class OutputKey {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+    private final int hash;
 
-    Long sizeProcessed = Long.valueOf(0);
-    for (Entry<String, StringBuilder> stringBufferMapEntry : stringBufferMap.entrySet()) {
-      String stringBufferKey = stringBufferMapEntry.getKey();
-      StringBuilder buffer = stringBufferMapEntry.getValue();
-      sizeProcessed += buffer.length();
-      String[] keys = stringBufferKey.split(":");
-      listener.onOutputAppend(keys[0], keys[1], Integer.parseInt(keys[2]), buffer.toString());
+    OutputKey(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+      this.hash = Objects.hash(noteId, paragraphId, index);
     }
 
-    if (sizeProcessed > SAFE_PROCESSING_STRING_SIZE) {
-      LOGGER.warn("Processing size for buffered append-output is high: {} characters.", sizeProcessed);
-    } else {
-      LOGGER.debug("Processing size for append-output is {} characters", sizeProcessed);
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof OutputKey)) {
+        return false;
+      }
+      OutputKey that = (OutputKey) o;
+      return index == that.index && noteId.equals(that.noteId)
+          && paragraphId.equals(that.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
     }
   }
 
-  public void appendBuffer(String noteId, String paragraphId, int index, String outputToAppend) {
-    queue.offer(new AppendOutputBuffer(noteId, paragraphId, index, outputToAppend));
+  private enum Offer {
+    QUEUED,
+    // the buffer is full
+    DROPPED,
+    // the buffer is removed
+    RETIRED
+  }
+
+  private static final class Chunk {
+    private final String data;
+    private final long enqueueNanos;
+
+    Chunk(String data, long enqueueNanos) {
+      this.data = data;
+      this.enqueueNanos = enqueueNanos;
+    }
   }
 
+  /**
+   * Append-data of one paragraph output. Any thread can offer chunks, only the runner drains
+   * them. Once the runner found it empty, it is retired and further offers are rejected, so that
+   * it can be removed without losing chunks. Chunks are dropped while the buffer is full.
+   */
+  private static final class OutputBuffer {
+    private static final int RETIRED = -1;
+
+    private final ConcurrentLinkedQueue<Chunk> chunks = new ConcurrentLinkedQueue<>();
+    // number of offered chunks which are not sent yet, or RETIRED
+    private final AtomicInteger size = new AtomicInteger();
+    // number of characters of the offered chunks which are not sent yet
+    private final AtomicLong length = new AtomicLong();
+    // whether chunks are dropped since the last queued one
+    private final AtomicBoolean dropping = new AtomicBoolean();
+    // chunk which didn't fit into the last flush, only accessed by the runner
+    private Chunk carry;
+
+    /**
+     * @param maxLength max number of buffered characters, a chunk is queued anyway when nothing
+     *     is buffered
+     */
+    Offer offer(Chunk chunk, long maxLength) {
+      long chunkLength = chunk.data.length();
+      long currentLength;
+      do {
+        currentLength = length.get();
+        if (currentLength > 0 && currentLength + chunkLength > maxLength) {
+          return Offer.DROPPED;
+        }
+      } while (!length.compareAndSet(currentLength, currentLength + chunkLength));
+      int current;
+      do {
+        current = size.get();
+        if (current == RETIRED) {
+          length.addAndGet(-chunkLength);
+          return Offer.RETIRED;
+        }
+      } while (!size.compareAndSet(current, current + 1));
+      chunks.offer(chunk);
+      return Offer.QUEUED;
+    }
+
+    /**
+     * @return true for the first dropped chunk after a queued one
+     */
+    boolean startDropping() {
+      return dropping.compareAndSet(false, true);
+    }
+
+    void stopDropping() {
+      dropping.set(false);
+    }
+
+    Chunk oldest() {
+      return carry != null ? carry : chunks.peek();
+    }
+
+    /**
+     * Moves chunks of at most maxSize characters into the builder, but at least one chunk.
+     *
+     * @return number of moved chunks
+     */
+    int drainTo(StringBuilder builder, int maxSize) {
+      int drained = 0;
+      long drainedLength = 0;
+      Chunk chunk = carry != null ? carry : chunks.poll();
+      carry = null;
+      while (chunk != null) {
+        if (drained > 0 && builder.length() + chunk.data.length() > maxSize) {
+          carry = chunk;
+          break;
+        }
+        builder.append(chunk.data);
+        drained++;
+        drainedLength += chunk.data.length();
+        chunk = chunks.poll();
+      }
+      length.addAndGet(-drainedLength);
+      size.addAndGet(-drained);
+      return drained;
+    }
+
+    boolean hasChunks() {
+      return size.get() > 0;
+    }
+
+    boolean retire() {
+      return size.compareAndSet(0, RETIRED);
+    }
+  }
 }
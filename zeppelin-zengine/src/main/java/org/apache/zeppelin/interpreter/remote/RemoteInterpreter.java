@@ -41,13 +41,16 @@ import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.RemoteScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.scheduler.SharedJobPoller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proxy for Interpreter instance that runs on separate process
@@ -64,6 +67,8 @@ public class RemoteInterpreter extends Interpreter {
   private RemoteInterpreterProcess interpreterProcess;
   private volatile boolean isOpened = false;
   private volatile boolean isCreated = false;
+  // schedulers of the notes run in note execution mode, they are closed with this interpreter
+  private final Map<String, Scheduler> noteSchedulers = new ConcurrentHashMap<>();
 
   /**
    * Remote interpreter and manage interpreter process
@@ -337,26 +342,65 @@ public class RemoteInterpreter extends Interpreter {
     });
   }
 
+  /**
+   * @return batch to poll the progress of the paragraphs running in the interpreter process
+   * together, null when this interpreter is not opened
+   */
+  public SharedJobPoller.Batch<Integer> getProgressBatch() {
+    RemoteInterpreterProcess process = interpreterProcess;
+    return isOpened && process != null ? process.getProgressBatch() : null;
+  }
+
+  /**
+   * @return batch to poll the status of the jobs submitted to the interpreter process together,
+   * null when this interpreter is not opened
+   */
+  public SharedJobPoller.Batch<String> getStatusBatch() {
+    RemoteInterpreterProcess process = interpreterProcess;
+    return isOpened && process != null ? process.getStatusBatch() : null;
+  }
+
 
   @Override
   public Scheduler getScheduler() {
+    return getScheduler(getProperty(".execution.mode", "paragraph"), getProperty(".noteId"));
+  }
+
+  /**
+   * Scheduler of a run of a paragraph.
+   *
+   * @param executionMode "paragraph": the paragraphs of this session run one by one,
+   *                      "note": the paragraphs of the note run one by one, e.g. in run all
+   * @param noteId id of the note, it is only used in note mode
+   */
+  public Scheduler getScheduler(String executionMode, String noteId) {
     // one session own one Scheduler, so that when one session is closed, all the jobs/paragraphs
     // running under the scheduler of this session will be aborted.
-    String executionMode = getProperty(".execution.mode", "paragraph");
     if (executionMode.equals("paragraph")) {
       String name = RemoteInterpreter.class.getSimpleName() + "-" + getInterpreterGroup().getId()
           + "-" + sessionId;
-      Scheduler s = new RemoteScheduler(name, this);
+      Scheduler s = new RemoteScheduler(name, this, executionMode);
       return SchedulerFactory.singleton().createOrGetScheduler(s);
     } else if (executionMode.equals("note")) {
-      String noteId = getProperty(".noteId");
       String name = RemoteInterpreter.class.getSimpleName() + "-" + noteId;
-      Scheduler s = new RemoteScheduler(name, this);
-      return SchedulerFactory.singleton().createOrGetScheduler(s);
+      Scheduler s = new RemoteScheduler(name, this, executionMode);
+      s = SchedulerFactory.singleton().createOrGetScheduler(s);
+      noteSchedulers.put(name, s);
+      return s;
     } else {
       throw new RuntimeException("Invalid execution mode: " + executionMode);
     }
+  }
 
+  /**
+   * All the schedulers used by this interpreter, i.e. the one of its session and the ones of the
+   * notes run in note execution mode.
+   */
+  public List<Scheduler> getSchedulers() {
+    List<Scheduler> schedulers = new ArrayList<>();
+    schedulers.add(getScheduler("paragraph", null));
+    schedulers.addAll(noteSchedulers.values());
+    return schedulers;
   }
 
   private RemoteInterpreterContext convert(InterpreterContext ic) {
@@ -37,7 +37,8 @@ public abstract class RemoteInterpreterManagedProcess extends RemoteInterpreterP
   private final String interpreterDir;
   private final String localRepoDir;
   private final String interpreterSettingName;
-  private final String interpreterGroupId;
+  // changes once when a warm process is bound to an interpreter group
+  private volatile String interpreterGroupId;
   private final boolean isUserImpersonated;
   private String errorMessage;
 
@@ -132,6 +133,13 @@ public abstract class RemoteInterpreterManagedProcess extends RemoteInterpreterP
     return interpreterGroupId;
   }
 
+  /**
+   * Binds a process which was launched ahead of time to the interpreter group which uses it.
+   */
+  public void setInterpreterGroupId(String interpreterGroupId) {
+    this.interpreterGroupId = interpreterGroupId;
+  }
+
   public boolean isUserImpersonated() {
     return isUserImpersonated;
   }
@@ -19,17 +19,21 @@ package org.apache.zeppelin.interpreter.remote;
 import com.google.gson.Gson;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.SharedJobPoller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * Abstract class for interpreter process
@@ -42,7 +46,13 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient, Aut
   protected String intpEventServerHost;
   protected int intpEventServerPort;
   private PooledRemoteClient<Client> remoteClient;
+  private volatile RpcTransport rpcTransport = RpcTransport.BLOCKING;
   private String startTime;
+  // polls progress and status of all the jobs of this process with one call per poll
+  private final SharedJobPoller.Batch<Integer> progressBatch =
+      jobs -> callRemoteFunction(client -> client.getProgresses(jobIds(jobs)));
+  private final SharedJobPoller.Batch<String> statusBatch =
+      jobs -> callRemoteFunction(client -> client.getStatuses(jobIds(jobs)));
 
   public RemoteInterpreterProcess(int connectTimeout,
                                   int connectionPoolSize,
@@ -53,9 +63,9 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient, Aut
     this.intpEventServerPort = intpEventServerPort;
     this.startTime = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
     this.remoteClient = new PooledRemoteClient<>(() -> {
-      TSocket transport = new TSocket(getHost(), getPort());
+      TTransport transport;
       try {
-        transport.open();
+        transport = rpcTransport.openClientTransport(getHost(), getPort());
       } catch (TTransportException e) {
         throw new IOException(e);
       }
@@ -72,6 +82,17 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient, Aut
     return startTime;
   }
 
+  /**
+   * Set the transport of the interpreter process, it should be called before connecting to it.
+   */
+  public void setRpcTransport(RpcTransport rpcTransport) {
+    this.rpcTransport = rpcTransport;
+  }
+
+  public RpcTransport getRpcTransport() {
+    return rpcTransport;
+  }
+
   @Override
   public void close() {
     if (remoteClient != null) {
@@ -100,6 +121,22 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient, Aut
     return remoteClient.callRemoteFunction(func);
   }
 
+  public SharedJobPoller.Batch<Integer> getProgressBatch() {
+    return progressBatch;
+  }
+
+  public SharedJobPoller.Batch<String> getStatusBatch() {
+    return statusBatch;
+  }
+
+  private static List<String> jobIds(List<Job<?>> jobs) {
+    List<String> jobIds = new ArrayList<>(jobs.size());
+    for (Job<?> job : jobs) {
+      jobIds.add(job.getId());
+    }
+    return jobIds;
+  }
+
   public void init(ZeppelinConfiguration zConf) {
     callRemoteFunction(client -> {
       client.init(zConf.getCompleteConfiguration());
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -42,6 +43,7 @@ import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 
 /**
@@ -249,6 +251,43 @@ public class FileSystemStorage {
     });
   }
 
+  /**
+   * Writes the content to a temp file, which is renamed to the file if it doesn't exist yet.
+   */
+  public void writeFileIfAbsent(final byte[] content, final Path file) throws IOException {
+    callHdfsOperation(() -> {
+      Path tmpFile = new Path(file.getParent(), file.getName() + "." + UUID.randomUUID() + ".tmp");
+      try {
+        IOUtils.copyBytes(new ByteArrayInputStream(content), fs.create(tmpFile), hadoopConf);
+        if (!fs.rename(tmpFile, file) && !fs.exists(file)) {
+          throw new IOException("Fail to rename " + tmpFile + " to " + file);
+        }
+      } finally {
+        if (fs.exists(tmpFile)) {
+          fs.delete(tmpFile, false);
+        }
+      }
+      return null;
+    });
+  }
+
+  public InputStream open(final Path file) throws IOException {
+    return callHdfsOperation(() -> fs.open(file));
+  }
+
+  /**
+   * @return length of the file, -1 if it doesn't exist
+   */
+  public long getLength(final Path file) throws IOException {
+    return callHdfsOperation(() -> {
+      try {
+        return fs.getFileStatus(file).getLen();
+      } catch (FileNotFoundException e) {
+        return -1L;
+      }
+    });
+  }
+
   public void move(Path src, Path dest) throws IOException {
     callHdfsOperation(() -> {
       fs.rename(src, dest);
@@ -35,10 +35,13 @@ import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObject;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.notebook.utility.IdHashes;
 import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
+import org.apache.zeppelin.scheduler.JobListener;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.apache.zeppelin.util.Util;
@@ -49,15 +52,19 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -664,6 +671,27 @@ public class Note implements JsonSerializable {
                      boolean blocking,
                      boolean isolated,
                      Map<String, Object> params) throws Exception {
+    runAll(authInfo, blocking, isolated, params, false);
+  }
+
+  /**
+   * Run all the paragraphs of this note in different kinds of ways:
+   * - blocking/non-blocking
+   * - isolated/non-isolated
+   * - sequential/parallel, in parallel mode the paragraphs which don't depend on each other
+   *   run at the same time, see {@link ParagraphDependencyGraph}.
+   *
+   * @param authInfo
+   * @param blocking
+   * @param isolated
+   * @param parallel
+   * @throws Exception
+   */
+  public void runAll(AuthenticationInfo authInfo,
+                     boolean blocking,
+                     boolean isolated,
+                     Map<String, Object> params,
+                     boolean parallel) throws Exception {
     if (isRunning()) {
       throw new Exception("Unable to run note:" + id + " because it is still in RUNNING state.");
     }
@@ -672,7 +700,7 @@ public class Note implements JsonSerializable {
     setStartTime(DATE_TIME_FORMATTER.format(LocalDateTime.now()));
     if (blocking) {
       try {
-        runAllSync(authInfo, isolated, params);
+        runAllSync(authInfo, isolated, params, parallel);
       } finally {
         setRunning(false);
         setIsolatedMode(false);
@@ -681,7 +709,7 @@ public class Note implements JsonSerializable {
     } else {
       ExecutorFactory.singleton().getNoteJobExecutor().submit(() -> {
         try {
-          runAllSync(authInfo, isolated, params);
+          runAllSync(authInfo, isolated, params, parallel);
         } catch (Exception e) {
           LOGGER.warn("Fail to run note: {}", id, e);
         } finally {
@@ -698,9 +726,15 @@ public class Note implements JsonSerializable {
    *
    * @param authInfo
    * @param isolated
+   * @param parallel
    */
-  private void runAllSync(AuthenticationInfo authInfo, boolean isolated, Map<String, Object> params) throws Exception {
+  private void runAllSync(AuthenticationInfo authInfo, boolean isolated, Map<String, Object> params,
+                          boolean parallel) throws Exception {
     try {
+      if (parallel) {
+        runAllParallel(authInfo, params);
+        return;
+      }
       for (Paragraph p : getParagraphs()) {
         if (!p.isEnabled()) {
           continue;
@@ -711,15 +745,11 @@ public class Note implements JsonSerializable {
           if (params != null && !params.isEmpty()) {
             p.settings.setParams(params);
           }
-          Interpreter interpreter = p.getBindedInterpreter();
-          if (interpreter != null) {
-            // set interpreter property to execution.mode to be note
-            // so that it could use the correct scheduler. see ZEPPELIN-4832
-            interpreter.setProperty(".execution.mode", "note");
-            interpreter.setProperty(".noteId", id);
-          }
-          // Must run each paragraph in blocking way.
-          if (!run(p.getId(), true)) {
+          // a paragraph without interpreter is skipped
+          p.getBindedInterpreter();
+          // Must run each paragraph in blocking way. The note execution mode makes it use the
+          // scheduler of the note, see ZEPPELIN-4832
+          if (!run(p, true, "note", paragraphJobListener)) {
             LOGGER.warn("Skip running the remain notes because paragraph {} fails", p.getId());
             return;
           }
@@ -743,6 +773,148 @@ public class Note implements JsonSerializable {
     }
   }
 
+  /**
+   * Run all the paragraphs in parallel, following the dependencies between them. Like the
+   * sequential way, no more paragraph is started once a paragraph fails or is aborted, the
+   * running ones are waited for.
+   *
+   * @param authInfo
+   * @param params
+   */
+  private void runAllParallel(AuthenticationInfo authInfo, Map<String, Object> params)
+      throws Exception {
+    List<Paragraph> toRun = new ArrayList<>();
+    Map<String, String> sessions = new HashMap<>();
+    Map<String, Map<String, Object>> originalParams = new HashMap<>();
+    try {
+      for (Paragraph p : getParagraphs()) {
+        if (!p.isEnabled()) {
+          continue;
+        }
+        p.setAuthenticationInfo(authInfo);
+        Interpreter interpreter;
+        try {
+          interpreter = p.getBindedInterpreter();
+        } catch (InterpreterNotFoundException e) {
+          p.setInterpreterNotFound(e);
+          continue;
+        }
+        if (interpreter != null) {
+          sessions.put(p.getId(), getSessionKey(interpreter));
+        }
+        originalParams.put(p.getId(), p.settings.getParams());
+        if (params != null && !params.isEmpty()) {
+          p.settings.setParams(params);
+        }
+        toRun.add(p);
+      }
+
+      ParagraphDependencyGraph graph = new ParagraphDependencyGraph(toRun, sessions);
+      BlockingQueue<Paragraph> completed = new LinkedBlockingQueue<>();
+      JobListener listener = new CompletionListener(paragraphJobListener, completed);
+      // by identity, the hash code of a paragraph changes with its status
+      Set<Paragraph> running = Collections.newSetFromMap(new IdentityHashMap<>());
+      boolean failed = false;
+      while (true) {
+        if (!failed) {
+          for (Paragraph p : graph.takeReady()) {
+            running.add(p);
+            // paragraphs of the note don't share one scheduler in parallel mode,
+            // the ones of the same session still run one by one
+            if (!run(p, false, "paragraph", listener)) {
+              LOGGER.warn("Skip running the remain paragraphs because paragraph {} fails",
+                  p.getId());
+              running.remove(p);
+              failed = true;
+              break;
+            }
+          }
+        }
+        if (running.isEmpty()) {
+          break;
+        }
+        Paragraph p = completed.take();
+        if (!running.remove(p)) {
+          // e.g. the paragraph failed to be submitted
+          continue;
+        }
+        Status status = p.getStatus();
+        if (status == Status.FINISHED) {
+          graph.markFinished(p);
+        } else if (!failed) {
+          LOGGER.warn("Skip running the remain paragraphs because paragraph {} is {}",
+              p.getId(), status);
+          failed = true;
+        }
+      }
+    } finally {
+      // reset params to the original value
+      for (Paragraph p : toRun) {
+        p.settings.setParams(originalParams.get(p.getId()));
+        p.setListener(paragraphJobListener);
+      }
+    }
+  }
+
+  /**
+   * Run a paragraph of run all.
+   *
+   * @param executionMode selects the scheduler of the run, see
+   *                      {@link RemoteInterpreter#getScheduler(String, String)}
+   */
+  private boolean run(Paragraph p, boolean blocking, String executionMode,
+                      JobListener listener) {
+    p.setListener(listener);
+    return p.execute(null, blocking, executionMode);
+  }
+
+  /**
+   * Passes the events of the paragraphs to the ParagraphJobListener, and queues the paragraphs
+   * once they are completed.
+   */
+  private static class CompletionListener implements ParagraphJobListener {
+    private final ParagraphJobListener listener;
+    private final BlockingQueue<Paragraph> completed;
+
+    CompletionListener(ParagraphJobListener listener, BlockingQueue<Paragraph> completed) {
+      this.listener = listener;
+      this.completed = completed;
+    }
+
+    @Override
+    public void onProgressUpdate(Job<?> job, int progress) {
+      if (listener != null) {
+        listener.onProgressUpdate(job, progress);
+      }
+    }
+
+    @Override
+    public void onStatusChange(Job<?> job, Status before, Status after) {
+      if (listener != null) {
+        listener.onStatusChange(job, before, after);
+      }
+      if (after.isCompleted()) {
+        completed.add((Paragraph) job);
+      }
+    }
+
+    @Override
+    public void noteRunningStatusChange(String noteId, boolean newStatus) {
+      if (listener != null) {
+        listener.noteRunningStatusChange(noteId, newStatus);
+      }
+    }
+  }
+
+  private static String getSessionKey(Interpreter interpreter) {
+    String key = interpreter.getInterpreterGroup() == null ? interpreter.getClassName()
+        : interpreter.getInterpreterGroup().getId();
+    if (interpreter instanceof RemoteInterpreter) {
+      key += ":" + ((RemoteInterpreter) interpreter).getSessionId();
+    }
+    return key;
+  }
+
   /**
    * Run a single paragraph in non-blocking way.
    *
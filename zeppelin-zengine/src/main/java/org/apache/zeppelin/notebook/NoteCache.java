@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache of the loaded notes, bounded by the number of notes and optionally by their estimated
+ * size in bytes, including the paragraph results.
+ *
+ * The eviction policy is a segmented LRU: new notes enter the probation segment, notes which are
+ * accessed again while in probation are promoted to the protected segment, which holds at most
+ * 80% of the capacity. So notes which are loaded only once, e.g. during startup, don't evict the
+ * notes in use. Reads don't take any lock, they only mark the note as accessed, the segments are
+ * reordered on eviction.
+ *
+ * Notes are not evicted in case they are currently in use (have a lock).
+ */
+class NoteCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteCache.class);
+
+  private static final double PROTECTED_RATIO = 0.8;
+  // rough memory overhead of the objects of note and paragraph, besides their strings
+  private static final long NOTE_OVERHEAD = 1024;
+  private static final long PARAGRAPH_OVERHEAD = 512;
+
+  private final int threshold;
+  private final long maxBytes;
+  private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Note>> loadingNotes = new ConcurrentHashMap<>();
+  // the segments are guarded by this, iterated from the least recently used note
+  private final LinkedHashMap<String, Node> probation = new LinkedHashMap<>();
+  private final LinkedHashMap<String, Node> protectedSegment = new LinkedHashMap<>();
+  private long protectedBytes = 0;
+  private final AtomicLong bytes = new AtomicLong();
+
+  private final Counter cacheHit;
+  private final Counter cacheMiss;
+  private final Counter evictedBytes;
+  private final Timer loadTimer;
+
+  /**
+   * @param threshold max number of notes
+   * @param maxBytes max estimated size of notes, no limit if it is not positive
+   */
+  NoteCache(final int threshold, final long maxBytes) {
+    // Registering the threshold to compare the configured threshold with the actual note cache
+    this.threshold = Metrics.gauge("zeppelin_note_cache_threshold", Tags.empty(), threshold);
+    this.maxBytes = maxBytes;
+    Metrics.gaugeMapSize("zeppelin_note_cache", Tags.empty(), nodes);
+    Metrics.gauge("zeppelin_note_cache_bytes", Tags.empty(), bytes);
+    this.cacheHit = Metrics.counter("zeppelin_note_cache_hit", Tags.empty());
+    this.cacheMiss = Metrics.counter("zeppelin_note_cache_miss", Tags.empty());
+    this.evictedBytes = Metrics.counter("zeppelin_note_cache_evicted_bytes", Tags.empty());
+    this.loadTimer = Metrics.timer("zeppelin_note_cache_load", Tags.empty());
+  }
+
+  public int getSize() {
+    return nodes.size();
+  }
+
+  /**
+   * @return estimated size of the cached notes in bytes
+   */
+  public long getBytes() {
+    return bytes.get();
+  }
+
+  public Note getNote(String noteId) {
+    Node node = nodes.get(noteId);
+    if (node != null) {
+      node.accessed = true;
+      cacheHit.increment();
+      return node.note;
+    }
+    cacheMiss.increment();
+    return null;
+  }
+
+  /**
+   * Get the note without counting it as an access.
+   */
+  public Note peekNote(String noteId) {
+    Node node = nodes.get(noteId);
+    return node == null ? null : node.note;
+  }
+
+  public boolean containsNote(String noteId) {
+    return nodes.containsKey(noteId);
+  }
+
+  /**
+   * Get the note from the cache, or load it if it is not cached or reload is true.
+   * Concurrent loads of the same note share one call of the loader.
+   */
+  public Note getOrLoadNote(String noteId, boolean reload, NoteLoader loader) throws IOException {
+    if (!reload) {
+      Note note = getNote(noteId);
+      if (note != null) {
+        return note;
+      }
+    }
+    CompletableFuture<Note> future = new CompletableFuture<>();
+    CompletableFuture<Note> loadingNote = loadingNotes.putIfAbsent(noteId, future);
+    if (loadingNote != null) {
+      return waitForLoading(noteId, loadingNote);
+    }
+    try {
+      long start = System.nanoTime();
+      Note note = loader.load();
+      loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      putNote(note);
+      future.complete(note);
+      return note;
+    } catch (IOException | RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      loadingNotes.remove(noteId, future);
+    }
+  }
+
+  private Note waitForLoading(String noteId, CompletableFuture<Note> loadingNote)
+      throws IOException {
+    try {
+      return loadingNote.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for loading note " + noteId, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException("Fail to load note " + noteId, e.getCause());
+    }
+  }
+
+  /**
+   * Add the note or update its size, then evict notes if the cache is full.
+   */
+  public void putNote(Note note) {
+    long weight = weigh(note);
+    synchronized (this) {
+      Node node = nodes.get(note.getId());
+      if (node == null) {
+        node = new Node(note.getId(), note, weight);
+        nodes.put(node.noteId, node);
+        probation.put(node.noteId, node);
+      } else {
+        node.note = note;
+        node.accessed = true;
+        if (node.isProtected) {
+          protectedBytes += weight - node.weight;
+        }
+        bytes.addAndGet(-node.weight);
+        node.weight = weight;
+      }
+      bytes.addAndGet(weight);
+      evict();
+    }
+  }
+
+  public synchronized Note removeNote(String noteId) {
+    Node node = nodes.remove(noteId);
+    if (node == null) {
+      return null;
+    }
+    removeFromSegment(node);
+    bytes.addAndGet(-node.weight);
+    return node.note;
+  }
+
+  private boolean isFull() {
+    return nodes.size() > threshold || (maxBytes > 0 && bytes.get() > maxBytes);
+  }
+
+  private boolean isProtectedFull() {
+    return protectedSegment.size() > threshold * PROTECTED_RATIO
+        || (maxBytes > 0 && protectedBytes > maxBytes * PROTECTED_RATIO);
+  }
+
+  private void evict() {
+    if (!isFull()) {
+      return;
+    }
+    int count = 0;
+    long evicted = 0;
+    // every note is promoted or skipped at most once, until it is accessed again
+    int candidates = 2 * nodes.size() + 1;
+    while (isFull() && candidates-- > 0) {
+      if (probation.isEmpty() && !demoteProtected()) {
+        break;
+      }
+      Node node = probation.remove(probation.keySet().iterator().next());
+      if (node.accessed) {
+        // accessed again while in probation
+        node.accessed = false;
+        node.isProtected = true;
+        protectedSegment.put(node.noteId, node);
+        protectedBytes += node.weight;
+        while (isProtectedFull() && demoteProtected()) {
+          // demote until the protected segment is within its capacity
+        }
+        continue;
+      }
+      final Lock lock = node.note.getLock().writeLock();
+      if (lock.tryLock()) { // avoid eviction in case the note is in use
+        try {
+          nodes.remove(node.noteId);
+          bytes.addAndGet(-node.weight);
+          evicted += node.weight;
+          ++count;
+          LOGGER.debug("Remove note {} from note cache", node.noteId);
+        } finally {
+          lock.unlock();
+        }
+      } else {
+        // in use, try it again later
+        probation.put(node.noteId, node);
+      }
+    }
+    evictedBytes.increment(evicted);
+    if (isFull()) {
+      LOGGER.info("Can not evict more notes, because their write locks can not be acquired. "
+          + "{} notes of {} bytes currently loaded.", nodes.size(), bytes.get());
+    } else if (count > 0) {
+      LOGGER.debug("Evict {} notes of {} bytes", count, evicted);
+    }
+  }
+
+  /**
+   * Move the least recently used note of protected segment to probation segment.
+   * Notes which are accessed since they are promoted get a second chance.
+   *
+   * @return false if protected segment is empty
+   */
+  private boolean demoteProtected() {
+    Iterator<Node> iterator = protectedSegment.values().iterator();
+    int size = protectedSegment.size();
+    while (iterator.hasNext() && size-- > 0) {
+      Node node = iterator.next();
+      iterator.remove();
+      if (node.accessed) {
+        node.accessed = false;
+        protectedSegment.put(node.noteId, node);
+        iterator = protectedSegment.values().iterator();
+        continue;
+      }
+      node.isProtected = false;
+      protectedBytes -= node.weight;
+      probation.put(node.noteId, node);
+      return true;
+    }
+    if (protectedSegment.isEmpty()) {
+      return false;
+    }
+    // all the notes are accessed, demote the least recently used one
+    Node node = protectedSegment.remove(protectedSegment.keySet().iterator().next());
+    node.isProtected = false;
+    protectedBytes -= node.weight;
+    probation.put(node.noteId, node);
+    return true;
+  }
+
+  private void removeFromSegment(Node node) {
+    if (node.isProtected) {
+      protectedSegment.remove(node.noteId);
+      protectedBytes -= node.weight;
+    } else {
+      probation.remove(node.noteId);
+    }
+  }
+
+  /**
+   * Estimate the retained size of the note, which is dominated by the paragraph texts and results.
+   */
+  static long weigh(Note note) {
+    long weight = NOTE_OVERHEAD + sizeOf(note.getName());
+    for (Paragraph paragraph : note.getParagraphs()) {
+      weight += PARAGRAPH_OVERHEAD + sizeOf(paragraph.getText()) + sizeOf(paragraph.getTitle());
+      InterpreterResult result = paragraph.getReturn();
+      if (result != null && result.message() != null) {
+        for (InterpreterResultMessage message : result.message()) {
+          weight += sizeOf(message.getData());
+        }
+      }
+    }
+    return weight;
+  }
+
+  private static long sizeOf(String str) {
+    // 2 bytes per char in the worst case of compact strings
+    return str == null ? 0 : 2L * str.length();
+  }
+
+  /**
+   * Load note from NotebookRepo.
+   */
+  @FunctionalInterface
+  interface NoteLoader {
+    Note load() throws IOException;
+  }
+
+  private static class Node {
+    private final String noteId;
+    private volatile Note note;
+    private long weight;
+    private volatile boolean accessed;
+    private boolean isProtected;
+
+    Node(String noteId, Note note, long weight) {
+      this.noteId = noteId;
+      this.note = note;
+      this.weight = weight;
+    }
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Metadata of the notes which is needed during startup: path, cron expression and running
+ * paragraphs. It is maintained in memory on every change of the notes, and written to a local
+ * file when zeppelin server is shutdown, together with the stamps of the saved notes, see {@link
+ * org.apache.zeppelin.notebook.repo.NotebookRepo#getNoteStamps}. On the next start, the notes
+ * whose entries are read from the file and whose path and stamp are unchanged don't need to be
+ * loaded to know their metadata. Notes which are changed outside of zeppelin, or whose
+ * NotebookRepo doesn't support stamps, are always loaded.
+ *
+ * The file is deleted after it is read, so that it is not used after a crash, because the
+ * changes after the last shutdown are not in the file.
+ */
+public class NoteCatalog {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteCatalog.class);
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+  private static final int VERSION = 3;
+
+  private final File file;
+  // noteId -> Entry
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  // notes which are not changed since the catalog file was written
+  private final Set<String> unchangedNotes = ConcurrentHashMap.newKeySet();
+
+  public NoteCatalog(File file) {
+    this.file = file;
+    load();
+  }
+
+  private void load() {
+    if (!file.exists()) {
+      LOGGER.info("No note catalog {}, all the notes will be loaded", file);
+      return;
+    }
+    try {
+      CatalogSaving saving = GSON.fromJson(FileUtils.readFromFile(file), CatalogSaving.class);
+      if (saving != null && saving.version == VERSION && saving.notes != null) {
+        entries.putAll(saving.notes);
+        LOGGER.info("Read {} notes from note catalog {}", entries.size(), file);
+      } else {
+        LOGGER.warn("Ignore note catalog {} of unknown version", file);
+      }
+    } catch (IOException | JsonParseException e) {
+      LOGGER.warn("Fail to read note catalog {}, all the notes will be loaded", file, e);
+    }
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (IOException e) {
+      LOGGER.warn("Fail to delete note catalog {}", file, e);
+    }
+  }
+
+  /**
+   * Compare the catalog with the notes in NotebookRepo. The notes which are not in the catalog,
+   * have a different path or a different stamp are changed.
+   *
+   * @param notesInfo noteId -> notePath of the notes in NotebookRepo
+   * @param stamps noteId -> stamp of the notes in NotebookRepo
+   */
+  void reconcile(Map<String, String> notesInfo, Map<String, String> stamps) {
+    unchangedNotes.clear();
+    entries.entrySet().removeIf(entry ->
+        !StringUtils.equals(entry.getValue().getPath(), notesInfo.get(entry.getKey()))
+            || entry.getValue().getStamp() == null
+            || !entry.getValue().getStamp().equals(stamps.get(entry.getKey())));
+    unchangedNotes.addAll(entries.keySet());
+  }
+
+  /**
+   * @return the entry of the note if it is not changed since the catalog file was written,
+   * otherwise null, then the note needs to be loaded to know its metadata.
+   */
+  public Entry getUnchangedEntry(String noteId) {
+    return unchangedNotes.contains(noteId) ? entries.get(noteId) : null;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  void update(Note note) {
+    entries.put(note.getId(), new Entry(note));
+  }
+
+  void move(String noteId, String newNotePath) {
+    entries.computeIfPresent(noteId, (id, entry) ->
+        new Entry(id, newNotePath, entry.getCron(), entry.getRunningParagraphs(), null));
+  }
+
+  void remove(String noteId) {
+    entries.remove(noteId);
+    unchangedNotes.remove(noteId);
+  }
+
+  /**
+   * Write the catalog to the file, it should be called after all the notes are saved, so that
+   * the stamps are the ones of the saved notes.
+   *
+   * @param stamps noteId -> stamp of the notes in NotebookRepo
+   */
+  void save(Map<String, String> stamps) {
+    CatalogSaving saving = new CatalogSaving();
+    saving.version = VERSION;
+    saving.notes = new HashMap<>();
+    for (Entry entry : entries.values()) {
+      saving.notes.put(entry.getId(), new Entry(entry.getId(), entry.getPath(), entry.getCron(),
+          entry.getRunningParagraphs(), stamps.get(entry.getId())));
+    }
+    try {
+      FileUtils.atomicWriteToFile(GSON.toJson(saving), file);
+      LOGGER.info("Write {} notes to note catalog {}", saving.notes.size(), file);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to write note catalog {}", file, e);
+    }
+  }
+
+  private static class CatalogSaving {
+    private int version;
+    private Map<String, Entry> notes;
+  }
+
+  /**
+   * Metadata of one note.
+   */
+  public static class Entry {
+    private final String id;
+    private final String path;
+    private final String cron;
+    private final List<String> runningParagraphs;
+    // stamp of the saved note, it is only known when the catalog is written
+    private final String stamp;
+
+    Entry(String id, String path, String cron, List<String> runningParagraphs, String stamp) {
+      this.id = id;
+      this.path = path;
+      this.cron = cron;
+      this.runningParagraphs = runningParagraphs;
+      this.stamp = stamp;
+    }
+
+    Entry(Note note) {
+      this.id = note.getId();
+      this.path = note.getPath();
+      Object cronExpr = note.getConfig() == null ? null : note.getConfig().get("cron");
+      this.cron = cronExpr instanceof String && StringUtils.isNotBlank((String) cronExpr) ?
+          (String) cronExpr : null;
+      List<String> running = new ArrayList<>();
+      for (Paragraph paragraph : note.getParagraphs()) {
+        if (paragraph.getStatus() == Job.Status.RUNNING) {
+          running.add(paragraph.getId());
+        }
+      }
+      this.runningParagraphs = running;
+      this.stamp = null;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    /**
+     * @return cron expression of the note, null if it has no cron expression
+     */
+    public String getCron() {
+      return cron;
+    }
+
+    public List<String> getRunningParagraphs() {
+      return runningParagraphs == null ? Collections.emptyList() : runningParagraphs;
+    }
+
+    /**
+     * @return stamp of the note when the catalog was written, null if it is unknown
+     */
+    public String getStamp() {
+      return stamp;
+    }
+  }
+}
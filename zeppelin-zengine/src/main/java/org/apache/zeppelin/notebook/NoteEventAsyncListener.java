@@ -25,13 +25,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 
 /**
- * An special NoteEventListener which handle events asynchronously
+ * An special NoteEventListener which handle events asynchronously.
+ * Update events of the same note or paragraph are coalesced while they are waiting in the queue,
+ * because the handler reads the latest state of the note or paragraph anyway.
  */
 public abstract class NoteEventAsyncListener implements NoteEventListener, Closeable {
 
@@ -39,6 +43,8 @@ public abstract class NoteEventAsyncListener implements NoteEventListener, Close
 
   private final ThreadPoolExecutor executor;
   private final String name;
+  // keys of the update events which are queued but not handled yet
+  private final Set<String> pendingUpdates = ConcurrentHashMap.newKeySet();
 
   protected NoteEventAsyncListener(String name) {
     this.name = name;
@@ -58,6 +64,11 @@ public abstract class NoteEventAsyncListener implements NoteEventListener, Close
 
   public abstract void handleParagraphUpdateEvent(ParagraphUpdateEvent paragraphUpdateEvent);
 
+  public void handleParagraphStatusChangeEvent(
+      ParagraphStatusChangeEvent paragraphStatusChangeEvent) {
+    // do nothing by default
+  }
+
 
   @Override
   public void close() {
@@ -76,7 +87,7 @@ public abstract class NoteEventAsyncListener implements NoteEventListener, Close
 
   @Override
   public void onNoteUpdate(Note note, AuthenticationInfo subject) {
-    executor.execute(new EventHandling(new NoteUpdateEvent(note.getId())));
+    executeUpdate(note.getId(), new NoteUpdateEvent(note.getId()));
   }
 
   @Override
@@ -91,7 +102,8 @@ public abstract class NoteEventAsyncListener implements NoteEventListener, Close
 
   @Override
   public void onParagraphUpdate(Paragraph p) {
-    executor.execute(new EventHandling(new ParagraphUpdateEvent(p.getNote().getId(), p.getId())));
+    executeUpdate(p.getNote().getId() + "/" + p.getId(),
+        new ParagraphUpdateEvent(p.getNote().getId(), p.getId()));
   }
 
   @Override
@@ -99,15 +111,33 @@ public abstract class NoteEventAsyncListener implements NoteEventListener, Close
     executor.execute(new EventHandling(new ParagraphStatusChangeEvent(p.getNote().getId(), p.getId())));
   }
 
+  private void executeUpdate(String key, NoteEvent event) {
+    // skip it if the same update is still waiting in the queue
+    if (pendingUpdates.add(key)) {
+      executor.execute(new EventHandling(event, key));
+    }
+  }
+
   class EventHandling implements Runnable {
 
     private final NoteEvent event;
+    private final String pendingUpdateKey;
+
     public EventHandling(NoteEvent event) {
+      this(event, null);
+    }
+
+    EventHandling(NoteEvent event, String pendingUpdateKey) {
       this.event = event;
+      this.pendingUpdateKey = pendingUpdateKey;
     }
 
     @Override
     public void run() {
+      if (pendingUpdateKey != null) {
+        // updates from now on need to be handled again
+        pendingUpdates.remove(pendingUpdateKey);
+      }
       try {
         if (event instanceof NoteCreateEvent) {
           handleNoteCreateEvent((NoteCreateEvent) event);
@@ -121,6 +151,8 @@ public abstract class NoteEventAsyncListener implements NoteEventListener, Close
           handleParagraphRemoveEvent((ParagraphRemoveEvent) event);
         } else if (event instanceof ParagraphUpdateEvent) {
           handleParagraphUpdateEvent((ParagraphUpdateEvent) event);
+        } else if (event instanceof ParagraphStatusChangeEvent) {
+          handleParagraphStatusChangeEvent((ParagraphStatusChangeEvent) event);
         } else {
           throw new RuntimeException("Unknown event: " + event.getClass().getSimpleName());
         }
@@ -18,15 +18,13 @@
 
 package org.apache.zeppelin.notebook;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -39,9 +37,6 @@ import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Metrics;
-import io.micrometer.core.instrument.Tags;
 
 /**
  * Manager class for note. It handle all the note related operations, such as get, create,
@@ -64,6 +59,9 @@ public class NoteManager {
 
   private NotebookRepo notebookRepo;
   private NoteCache noteCache;
+  private NoteSaveQueue noteSaveQueue;
+  // null if the note catalog is disabled
+  private NoteCatalog noteCatalog;
   // noteId -> notePath
   private Map<String, String> notesInfo;
   private final ZeppelinConfiguration zConf;
@@ -72,7 +70,12 @@ public class NoteManager {
   public NoteManager(NotebookRepo notebookRepo, ZeppelinConfiguration zConf) throws IOException {
     this.zConf = zConf;
     this.notebookRepo = notebookRepo;
-    this.noteCache = new NoteCache(zConf.getNoteCacheThreshold());
+    this.noteCache = new NoteCache(zConf.getNoteCacheThreshold(), zConf.getNoteCacheMaxBytes());
+    this.noteSaveQueue = new NoteSaveQueue(this::writeNote, zConf.getNoteSaveWindow());
+    String noteCatalogPath = zConf.getNoteCatalogPath();
+    if (noteCatalogPath != null) {
+      this.noteCatalog = new NoteCatalog(new File(noteCatalogPath));
+    }
     this.root = new Folder("/", notebookRepo, noteCache, zConf);
     this.trash = this.root.getOrCreateFolder(TRASH_FOLDER);
     init();
@@ -92,18 +95,29 @@ public class NoteManager {
             LOGGER.warn(e.getMessage());
           }
         });
+    if (noteCatalog != null) {
+      noteCatalog.reconcile(notesInfo, getNoteStamps());
+    }
   }
 
   public Map<String, String> getNotesInfo() {
     return notesInfo;
   }
 
+  /**
+   * @return the note catalog, null if it is disabled
+   */
+  public NoteCatalog getNoteCatalog() {
+    return noteCatalog;
+  }
+
 
   /**
    *
    * @throws IOException
    */
   public void reloadNotes() throws IOException {
+    noteSaveQueue.flushAll();
     this.root = new Folder("/", notebookRepo, noteCache, zConf);
     this.trash = this.root.getOrCreateFolder(TRASH_FOLDER);
     init();
@@ -173,6 +187,8 @@ public class NoteManager {
   /**
    * Save note to NoteManager, it won't check duplicates, this is used when updating note.
    * Only save note in loaded state. Unload state means its content is empty.
+   * The note is written to NotebookRepo when the save window expires, saves of the same note
+   * within the window are coalesced. Use {@link #flushNote(String)} to write it immediately.
    *
    * @param note
    * @param subject
@@ -184,17 +200,71 @@ public class NoteManager {
     } else {
       addOrUpdateNoteNode(new NoteInfo(note));
       noteCache.putNote(note);
-      // Make sure to execute `notebookRepo.save()` successfully in concurrent context
-      // Otherwise, the NullPointerException will be thrown when invoking notebookRepo.get() in the following operations.
-      synchronized (this) {
-        this.notebookRepo.save(note, subject);
+      if (noteCatalog != null) {
+        noteCatalog.update(note);
       }
+      noteSaveQueue.save(note, subject);
+    }
+  }
+
+  private void writeNote(Note note, AuthenticationInfo subject) throws IOException {
+    // Make sure to execute `notebookRepo.save()` successfully in concurrent context
+    // Otherwise, the NullPointerException will be thrown when invoking notebookRepo.get() in the following operations.
+    synchronized (this) {
+      this.notebookRepo.save(note, subject);
+    }
+  }
+
+  /**
+   * Write the pending save of this note to NotebookRepo, e.g. before checkpoint.
+   *
+   * @param noteId
+   * @throws IOException
+   */
+  public void flushNote(String noteId) throws IOException {
+    noteSaveQueue.flush(noteId);
+  }
+
+  /**
+   * Write all the pending saves to NotebookRepo.
+   */
+  public void flushNotes() {
+    noteSaveQueue.flushAll();
+  }
+
+  /**
+   *
+   * @return number of notes which are saved but not written to NotebookRepo yet
+   */
+  public int getPendingSaveSize() {
+    return noteSaveQueue.getQueueDepth();
+  }
+
+  /**
+   * Write all the pending saves, this is called when zeppelin server is shutdown.
+   */
+  public void close() {
+    noteSaveQueue.close();
+    if (noteCatalog != null) {
+      noteCatalog.save(getNoteStamps());
+    }
+  }
+
+  private Map<String, String> getNoteStamps() {
+    try {
+      return notebookRepo.getNoteStamps(AuthenticationInfo.ANONYMOUS);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to get stamps of the notes, all the notes are treated as changed", e);
+      return Collections.emptyMap();
     }
   }
 
   public void addNote(Note note, AuthenticationInfo subject) throws IOException {
     addOrUpdateNoteNode(new NoteInfo(note), true);
     noteCache.putNote(note);
+    if (noteCatalog != null) {
+      noteCatalog.update(note);
+    }
   }
 
   /**
@@ -215,10 +285,14 @@ public class NoteManager {
    * @throws IOException
    */
   public void removeNote(String noteId, AuthenticationInfo subject) throws IOException {
+    noteSaveQueue.cancel(noteId);
     String notePath = this.notesInfo.remove(noteId);
     Folder folder = getOrCreateFolder(getFolderName(notePath));
     folder.removeNote(getNoteName(notePath));
     noteCache.removeNote(noteId);
+    if (noteCatalog != null) {
+      noteCatalog.remove(noteId);
+    }
     this.notebookRepo.remove(noteId, notePath, subject);
   }
 
@@ -233,6 +307,9 @@ public class NoteManager {
       throw new NotePathAlreadyExistsException("Note '" + newNotePath + "' existed");
     }
 
+    // write the pending save to the old path before it is moved
+    noteSaveQueue.flush(noteId);
+
     // move the old NoteNode from notePath to newNotePath
     String notePath = this.notesInfo.get(noteId);
     NoteNode noteNode = getNoteNode(notePath);
@@ -244,6 +321,9 @@ public class NoteManager {
 
     // update noteInfo mapping
     this.notesInfo.put(noteId, newNotePath);
+    if (noteCatalog != null) {
+      noteCatalog.move(noteId, newNotePath);
+    }
 
     // update notebookrepo
     this.notebookRepo.move(noteId, notePath, newNotePath, subject);
@@ -273,6 +353,9 @@ public class NoteManager {
                          String newFolderPath,
                          AuthenticationInfo subject) throws IOException {
 
+    // write the pending saves to the old path before they are moved
+    noteSaveQueue.flushAll();
+
     // update notebookrepo
     this.notebookRepo.move(folderPath, newFolderPath, subject);
 
@@ -285,6 +368,14 @@ public class NoteManager {
     // update notesInfo
     for (NoteInfo noteInfo : folder.getNoteInfoRecursively()) {
       notesInfo.put(noteInfo.getId(), noteInfo.getPath());
+      // the loaded notes are not reloaded from NotebookRepo, update their path too
+      Note note = noteCache.peekNote(noteInfo.getId());
+      if (note != null) {
+        note.setPath(noteInfo.getPath());
+      }
+      if (noteCatalog != null) {
+        noteCatalog.move(noteInfo.getId(), noteInfo.getPath());
+      }
     }
   }
 
@@ -298,6 +389,12 @@ public class NoteManager {
    */
   public List<NoteInfo> removeFolder(String folderPath, AuthenticationInfo subject) throws IOException {
 
+    // the notes under this folder are removed, no need to write their pending saves
+    if (containsFolder(folderPath)) {
+      noteSaveQueue.cancel(getFolder(folderPath).getNoteInfoRecursively().stream()
+          .map(NoteInfo::getId).collect(Collectors.toList()));
+    }
+
     // update notebookrepo
     this.notebookRepo.remove(folderPath, subject);
 
@@ -308,6 +405,9 @@ public class NoteManager {
     // update notesInfo
     for (NoteInfo noteInfo : noteInfos) {
       this.notesInfo.remove(noteInfo.getId());
+      if (noteCatalog != null) {
+        noteCatalog.remove(noteInfo.getId());
+      }
     }
 
     return noteInfos;
@@ -327,6 +427,10 @@ public class NoteManager {
     if (this.notesInfo == null || noteId == null || !this.notesInfo.containsKey(noteId)) {
       return noteProcessor.process(null);
     }
+    if (noteSaveQueue.isPending(noteId) && (reload || !noteCache.containsNote(noteId))) {
+      // note is going to be loaded from NotebookRepo, write the pending save first
+      noteSaveQueue.flush(noteId);
+    }
     String notePath = this.notesInfo.get(noteId);
     NoteNode noteNode = getNoteNode(notePath);
     return noteNode.loadAndProcessNote(reload, noteProcessor);
@@ -619,21 +723,18 @@ public class NoteManager {
      */
     public <T> T loadAndProcessNote(boolean reload, NoteProcessor<T> noteProcessor)
         throws IOException {
-      // load note
-      Note note;
-      synchronized (this) {
-        note = noteCache.getNote(noteInfo.getId());
-        if (note == null || reload) {
-          note = notebookRepo.get(noteInfo.getId(), noteInfo.getPath(), AuthenticationInfo.ANONYMOUS);
-          if (parent.toString().equals("/")) {
-            note.setPath("/" + note.getName());
-          } else {
-            note.setPath(parent.toString() + "/" + note.getName());
-          }
-          note.setCronSupported(zConf);
-          noteCache.putNote(note);
+      // load note, concurrent loads of the same note are done once
+      Note note = noteCache.getOrLoadNote(noteInfo.getId(), reload, () -> {
+        Note loadedNote =
+            notebookRepo.get(noteInfo.getId(), noteInfo.getPath(), AuthenticationInfo.ANONYMOUS);
+        if (parent.toString().equals("/")) {
+          loadedNote.setPath("/" + loadedNote.getName());
+        } else {
+          loadedNote.setPath(parent.toString() + "/" + loadedNote.getName());
         }
-      }
+        loadedNote.setCronSupported(zConf);
+        return loadedNote;
+      });
       try {
         note.getLock().readLock().lock();
         // process note
@@ -687,103 +788,4 @@ public class NoteManager {
       this.noteInfo.setPath(getNotePath());
     }
   }
-
-  /**
-   * Leverage a simple LRU cache for notes.
-   * Notes are not evicted in case they are currently in use (have a lock).
-   */
-  private static class NoteCache {
-
-    private static final Logger LOGGER = LoggerFactory.getLogger(NoteCache.class);
-
-    private final int threshold;
-    private final Map<String, Note> lruCache;
-    private final Counter cacheHit;
-    private final Counter cacheMiss;
-
-    public NoteCache(final int threshold) {
-      // Registering the threshold to compare the configured threshold with the actual note cache
-      this.threshold = Metrics.gauge("zeppelin_note_cache_threshold", Tags.empty(), threshold);
-      // use a synchronized map to make the NoteCache thread-safe
-      this.lruCache = Metrics.gaugeMapSize("zeppelin_note_cache", Tags.empty(), Collections.synchronizedMap(new LRUCache()));
-      this.cacheHit = Metrics.counter("zeppelin_note_cache_hit", Tags.empty());
-      this.cacheMiss = Metrics.counter("zeppelin_note_cache_miss", Tags.empty());
-    }
-
-    public int getSize() {
-      return lruCache.size();
-    }
-
-    public Note getNote(String noteId) {
-      Note note = lruCache.get(noteId);
-      if (note != null) {
-        cacheHit.increment();
-      } else {
-        cacheMiss.increment();
-      }
-      return note;
-    }
-
-    public void putNote(Note note) {
-      lruCache.put(note.getId(), note);
-    }
-
-    public Note removeNote(String noteId) {
-      return lruCache.remove(noteId);
-    }
-
-    private class LRUCache extends LinkedHashMap<String, Note> {
-
-      private static final long serialVersionUID = 1L;
-
-      public LRUCache() {
-        super(NoteCache.this.threshold, 0.5f, true /* lru by access mode */);
-      }
-
-      @Override
-      protected boolean removeEldestEntry(java.util.Map.Entry<String, Note> eldest) {
-        if (size() <= NoteCache.this.threshold) {
-          return false;
-        }
-        final Note eldestNote = eldest.getValue();
-        final Lock lock = eldestNote.getLock().writeLock();
-        if (lock.tryLock()) { // avoid eviction in case the note is in use
-          try {
-            return true;
-          } finally {
-            lock.unlock();
-          }
-        } else {
-          LOGGER.info("Can not evict note {}, because the write lock can not be acquired. {} notes currently loaded.",
-              eldestNote.getId(), size());
-          cleanupCache();
-          return false;
-        }
-      }
-
-      private void cleanupCache() {
-        Iterator<Map.Entry<String, Note>> iterator = this.entrySet().iterator();
-        int count = 0;
-        // if size >= shrinked_size and have next() try remove
-        while ((this.size() - 1) >= NoteCache.this.threshold && iterator.hasNext()) {
-          Map.Entry<String, Note> noteEntry = iterator.next();
-          final Note note = noteEntry.getValue();
-          final Lock lock = note.getLock().writeLock();
-          if (lock.tryLock()) { // avoid eviction in case the note is in use
-            try {
-              iterator.remove(); // remove LRU element from LinkedHashMap
-              LOGGER.debug("Remove note {} from LRU Cache", note.getId());
-              ++count;
-            } finally {
-              lock.unlock();
-            }
-          }
-        }
-        LOGGER.info("The cache cleanup removes {} entries", count);
-      }
-    }
-  }
-
-
-
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write-behind queue between {@link NoteManager} and the NotebookRepo. A saved note is only
+ * marked as dirty, it is written to the NotebookRepo once when the save window expires, so
+ * that all the saves of the same note within the window (e.g. paragraph status changes of a
+ * running note) are coalesced into one write.
+ *
+ * A non-positive save window disables the queue, every save is written immediately.
+ */
+class NoteSaveQueue implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteSaveQueue.class);
+  private static final String SAVE_EXECUTOR_NAME = "NoteSaver";
+  // the open queues, the gauge is registered once and reports the pending saves of all of them.
+  // They are weakly referenced, so that a queue which is not closed can still be collected.
+  private static final Map<NoteSaveQueue, Boolean> QUEUES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  static {
+    Gauge.builder("zeppelin_note_save_queue_depth", QUEUES, NoteSaveQueue::getQueueDepth)
+        .register(Metrics.globalRegistry);
+  }
+
+  private static int getQueueDepth(Map<NoteSaveQueue, Boolean> queues) {
+    synchronized (queues) {
+      return queues.keySet().stream().mapToInt(NoteSaveQueue::getQueueDepth).sum();
+    }
+  }
+
+  /**
+   * Writes the note to NotebookRepo.
+   */
+  interface Writer {
+    void write(Note note, AuthenticationInfo subject) throws IOException;
+  }
+
+  private final Writer writer;
+  private final long saveWindowMs;
+  // noteId -> pending save
+  private final Map<String, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+  private final Timer saveTimer;
+
+  NoteSaveQueue(Writer writer, long saveWindowMs) {
+    this.writer = writer;
+    this.saveWindowMs = saveWindowMs;
+    this.saveTimer = Metrics.timer("zeppelin_note_save", Tags.empty());
+    QUEUES.put(this, Boolean.TRUE);
+  }
+
+  /**
+   * Mark the note as dirty, it will be written when the save window expires.
+   */
+  void save(Note note, AuthenticationInfo subject) throws IOException {
+    if (saveWindowMs <= 0) {
+      write(note, subject);
+      return;
+    }
+    PendingSave newSave = new PendingSave(note, subject);
+    PendingSave pendingSave = pendingSaves.merge(note.getId(), newSave, (existing, s) -> {
+      // keep the schedule of the existing one, only the latest note object is written.
+      existing.note = s.note;
+      existing.subject = s.subject;
+      return existing;
+    });
+    if (pendingSave == newSave) {
+      try {
+        getSaveExecutor().schedule(() -> flushQuietly(note.getId()), saveWindowMs,
+            TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        LOGGER.debug("Save executor is shutdown, save note {} directly", note.getId());
+        flush(note.getId());
+      }
+    }
+  }
+
+  /**
+   * Write the pending save of this note if there's any.
+   */
+  void flush(String noteId) throws IOException {
+    PendingSave pendingSave = pendingSaves.remove(noteId);
+    if (pendingSave != null) {
+      write(pendingSave.note, pendingSave.subject);
+    }
+  }
+
+  /**
+   * Write all the pending saves.
+   */
+  void flushAll() {
+    for (String noteId : new ArrayList<>(pendingSaves.keySet())) {
+      flushQuietly(noteId);
+    }
+  }
+
+  /**
+   * Discard the pending save of this note, e.g. the note is removed.
+   */
+  void cancel(String noteId) {
+    pendingSaves.remove(noteId);
+  }
+
+  /**
+   * Discard the pending saves of these notes.
+   */
+  void cancel(List<String> noteIds) {
+    noteIds.forEach(this::cancel);
+  }
+
+  boolean isPending(String noteId) {
+    return pendingSaves.containsKey(noteId);
+  }
+
+  int getQueueDepth() {
+    return pendingSaves.size();
+  }
+
+  private void flushQuietly(String noteId) {
+    try {
+      flush(noteId);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.error("Fail to save note: {}", noteId, e);
+    }
+  }
+
+  private void write(Note note, AuthenticationInfo subject) throws IOException {
+    long start = System.nanoTime();
+    try {
+      writer.write(note, subject);
+    } finally {
+      saveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private ScheduledExecutorService getSaveExecutor() {
+    return ExecutorFactory.singleton().createOrGetScheduled(SAVE_EXECUTOR_NAME, 1);
+  }
+
+  @Override
+  public void close() {
+    flushAll();
+    QUEUES.remove(this);
+  }
+
+  private static class PendingSave {
+    private volatile Note note;
+    private volatile AuthenticationInfo subject;
+
+    PendingSave(Note note, AuthenticationInfo subject) {
+      this.note = note;
+      this.subject = subject;
+    }
+  }
+}
@@ -53,6 +53,7 @@ import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.notebook.NoteManager.Folder;
 import org.apache.zeppelin.notebook.NoteManager.NoteNode;
+import org.apache.zeppelin.notebook.blob.BlobStorage;
 import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
 import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl;
@@ -83,8 +84,9 @@ public class Notebook {
   private ParagraphJobListener paragraphJobListener;
   private NotebookRepo notebookRepo;
   private List<NoteEventListener> noteEventListeners = new CopyOnWriteArrayList<>();
+  private List<Runnable> notesReloadListeners = new CopyOnWriteArrayList<>();
   private Credentials credentials;
-  private final List<Consumer<String>> initConsumers;
+  private final List<InitConsumer> initConsumers;
   private ExecutorService initExecutor;
 
   /**
@@ -130,7 +132,19 @@ public class Notebook {
    * @param initConsumer Consumer, which is passed the NoteId.
    */
   public void addInitConsumer(Consumer<String> initConsumer) {
-    this.initConsumers.add(initConsumer);
+    addInitConsumer(initConsumer, entry -> true);
+  }
+
+  /**
+   * Same as {@link #addInitConsumer(Consumer)}, but the consumer is only executed for the notes
+   * which are unchanged since the note catalog was written, if the filter accepts their entries.
+   *
+   * @param initConsumer Consumer, which is passed the NoteId.
+   * @param unchangedNoteFilter Filter of the catalog entries of the unchanged notes.
+   */
+  public void addInitConsumer(Consumer<String> initConsumer,
+                              Predicate<NoteCatalog.Entry> unchangedNoteFilter) {
+    this.initConsumers.add(new InitConsumer(initConsumer, unchangedNoteFilter));
   }
 
   /**
@@ -141,13 +155,48 @@ public class Notebook {
       initExecutor = new ThreadPoolExecutor(0, Runtime.getRuntime().availableProcessors(), 1, TimeUnit.MINUTES,
                      new LinkedBlockingQueue<>(), new NamedThreadFactory("NotebookInit"));
     }
+    NoteCatalog noteCatalog = noteManager.getNoteCatalog();
+    int skipped = 0;
     for (NoteInfo noteInfo : getNotesInfo()) {
+      String noteId = noteInfo.getId();
+      NoteCatalog.Entry entry =
+          noteCatalog == null ? null : noteCatalog.getUnchangedEntry(noteId);
+      List<Consumer<String>> consumers = new ArrayList<>();
+      for (InitConsumer initConsumer : initConsumers) {
+        if (entry == null || initConsumer.unchangedNoteFilter.test(entry)) {
+          consumers.add(initConsumer.consumer);
+        }
+      }
+      if (entry != null && consumers.isEmpty()) {
+        skipped++;
+        continue;
+      }
       initExecutor.execute(() -> {
-        for (Consumer<String> initConsumer : initConsumers) {
-          initConsumer.accept(noteInfo.getId());
+        if (noteCatalog != null && entry == null) {
+          updateNoteCatalog(noteCatalog, noteId);
+        }
+        for (Consumer<String> consumer : consumers) {
+          consumer.accept(noteId);
         }
       });
     }
+    if (noteCatalog != null) {
+      LOGGER.info("Skip initialization of {} unchanged notes in note catalog", skipped);
+    }
+  }
+
+  private void updateNoteCatalog(NoteCatalog noteCatalog, String noteId) {
+    try {
+      processNote(noteId,
+        note -> {
+          if (note != null) {
+            noteCatalog.update(note);
+          }
+          return null;
+        });
+    } catch (IOException e) {
+      LOGGER.warn("Fail to update note catalog of note: {}", noteId, e);
+    }
   }
 
   /**
@@ -178,8 +227,15 @@ public class Notebook {
   }
 
   private void recoverRunningParagraphs() {
+    NoteCatalog noteCatalog = noteManager.getNoteCatalog();
     Thread thread = new Thread(() ->
       getNotesInfo().forEach(noteInfo -> {
+        NoteCatalog.Entry entry =
+            noteCatalog == null ? null : noteCatalog.getUnchangedEntry(noteInfo.getId());
+        if (entry != null && entry.getRunningParagraphs().isEmpty()) {
+          // no need to load the note which has no running paragraphs
+          return;
+        }
         try {
           List<Paragraph> paragraphsToRecover = new LinkedList<>();
           processNote(noteInfo.getId(),
@@ -337,13 +393,27 @@ public class Notebook {
           if (note == null) {
             throw new IOException("Note " + noteId + " not found");
           }
-          return note.toJson();
+          return toExportedJson(note);
         });
     } catch (IOException e) {
       throw new IOException("Note " + noteId + " not found");
     }
   }
 
+  /**
+   * Json of the note to export, the large outputs which the note references in the blob storage
+   * are inlined, so that the note can be imported by another server.
+   */
+  public String toExportedJson(Note note) throws IOException {
+    if (notebookRepo instanceof NotebookRepoSync) {
+      BlobStorage blobStorage = ((NotebookRepoSync) notebookRepo).getBlobStorage();
+      if (blobStorage != null) {
+        return blobStorage.toExportedNote(note).toJson();
+      }
+    }
+    return note.toJson();
+  }
+
   /**
    * import JSON as a new note.
    *
@@ -583,6 +653,8 @@ public class Notebook {
   public Revision checkpointNote(String noteId, String notePath, String checkpointMessage,
       AuthenticationInfo subject) throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      // checkpoint the latest content of note
+      noteManager.flushNote(noteId);
       return ((NotebookRepoWithVersionControl) notebookRepo)
           .checkpoint(noteId, notePath, checkpointMessage, subject);
     } else {
@@ -719,6 +791,9 @@ public class Notebook {
         mainRepo.sync(subject);
       }
     }
+    for (Runnable listener : notesReloadListeners) {
+      listener.run();
+    }
   }
 
   private class SnapshotAngularObject {
@@ -812,6 +887,7 @@ public class Notebook {
     if (initExecutor != null) {
       ExecutorUtil.softShutdown("NotebookInit", initExecutor, 1, TimeUnit.MINUTES);
     }
+    this.noteManager.close();
     this.notebookRepo.close();
   }
 
@@ -819,6 +895,13 @@ public class Notebook {
     noteEventListeners.add(listener);
   }
 
+  /**
+   * Add a listener which is called after all notes are reloaded by {@link #reloadAllNotes}.
+   */
+  public void addNotesReloadListener(Runnable listener) {
+    notesReloadListeners.add(listener);
+  }
+
   private void fireNoteCreateEvent(Note note, AuthenticationInfo subject) {
     for (NoteEventListener listener : noteEventListeners) {
       listener.onNoteCreate(note, subject);
@@ -865,4 +948,14 @@ public class Notebook {
     T process(Note note) throws IOException;
 
   }
+
+  private static class InitConsumer {
+    private final Consumer<String> consumer;
+    private final Predicate<NoteCatalog.Entry> unchangedNoteFilter;
+
+    InitConsumer(Consumer<String> consumer, Predicate<NoteCatalog.Entry> unchangedNoteFilter) {
+      this.consumer = consumer;
+      this.unchangedNoteFilter = unchangedNoteFilter;
+    }
+  }
 }
@@ -54,6 +54,8 @@ import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.JobWithProgressPoller;
+import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.scheduler.SharedJobPoller;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.apache.zeppelin.user.UserCredentials;
@@ -305,6 +307,20 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     }
   }
 
+  @Override
+  protected SharedJobPoller.Batch<Integer> getProgressBatch() {
+    Interpreter intp = this.interpreter;
+    if (intp instanceof RemoteInterpreter) {
+      return ((RemoteInterpreter) intp).getProgressBatch();
+    }
+    return null;
+  }
+
+  @Override
+  protected void onProgressPolled(int progress) {
+    this.progress = progress;
+  }
+
   @Override
   public Map<String, Object> info() {
     return null;
@@ -328,6 +344,16 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
    * @return
    */
   public boolean execute(String interpreterGroupId, boolean blocking) {
+    return execute(interpreterGroupId, blocking, null);
+  }
+
+  /**
+   * Same as {@link #execute(String, boolean)}, the execution mode selects the scheduler of this
+   * run, see {@link RemoteInterpreter#getScheduler(String, String)}.
+   *
+   * @param executionMode null to use the scheduler of the interpreter
+   */
+  public boolean execute(String interpreterGroupId, boolean blocking, String executionMode) {
     try {
       this.interpreterGroupId = interpreterGroupId;
       this.interpreter = getBindedInterpreter();
@@ -352,7 +378,7 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
 
       if (isEnabled()) {
         setAuthenticationInfo(getAuthenticationInfo());
-        interpreter.getScheduler().submit(this);
+        getScheduler(executionMode).submit(this);
        } else {
         LOGGER.info("Skip disabled paragraph. {}", getId());
         setStatus(Job.Status.FINISHED);
@@ -381,6 +407,13 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     }
   }
 
+  private Scheduler getScheduler(String executionMode) {
+    if (executionMode != null && interpreter instanceof RemoteInterpreter) {
+      return ((RemoteInterpreter) interpreter).getScheduler(executionMode, note.getId());
+    }
+    return interpreter.getScheduler();
+  }
+
   @Override
   public void setStatus(Status status) {
     super.setStatus(status);
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependencies between the paragraphs of a note which are run in parallel. A paragraph depends on
+ * - the paragraphs listed in its paragraph config {@link #DEPENDS_ON}, either a list of paragraph
+ *   ids or a comma separated string.
+ * - the previous paragraph which runs in the same interpreter session.
+ * Dependencies on paragraphs which are not run are ignored.
+ */
+class ParagraphDependencyGraph {
+
+  static final String DEPENDS_ON = "dependsOn";
+
+  // paragraph id -> ids of the paragraphs it is still waiting for, in note order.
+  // Paragraphs are kept by id because their hashCode changes while they run.
+  private final Map<String, Set<String>> waiting = new LinkedHashMap<>();
+  private final Map<String, Paragraph> paragraphs = new HashMap<>();
+
+  /**
+   * @param paragraphs paragraphs to run, in note order
+   * @param sessions interpreter session of each paragraph by paragraph id
+   */
+  ParagraphDependencyGraph(List<Paragraph> paragraphs, Map<String, String> sessions) {
+    for (Paragraph p : paragraphs) {
+      this.paragraphs.put(p.getId(), p);
+    }
+    Map<String, String> lastParagraphOfSession = new HashMap<>();
+    for (Paragraph p : paragraphs) {
+      Set<String> dependencies = new LinkedHashSet<>();
+      for (String id : getDependsOn(p)) {
+        if (this.paragraphs.containsKey(id) && !id.equals(p.getId())) {
+          dependencies.add(id);
+        }
+      }
+      String session = sessions.get(p.getId());
+      if (session != null) {
+        String previous = lastParagraphOfSession.put(session, p.getId());
+        if (previous != null) {
+          dependencies.add(previous);
+        }
+      }
+      waiting.put(p.getId(), dependencies);
+    }
+    checkNoCycle();
+  }
+
+  static List<String> getDependsOn(Paragraph p) {
+    Object dependsOn = p.getConfig().get(DEPENDS_ON);
+    List<String> ids = new ArrayList<>();
+    if (dependsOn instanceof Collection) {
+      for (Object id : (Collection<?>) dependsOn) {
+        if (id != null && StringUtils.isNotBlank(id.toString())) {
+          ids.add(id.toString().trim());
+        }
+      }
+    } else if (dependsOn instanceof String) {
+      for (String id : StringUtils.split((String) dependsOn, ',')) {
+        if (StringUtils.isNotBlank(id)) {
+          ids.add(id.trim());
+        }
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * @return the paragraphs which don't wait for any other paragraph, they are removed from the
+   * graph.
+   */
+  List<Paragraph> takeReady() {
+    List<Paragraph> ready = new ArrayList<>();
+    waiting.entrySet().removeIf(entry -> {
+      if (entry.getValue().isEmpty()) {
+        ready.add(paragraphs.get(entry.getKey()));
+        return true;
+      }
+      return false;
+    });
+    return ready;
+  }
+
+  /**
+   * The paragraph is finished successfully, the paragraphs depending on it stop waiting for it.
+   */
+  void markFinished(Paragraph p) {
+    for (Set<String> dependencies : waiting.values()) {
+      dependencies.remove(p.getId());
+    }
+  }
+
+  private void checkNoCycle() {
+    // Kahn's algorithm, every paragraph must be reachable from the ones without dependency
+    Map<String, Integer> inDegrees = new HashMap<>();
+    Map<String, List<String>> dependents = new HashMap<>();
+    for (Map.Entry<String, Set<String>> entry : waiting.entrySet()) {
+      inDegrees.put(entry.getKey(), entry.getValue().size());
+      for (String dependency : entry.getValue()) {
+        dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(entry.getKey());
+      }
+    }
+    List<String> queue = new ArrayList<>();
+    inDegrees.forEach((id, inDegree) -> {
+      if (inDegree == 0) {
+        queue.add(id);
+      }
+    });
+    for (int i = 0; i < queue.size(); i++) {
+      for (String dependent : dependents.getOrDefault(queue.get(i), new ArrayList<>())) {
+        if (inDegrees.merge(dependent, -1, Integer::sum) == 0) {
+          queue.add(dependent);
+        }
+      }
+    }
+    if (queue.size() < inDegrees.size()) {
+      List<String> cycle = new ArrayList<>();
+      inDegrees.forEach((id, inDegree) -> {
+        if (inDegree > 0) {
+          cycle.add(id);
+        }
+      });
+      throw new IllegalArgumentException("Circular " + DEPENDS_ON + " between paragraphs: "
+          + StringUtils.join(cycle, ", "));
+    }
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.blob;
+
+import com.google.common.hash.Hashing;
+import org.apache.commons.io.IOUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.ListIterator;
+import java.util.regex.Pattern;
+
+/**
+ * Content addressed storage of large binary paragraph outputs, e.g. images of plots.
+ *
+ * The outputs are stored once by the sha-256 hash of their content, which is their id, and the
+ * paragraph results only keep a reference to them, so that notes with many images stay small in
+ * the notebook repo, in memory and on the wire. The frontend loads the referenced images via the
+ * rest api, the references are only resolved when a note is exported.
+ */
+public abstract class BlobStorage {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BlobStorage.class);
+
+  /**
+   * Prefix of the data of a paragraph output which is stored in the blob storage, it is followed
+   * by the id of the blob. It can't be confused with base64 data.
+   */
+  public static final String REFERENCE_PREFIX = "blob:";
+  private static final Pattern ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
+  protected final ZeppelinConfiguration zConf;
+  private final int threshold;
+
+  protected BlobStorage(ZeppelinConfiguration zConf) {
+    this.zConf = zConf;
+    this.threshold = zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_THRESHOLD);
+  }
+
+  public static BlobStorage createBlobStorage(ZeppelinConfiguration zConf) throws IOException {
+    String blobStorageClass =
+        zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_STORAGE_CLASS);
+    return ReflectionUtils.createClazzInstance(blobStorageClass,
+        new Class[] {ZeppelinConfiguration.class}, new Object[] {zConf});
+  }
+
+  /**
+   * @return false if outputs are kept in the paragraph results
+   */
+  public boolean isEnabled() {
+    return true;
+  }
+
+  protected abstract boolean exists(String id) throws IOException;
+
+  /**
+   * Writes the blob, readers must never see a partially written blob.
+   */
+  protected abstract void write(String id, byte[] content) throws IOException;
+
+  /**
+   * @return size of the blob in bytes, -1 if there's no such blob
+   */
+  public abstract long getSize(String id) throws IOException;
+
+  /**
+   * @throws java.io.FileNotFoundException if there's no such blob
+   */
+  public abstract InputStream open(String id) throws IOException;
+
+  /**
+   * Stores the content, if it isn't stored yet.
+   *
+   * @return id of the blob
+   */
+  public String put(byte[] content) throws IOException {
+    String id = Hashing.sha256().hashBytes(content).toString();
+    if (!exists(id)) {
+      write(id, content);
+    }
+    return id;
+  }
+
+  /**
+   * Checks the id before it is used, e.g. as file name.
+   */
+  public static boolean isValidId(String id) {
+    return id != null && ID_PATTERN.matcher(id).matches();
+  }
+
+  public static boolean isReference(InterpreterResultMessage message) {
+    return message.getType() == InterpreterResult.Type.IMG
+        && message.getData() != null && message.getData().startsWith(REFERENCE_PREFIX);
+  }
+
+  /**
+   * @return the id of the referenced blob, null if the output isn't a reference
+   */
+  public static String getReferencedId(InterpreterResultMessage message) {
+    return isReference(message) ? message.getData().substring(REFERENCE_PREFIX.length()) : null;
+  }
+
+  public static boolean hasReferences(Note note) {
+    for (Paragraph paragraph : note.getParagraphs()) {
+      InterpreterResult result = paragraph.getReturn();
+      if (result != null && result.message().stream().anyMatch(BlobStorage::isReference)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the decoded image of the output if it is large enough to be stored, otherwise null
+   */
+  private byte[] getStorableContent(InterpreterResultMessage message) {
+    if (!isStorable(message)) {
+      return null;
+    }
+    try {
+      return Base64.getDecoder().decode(WHITESPACE.matcher(message.getData()).replaceAll(""));
+    } catch (IllegalArgumentException e) {
+      // not base64, e.g. an url, keep it in the result
+      return null;
+    }
+  }
+
+  private boolean isStorable(InterpreterResultMessage message) {
+    return message.getType() == InterpreterResult.Type.IMG && message.getData() != null
+        && message.getData().length() >= threshold && !isReference(message);
+  }
+
+  /**
+   * Moves the large images of the paragraph results of the note into this storage, they are
+   * replaced by references to their blobs. The outputs which are references already are skipped,
+   * so that an image is only hashed once, when the note is saved for the first time after it is
+   * produced.
+   *
+   * @return number of moved outputs
+   */
+  public int storeOutputs(Note note) {
+    if (!isEnabled()) {
+      return 0;
+    }
+    int stored = 0;
+    for (Paragraph paragraph : note.getParagraphs()) {
+      InterpreterResult result = paragraph.getReturn();
+      if (result == null) {
+        continue;
+      }
+      ListIterator<InterpreterResultMessage> iterator = result.message().listIterator();
+      while (iterator.hasNext()) {
+        byte[] content = getStorableContent(iterator.next());
+        if (content == null) {
+          continue;
+        }
+        try {
+          String id = put(content);
+          iterator.set(new InterpreterResultMessage(InterpreterResult.Type.IMG,
+              REFERENCE_PREFIX + id));
+          stored++;
+        } catch (IOException e) {
+          LOGGER.warn("Fail to store output of paragraph {} of note {}, keep it in the note",
+              paragraph.getId(), note.getId(), e);
+        }
+      }
+    }
+    return stored;
+  }
+
+  /**
+   * Returns the note with inline images instead of references, e.g. to export it to another
+   * server. The note itself isn't changed, it is copied if it has references.
+   */
+  public Note toExportedNote(Note note) throws IOException {
+    if (!hasReferences(note)) {
+      return note;
+    }
+    Note exportedNote = note.getNoteParser().fromJson(note.getId(), note.toJson());
+    exportedNote.setPath(note.getPath());
+    resolveOutputs(exportedNote);
+    return exportedNote;
+  }
+
+  /**
+   * Replaces the references to blobs in the paragraph results of the note by the inline images.
+   *
+   * @return number of resolved outputs
+   */
+  public int resolveOutputs(Note note) {
+    int resolved = 0;
+    for (Paragraph paragraph : note.getParagraphs()) {
+      InterpreterResult result = paragraph.getReturn();
+      if (result == null) {
+        continue;
+      }
+      ListIterator<InterpreterResultMessage> iterator = result.message().listIterator();
+      while (iterator.hasNext()) {
+        InterpreterResultMessage message = iterator.next();
+        if (!isReference(message)) {
+          continue;
+        }
+        String id = message.getData().substring(REFERENCE_PREFIX.length());
+        try (InputStream in = open(id)) {
+          iterator.set(new InterpreterResultMessage(InterpreterResult.Type.IMG,
+              Base64.getEncoder().encodeToString(IOUtils.toByteArray(in))));
+          resolved++;
+        } catch (IOException e) {
+          LOGGER.warn("Fail to read blob {} of paragraph {} of note {}, keep the reference",
+              id, paragraph.getId(), note.getId(), e);
+        }
+      }
+    }
+    return resolved;
+  }
+}
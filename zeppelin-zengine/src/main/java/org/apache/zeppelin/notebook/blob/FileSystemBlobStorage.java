@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.blob;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.notebook.FileSystemStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * BlobStorage implementation based on hadoop FileSystem, it can store the blobs in the same
+ * file system as FileSystemNotebookRepo, e.g. hdfs or s3.
+ */
+public class FileSystemBlobStorage extends BlobStorage {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemBlobStorage.class);
+
+  private final FileSystemStorage fs;
+  private final Path blobDir;
+
+  public FileSystemBlobStorage(ZeppelinConfiguration zConf) throws IOException {
+    this(zConf, zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_DIR),
+        zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_DIR));
+  }
+
+  /**
+   * @param fsPath path which determines the file system, see {@link FileSystemStorage}
+   * @param blobDirPath folder of the blobs in the file system
+   */
+  protected FileSystemBlobStorage(ZeppelinConfiguration zConf, String fsPath, String blobDirPath)
+      throws IOException {
+    super(zConf);
+    this.fs = new FileSystemStorage(zConf, fsPath);
+    this.blobDir = this.fs.makeQualified(new Path(blobDirPath));
+    LOGGER.info("Using folder {} to store blobs", blobDir);
+    this.fs.tryMkDir(blobDir);
+  }
+
+  private Path getPath(String id) throws IOException {
+    if (!isValidId(id)) {
+      throw new FileNotFoundException("Invalid blob id: " + id);
+    }
+    return new Path(new Path(blobDir, id.substring(0, 2)), id);
+  }
+
+  @Override
+  protected boolean exists(String id) throws IOException {
+    return fs.exists(getPath(id));
+  }
+
+  @Override
+  protected void write(String id, byte[] content) throws IOException {
+    Path path = getPath(id);
+    fs.tryMkDir(path.getParent());
+    fs.writeFileIfAbsent(content, path);
+  }
+
+  @Override
+  public long getSize(String id) throws IOException {
+    return fs.getLength(getPath(id));
+  }
+
+  @Override
+  public InputStream open(String id) throws IOException {
+    return fs.open(getPath(id));
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.blob;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * BlobStorage implementation based on java native local file system. Blobs are stored under
+ * zeppelin.notebook.blob.dir in sub folders named by the first 2 characters of their id.
+ */
+public class LocalBlobStorage extends BlobStorage {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LocalBlobStorage.class);
+
+  private final Path blobDir;
+
+  public LocalBlobStorage(ZeppelinConfiguration zConf) throws IOException {
+    super(zConf);
+    this.blobDir = Paths.get(
+        zConf.getAbsoluteDir(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_DIR));
+    LOGGER.info("Using folder {} to store blobs", blobDir);
+    Files.createDirectories(blobDir);
+  }
+
+  private Path getPath(String id) throws IOException {
+    if (!isValidId(id)) {
+      throw new FileNotFoundException("Invalid blob id: " + id);
+    }
+    return blobDir.resolve(id.substring(0, 2)).resolve(id);
+  }
+
+  @Override
+  protected boolean exists(String id) throws IOException {
+    return Files.exists(getPath(id));
+  }
+
+  @Override
+  protected void write(String id, byte[] content) throws IOException {
+    Path path = getPath(id);
+    Files.createDirectories(path.getParent());
+    Path tempFile = Files.createTempFile(path.getParent(), id, ".tmp");
+    try {
+      Files.write(tempFile, content);
+      Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  @Override
+  public long getSize(String id) throws IOException {
+    try {
+      return Files.size(getPath(id));
+    } catch (FileNotFoundException | NoSuchFileException e) {
+      return -1;
+    }
+  }
+
+  @Override
+  public InputStream open(String id) throws IOException {
+    try {
+      return Files.newInputStream(getPath(id));
+    } catch (NoSuchFileException e) {
+      throw new FileNotFoundException("No such blob: " + id);
+    }
+  }
+}
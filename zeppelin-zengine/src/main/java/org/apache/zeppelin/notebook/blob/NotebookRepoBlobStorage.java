@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.blob;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+
+import java.io.IOException;
+
+/**
+ * BlobStorage implementation which stores the blobs in the folder of the notebook repo, in its
+ * hidden sub folder .blob, so that they are kept, backed up and moved together with the notes.
+ * It is meant for VFSNotebookRepo and FileSystemNotebookRepo, which ignore the folder when they
+ * list the notes.
+ */
+public class NotebookRepoBlobStorage extends FileSystemBlobStorage {
+
+  public static final String BLOB_FOLDER = ".blob";
+
+  public NotebookRepoBlobStorage(ZeppelinConfiguration zConf) throws IOException {
+    super(zConf, zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_DIR),
+        new Path(zConf.getNotebookDir(), BLOB_FOLDER).toString());
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.blob;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Default BlobStorage which stores nothing, paragraph outputs are kept in the note.
+ */
+public class NullBlobStorage extends BlobStorage {
+
+  public NullBlobStorage(ZeppelinConfiguration zConf) {
+    super(zConf);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  protected boolean exists(String id) {
+    return false;
+  }
+
+  @Override
+  protected void write(String id, byte[] content) throws IOException {
+    throw new IOException("Blob storage is not enabled");
+  }
+
+  @Override
+  public long getSize(String id) {
+    return -1;
+  }
+
+  @Override
+  public InputStream open(String id) throws IOException {
+    throw new FileNotFoundException("No such blob: " + id);
+  }
+}
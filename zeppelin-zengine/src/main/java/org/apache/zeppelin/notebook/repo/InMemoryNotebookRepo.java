@@ -18,6 +18,7 @@
 
 package org.apache.zeppelin.notebook.repo;
 
+import com.google.common.hash.Hashing;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
@@ -25,6 +26,7 @@ import org.apache.zeppelin.notebook.NoteParser;
 import org.apache.zeppelin.user.AuthenticationInfo;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +35,9 @@ import java.util.Map;
 public class InMemoryNotebookRepo extends AbstractNotebookRepo {
 
   private Map<String, Note> notes = new HashMap<>();
+  // noteId -> number of the save of the note, the stamp of the note
+  private Map<String, String> stamps = new HashMap<>();
+  private long saves = 0;
 
   @Override
   public void init(ZeppelinConfiguration zConf, NoteParser parser) throws IOException {
@@ -56,9 +61,22 @@ public class InMemoryNotebookRepo extends AbstractNotebookRepo {
     return notes.get(noteId);
   }
 
+  @Override
+  public String getNoteChecksum(String noteId, String notePath, AuthenticationInfo subject) {
+    Note note = notes.get(noteId);
+    return note == null ? null :
+        Hashing.sha256().hashString(note.toJson(), StandardCharsets.UTF_8).toString();
+  }
+
+  @Override
+  public Map<String, String> getNoteStamps(AuthenticationInfo subject) {
+    return new HashMap<>(stamps);
+  }
+
   @Override
   public void save(Note note, AuthenticationInfo subject) throws IOException {
     notes.put(note.getId(), note);
+    stamps.put(note.getId(), String.valueOf(++saves));
   }
 
   @Override
@@ -93,6 +111,7 @@ public class InMemoryNotebookRepo extends AbstractNotebookRepo {
       throw new RuntimeException(String.format("notePath '%s' is not started with '/'", notePath));
     }
     notes.remove(noteId);
+    stamps.remove(noteId);
   }
 
   @Override
@@ -119,5 +138,6 @@ public class InMemoryNotebookRepo extends AbstractNotebookRepo {
 
   public void reset() {
     this.notes.clear();
+    this.stamps.clear();
   }
 }
\ No newline at end of file
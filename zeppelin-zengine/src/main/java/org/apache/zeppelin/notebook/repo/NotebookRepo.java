@@ -26,6 +26,7 @@ import org.apache.zeppelin.user.AuthenticationInfo;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -142,6 +143,37 @@ public interface NotebookRepo extends Closeable {
 
   NoteParser getNoteParser();
 
+  /**
+   * Checksum of the stored note, e.g. a hash of its content, which is the same in different
+   * NotebookRepos if the note is the same. It is used to find the changed notes without loading
+   * them, e.g. when NotebookRepoSync syncs notes.
+   *
+   * @param noteId
+   * @param notePath
+   * @param subject
+   * @return checksum of the note, null if it is not supported
+   * @throws IOException
+   */
+  default String getNoteChecksum(String noteId, String notePath, AuthenticationInfo subject)
+      throws IOException {
+    return null;
+  }
+
+  /**
+   * Stamps of all the stored notes, e.g. the modification time and size of the note files, which
+   * change whenever a note is written. Unlike checksums they can only be compared with stamps of
+   * the same NotebookRepo, but they are cheap: they are taken from the listing of the notes
+   * without reading them. They are used to find the notes which are changed since zeppelin server
+   * was shutdown.
+   *
+   * @param subject
+   * @return noteId -> stamp of the note, empty if it is not supported
+   * @throws IOException
+   */
+  default Map<String, String> getNoteStamps(AuthenticationInfo subject) throws IOException {
+    return Collections.emptyMap();
+  }
+
   default String buildNoteFileName(String noteId, String notePath) throws IOException {
     if (!notePath.startsWith("/")) {
       throw new IOException("Invalid notePath: " + notePath);
@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.scheduler.NamedThreadFactory;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replicates the notes saved in the primary NotebookRepo to the secondary NotebookRepo in the
+ * background. The latest version of the note is read from the primary NotebookRepo when it is
+ * replicated, so multiple saves of a note before it is replicated are replicated once. Notes
+ * are replicated in parallel, but one note is only replicated by one thread at a time. Failed
+ * replications are retried with exponential backoff.
+ *
+ * The notes to replicate are recorded in a local log file before they are replicated, and
+ * replicated again when zeppelin server restarts if they are not replicated yet.
+ */
+class NotebookRepoReplicator {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NotebookRepoReplicator.class);
+  private static final Gson GSON = new Gson();
+  private static final long MAX_RETRY_INTERVAL = 60 * 1000L;
+  // rewrite the log file when it has more lines than this
+  private static final int MAX_LOG_LINES = 10000;
+
+  private final NotebookRepo primaryRepo;
+  private final NotebookRepo secondaryRepo;
+  private final int maxRetries;
+  private final long retryInterval;
+  private final File logFile;
+  private final ScheduledThreadPoolExecutor executor;
+
+  // the fields below are guarded by this
+  // noteId -> pending or running replication
+  private final Map<String, Replication> replications = new HashMap<>();
+  // noteId -> notePath of the notes which are failed to replicate after all the retries
+  private final Map<String, String> failedNotes = new HashMap<>();
+  private Writer logWriter;
+  private int logLines = 0;
+
+  NotebookRepoReplicator(NotebookRepo primaryRepo, NotebookRepo secondaryRepo, int threads,
+                         int maxRetries, long retryInterval, File logFile) throws IOException {
+    this.primaryRepo = primaryRepo;
+    this.secondaryRepo = secondaryRepo;
+    this.maxRetries = maxRetries;
+    this.retryInterval = retryInterval;
+    this.logFile = logFile;
+    this.executor = new ScheduledThreadPoolExecutor(Math.max(1, threads),
+        new NamedThreadFactory("NotebookRepoReplication"));
+    // retries which are not executed yet are recorded in the log, no need to wait for them
+    this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    recover();
+  }
+
+  /**
+   * Replicate the notes which are recorded in the log but not replicated, e.g. because of crash.
+   */
+  private synchronized void recover() throws IOException {
+    Map<String, String> pendingNotes = new LinkedHashMap<>();
+    if (logFile.exists()) {
+      try (BufferedReader reader = Files.newBufferedReader(logFile.toPath(),
+          StandardCharsets.UTF_8)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          try {
+            LogEntry entry = GSON.fromJson(line, LogEntry.class);
+            if (entry == null || entry.noteId == null) {
+              continue;
+            }
+            if (entry.notePath != null) {
+              pendingNotes.put(entry.noteId, entry.notePath);
+            } else {
+              pendingNotes.remove(entry.noteId);
+            }
+          } catch (JsonParseException e) {
+            // the last line may be partially written
+            LOGGER.warn("Skip invalid line of notebook replication log: {}", line);
+          }
+        }
+      }
+    } else {
+      Files.createDirectories(logFile.getAbsoluteFile().getParentFile().toPath());
+    }
+    // the log is rewritten with the pending replications
+    rewriteLog(pendingNotes);
+    if (!pendingNotes.isEmpty()) {
+      LOGGER.info("Replicate {} notes which are not replicated before restart",
+          pendingNotes.size());
+    }
+    for (Map.Entry<String, String> pendingNote : pendingNotes.entrySet()) {
+      Replication replication = new Replication(pendingNote.getKey(), pendingNote.getValue(),
+          AuthenticationInfo.ANONYMOUS);
+      replications.put(replication.noteId, replication);
+      schedule(replication, 0);
+    }
+  }
+
+  /**
+   * Replicate the note to the secondary NotebookRepo, after it is saved to the primary one.
+   */
+  synchronized void replicate(String noteId, String notePath, AuthenticationInfo subject) {
+    failedNotes.remove(noteId);
+    Replication replication = replications.get(noteId);
+    if (replication == null) {
+      replication = new Replication(noteId, notePath, subject);
+      replications.put(noteId, replication);
+      appendLog(new LogEntry(noteId, notePath));
+      schedule(replication, 0);
+      return;
+    }
+    if (!notePath.equals(replication.notePath)) {
+      appendLog(new LogEntry(noteId, notePath));
+    }
+    replication.notePath = notePath;
+    replication.subject = subject;
+    if (replication.running) {
+      // replicate again after the running replication, which may read the previous version
+      replication.dirty = true;
+    }
+    // otherwise the scheduled replication reads the latest version
+  }
+
+  /**
+   * Cancel the replication of the note, and wait for it if it is running. This is called before
+   * the note is moved or removed in the secondary NotebookRepo.
+   *
+   * @return path of the note if it is not replicated yet, otherwise null
+   */
+  synchronized String cancel(String noteId) {
+    String failedNotePath = failedNotes.remove(noteId);
+    Replication replication = replications.remove(noteId);
+    if (replication == null) {
+      if (failedNotePath != null) {
+        appendLog(new LogEntry(noteId, null));
+      }
+      return failedNotePath;
+    }
+    replication.cancelled = true;
+    while (replication.running) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    appendLog(new LogEntry(noteId, null));
+    return replication.notePath;
+  }
+
+  /**
+   * Cancel the replications of the notes under the folder.
+   *
+   * @return noteId -> notePath of the notes which are not replicated yet
+   */
+  synchronized Map<String, String> cancelFolder(String folderPath) {
+    String prefix = folderPath.endsWith("/") ? folderPath : folderPath + "/";
+    Map<String, String> notes = new HashMap<>();
+    for (Replication replication : replications.values()) {
+      if (replication.notePath.startsWith(prefix)) {
+        notes.put(replication.noteId, replication.notePath);
+      }
+    }
+    for (Map.Entry<String, String> failedNote : failedNotes.entrySet()) {
+      if (failedNote.getValue().startsWith(prefix)) {
+        notes.put(failedNote.getKey(), failedNote.getValue());
+      }
+    }
+    for (String noteId : notes.keySet()) {
+      cancel(noteId);
+    }
+    return notes;
+  }
+
+  private void schedule(Replication replication, long delay) {
+    replication.scheduled = true;
+    executor.schedule(() -> run(replication), delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void run(Replication replication) {
+    String notePath;
+    AuthenticationInfo subject;
+    synchronized (this) {
+      if (replication.cancelled) {
+        return;
+      }
+      replication.scheduled = false;
+      replication.running = true;
+      replication.dirty = false;
+      notePath = replication.notePath;
+      subject = replication.subject;
+    }
+
+    boolean success = false;
+    try {
+      Note note = primaryRepo.get(replication.noteId, notePath, subject);
+      secondaryRepo.save(note, subject);
+      success = true;
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Failed to replicate note {} to secondary storage, attempt {}",
+          replication.noteId, replication.attempts + 1, e);
+    }
+
+    synchronized (this) {
+      replication.running = false;
+      notifyAll();
+      if (replication.cancelled) {
+        return;
+      }
+      if (replication.dirty) {
+        // saved again while it is replicated
+        replication.attempts = 0;
+        schedule(replication, 0);
+      } else if (success) {
+        replications.remove(replication.noteId);
+        appendLog(new LogEntry(replication.noteId, null));
+      } else if (replication.attempts < maxRetries) {
+        long delay = Math.min(retryInterval << Math.min(replication.attempts, 16),
+            MAX_RETRY_INTERVAL);
+        replication.attempts++;
+        schedule(replication, delay);
+      } else {
+        LOGGER.error("Give up replicating note {} to secondary storage after {} retries, " +
+            "it will be replicated again when zeppelin server restarts",
+            replication.noteId, maxRetries);
+        replications.remove(replication.noteId);
+        failedNotes.put(replication.noteId, replication.notePath);
+      }
+    }
+  }
+
+  /**
+   * Wait until all the notes are replicated or failed, for tests.
+   */
+  synchronized boolean awaitReplication(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+    while (!replications.isEmpty()) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return false;
+      }
+      wait(remaining);
+    }
+    return true;
+  }
+
+  synchronized int getPendingSize() {
+    return replications.size();
+  }
+
+  private void appendLog(LogEntry entry) {
+    try {
+      if (logLines >= MAX_LOG_LINES) {
+        Map<String, String> pendingNotes = new LinkedHashMap<>(failedNotes);
+        for (Replication replication : replications.values()) {
+          pendingNotes.put(replication.noteId, replication.notePath);
+        }
+        rewriteLog(pendingNotes);
+        return;
+      }
+      if (entry.notePath == null && replications.isEmpty() && failedNotes.isEmpty()) {
+        // nothing to replicate, start a new log
+        rewriteLog(new HashMap<>());
+        return;
+      }
+      logWriter.write(GSON.toJson(entry));
+      logWriter.write('\n');
+      logWriter.flush();
+      logLines++;
+    } catch (IOException e) {
+      LOGGER.error("Failed to write notebook replication log {}", logFile, e);
+    }
+  }
+
+  private void rewriteLog(Map<String, String> pendingNotes) throws IOException {
+    if (logWriter != null) {
+      logWriter.close();
+    }
+    logWriter = Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.WRITE);
+    logLines = 0;
+    for (Map.Entry<String, String> pendingNote : pendingNotes.entrySet()) {
+      logWriter.write(GSON.toJson(new LogEntry(pendingNote.getKey(), pendingNote.getValue())));
+      logWriter.write('\n');
+      logLines++;
+    }
+    logWriter.flush();
+  }
+
+  /**
+   * Stop replicating, the notes which are not replicated yet are replicated after restart.
+   */
+  void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOGGER.warn("Notebook replication is not finished in 1 minute");
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdownNow();
+    }
+    synchronized (this) {
+      try {
+        logWriter.close();
+      } catch (IOException e) {
+        LOGGER.warn("Failed to close notebook replication log {}", logFile, e);
+      }
+    }
+  }
+
+  private static class Replication {
+    private final String noteId;
+    private String notePath;
+    private AuthenticationInfo subject;
+    private int attempts = 0;
+    private boolean scheduled = false;
+    private boolean running = false;
+    // the note is saved again while it is replicated
+    private boolean dirty = false;
+    private boolean cancelled = false;
+
+    Replication(String noteId, String notePath, AuthenticationInfo subject) {
+      this.noteId = noteId;
+      this.notePath = notePath;
+      this.subject = subject;
+    }
+  }
+
+  /**
+   * A line of the log, notePath is null when the note is replicated.
+   */
+  private static class LogEntry {
+    private final String noteId;
+    private final String notePath;
+
+    LogEntry(String noteId, String notePath) {
+      this.noteId = noteId;
+      this.notePath = notePath;
+    }
+  }
+}
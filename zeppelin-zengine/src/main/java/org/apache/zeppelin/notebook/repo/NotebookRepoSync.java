@@ -23,6 +23,8 @@ import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.NoteParser;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.notebook.blob.BlobStorage;
+import org.apache.zeppelin.notebook.blob.NullBlobStorage;
 import org.apache.zeppelin.plugin.PluginManager;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
@@ -30,6 +32,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,6 +40,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -56,6 +60,10 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
 
   private List<NotebookRepo> repos = new ArrayList<>();
   private boolean oneWaySync;
+  // replicate notes to the secondary repo asynchronously, null if it is synchronous
+  private NotebookRepoReplicator replicator;
+  // large outputs of the notes, the notes only keep references to them
+  private BlobStorage blobStorage;
   private final PluginManager pluginManager;
 
   @Inject
@@ -66,6 +74,7 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   @Override
   public void init(ZeppelinConfiguration zConf, NoteParser noteParser) throws IOException {
     oneWaySync = zConf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC);
+    blobStorage = createBlobStorage(zConf);
     String allStorageClassNames = zConf.getNotebookStorageClass().trim();
     if (allStorageClassNames.isEmpty()) {
       allStorageClassNames = DEFAULT_STORAGE;
@@ -93,6 +102,13 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
       defaultNotebookRepo.init(zConf, noteParser);
       repos.add(defaultNotebookRepo);
     }
+    if (getRepoCount() > 1 && zConf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_REPLICATION_ASYNC)) {
+      replicator = new NotebookRepoReplicator(getRepo(0), getRepo(1),
+          zConf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_REPLICATION_THREADS),
+          zConf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_REPLICATION_MAX_RETRIES),
+          zConf.getTime(ConfVars.ZEPPELIN_NOTEBOOK_REPLICATION_RETRY_INTERVAL),
+          new File(zConf.getAbsoluteDir(ConfVars.ZEPPELIN_NOTEBOOK_REPLICATION_LOG)));
+    }
     // sync for anonymous mode on start
     if (getRepoCount() > 1 && zConf.isAnonymousAllowed()) {
       try {
@@ -103,6 +119,19 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     }
   }
 
+  private static BlobStorage createBlobStorage(ZeppelinConfiguration zConf) {
+    try {
+      return BlobStorage.createBlobStorage(zConf);
+    } catch (IOException e) {
+      LOGGER.error("Fail to create blob storage, paragraph outputs are kept in the notes", e);
+      return new NullBlobStorage(zConf);
+    }
+  }
+
+  public BlobStorage getBlobStorage() {
+    return blobStorage;
+  }
+
   public List<NotebookRepoWithSettings> getNotebookRepos(AuthenticationInfo subject) {
     List<NotebookRepoWithSettings> reposSetting = new ArrayList<>();
     NotebookRepoWithSettings repoWithSettings;
@@ -157,6 +186,23 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return getRepo(0).get(noteId, notePath, subject);
   }
 
+  /**
+   * Checksum of the note in the first repository
+   */
+  @Override
+  public String getNoteChecksum(String noteId, String notePath, AuthenticationInfo subject)
+      throws IOException {
+    return getRepo(0).getNoteChecksum(noteId, notePath, subject);
+  }
+
+  /**
+   * Stamps of the notes in the first repository
+   */
+  @Override
+  public Map<String, String> getNoteStamps(AuthenticationInfo subject) throws IOException {
+    return getRepo(0).getNoteStamps(subject);
+  }
+
   /* Get Note from specific repo (for tests) */
   Note get(int repoIndex, String noteId, String noteName, AuthenticationInfo subject)
       throws IOException {
@@ -164,12 +210,17 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   }
 
   /**
-   *  Saves note to all repositories
+   *  Saves note to all repositories, the secondary repository is saved asynchronously
+   *  if zeppelin.notebook.replication.async is enabled.
    */
   @Override
   public void save(Note note, AuthenticationInfo subject) throws IOException {
+    // the note references its large outputs in the blob storage from now on
+    blobStorage.storeOutputs(note);
     getRepo(0).save(note, subject);
-    if (getRepoCount() > 1) {
+    if (replicator != null) {
+      replicator.replicate(note.getId(), note.getPath(), subject);
+    } else if (getRepoCount() > 1) {
       try {
         getRepo(1).save(note, subject);
       }
@@ -188,6 +239,8 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   public void move(String noteId, String notePath, String newNotePath,
                    AuthenticationInfo subject) throws IOException {
     getRepo(0).move(noteId, notePath, newNotePath, subject);
+    // the pending replication is done after the note is moved in the secondary repo
+    String pendingNotePath = replicator != null ? replicator.cancel(noteId) : null;
     if (getRepoCount() > 1) {
       try {
         getRepo(1).move(noteId, notePath, newNotePath, subject);
@@ -196,18 +249,30 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
         LOGGER.info("{}: Failed to write to secondary storage", e.getMessage());
       }
     }
+    if (pendingNotePath != null) {
+      replicator.replicate(noteId, newNotePath, subject);
+    }
   }
 
   @Override
   public void move(String folderPath, String newFolderPath,
                    AuthenticationInfo subject) throws IOException {
+    Map<String, String> pendingNotes =
+        replicator != null ? replicator.cancelFolder(folderPath) : Collections.emptyMap();
     for (NotebookRepo repo : repos) {
       repo.move(folderPath, newFolderPath, subject);
     }
+    for (Map.Entry<String, String> pendingNote : pendingNotes.entrySet()) {
+      replicator.replicate(pendingNote.getKey(),
+          newFolderPath + pendingNote.getValue().substring(folderPath.length()), subject);
+    }
   }
 
   @Override
   public void remove(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
+    if (replicator != null) {
+      replicator.cancel(noteId);
+    }
     for (NotebookRepo repo : repos) {
       repo.remove(noteId, notePath, subject);
     }
@@ -216,6 +281,9 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
 
   @Override
   public void remove(String folderPath, AuthenticationInfo subject) throws IOException {
+    if (replicator != null) {
+      replicator.cancelFolder(folderPath);
+    }
     for (NotebookRepo repo : repos) {
       repo.remove(folderPath, subject);
     }
@@ -328,6 +396,9 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     for (NoteInfo snote : sourceNotes) {
       dnote = containsID(destNotes, snote.getId());
       if (dnote != null) {
+        if (isSameNote(sourceRepo, snote, destRepo, dnote, subject)) {
+          continue;
+        }
         try {
           /* note exists in source and destination storage systems */
           sdate = lastModificationDate(sourceRepo.get(snote.getId(), snote.getPath(), subject));
@@ -380,6 +451,34 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return map;
   }
 
+  /**
+   * Compare the checksums of the note in both repos, so that the unchanged notes don't need to
+   * be loaded.
+   *
+   * @return false if the note is different or any repo doesn't support checksum
+   */
+  private boolean isSameNote(NotebookRepo sourceRepo, NoteInfo sourceNote,
+                             NotebookRepo destRepo, NoteInfo destNote,
+                             AuthenticationInfo subject) {
+    try {
+      String sourceChecksum =
+          sourceRepo.getNoteChecksum(sourceNote.getId(), sourceNote.getPath(), subject);
+      if (sourceChecksum == null) {
+        return false;
+      }
+      return sourceChecksum.equals(
+          destRepo.getNoteChecksum(destNote.getId(), destNote.getPath(), subject));
+    } catch (IOException e) {
+      LOGGER.warn("Failed to get checksum of note {}", sourceNote.getId(), e);
+      return false;
+    }
+  }
+
+  /* Wait for the asynchronous replication (for tests) */
+  boolean awaitReplication(long timeout, TimeUnit unit) throws InterruptedException {
+    return replicator == null || replicator.awaitReplication(timeout, unit);
+  }
+
   private NoteInfo containsID(List <NoteInfo> notes, String id) {
     for (NoteInfo note : notes) {
       if (note.getId().equals(id)) {
@@ -417,6 +516,9 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   @Override
   public void close() {
     LOGGER.info("Closing all notebook storages");
+    if (replicator != null) {
+      replicator.close();
+    }
     for (NotebookRepo repo: repos) {
       repo.close();
     }
@@ -481,8 +583,9 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     Note revisionNote = null;
     try {
       if (isRevisionSupportedInDefaultRepo()) {
-        revisionNote = ((NotebookRepoWithVersionControl) getRepo(0)).get(noteId, notePath,
-            revId, subject);
+        // an old revision may reference outputs which the note no longer has, keep them inline
+        revisionNote = resolveOutputs(((NotebookRepoWithVersionControl) getRepo(0)).get(noteId,
+            notePath, revId, subject));
       }
     } catch (IOException e) {
       LOGGER.error("Failed to get revision {} of note {}", revId, noteId, e);
@@ -490,6 +593,13 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return revisionNote;
   }
 
+  private Note resolveOutputs(Note note) {
+    if (note != null) {
+      blobStorage.resolveOutputs(note);
+    }
+    return note;
+  }
+
   @Override
   public List<Revision> revisionHistory(String noteId, String notePath,
                                         AuthenticationInfo subject) {
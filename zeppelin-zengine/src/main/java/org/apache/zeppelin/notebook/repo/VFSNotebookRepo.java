@@ -19,11 +19,14 @@ package org.apache.zeppelin.notebook.repo;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.vfs2.FileContent;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemManager;
 import org.apache.commons.vfs2.NameScope;
@@ -160,6 +164,49 @@ public class VFSNotebookRepo extends AbstractNotebookRepo {
     }
   }
 
+  /**
+   * SHA-256 of the note file, it doesn't parse the note.
+   */
+  @Override
+  public String getNoteChecksum(String noteId, String notePath, AuthenticationInfo subject)
+      throws IOException {
+    FileObject noteFile = rootNotebookFileObject.resolveFile(buildNoteFileName(noteId, notePath),
+        NameScope.DESCENDENT);
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      return null;
+    }
+    try (InputStream in = noteFile.getContent().getInputStream()) {
+      byte[] buffer = new byte[8192];
+      int length;
+      while ((length = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, length);
+      }
+    }
+    StringBuilder checksum = new StringBuilder();
+    for (byte b : digest.digest()) {
+      checksum.append(String.format("%02x", b));
+    }
+    return checksum.toString();
+  }
+
+  /**
+   * Modification time and size of the note files, they are not read.
+   */
+  @Override
+  public Map<String, String> getNoteStamps(AuthenticationInfo subject) throws IOException {
+    Map<String, String> stamps = new HashMap<>();
+    for (NoteInfo noteInfo : list(subject).values()) {
+      FileObject noteFile = rootNotebookFileObject.resolveFile(
+          buildNoteFileName(noteInfo.getId(), noteInfo.getPath()), NameScope.DESCENDENT);
+      FileContent content = noteFile.getContent();
+      stamps.put(noteInfo.getId(), content.getLastModifiedTime() + ":" + content.getSize());
+    }
+    return stamps;
+  }
+
   @Override
   public synchronized void save(Note note, AuthenticationInfo subject) throws IOException {
     LOGGER.info("Saving note {} to {}", note.getId(), buildNoteFileName(note));
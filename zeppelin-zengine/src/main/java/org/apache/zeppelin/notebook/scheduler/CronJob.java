@@ -50,6 +50,9 @@ public class CronJob implements org.quartz.Job {
         }
         String cronExecutingUser = (String) note.getConfig().get("cronExecutingUser");
         String cronExecutingRoles = (String) note.getConfig().get("cronExecutingRoles");
+        // run the independent paragraphs at the same time
+        boolean cronParallel =
+                Boolean.parseBoolean(String.valueOf(note.getConfig().get("cronParallel")));
         if (null == cronExecutingUser) {
           cronExecutingUser = "anonymous";
         }
@@ -59,7 +62,7 @@ public class CronJob implements org.quartz.Job {
                         StringUtils.isEmpty(cronExecutingRoles) ? null : cronExecutingRoles,
                         null);
         try {
-          note.runAll(authenticationInfo, true, true, new HashMap<>());
+          note.runAll(authenticationInfo, true, true, new HashMap<>(), cronParallel);
           context.setResult(RESULT_SUCCEEDED);
         } catch (Exception e) {
           context.setResult(RESULT_FAILED);
@@ -55,7 +55,8 @@ public class QuartzSchedulerService implements SchedulerService {
     this.scheduler.getListenerManager().addTriggerListener(new ZeppelinCronJobTriggerListerner());
     this.scheduler.start();
     // Start Init
-    notebook.addInitConsumer(this::refreshCron);
+    // the unchanged notes in the note catalog only need to be loaded if they have cron
+    notebook.addInitConsumer(this::refreshCron, entry -> entry.getCron() != null);
   }
 
 
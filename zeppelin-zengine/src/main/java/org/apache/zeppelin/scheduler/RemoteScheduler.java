@@ -26,7 +26,6 @@ import org.slf4j.LoggerFactory;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter.
@@ -36,23 +35,40 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class RemoteScheduler extends AbstractScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteScheduler.class);
 
+  private static final long STATUS_CHECK_INTERVAL_MSEC = 100;
+  // a job waiting in the remote queue is polled less often, up to this interval
+  private static final long STATUS_CHECK_MAX_INTERVAL_MSEC = 400;
+  private static final int STATUS_POLLER_THREADS = 4;
+  private static final SharedJobPoller<String> STATUS_POLLER = new SharedJobPoller<>(
+      "JobStatusPoller",
+      ExecutorFactory.singleton().createOrGetScheduled("JobStatusPoller", STATUS_POLLER_THREADS));
+
   private final RemoteInterpreter remoteInterpreter;
+  private final String executionMode;
   private final ExecutorService executor;
 
   public RemoteScheduler(String name,
                          RemoteInterpreter remoteInterpreter) {
+    this(name, remoteInterpreter, remoteInterpreter.getProperty(".execution.mode", "paragraph"));
+  }
+
+  /**
+   * @param executionMode "paragraph" or "note", see {@link RemoteInterpreter#getScheduler}
+   */
+  public RemoteScheduler(String name,
+                         RemoteInterpreter remoteInterpreter,
+                         String executionMode) {
     super(name);
     this.executor =
         Executors.newSingleThreadExecutor(new NamedThreadFactory("FIFO-" + name));
     this.remoteInterpreter = remoteInterpreter;
+    this.executionMode = executionMode;
   }
 
   @Override
   public void runJobInScheduler(Job<?> job) {
     JobRunner jobRunner = new JobRunner(this, job);
     executor.execute(jobRunner);
-    String executionMode =
-            remoteInterpreter.getProperty(".execution.mode", "paragraph");
     if (executionMode.equals("paragraph")) {
       // wait until it is submitted to the remote
       while (!jobRunner.isJobSubmittedInRemote() && !Thread.currentThread().isInterrupted()) {
@@ -85,67 +101,71 @@ public class RemoteScheduler extends AbstractScheduler {
 
   /**
    * Role of the class is getting status info from remote process from PENDING to
-   * RUNNING status. This thread will exist after job is in RUNNING/FINISHED state.
+   * RUNNING status. It stops polling after job is in RUNNING/FINISHED state.
+   * The jobs of all the RemoteSchedulers are polled by {@link #STATUS_POLLER}, jobs of the same
+   * interpreter process with one call.
    */
-  private class JobStatusPoller extends Thread {
-    private final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
-    private final long checkIntervalMsec;
-    private final AtomicBoolean terminate;
+  private class JobStatusPoller implements SharedJobPoller.PolledJob<String> {
     private final JobListener listener;
     private final Job<?> job;
     private volatile Status lastStatus;
+    private boolean terminated;
 
     public JobStatusPoller(Job<?> job,
-                           JobListener listener,
-                           long checkIntervalMsec) {
-      setName("JobStatusPoller-" + job.getId());
-      this.checkIntervalMsec = checkIntervalMsec;
+                           JobListener listener) {
       this.job = job;
       this.listener = listener;
-      this.terminate = new AtomicBoolean(false);
     }
 
     @Override
-    public void run() {
-      while (!terminate.get() && !Thread.currentThread().isInterrupted()) {
-        Status newStatus = getStatus();
-        if (newStatus == Status.RUNNING ||
-                newStatus == Status.FINISHED ||
-                newStatus == Status.ERROR ||
-                newStatus == Status.ABORT) {
-          // Exit this thread when job is in RUNNING/FINISHED/ERROR/ABORT state.
-          terminate.set(true);
-        } else {
-          synchronized (terminate) {
-            try {
-              terminate.wait(checkIntervalMsec);
-            } catch (InterruptedException e) {
-              LOGGER.error("Exception in RemoteScheduler while run this.wait", e);
-              // Restore interrupted state...
-              Thread.currentThread().interrupt();
-            }
-          }
-        }
+    public Job<?> getJob() {
+      return job;
+    }
+
+    @Override
+    public SharedJobPoller.Batch<String> getBatch() {
+      return remoteInterpreter.getStatusBatch();
+    }
+
+    @Override
+    public String poll() {
+      if (!remoteInterpreter.isOpened()) {
+        return null;
       }
-      terminate.set(true);
+      return remoteInterpreter.getStatus(job.getId());
     }
 
-    public void shutdown() {
-      synchronized (terminate) {
-        terminate.set(true);
-        terminate.notifyAll();
+    @Override
+    public synchronized boolean onPolled(String remoteStatus, boolean changed) {
+      if (terminated) {
+        return false;
       }
+      Status newStatus = getStatus(remoteStatus);
+      // Stop polling when job is in RUNNING/FINISHED/ERROR/ABORT state.
+      return !(newStatus == Status.RUNNING ||
+              newStatus == Status.FINISHED ||
+              newStatus == Status.ERROR ||
+              newStatus == Status.ABORT);
     }
 
-    public Status getStatus() {
-      if (!remoteInterpreter.isOpened()) {
+    /**
+     * No status update is delivered to the listener after this method returns.
+     */
+    public synchronized void shutdown() {
+      terminated = true;
+      STATUS_POLLER.remove(job);
+    }
+
+    private Status getStatus(String remoteStatus) {
+      if (remoteStatus == null) {
+        // remote interpreter is not opened
         if (lastStatus != null) {
           return lastStatus;
         } else {
           return job.getStatus();
         }
       }
-      Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
+      Status status = Status.valueOf(remoteStatus);
       if (status == Status.UNKNOWN) {
         // not found this job in the remote schedulers.
         // maybe not submitted, maybe already finished
@@ -181,19 +201,13 @@ public class RemoteScheduler extends AbstractScheduler {
 
     @Override
     public void run() {
-      JobStatusPoller jobStatusPoller = new JobStatusPoller(job, this, 100);
-      jobStatusPoller.start();
+      JobStatusPoller jobStatusPoller = new JobStatusPoller(job, this);
+      STATUS_POLLER.add(jobStatusPoller, STATUS_CHECK_INTERVAL_MSEC,
+          STATUS_CHECK_MAX_INTERVAL_MSEC);
       scheduler.runJob(job);
       jobExecuted = true;
       jobSubmittedRemotely = true;
       jobStatusPoller.shutdown();
-      try {
-        jobStatusPoller.join();
-      } catch (InterruptedException e) {
-        LOGGER.error("JobStatusPoller interrupted", e);
-        // Restore interrupted state...
-        Thread.currentThread().interrupt();
-      }
     }
 
     @Override
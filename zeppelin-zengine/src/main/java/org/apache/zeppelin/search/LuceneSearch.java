@@ -25,6 +25,9 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.PreDestroy;
 import jakarta.inject.Inject;
 
@@ -37,8 +40,6 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
@@ -47,6 +48,8 @@ import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
@@ -61,13 +64,16 @@ import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Search (both, indexing and query) the notebooks using Lucene. Query is thread-safe, as creates
- * new IndexReader every time. Index is thread-safe, as re-uses single IndexWriter, which is
- * thread-safe.
+ * Search (both, indexing and query) the notebooks using Lucene. Query is thread-safe, as acquires
+ * a near-real-time IndexSearcher from the SearcherManager, which is reopened by a background
+ * thread and before query when the index is changed. Index is thread-safe, as re-uses single
+ * IndexWriter, which is thread-safe. Changes are committed periodically, or when too many changes
+ * are not committed yet, instead of on every change.
  */
 public class LuceneSearch extends SearchService {
   private static final Logger LOGGER = LoggerFactory.getLogger(LuceneSearch.class);
@@ -76,10 +82,17 @@ public class LuceneSearch extends SearchService {
   private static final String SEARCH_FIELD_TITLE = "header";
   private static final String PARAGRAPH = "paragraph";
   private static final String ID_FIELD = "id";
+  private static final String MAINTENANCE_EXECUTOR = "LuceneSearchMaintenance";
+  private static final int DEFAULT_QUERY_LIMIT = 20;
 
   private final Directory indexDirectory;
   private final IndexWriter indexWriter;
+  private final SearcherManager searcherManager;
   private final Notebook notebook;
+  private final int commitMaxUpdates;
+  private final AtomicInteger uncommittedUpdates = new AtomicInteger(0);
+  private volatile boolean indexChanged = false;
+  private final ScheduledExecutorService maintenanceExecutor;
 
   @Inject
   public LuceneSearch(ZeppelinConfiguration zConf, Notebook notebook) throws IOException {
@@ -103,8 +116,19 @@ public class LuceneSearch extends SearchService {
     } catch (IOException e) {
       throw new IOException("Failed to create new IndexWriter", e);
     }
+    this.searcherManager = new SearcherManager(indexWriter, null);
+    this.commitMaxUpdates = zConf.getZeppelinSearchCommitMaxUpdates();
+    this.maintenanceExecutor =
+        ExecutorFactory.singleton().createOrGetScheduled(MAINTENANCE_EXECUTOR, 1);
+    long refreshInterval = zConf.getZeppelinSearchRefreshInterval();
+    maintenanceExecutor.scheduleWithFixedDelay(this::refresh, refreshInterval, refreshInterval,
+        TimeUnit.MILLISECONDS);
+    long commitInterval = zConf.getZeppelinSearchCommitInterval();
+    maintenanceExecutor.scheduleWithFixedDelay(this::commit, commitInterval, commitInterval,
+        TimeUnit.MILLISECONDS);
     if (zConf.isIndexRebuild()) {
-      notebook.addInitConsumer(this::addNoteIndex);
+      // the unchanged notes in the note catalog only need to be indexed if the index is lost
+      notebook.addInitConsumer(this::reindexNote, entry -> !isNoteIndexed(entry.getId()));
     }
     this.notebook.addNotebookEventListener(this);
   }
@@ -114,13 +138,28 @@ public class LuceneSearch extends SearchService {
    */
   @Override
   public List<Map<String, String>> query(String queryStr) {
+    return query(queryStr, 0, DEFAULT_QUERY_LIMIT);
+  }
+
+  @Override
+  public List<Map<String, String>> query(String queryStr, int offset, int limit) {
+    if (offset < 0 || limit <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid offset " + offset + " or limit " + limit + " of search");
+    }
     if (null == indexDirectory) {
       throw new IllegalStateException(
           "Something went wrong on instance creation time, index dir is null");
     }
     List<Map<String, String>> result = Collections.emptyList();
-    try (IndexReader indexReader = DirectoryReader.open(indexDirectory)) {
-      IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+    IndexSearcher indexSearcher = null;
+    try {
+      if (indexChanged) {
+        // make the latest changes visible to this query, it doesn't need to commit
+        indexChanged = false;
+        searcherManager.maybeRefreshBlocking();
+      }
+      indexSearcher = searcherManager.acquire();
       Analyzer analyzer = new StandardAnalyzer();
       MultiFieldQueryParser parser =
           new MultiFieldQueryParser(new String[] {SEARCH_FIELD_TEXT, SEARCH_FIELD_TITLE}, analyzer);
@@ -134,22 +173,35 @@ public class LuceneSearch extends SearchService {
       SimpleHTMLFormatter htmlFormatter = new SimpleHTMLFormatter();
       Highlighter highlighter = new Highlighter(htmlFormatter, new QueryScorer(query));
 
-      result = doSearch(indexSearcher, query, analyzer, highlighter);
+      result = doSearch(indexSearcher, query, offset, limit, analyzer, highlighter);
     } catch (IOException e) {
       LOGGER.error("Failed to open index dir {}, make sure indexing finished OK", indexDirectory, e);
     } catch (ParseException e) {
       LOGGER.error("Failed to parse query {}", queryStr, e);
+    } finally {
+      if (indexSearcher != null) {
+        try {
+          searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+          LOGGER.error("Failed to release index searcher", e);
+        }
+      }
     }
     return result;
   }
 
-  private List<Map<String, String>> doSearch(
-      IndexSearcher searcher, Query query, Analyzer analyzer, Highlighter highlighter) {
+  private List<Map<String, String>> doSearch(IndexSearcher searcher, Query query, int offset,
+      int limit, Analyzer analyzer, Highlighter highlighter) {
     List<Map<String, String>> matchingParagraphs = new ArrayList<>();
+    int maxDoc = searcher.getIndexReader().maxDoc();
+    if (offset >= maxDoc) {
+      return matchingParagraphs;
+    }
     ScoreDoc[] hits;
     try {
-      hits = searcher.search(query, 20).scoreDocs;
-      for (int i = 0; i < hits.length; i++) {
+      // offset + limit may overflow, and there are no more hits than documents
+      hits = searcher.search(query, (int) Math.min((long) offset + limit, maxDoc)).scoreDocs;
+      for (int i = offset; i < hits.length; i++) {
         LOGGER.debug("doc={} score={}", hits[i].doc, hits[i].score);
 
         int id = hits[i].doc;
@@ -262,12 +314,47 @@ public class LuceneSearch extends SearchService {
     Document doc = newDocument(id, noteName, p);
     try {
       indexWriter.updateDocument(new Term(ID_FIELD, id), doc);
-      indexWriter.commit();
+      onIndexChanged();
     } catch (IOException e) {
       throw new IOException("Failed to update index of notebook " + noteId, e);
     }
   }
 
+  private void onIndexChanged() {
+    indexChanged = true;
+    if (uncommittedUpdates.incrementAndGet() >= commitMaxUpdates) {
+      commit();
+    }
+  }
+
+  /**
+   * Commit the uncommitted changes to the index directory.
+   */
+  private void commit() {
+    int updates = uncommittedUpdates.getAndSet(0);
+    if (updates == 0) {
+      return;
+    }
+    try {
+      LOGGER.debug("Commit {} changes of the notebook index", updates);
+      indexWriter.commit();
+    } catch (IOException | RuntimeException e) {
+      LOGGER.error("Failed to commit the notebook index", e);
+      uncommittedUpdates.addAndGet(updates);
+    }
+  }
+
+  /**
+   * Reopen the searcher if the index is changed.
+   */
+  private void refresh() {
+    try {
+      searcherManager.maybeRefresh();
+    } catch (IOException | RuntimeException e) {
+      LOGGER.error("Failed to refresh the notebook index searcher", e);
+    }
+  }
+
   /**
    * If paragraph is not null, id is <noteId>/paragraphs/<paragraphId>, otherwise it's just
    * <noteId>.
@@ -333,12 +420,42 @@ public class LuceneSearch extends SearchService {
           }
           return null;
         });
-      indexWriter.commit();
     } catch (IOException e) {
       LOGGER.error("Failed to add note {} to index", noteId, e);
     }
   }
 
+  /**
+   * Replaces the index of the note, the note may be changed since it was indexed, e.g. its
+   * paragraphs may be removed.
+   */
+  private void reindexNote(String noteId) {
+    deleteNoteIndex(noteId);
+    addNoteIndex(noteId);
+  }
+
+  /**
+   * @return whether the name of the note is in the index
+   */
+  boolean isNoteIndexed(String noteId) {
+    IndexSearcher indexSearcher = null;
+    try {
+      indexSearcher = searcherManager.acquire();
+      return indexSearcher.count(new TermQuery(new Term(ID_FIELD, formatId(noteId, null)))) > 0;
+    } catch (IOException e) {
+      LOGGER.warn("Failed to check whether note {} is indexed", noteId, e);
+      return false;
+    } finally {
+      if (indexSearcher != null) {
+        try {
+          searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+          LOGGER.warn("Failed to release the index searcher", e);
+        }
+      }
+    }
+  }
+
   @Override
   public void addParagraphIndex(String noteId, String paragraphId) {
     try {
@@ -406,7 +523,7 @@ public class LuceneSearch extends SearchService {
     LOGGER.debug("Deleting note {}, out of: {}", noteId, indexWriter.getDocStats().numDocs);
     try {
       indexWriter.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, fullNoteOrJustParagraph)));
-      indexWriter.commit();
+      onIndexChanged();
     } catch (IOException e) {
       throw new IOException("Failed to delete " + noteId + " from index by '" + fullNoteOrJustParagraph + "'", e);
     }
@@ -421,8 +538,10 @@ public class LuceneSearch extends SearchService {
   public void close() {
     // First interrupt the LuceneSearch-Thread
     super.close();
+    ExecutorFactory.singleton().shutdown(MAINTENANCE_EXECUTOR);
     try {
-      // Second close the indexWriter
+      // Second close the indexWriter, which commits the uncommitted changes
+      searcherManager.close();
       indexWriter.close();
     } catch (IOException e) {
       LOGGER.error("Failed to close the notebook index", e);
@@ -34,6 +34,11 @@ public class NoSearchService extends SearchService {
     return Collections.emptyList();
   }
 
+  @Override
+  public List<Map<String, String>> query(String queryStr, int offset, int limit) {
+    return Collections.emptyList();
+  }
+
   @Override
   public void updateNoteIndex(String noteId) {
     // do nothing
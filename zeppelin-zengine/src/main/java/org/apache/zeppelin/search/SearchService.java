@@ -43,6 +43,16 @@ public abstract class SearchService extends NoteEventAsyncListener {
    */
   public abstract List<Map<String, String>> query(String queryStr);
 
+  /**
+   * Full-text search in all the notes, returns the matching paragraphs of one page.
+   *
+   * @param queryStr a query
+   * @param offset number of matching paragraphs to skip, not negative
+   * @param limit max number of matching paragraphs to return, positive
+   * @return A list of matching paragraphs (id, text, snippet w/ highlight)
+   */
+  public abstract List<Map<String, String>> query(String queryStr, int offset, int limit);
+
   /**
    * Updates note index for the given note, only update index of note meta info,
    * such as id,name. Paragraph index will be done in method updateParagraphIndex.
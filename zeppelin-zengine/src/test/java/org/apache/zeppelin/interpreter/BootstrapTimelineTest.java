@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BootstrapTimelineTest {
+
+  @Test
+  void testTimeline() throws InterruptedException {
+    BootstrapTimeline timeline = new BootstrapTimeline();
+    try (BootstrapTimeline.Step step = timeline.start("read interpreter settings")) {
+      Thread.sleep(10);
+    }
+    BootstrapTimeline.Step download = timeline.start("download dependencies of jdbc");
+
+    // the timeline is finished when the steps running at seal are finished
+    timeline.seal();
+    assertFalse(timeline.isFinished());
+    assertTrue(timeline.report().contains("running  download dependencies of jdbc"),
+        timeline.report());
+    download.close();
+    assertTrue(timeline.isFinished());
+
+    // steps after the timeline is finished are not recorded
+    timeline.start("download dependencies of spark").close();
+    String report = timeline.report();
+    assertTrue(report.contains("read interpreter settings"), report);
+    assertTrue(report.contains("ms  download dependencies of jdbc"), report);
+    assertFalse(report.contains("spark"), report);
+    assertTrue(report.indexOf("read interpreter settings") < report.indexOf("jdbc"), report);
+  }
+}
@@ -22,6 +22,8 @@ import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.dep.Dependency;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
 import org.apache.zeppelin.helium.ApplicationEventListener;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +39,8 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
@@ -293,6 +297,46 @@ class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     assertEquals(1, interpreterSetting.getAllInterpreterGroups().get(0).getSessionNum());
   }
 
+  @Test
+  void testWarmProcessPool() throws Exception {
+    InterpreterSetting interpreterSetting = interpreterSettingManager.getByName("test");
+    interpreterSetting.getOption().setPerUser("shared");
+    interpreterSetting.getOption().setPerNote("isolated");
+    ((Map<String, InterpreterProperty>) interpreterSetting.getProperties()).put(
+        WarmProcessPool.SIZE_PROPERTY, new InterpreterProperty(WarmProcessPool.SIZE_PROPERTY, "1"));
+    interpreterSetting.fillWarmProcessPool();
+    waitForIdleWarmProcesses(interpreterSetting, 1);
+    RemoteInterpreterProcess warmProcess =
+        interpreterSetting.getWarmInterpreterProcess("test-warm-1");
+    assertNotNull(warmProcess);
+
+    // the warm process is handed over to the first interpreter group and a new one is launched
+    RemoteInterpreter interpreter =
+        (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", note1Id);
+    assertEquals("hello",
+        interpreter.interpret("hello", createDummyInterpreterContext()).message().get(0).getData());
+    ManagedInterpreterGroup interpreterGroup = interpreter.getInterpreterGroup();
+    assertSame(warmProcess, interpreterGroup.getRemoteInterpreterProcess());
+    assertEquals(interpreterGroup.getId(), warmProcess.getInterpreterGroupId());
+    assertNull(interpreterSetting.getWarmInterpreterProcess("test-warm-1"));
+    waitForIdleWarmProcesses(interpreterSetting, 1);
+    assertNotNull(interpreterSetting.getWarmInterpreterProcess("test-warm-2"));
+
+    interpreterSetting.close();
+    assertEquals(0, interpreterSetting.getIdleWarmProcessCount());
+    assertNull(interpreterSetting.getWarmInterpreterProcess("test-warm-2"));
+  }
+
+  private void waitForIdleWarmProcesses(InterpreterSetting interpreterSetting, int count)
+      throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (interpreterSetting.getIdleWarmProcessCount() < count
+        && System.currentTimeMillis() - start < 60 * 1000) {
+      Thread.sleep(100);
+    }
+    assertEquals(count, interpreterSetting.getIdleWarmProcessCount());
+  }
+
   @Test
   void testInterpreterInclude() throws Exception {
     try {
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WarmProcessPoolTest {
+
+  private InterpreterSetting interpreterSetting;
+  private Properties properties;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    interpreterSetting = mock(InterpreterSetting.class);
+    when(interpreterSetting.getName()).thenReturn("test");
+    when(interpreterSetting.createWarmInterpreterProcess(anyString(), anyString(), any()))
+        .thenAnswer(invocation -> {
+          RemoteInterpreterManagedProcess process = mock(RemoteInterpreterManagedProcess.class);
+          when(process.getInterpreterGroupId()).thenReturn(invocation.getArgument(0));
+          when(process.isRunning()).thenReturn(true);
+          return process;
+        });
+    properties = new Properties();
+    properties.setProperty("property_1", "value_1");
+  }
+
+  @Test
+  void testTakeAndRefill() throws Exception {
+    WarmProcessPool pool = new WarmProcessPool(interpreterSetting, properties, 2);
+    pool.fill();
+    waitForIdleProcesses(pool, 2);
+    RemoteInterpreterManagedProcess process1 = pool.getWarmProcess("test-warm-1");
+    RemoteInterpreterManagedProcess process2 = pool.getWarmProcess("test-warm-2");
+    assertNotNull(process1);
+    assertNotNull(process2);
+    verify(process1).start(anyString());
+
+    // processes are only handed over to interpreter groups with the same properties
+    Properties otherProperties = new Properties();
+    otherProperties.setProperty("property_1", "value_2");
+    assertNull(pool.take(otherProperties));
+
+    // processes which are not running any more are skipped
+    when(process1.isRunning()).thenReturn(false);
+    RemoteInterpreterManagedProcess process = pool.take((Properties) properties.clone());
+    assertSame(process2, process);
+    assertNull(pool.getWarmProcess("test-warm-1"));
+    assertNull(pool.getWarmProcess("test-warm-2"));
+    waitForIdleProcesses(pool, 2);
+    RemoteInterpreterManagedProcess process3 = pool.getWarmProcess("test-warm-3");
+    RemoteInterpreterManagedProcess process4 = pool.getWarmProcess("test-warm-4");
+    assertNotNull(process3);
+    assertNotNull(process4);
+
+    pool.close();
+    assertEquals(0, pool.getIdleCount());
+    verify(process3).stop();
+    verify(process4).stop();
+    verify(process, never()).stop();
+    assertNull(pool.take(properties));
+  }
+
+  @Test
+  void testLaunchFailure() throws Exception {
+    when(interpreterSetting.createWarmInterpreterProcess(anyString(), anyString(), any()))
+        .thenThrow(new IOException("Fail to launch"));
+    WarmProcessPool pool = new WarmProcessPool(interpreterSetting, properties, 2);
+    pool.fill();
+    verify(interpreterSetting, timeout(5000).times(2))
+        .createWarmInterpreterProcess(anyString(), anyString(), any());
+    assertEquals(0, pool.getIdleCount());
+
+    // failed launches are not retried until the next take
+    Thread.sleep(100);
+    verify(interpreterSetting, times(2)).createWarmInterpreterProcess(anyString(), anyString(),
+        any());
+    assertNull(pool.take(properties));
+    verify(interpreterSetting, timeout(5000).times(4))
+        .createWarmInterpreterProcess(anyString(), anyString(), any());
+    pool.close();
+  }
+
+  private void waitForIdleProcesses(WarmProcessPool pool, int count) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (pool.getIdleCount() < count && System.currentTimeMillis() - start < 5000) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, pool.getIdleCount());
+  }
+}
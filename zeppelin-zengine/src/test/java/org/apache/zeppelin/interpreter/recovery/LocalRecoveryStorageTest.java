@@ -27,7 +27,10 @@ import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterOption;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.interpreter.remote.RpcTransport;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +38,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -114,4 +118,33 @@ class LocalRecoveryStorageTest extends AbstractInterpreterTest {
     interpreterSetting.close();
     assertEquals(0, interpreterSettingManager.getRecoveryStorage().restore().size());
   }
+
+  @Test
+  void testRestoreWithConfiguredRpcTransport() throws InterpreterException, IOException {
+    InterpreterSetting interpreterSetting = interpreterSettingManager.getByName("test");
+    interpreterSetting.getOption().setPerUser(InterpreterOption.SHARED);
+
+    Interpreter interpreter1 = interpreterSetting.getDefaultInterpreter("user1", note1Id);
+    InterpreterContext context1 = InterpreterContext.builder()
+            .setNoteId("noteId")
+            .setParagraphId("paragraphId")
+            .build();
+    ((RemoteInterpreter) interpreter1).interpret("hello", context1);
+
+    zConf.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT.getVarName(),
+            "nonblocking");
+    try {
+      Map<String, InterpreterClient> clients =
+              interpreterSettingManager.getRecoveryStorage().restore();
+      assertEquals(1, clients.size());
+      for (InterpreterClient client : clients.values()) {
+        assertEquals(RpcTransport.NONBLOCKING,
+                ((RemoteInterpreterProcess) client).getRpcTransport());
+      }
+    } finally {
+      zConf.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT.getVarName(),
+              "blocking");
+      interpreterSetting.close();
+    }
+  }
 }
@@ -17,29 +17,34 @@
 
 package org.apache.zeppelin.interpreter.remote;
 
-import org.apache.log4j.AppenderSkeleton;
-import org.apache.log4j.Level;
-import org.apache.log4j.Logger;
-import org.apache.log4j.spi.LoggingEvent;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.invocation.InvocationOnMock;
-import org.mockito.stubbing.Answer;
+import org.mockito.InOrder;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -47,189 +52,232 @@ class AppendOutputRunnerTest {
 
   private static final int NUM_EVENTS = 10000;
   private static final int NUM_CLUBBED_EVENTS = 100;
-  private static final ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor();
-  private static ScheduledFuture<?> future = null;
-  /* It is being accessed by multiple threads.
-   * While loop for 'loopForBufferCompletion' could
-   * run for-ever.
-   */
-  private volatile static int numInvocations = 0;
+  private ExecutorService service;
+
+  @BeforeEach
+  public void setUp() {
+    service = Executors.newCachedThreadPool();
+  }
 
   @AfterEach
-  public void afterEach() {
-    if (future != null) {
-      future.cancel(true);
-    }
+  public void tearDown() {
+    service.shutdownNow();
   }
 
   @Test
-  void testSingleEvent() throws InterruptedException {
+  void testSingleEvent() {
     RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
-    String[][] buffer = {{"note", "para", "data\n"}};
+    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    service.submit(runner);
+    runner.appendBuffer("note", "para", 0, "data\n");
 
-    loopForCompletingEvents(listener, 1, buffer);
-    verify(listener, times(1)).onOutputAppend(any(String.class), any(String.class), anyInt(), any(String.class));
-    verify(listener, times(1)).onOutputAppend("note", "para", 0, "data\n");
+    verify(listener, timeout(2000)).onOutputAppend("note", "para", 0, "data\n");
+    verify(listener, times(1)).onOutputAppend(anyString(), anyString(), anyInt(), anyString());
   }
 
   @Test
-  public void testMultipleEventsOfSameParagraph() throws InterruptedException {
+  void testMultipleEventsOfSameParagraph() {
     RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
-    String note1 = "note1";
-    String para1 = "para1";
-    String[][] buffer = {
-        {note1, para1, "data1\n"},
-        {note1, para1, "data2\n"},
-        {note1, para1, "data3\n"}
-    };
-
-    loopForCompletingEvents(listener, 1, buffer);
-    verify(listener, times(1)).onOutputAppend(any(String.class), any(String.class), anyInt(), any(String.class));
-    verify(listener, times(1)).onOutputAppend(note1, para1, 0, "data1\ndata2\ndata3\n");
+    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    runner.appendBuffer("note1", "para1", 0, "data1\n");
+    runner.appendBuffer("note1", "para1", 0, "data2\n");
+    runner.appendBuffer("note1", "para1", 0, "data3\n");
+    runner.flush();
+
+    verify(listener, times(1)).onOutputAppend(anyString(), anyString(), anyInt(), anyString());
+    verify(listener, times(1)).onOutputAppend("note1", "para1", 0, "data1\ndata2\ndata3\n");
   }
 
   @Test
-  void testMultipleEventsOfDifferentParagraphs() throws InterruptedException {
+  void testMultipleEventsOfDifferentParagraphs() {
     RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
-    String note1 = "note1";
-    String note2 = "note2";
-    String para1 = "para1";
-    String para2 = "para2";
-    String[][] buffer = {
-        {note1, para1, "data1\n"},
-        {note1, para2, "data2\n"},
-        {note2, para1, "data3\n"},
-        {note2, para2, "data4\n"}
-    };
-    loopForCompletingEvents(listener, 4, buffer);
-
-    verify(listener, times(4)).onOutputAppend(any(String.class), any(String.class), anyInt(), any(String.class));
-    verify(listener, times(1)).onOutputAppend(note1, para1, 0, "data1\n");
-    verify(listener, times(1)).onOutputAppend(note1, para2, 0, "data2\n");
-    verify(listener, times(1)).onOutputAppend(note2, para1, 0, "data3\n");
-    verify(listener, times(1)).onOutputAppend(note2, para2, 0, "data4\n");
+    AppendOutputRunner runner = new AppendOutputRunner(listener);
+    runner.appendBuffer("note1", "para1", 0, "data1\n");
+    runner.appendBuffer("note1", "para2", 0, "data2\n");
+    runner.appendBuffer("note2", "para1", 0, "data3\n");
+    runner.appendBuffer("note2", "para2", 0, "data4\n");
+    runner.appendBuffer("note2", "para2", 1, "data5\n");
+    runner.flush();
+
+    verify(listener, times(5)).onOutputAppend(anyString(), anyString(), anyInt(), anyString());
+    verify(listener, times(1)).onOutputAppend("note1", "para1", 0, "data1\n");
+    verify(listener, times(1)).onOutputAppend("note1", "para2", 0, "data2\n");
+    verify(listener, times(1)).onOutputAppend("note2", "para1", 0, "data3\n");
+    verify(listener, times(1)).onOutputAppend("note2", "para2", 0, "data4\n");
+    verify(listener, times(1)).onOutputAppend("note2", "para2", 1, "data5\n");
   }
 
   @Test
-  void testClubbedData() throws InterruptedException {
+  void testRareEventsAreSentImmediately() throws InterruptedException {
     RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
-    AppendOutputRunner runner = new AppendOutputRunner(listener);
-    future = service.scheduleWithFixedDelay(runner, 0,
-        AppendOutputRunner.BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
-    Thread thread = new Thread(new BombardEvents(runner));
-    thread.start();
-    thread.join();
-    Thread.sleep(1000);
-
-    /* NUM_CLUBBED_EVENTS is a heuristic number.
-     * It has been observed that for 10,000 continuos event
-     * calls, 30-40 Web-socket calls are made. Keeping
-     * the unit-test to a pessimistic 100 web-socket calls.
-     */
-    verify(listener, atMost(NUM_CLUBBED_EVENTS)).onOutputAppend(any(String.class), any(String.class), anyInt(), any(String.class));
+    // rare appends are not delayed by the max latency
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 60 * 1000,
+        AppendOutputRunner.DEFAULT_MAX_FLUSH_SIZE);
+    service.submit(runner);
+    for (int i = 0; i < 3; i++) {
+      runner.appendBuffer("note", "para", 0, "data" + i + "\n");
+      verify(listener, timeout(2000)).onOutputAppend("note", "para", 0, "data" + i + "\n");
+      Thread.sleep(100);
+    }
   }
 
   @Test
-  void testWarnLoggerForLargeData() throws InterruptedException {
+  void testClubbedData() throws Exception {
     RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    StringBuffer output = new StringBuffer();
+    doAnswer(invocation -> output.append((String) invocation.getArgument(3)))
+        .when(listener).onOutputAppend(anyString(), anyString(), anyInt(), anyString());
     AppendOutputRunner runner = new AppendOutputRunner(listener);
-    String data = "data\n";
-    int numEvents = 100000;
-
-    for (int i=0; i<numEvents; i++) {
-      runner.appendBuffer("noteId", "paraId", 0, data);
-    }
-
-    TestAppender appender = new TestAppender();
-    Logger logger = Logger.getRootLogger();
-    logger.addAppender(appender);
-
-    runner.run();
-    List<LoggingEvent> log;
-
-    int warnLogCounter;
-    LoggingEvent sizeWarnLogEntry = null;
-    do {
-      warnLogCounter = 0;
-      log = appender.getLog();
-      for (LoggingEvent logEntry: log) {
-        if (Level.WARN.equals(logEntry.getLevel())) {
-          sizeWarnLogEntry = logEntry;
-          warnLogCounter += 1;
-        }
+    service.submit(runner);
+    service.submit(() -> {
+      for (int i = 0; i < NUM_EVENTS; i++) {
+        runner.appendBuffer("noteId", "paraId", 0, "data\n");
       }
-    } while(warnLogCounter != 2);
+    }).get(10, TimeUnit.SECONDS);
 
-    String loggerString = "Processing size for buffered append-output is high: " +
-        (data.length() * numEvents) + " characters.";
-    assertEquals(loggerString, sizeWarnLogEntry.getMessage());
+    long start = System.currentTimeMillis();
+    while (output.length() < NUM_EVENTS * 5 && System.currentTimeMillis() - start < 5000) {
+      Thread.sleep(10);
+    }
+    assertEquals(StringUtils.repeat("data\n", NUM_EVENTS), output.toString());
+    verify(listener, atMost(NUM_CLUBBED_EVENTS))
+        .onOutputAppend(any(String.class), any(String.class), anyInt(), any(String.class));
   }
 
-  private class BombardEvents implements Runnable {
-
-    private final AppendOutputRunner runner;
-
-    private BombardEvents(AppendOutputRunner runner) {
-      this.runner = runner;
+  @Test
+  void testMaxFlushSizePerParagraph() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener,
+        AppendOutputRunner.DEFAULT_MAX_LATENCY_MS, 250);
+    String line = StringUtils.repeat("x", 99) + "\n";
+    for (int i = 0; i < 5; i++) {
+      runner.appendBuffer("note", "noisy", 0, line);
     }
+    runner.appendBuffer("note", "quiet", 0, "data\n");
+
+    // the quiet paragraph is sent with the first flush, the noisy one takes 3 flushes
+    AppendOutputRunner.FlushResult result = runner.flush();
+    assertEquals(2, result.calls);
+    assertEquals(3, result.chunks);
+    verify(listener).onOutputAppend("note", "quiet", 0, "data\n");
+    runner.flush();
+    runner.flush();
+    InOrder inOrder = inOrder(listener);
+    inOrder.verify(listener, times(2)).onOutputAppend("note", "noisy", 0, line + line);
+    inOrder.verify(listener).onOutputAppend("note", "noisy", 0, line);
+    assertEquals(0, runner.flush().calls);
+
+    // a single append larger than the max size is not split
+    String largeOutput = StringUtils.repeat("x", 1000);
+    runner.appendBuffer("note", "noisy", 0, largeOutput);
+    runner.flush();
+    verify(listener).onOutputAppend("note", "noisy", 0, largeOutput);
+  }
 
-    @Override
-    public void run() {
-      String noteId = "noteId";
-      String paraId = "paraId";
-      for (int i=0; i<NUM_EVENTS; i++) {
-        runner.appendBuffer(noteId, paraId, 0, "data\n");
-      }
+  @Test
+  void testMaxBufferedSizePerParagraph() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener,
+        AppendOutputRunner.DEFAULT_MAX_LATENCY_MS, 2000, 250);
+    String line = StringUtils.repeat("x", 99) + "\n";
+    // the third and fourth lines don't fit, they are replaced by one marker
+    for (int i = 0; i < 4; i++) {
+      runner.appendBuffer("note", "noisy", 0, line);
     }
+    runner.appendBuffer("note", "quiet", 0, "data\n");
+    assertEquals(4, runner.getQueueDepth());
+
+    runner.flush();
+    verify(listener).onOutputAppend("note", "noisy", 0,
+        line + line + AppendOutputRunner.DROPPED_OUTPUT_MARKER);
+    verify(listener).onOutputAppend("note", "quiet", 0, "data\n");
+    assertEquals(0, runner.getQueueDepth());
+
+    // appends are queued again once the buffer drained
+    runner.appendBuffer("note", "noisy", 0, line);
+    runner.flush();
+    verify(listener).onOutputAppend("note", "noisy", 0, line);
+
+    // a single append larger than the max buffered size is queued when nothing is buffered
+    String largeOutput = StringUtils.repeat("x", 1000);
+    runner.appendBuffer("note", "noisy", 0, largeOutput);
+    runner.appendBuffer("note", "noisy", 0, line);
+    runner.flush();
+    verify(listener).onOutputAppend("note", "noisy", 0,
+        largeOutput + AppendOutputRunner.DROPPED_OUTPUT_MARKER);
   }
 
-  private class TestAppender extends AppenderSkeleton {
-    private final List<LoggingEvent> log = new ArrayList<>();
-
-    @Override
-    public boolean requiresLayout() {
-        return false;
+  @Test
+  void testConcurrentAppends() throws Exception {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    Map<String, StringBuffer> outputs = new ConcurrentHashMap<>();
+    doAnswer(invocation -> outputs.computeIfAbsent(invocation.getArgument(1),
+        p -> new StringBuffer()).append((String) invocation.getArgument(3)))
+        .when(listener).onOutputAppend(eq("note"), anyString(), eq(0), anyString());
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 10, 100);
+    service.submit(runner);
+
+    int numParagraphs = 4;
+    List<Future<?>> futures = new ArrayList<>();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < NUM_EVENTS / numParagraphs; i++) {
+      expected.append(i).append('\n');
     }
-
-    @Override
-    protected void append(final LoggingEvent loggingEvent) {
-        log.add(loggingEvent);
+    for (int p = 0; p < numParagraphs; p++) {
+      String paragraphId = "para" + p;
+      futures.add(service.submit(() -> {
+        for (int i = 0; i < NUM_EVENTS / numParagraphs; i++) {
+          runner.appendBuffer("note", paragraphId, 0, i + "\n");
+          if (i % 100 == 0) {
+            Thread.sleep(1);
+          }
+        }
+        return null;
+      }));
     }
-
-    @Override
-    public void close() {
+    for (Future<?> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
     }
 
-    public List<LoggingEvent> getLog() {
-        return new ArrayList<>(log);
+    long start = System.currentTimeMillis();
+    while (System.currentTimeMillis() - start < 5000 && (outputs.size() < numParagraphs
+        || !outputs.values().stream().allMatch(output -> output.length() == expected.length()))) {
+      Thread.sleep(10);
+    }
+    assertEquals(numParagraphs, outputs.size());
+    for (StringBuffer output : outputs.values()) {
+      assertEquals(expected.toString(), output.toString());
     }
   }
 
-  private void prepareInvocationCounts(RemoteInterpreterProcessListener listener) {
-    doAnswer(new Answer<Void>() {
-      @Override
-      public Void answer(InvocationOnMock invocation) throws Throwable {
-        numInvocations += 1;
-        return null;
-      }
-    }).when(listener).onOutputAppend(any(String.class), any(String.class), anyInt(), any(String.class));
-  }
-
-  private void loopForCompletingEvents(RemoteInterpreterProcessListener listener,
-      int numTimes, String[][] buffer) {
-    numInvocations = 0;
-    prepareInvocationCounts(listener);
-    AppendOutputRunner runner = new AppendOutputRunner(listener);
-    for (String[] bufferElement: buffer) {
-      runner.appendBuffer(bufferElement[0], bufferElement[1], 0, bufferElement[2]);
-    }
-    future = service.scheduleWithFixedDelay(runner, 0,
-        AppendOutputRunner.BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
-    long startTimeMs = System.currentTimeMillis();
-    while(numInvocations != numTimes) {
-      if (System.currentTimeMillis() - startTimeMs > 2000) {
-        fail("Buffered events were not sent for 2 seconds");
-      }
+  @Test
+  void testQueueDepthOfAllRunners() throws Exception {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    CountDownLatch sendBlocked = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    doAnswer(invocation -> {
+      sendBlocked.countDown();
+      release.await();
+      return null;
+    }).when(listener).onOutputAppend(anyString(), anyString(), anyInt(), anyString());
+    try {
+      double depth = registry.get("zeppelin_output_append_queue_depth").gauge().value();
+      AppendOutputRunner runner1 = new AppendOutputRunner(listener);
+      AppendOutputRunner runner2 = new AppendOutputRunner(listener);
+      service.submit(runner1);
+      service.submit(runner2);
+      // the first append of each runner is being sent, the second one is queued
+      runner1.appendBuffer("note1", "para1", 0, "data1\n");
+      runner2.appendBuffer("note2", "para1", 0, "data1\n");
+      sendBlocked.await();
+      runner1.appendBuffer("note1", "para1", 0, "data2\n");
+      runner2.appendBuffer("note2", "para1", 0, "data2\n");
+      assertEquals(depth + 2, registry.get("zeppelin_output_append_queue_depth").gauge().value());
+    } finally {
+      release.countDown();
+      Metrics.removeRegistry(registry);
     }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoteCacheTest {
+  private ZeppelinConfiguration zConf;
+  private NoteParser noteParser;
+
+  @BeforeEach
+  public void setUp() {
+    zConf = ZeppelinConfiguration.load();
+    noteParser = new GsonNoteParser(zConf);
+  }
+
+  @Test
+  void testEvictionBySize() {
+    Note smallNote = createNote("/small", 0);
+    Note largeNote = createNote("/large", 10000);
+    long smallWeight = NoteCache.weigh(smallNote);
+    long largeWeight = NoteCache.weigh(largeNote);
+    assertTrue(largeWeight >= smallWeight + 20000);
+
+    NoteCache noteCache = new NoteCache(100, largeWeight + 2 * smallWeight);
+    noteCache.putNote(largeNote);
+    for (int i = 0; i < 2; i++) {
+      noteCache.putNote(createNote("/tiny" + i, 0));
+    }
+    assertEquals(3, noteCache.getSize());
+    assertEquals(largeWeight + 2 * smallWeight, noteCache.getBytes());
+
+    // the large note is the least recently used one
+    noteCache.putNote(smallNote);
+    assertFalse(noteCache.containsNote(largeNote.getId()));
+    assertEquals(3, noteCache.getSize());
+    assertEquals(3 * smallWeight, noteCache.getBytes());
+
+    // size of the note is updated when it is put again
+    smallNote.getParagraphs().get(0).setText(StringUtils.repeat("x", 100));
+    noteCache.putNote(smallNote);
+    assertEquals(2 * smallWeight + NoteCache.weigh(smallNote), noteCache.getBytes());
+    noteCache.removeNote(smallNote.getId());
+    assertEquals(2 * smallWeight, noteCache.getBytes());
+  }
+
+  @Test
+  void testNoteInUseIsNotEvicted() {
+    NoteCache noteCache = new NoteCache(2, 0);
+    Note note1 = createNote("/note1", 0);
+    note1.getLock().readLock().lock();
+    try {
+      noteCache.putNote(note1);
+      noteCache.putNote(createNote("/note2", 0));
+      noteCache.putNote(createNote("/note3", 0));
+      assertTrue(noteCache.containsNote(note1.getId()));
+      assertEquals(2, noteCache.getSize());
+    } finally {
+      note1.getLock().readLock().unlock();
+    }
+  }
+
+  @Test
+  void testAccessedNotesSurviveScan() {
+    NoteCache noteCache = new NoteCache(10, 0);
+    Note hotNote = createNote("/hot", 0);
+    noteCache.putNote(hotNote);
+    assertSame(hotNote, noteCache.getNote(hotNote.getId()));
+    // notes which are loaded only once, e.g. during startup
+    for (int i = 0; i < 100; i++) {
+      noteCache.putNote(createNote("/cold" + i, 0));
+    }
+    assertTrue(noteCache.containsNote(hotNote.getId()));
+    assertEquals(10, noteCache.getSize());
+  }
+
+  @Test
+  void testConcurrentLoadsOfSameNote() throws Exception {
+    NoteCache noteCache = new NoteCache(10, 0);
+    Note note = createNote("/note", 0);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch loaded = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      NoteCache.NoteLoader loader = () -> {
+        loads.incrementAndGet();
+        loading.countDown();
+        try {
+          loaded.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return note;
+      };
+      Future<Note> first = executor.submit(() -> noteCache.getOrLoadNote(note.getId(), false, loader));
+      loading.await(10, TimeUnit.SECONDS);
+      // reload waits for the load in progress too
+      Future<Note> second = executor.submit(() -> noteCache.getOrLoadNote(note.getId(), true, loader));
+      Future<Note> third = executor.submit(() -> noteCache.getOrLoadNote(note.getId(), false, loader));
+      Thread.sleep(500);
+      loaded.countDown();
+      assertSame(note, first.get(10, TimeUnit.SECONDS));
+      assertSame(note, second.get(10, TimeUnit.SECONDS));
+      assertSame(note, third.get(10, TimeUnit.SECONDS));
+      assertEquals(1, loads.get());
+
+      // cached afterwards
+      assertSame(note, noteCache.getOrLoadNote(note.getId(), false, loader));
+      assertEquals(1, loads.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Note createNote(String notePath, int textLength) {
+    Note note = new Note(notePath, "test", null, null, null, null, new ArrayList<>(), zConf,
+        noteParser);
+    Paragraph paragraph = new Paragraph(note, null);
+    paragraph.setText(StringUtils.repeat("x", textLength));
+    note.addParagraph(paragraph);
+    return note;
+  }
+}
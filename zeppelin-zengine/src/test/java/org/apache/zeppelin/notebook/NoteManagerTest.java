@@ -22,9 +22,14 @@ import org.apache.zeppelin.notebook.exception.NotePathAlreadyExistsException;
 import org.apache.zeppelin.notebook.repo.InMemoryNotebookRepo;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.jupiter.api.BeforeEach;
+import org.apache.zeppelin.scheduler.Job;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
@@ -34,6 +39,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -122,6 +128,84 @@ class NoteManagerTest {
             "Note '/prod/note-1' existed");
   }
 
+  @Test
+  void testWriteBehindSave() throws IOException {
+    zConf.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTE_SAVE_WINDOW.getVarName(),
+        "60000");
+    InMemoryNotebookRepo notebookRepo = new InMemoryNotebookRepo();
+    NoteManager writeBehindNoteManager = new NoteManager(notebookRepo, zConf);
+
+    Note note1 = createNote("/prod/my_note1");
+    Note note2 = createNote("/prod/my_note2");
+    writeBehindNoteManager.saveNote(note1);
+    writeBehindNoteManager.saveNote(note1);
+    writeBehindNoteManager.saveNote(note2);
+    // saved notes are visible in NoteManager, but not written to NotebookRepo yet
+    assertEquals(2, writeBehindNoteManager.getNotesInfo().size());
+    assertEquals(2, writeBehindNoteManager.getPendingSaveSize());
+    assertEquals(0, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
+
+    writeBehindNoteManager.flushNote(note1.getId());
+    assertEquals(1, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
+
+    // pending save of removed note is discarded
+    writeBehindNoteManager.removeNote(note2.getId(), AuthenticationInfo.ANONYMOUS);
+    writeBehindNoteManager.saveNote(note1);
+    writeBehindNoteManager.close();
+    assertEquals(0, writeBehindNoteManager.getPendingSaveSize());
+    assertEquals(1, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
+  }
+
+  @Test
+  void testNoteCatalog(@TempDir File tempDir) throws IOException {
+    File catalogFile = new File(tempDir, "note-catalog.json");
+    zConf.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTE_CATALOG_PATH.getVarName(),
+        catalogFile.getAbsolutePath());
+    InMemoryNotebookRepo notebookRepo = new InMemoryNotebookRepo();
+    NoteManager catalogNoteManager = new NoteManager(notebookRepo, zConf);
+
+    Note note1 = createNote("/prod/my_note1");
+    note1.getConfig().put("cron", "0 0 * * * ?");
+    Note note2 = new Note("/prod/my_note2", "test", null, null, null, null, new ArrayList<>(),
+        zConf, noteParser);
+    Paragraph paragraph = new Paragraph(note2, null);
+    note2.addParagraph(paragraph);
+    paragraph.setStatus(Job.Status.RUNNING);
+    Note note3 = createNote("/prod/my_note3");
+    Note note5 = createNote("/prod/my_note5");
+    catalogNoteManager.saveNote(note1);
+    catalogNoteManager.saveNote(note2);
+    catalogNoteManager.saveNote(note3);
+    catalogNoteManager.saveNote(note5);
+    catalogNoteManager.moveNote(note3.getId(), "/dev/my_note3", AuthenticationInfo.ANONYMOUS);
+    catalogNoteManager.close();
+    assertTrue(catalogFile.exists());
+
+    // changed in NotebookRepo while zeppelin server is stopped
+    note1.setPath("/prod/my_note1_moved");
+    notebookRepo.save(note1, AuthenticationInfo.ANONYMOUS);
+    notebookRepo.save(createNote("/prod/my_note4"), AuthenticationInfo.ANONYMOUS);
+    note5.getConfig().put("looknfeel", "simple");
+    notebookRepo.save(note5, AuthenticationInfo.ANONYMOUS);
+
+    catalogNoteManager = new NoteManager(notebookRepo, zConf);
+    NoteCatalog noteCatalog = catalogNoteManager.getNoteCatalog();
+    assertFalse(catalogFile.exists());
+    assertNull(noteCatalog.getUnchangedEntry(note1.getId()));
+    assertNull(noteCatalog.getUnchangedEntry(note5.getId()));
+    NoteCatalog.Entry entry2 = noteCatalog.getUnchangedEntry(note2.getId());
+    assertNull(entry2.getCron());
+    assertEquals(Arrays.asList(paragraph.getId()), entry2.getRunningParagraphs());
+    NoteCatalog.Entry entry3 = noteCatalog.getUnchangedEntry(note3.getId());
+    assertEquals("/dev/my_note3", entry3.getPath());
+    assertTrue(entry3.getRunningParagraphs().isEmpty());
+    assertEquals(2, noteCatalog.size());
+
+    // catalog is not used if zeppelin server is not shutdown normally
+    catalogNoteManager = new NoteManager(notebookRepo, zConf);
+    assertNull(catalogNoteManager.getNoteCatalog().getUnchangedEntry(note2.getId()));
+  }
+
   private Note createNote(String notePath) {
     return new Note(notePath, "test", null, null, null, null, null, zConf, noteParser);
   }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoteSaveQueueTest {
+
+  private final List<String> written = Collections.synchronizedList(new LinkedList<>());
+  private ZeppelinConfiguration zConf;
+
+  @BeforeEach
+  void setUp() {
+    zConf = ZeppelinConfiguration.load();
+  }
+
+  private void write(Note note, AuthenticationInfo subject) {
+    written.add(note.getId());
+  }
+
+  private Note createNote(String notePath) {
+    return new Note(notePath, "test", null, null, null, null, null, zConf,
+        new GsonNoteParser(zConf));
+  }
+
+  @Test
+  void testCoalesceSavesOfSameNote() throws IOException, InterruptedException {
+    NoteSaveQueue queue = new NoteSaveQueue(this::write, 100);
+    Note note1 = createNote("/note1");
+    Note note2 = createNote("/note2");
+    for (int i = 0; i < 10; i++) {
+      queue.save(note1, AuthenticationInfo.ANONYMOUS);
+    }
+    queue.save(note2, AuthenticationInfo.ANONYMOUS);
+    assertTrue(written.isEmpty());
+    assertEquals(2, queue.getQueueDepth());
+
+    Thread.sleep(500);
+    assertEquals(2, written.size());
+    assertTrue(written.contains(note1.getId()));
+    assertTrue(written.contains(note2.getId()));
+    assertEquals(0, queue.getQueueDepth());
+  }
+
+  @Test
+  void testFlushAndCancel() throws IOException {
+    NoteSaveQueue queue = new NoteSaveQueue(this::write, 60 * 1000);
+    Note note1 = createNote("/note1");
+    Note note2 = createNote("/note2");
+    Note note3 = createNote("/note3");
+    queue.save(note1, AuthenticationInfo.ANONYMOUS);
+    queue.save(note2, AuthenticationInfo.ANONYMOUS);
+    queue.save(note3, AuthenticationInfo.ANONYMOUS);
+
+    queue.flush(note1.getId());
+    assertEquals(1, written.size());
+    assertEquals(note1.getId(), written.get(0));
+    assertFalse(queue.isPending(note1.getId()));
+
+    // removed note is not written anymore
+    queue.cancel(note2.getId());
+    queue.close();
+    assertEquals(2, written.size());
+    assertEquals(note3.getId(), written.get(1));
+  }
+
+  @Test
+  void testDisabled() throws IOException {
+    NoteSaveQueue queue = new NoteSaveQueue(this::write, 0);
+    Note note1 = createNote("/note1");
+    queue.save(note1, AuthenticationInfo.ANONYMOUS);
+    queue.save(note1, AuthenticationInfo.ANONYMOUS);
+    assertEquals(2, written.size());
+    assertEquals(0, queue.getQueueDepth());
+  }
+
+  @Test
+  void testQueueDepthOfAllQueues() throws IOException {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    NoteSaveQueue queue1 = new NoteSaveQueue(this::write, 60 * 1000);
+    NoteSaveQueue queue2 = new NoteSaveQueue(this::write, 60 * 1000);
+    try {
+      double depth = registry.get("zeppelin_note_save_queue_depth").gauge().value();
+      queue1.save(createNote("/note1"), AuthenticationInfo.ANONYMOUS);
+      queue2.save(createNote("/note2"), AuthenticationInfo.ANONYMOUS);
+      queue2.save(createNote("/note3"), AuthenticationInfo.ANONYMOUS);
+      assertEquals(depth + 3, registry.get("zeppelin_note_save_queue_depth").gauge().value());
+
+      // the gauge stays registered for the other queue
+      queue1.close();
+      assertEquals(depth + 2, registry.get("zeppelin_note_save_queue_depth").gauge().value());
+    } finally {
+      queue2.close();
+      Metrics.removeRegistry(registry);
+    }
+  }
+
+  @Test
+  void testUnclosedQueueIsCollected() throws InterruptedException {
+    NoteSaveQueue queue = new NoteSaveQueue(this::write, 60 * 1000);
+    WeakReference<NoteSaveQueue> ref = new WeakReference<>(queue);
+    queue = null;
+    // the gauge doesn't keep the queue alive
+    for (int i = 0; i < 50 && ref.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(ref.get());
+  }
+}
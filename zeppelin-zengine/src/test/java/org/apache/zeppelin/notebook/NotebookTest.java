@@ -616,6 +616,80 @@ class NotebookTest extends AbstractInterpreterTest implements ParagraphJobListen
     notebook.removeNote(noteId, anonymous);
   }
 
+  @Test
+  void testRunAllParallel() throws Exception {
+    String noteId = notebook.createNote("note1", anonymous);
+    notebook.processNote(noteId,
+      note -> {
+        Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+        p1.setText("%mock1 sleep 2000");
+        Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+        p2.setText("%mock2 sleep 2000");
+        // p3 runs after p1 which uses the same interpreter session
+        Paragraph p3 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+        p3.setText("%mock1 p3");
+        // p4 runs after p3 as declared in its config
+        Paragraph p4 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+        Map<String, Object> config4 = p4.getConfig();
+        config4.put("dependsOn", Arrays.asList(p3.getId()));
+        p4.setConfig(config4);
+        p4.setText("%mock2 p4");
+
+        try {
+          // the first run starts the interpreter processes, it uses the scheduler of the note
+          note.runAll(anonymous, true, false, new HashMap<>(), false);
+          note.runAll(anonymous, true, false, new HashMap<>(), true);
+          // the execution mode is passed per run, the shared interpreters are not changed
+          assertNull(p1.getBindedInterpreter().getProperty(".execution.mode"));
+        } catch (Exception e) {
+          fail("Exception in runAll");
+        }
+
+        for (Paragraph p : Arrays.asList(p1, p2, p3, p4)) {
+          assertEquals(Status.FINISHED, p.getStatus());
+        }
+        assertEquals("repl1: p3", p3.getReturn().message().get(0).getData());
+        assertEquals("repl2: p4", p4.getReturn().message().get(0).getData());
+        // p1 and p2 run at the same time
+        assertTrue(p2.getDateStarted().before(p1.getDateFinished()));
+        assertTrue(p1.getDateStarted().before(p2.getDateFinished()));
+        assertFalse(p3.getDateStarted().before(p1.getDateFinished()));
+        assertFalse(p4.getDateStarted().before(p3.getDateFinished()));
+        return null;
+      });
+    notebook.removeNote(noteId, anonymous);
+  }
+
+  @Test
+  void testRunAllParallelWithCircularDependency() throws Exception {
+    String noteId = notebook.createNote("note1", anonymous);
+    notebook.processNote(noteId,
+      note -> {
+        Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+        p1.setText("%mock1 p1");
+        Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+        p2.setText("%mock2 p2");
+        Map<String, Object> config1 = p1.getConfig();
+        config1.put("dependsOn", p2.getId());
+        p1.setConfig(config1);
+        Map<String, Object> config2 = p2.getConfig();
+        config2.put("dependsOn", p1.getId());
+        p2.setConfig(config2);
+
+        try {
+          note.runAll(anonymous, true, false, new HashMap<>(), true);
+          fail("Should fail because of the circular dependency");
+        } catch (Exception e) {
+          assertTrue(e.getMessage().contains("Circular dependsOn"), e.getMessage());
+        }
+        assertFalse(note.isRunning());
+        assertNull(p1.getReturn());
+        assertNull(p2.getReturn());
+        return null;
+      });
+    notebook.removeNote(noteId, anonymous);
+  }
+
   @Test
   void testSchedule() throws InterruptedException, IOException {
     // create a note and a paragraph
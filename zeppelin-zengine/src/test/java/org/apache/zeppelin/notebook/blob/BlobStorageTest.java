@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.blob;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.notebook.GsonNoteParser;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlobStorageTest {
+
+  private File blobDir;
+  private ZeppelinConfiguration zConf;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    blobDir = Files.createTempDirectory(this.getClass().getSimpleName()).toFile();
+    zConf = ZeppelinConfiguration.load();
+    zConf.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_DIR.getVarName(),
+        blobDir.getAbsolutePath());
+    zConf.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_THRESHOLD.getVarName(),
+        "100");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(blobDir);
+  }
+
+  @Test
+  void testStoreOutputs() throws IOException {
+    zConf.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_STORAGE_CLASS.getVarName(),
+        LocalBlobStorage.class.getName());
+    BlobStorage blobStorage = BlobStorage.createBlobStorage(zConf);
+    assertTrue(blobStorage.isEnabled());
+
+    byte[] image = new byte[1000];
+    new Random(0).nextBytes(image);
+    String base64Image = Base64.getMimeEncoder().encodeToString(image);
+    Note note = new Note();
+    Paragraph p1 = note.insertNewParagraph(0, AuthenticationInfo.ANONYMOUS);
+    p1.setReturn(new InterpreterResult(InterpreterResult.Code.SUCCESS, List.of(
+        new InterpreterResultMessage(InterpreterResult.Type.TEXT, base64Image),
+        new InterpreterResultMessage(InterpreterResult.Type.IMG, base64Image),
+        new InterpreterResultMessage(InterpreterResult.Type.IMG, "aW1n"),
+        new InterpreterResultMessage(InterpreterResult.Type.IMG,
+            "http://localhost/" + base64Image))), null);
+    // same image in another paragraph
+    Paragraph p2 = new Paragraph(note, null);
+    note.addParagraph(p2);
+    p2.setReturn(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.IMG, base64Image), null);
+
+    assertEquals(2, blobStorage.storeOutputs(note));
+    List<InterpreterResultMessage> messages = p1.getReturn().message();
+    // only large base64 images are moved
+    assertEquals(base64Image, messages.get(0).getData());
+    assertTrue(BlobStorage.isReference(messages.get(1)));
+    assertEquals("aW1n", messages.get(2).getData());
+    assertFalse(BlobStorage.isReference(messages.get(3)));
+    assertEquals(messages.get(1).getData(), p2.getReturn().message().get(0).getData());
+
+    String id = messages.get(1).getData().substring(BlobStorage.REFERENCE_PREFIX.length());
+    assertEquals(image.length, blobStorage.getSize(id));
+    try (InputStream in = blobStorage.open(id)) {
+      assertArrayEquals(image, IOUtils.toByteArray(in));
+    }
+    // references are kept
+    assertEquals(0, blobStorage.storeOutputs(note));
+    assertEquals(1, FileUtils.listFiles(blobDir, null, true).size());
+  }
+
+  @Test
+  void testExportedNote() throws IOException {
+    zConf.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_BLOB_STORAGE_CLASS.getVarName(),
+        LocalBlobStorage.class.getName());
+    BlobStorage blobStorage = BlobStorage.createBlobStorage(zConf);
+
+    byte[] image = new byte[1000];
+    new Random(0).nextBytes(image);
+    String base64Image = Base64.getEncoder().encodeToString(image);
+    Note note = new Note("/note1", "test", null, null, null, null, new ArrayList<>(), zConf,
+        new GsonNoteParser(zConf));
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p.setReturn(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.IMG, base64Image), null);
+    // nothing to resolve
+    assertSame(note, blobStorage.toExportedNote(note));
+
+    assertEquals(1, blobStorage.storeOutputs(note));
+    assertTrue(BlobStorage.hasReferences(note));
+    InterpreterResultMessage reference = p.getReturn().message().get(0);
+    String id = BlobStorage.getReferencedId(reference);
+    assertEquals(image.length, blobStorage.getSize(id));
+
+    // the note itself keeps the reference
+    Note exportedNote = blobStorage.toExportedNote(note);
+    assertNotSame(note, exportedNote);
+    assertEquals("/note1", exportedNote.getPath());
+    assertEquals(base64Image,
+        exportedNote.getParagraph(p.getId()).getReturn().message().get(0).getData());
+    assertFalse(BlobStorage.hasReferences(exportedNote));
+    assertSame(reference, p.getReturn().message().get(0));
+  }
+
+  @Test
+  void testFileSystemBlobStorage() throws IOException {
+    BlobStorage blobStorage = new FileSystemBlobStorage(zConf);
+    byte[] content = "hello blob".getBytes();
+    String id = blobStorage.put(content);
+    assertTrue(BlobStorage.isValidId(id));
+    assertEquals(id, blobStorage.put(content));
+    assertEquals(content.length, blobStorage.getSize(id));
+    try (InputStream in = blobStorage.open(id)) {
+      assertArrayEquals(content, IOUtils.toByteArray(in));
+    }
+    assertEquals(1, FileUtils.listFiles(blobDir, null, true).size());
+
+    String unknownId = id.replace(id.charAt(0), id.charAt(0) == '0' ? '1' : '0');
+    assertEquals(-1, blobStorage.getSize(unknownId));
+    assertThrows(FileNotFoundException.class, () -> blobStorage.open(unknownId));
+    assertThrows(FileNotFoundException.class, () -> blobStorage.open("../" + id));
+  }
+
+  @Test
+  void testNotebookRepoBlobStorage() throws IOException {
+    File notebookDir = Files.createTempDirectory("notebook").toFile();
+    try {
+      zConf.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_DIR.getVarName(),
+          notebookDir.getAbsolutePath());
+      BlobStorage blobStorage = new NotebookRepoBlobStorage(zConf);
+      String id = blobStorage.put("hello blob".getBytes());
+      assertTrue(new File(notebookDir,
+          NotebookRepoBlobStorage.BLOB_FOLDER + "/" + id.substring(0, 2) + "/" + id).isFile());
+      assertEquals(0, FileUtils.listFiles(blobDir, null, true).size());
+    } finally {
+      FileUtils.deleteDirectory(notebookDir);
+    }
+  }
+
+  @Test
+  void testNullBlobStorage() throws IOException {
+    BlobStorage blobStorage = BlobStorage.createBlobStorage(zConf);
+    assertFalse(blobStorage.isEnabled());
+    Note note = new Note();
+    Paragraph p = note.insertNewParagraph(0, AuthenticationInfo.ANONYMOUS);
+    String base64Image = Base64.getEncoder().encodeToString(new byte[1000]);
+    p.setReturn(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.IMG, base64Image), null);
+    assertEquals(0, blobStorage.storeOutputs(note));
+    assertEquals(base64Image, p.getReturn().message().get(0).getData());
+  }
+}
@@ -23,10 +23,12 @@ import static org.mockito.Mockito.mock;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.io.FileUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
@@ -142,6 +144,54 @@ class NotebookRepoSyncTest {
     notebook.removeNote(noteInfo.getId(), anonymous);
   }
 
+  @Test
+  void testAsyncReplication() throws Exception {
+    File replicationLog = new File(zeppelinHome, "recovery/notebook-replication.log");
+    zConf.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_REPLICATION_ASYNC.getVarName(), "true");
+    zConf.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_REPLICATION_LOG.getVarName(),
+        replicationLog.getAbsolutePath());
+
+    // note is saved to the first storage, but not replicated before restart
+    Note note1 = new Note("/note1", "test", null, null, null, null, null, zConf, noteParser);
+    notebookRepoSync.save(0, note1, anonymous);
+    FileUtils.writeStringToFile(replicationLog,
+        "{\"noteId\":\"" + note1.getId() + "\",\"notePath\":\"/note1\"}\n",
+        StandardCharsets.UTF_8);
+
+    NotebookRepoSync asyncRepoSync = new NotebookRepoSync(pluginManager);
+    asyncRepoSync.init(zConf, noteParser);
+    try {
+      Note note2 = new Note("/note2", "test", null, null, null, null, null, zConf, noteParser);
+      for (int i = 0; i < 10; i++) {
+        note2.getConfig().put("version", "v" + i);
+        asyncRepoSync.save(note2, anonymous);
+      }
+      assertTrue(asyncRepoSync.awaitReplication(30, TimeUnit.SECONDS));
+      assertEquals(2, asyncRepoSync.list(1, anonymous).size());
+      assertEquals("v9", asyncRepoSync.get(1, note2.getId(), "/note2", anonymous)
+          .getConfig().get("version"));
+      // both storages have the same content, sync doesn't need to load the notes
+      for (NoteInfo noteInfo : asyncRepoSync.list(0, anonymous)) {
+        assertEquals(
+            asyncRepoSync.getRepo(0).getNoteChecksum(noteInfo.getId(), noteInfo.getPath(), anonymous),
+            asyncRepoSync.getRepo(1).getNoteChecksum(noteInfo.getId(), noteInfo.getPath(), anonymous));
+      }
+
+      asyncRepoSync.move(note2.getId(), "/note2", "/folder/note2", anonymous);
+      note2.setPath("/folder/note2");
+      asyncRepoSync.save(note2, anonymous);
+      asyncRepoSync.move("/folder", "/folder2", anonymous);
+      assertTrue(asyncRepoSync.awaitReplication(30, TimeUnit.SECONDS));
+      assertEquals("/folder2/note2", asyncRepoSync.list(1, anonymous).stream()
+          .filter(noteInfo -> noteInfo.getId().equals(note2.getId()))
+          .findFirst().get().getPath());
+    } finally {
+      asyncRepoSync.close();
+    }
+    // nothing to replicate after restart
+    assertEquals("", FileUtils.readFileToString(replicationLog, StandardCharsets.UTF_8));
+  }
+
   @Test
   void testSyncOnDelete() throws IOException {
     /* create note */
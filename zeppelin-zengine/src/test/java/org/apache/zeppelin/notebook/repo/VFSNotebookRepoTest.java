@@ -39,6 +39,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class VFSNotebookRepoTest {
 
@@ -114,6 +117,26 @@ class VFSNotebookRepoTest {
     assertEquals(1, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
   }
 
+  @Test
+  void testNoteStamps() throws IOException {
+    assertTrue(notebookRepo.getNoteStamps(AuthenticationInfo.ANONYMOUS).isEmpty());
+
+    Note note1 = new Note();
+    note1.setPath("/my_project/my_note1");
+    note1.setNoteParser(noteParser);
+    notebookRepo.save(note1, AuthenticationInfo.ANONYMOUS);
+    String stamp = notebookRepo.getNoteStamps(AuthenticationInfo.ANONYMOUS).get(note1.getId());
+    assertNotNull(stamp);
+    assertEquals(stamp,
+        notebookRepo.getNoteStamps(AuthenticationInfo.ANONYMOUS).get(note1.getId()));
+
+    // the size of the note file changes
+    note1.insertNewParagraph(0, AuthenticationInfo.ANONYMOUS).setText("%md hello world");
+    notebookRepo.save(note1, AuthenticationInfo.ANONYMOUS);
+    assertNotEquals(stamp,
+        notebookRepo.getNoteStamps(AuthenticationInfo.ANONYMOUS).get(note1.getId()));
+  }
+
   @Test
   void testNoteNameWithColon() throws IOException {
     assertEquals(0, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
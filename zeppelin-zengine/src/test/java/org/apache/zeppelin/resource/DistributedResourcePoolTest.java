@@ -22,6 +22,7 @@ import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.RemoteInterpreterEventServer;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.jupiter.api.AfterEach;
@@ -92,6 +93,34 @@ class DistributedResourcePoolTest extends AbstractInterpreterTest {
     assertEquals("value2", gson.fromJson(ret.message().get(0).getData(), String.class));
   }
 
+  @Test
+  void testRemoteResourceLookup() throws Exception {
+    Gson gson = new Gson();
+    intp2.interpret("put key2 value2", context);
+    intp2.interpret("put " + note2Id + ":paragraph1:key3 value3", context);
+
+    // resources are published to the resource directory of zeppelin server
+    RemoteInterpreterEventServer eventServer = interpreterSettingManager.getInterpreterEventServer();
+    assertEquals(1, eventServer.lookupResources(new ResourceId("pool1", "key2").toJson()).size());
+    assertEquals(1, eventServer.lookupResources(new ResourceId("pool1", "key3").toJson()).size());
+    assertEquals(0, eventServer.lookupResources(new ResourceId("pool1", "key4").toJson()).size());
+
+    assertEquals("value2", gson.fromJson(
+        intp1.interpret("get key2", context).message().get(0).getData(), String.class));
+    assertEquals("value3", gson.fromJson(
+        intp1.interpret("get " + note2Id + ":paragraph1:key3", context).message().get(0).getData(),
+        String.class));
+    assertEquals("", gson.fromJson(
+        intp1.interpret("get " + note2Id + ":paragraph2:key3", context).message().get(0).getData(),
+        String.class));
+
+    // removed resource can not be looked up anymore
+    intp2.interpret("remove key2", context);
+    assertEquals(0, eventServer.lookupResources(new ResourceId("pool1", "key2").toJson()).size());
+    assertEquals("", gson.fromJson(
+        intp1.interpret("get key2", context).message().get(0).getData(), String.class));
+  }
+
   @Test
   void testDistributedResourcePool() {
     final LocalResourcePool pool2 = new LocalResourcePool("pool2");
@@ -19,6 +19,7 @@ import static org.apache.zeppelin.search.LuceneSearch.formatId;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -110,6 +111,31 @@ class LuceneSearchTest {
       });
   }
 
+  @Test
+  void canQueryPageByPage() throws IOException, InterruptedException {
+    // given
+    newNoteWithParagraphs("Notebook1", "page test 1", "page test 2", "page test 3");
+    newNoteWithParagraphs("Notebook2", "page test 4", "page test 5");
+    drainSearchEvents();
+
+    // when
+    List<Map<String, String>> firstPage = noteSearchService.query("page", 0, 3);
+    List<Map<String, String>> secondPage = noteSearchService.query("page", 3, 3);
+
+    // then
+    assertEquals(3, firstPage.size());
+    assertEquals(2, secondPage.size());
+    for (Map<String, String> result : secondPage) {
+      assertFalse(firstPage.contains(result));
+    }
+    assertTrue(noteSearchService.query("page", 5, 3).isEmpty());
+    // offset + limit must not overflow
+    assertEquals(4, noteSearchService.query("page", 1, Integer.MAX_VALUE).size());
+    assertTrue(noteSearchService.query("page", Integer.MAX_VALUE, Integer.MAX_VALUE).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> noteSearchService.query("page", -1, 3));
+    assertThrows(IllegalArgumentException.class, () -> noteSearchService.query("page", 0, 0));
+  }
+
   @Test
   void canIndexAndQueryByNotebookName() throws IOException, InterruptedException {
     // given